@@ -0,0 +1,129 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.loverde.geographiccoordinate;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Compares creating points with {@linkplain CoordinateCache} against creating them with constructors, for a message
+ * stream that repeats a fixed set of {@code distinct} coordinates.  When {@code distinct} exceeds the cache's capacity,
+ * the cache misses and evicts constantly, which shows its worst case.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CoordinateCacheBenchmark {
+
+    private static final int STREAM_LENGTH = 1 << 16;
+
+    @Param({ "100", "1000", "100000" })
+    public int distinct;
+
+    private CoordinateCache cache;
+
+    private double[] latitudes;
+
+    private double[] longitudes;
+
+    private long[] packed;
+
+    private int next;
+
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        final double[] distinctLatitudes = new double[distinct];
+        final double[] distinctLongitudes = new double[distinct];
+
+        for (int i = 0; i < distinct; i++) {
+            distinctLatitudes[i] = random.nextDouble() * 180.0d - 90.0d;
+            distinctLongitudes[i] = random.nextDouble() * 360.0d - 180.0d;
+        }
+
+        cache = new CoordinateCache();
+        latitudes = new double[STREAM_LENGTH];
+        longitudes = new double[STREAM_LENGTH];
+        packed = new long[STREAM_LENGTH];
+
+        for (int i = 0; i < STREAM_LENGTH; i++) {
+            final int index = random.nextInt(distinct);
+
+            latitudes[i] = distinctLatitudes[index];
+            longitudes[i] = distinctLongitudes[index];
+            packed[i] = PackedPoint.pack(latitudes[i], longitudes[i]);
+        }
+    }
+
+    @Benchmark
+    public Point construct() {
+        final int i = advance();
+
+        return new Point(new Latitude(latitudes[i]), new Longitude(longitudes[i]));
+    }
+
+    @Benchmark
+    public Point cached() {
+        final int i = advance();
+
+        return cache.point(latitudes[i], longitudes[i]);
+    }
+
+    @Benchmark
+    public Point constructPacked() {
+        return PackedPoint.toPoint(packed[advance()]);
+    }
+
+    @Benchmark
+    public Point cachedPacked() {
+        return cache.point(packed[advance()]);
+    }
+
+    private int advance() {
+        next = (next + 1) & (STREAM_LENGTH - 1);
+
+        return next;
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.loverde.geographiccoordinate;
+
+import java.util.concurrent.TimeUnit;
+
+import org.loverde.geographiccoordinate.text.CoordinateFormatter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Measures construction, conversion and formatting of {@linkplain Latitude}.  {@linkplain Longitude} shares the same
+ * code paths.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LatitudeBenchmark {
+
+    private double value;
+
+    private double[] values;
+
+    private Latitude latitude;
+
+    private StringBuilder text;
+
+
+    @Setup
+    public void setUp() {
+        value = -40.712783d;
+        latitude = new Latitude(value);
+        text = new StringBuilder(32);
+        values = new double[1024];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (i * 0.17578125d) - 90.0d;
+        }
+    }
+
+    @Benchmark
+    public Latitude constructFromDouble() {
+        return new Latitude(value);
+    }
+
+    /** Builds 1024 latitudes; compare against 1024 times {@link #constructFromDouble()} */
+    @Benchmark
+    public Latitude[] fromDoubles() {
+        return Latitude.fromDoubles(values);
+    }
+
+    @Benchmark
+    public double toDouble() {
+        return latitude.toDouble();
+    }
+
+    @Benchmark
+    public double toRadians() {
+        return latitude.toRadians();
+    }
+
+    @Benchmark
+    public String toDmsString() {
+        return latitude.toDmsString();
+    }
+
+    /** Formats into a reused buffer, which shouldn't allocate at all */
+    @Benchmark
+    public StringBuilder appendDms() {
+        text.setLength(0);
+
+        return CoordinateFormatter.appendDms(text, latitude, CoordinateFormatter.DEFAULT_PRECISION);
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.loverde.geographiccoordinate.calculator;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.PreparedPoint;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Counts the candidates within 5 km of a geofence center:  with Haversine distances, with
+ * {@linkplain DistanceCalculator#isWithin(Unit, Point, PointBuffer, double)}'s threshold on a whole buffer, and with
+ * each {@linkplain ApproximateDistance} filtering first.  Candidates are spread over a 50 km square around the center.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ApproximateDistanceBenchmark {
+
+    private static final double RADIUS = 5;
+
+    private PreparedPoint center;
+
+    private PreparedPoint[] candidates;
+
+    private PointBuffer buffer;
+
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+
+        center = new Point(new Latitude(51.5), new Longitude(-0.1)).prepare();
+        candidates = new PreparedPoint[10_000];
+
+        for (int i = 0; i < candidates.length; i++) {
+            candidates[i] = new Point(new Latitude(51.5 + (random.nextDouble() - 0.5) * 0.45),
+                                      new Longitude(-0.1 + (random.nextDouble() - 0.5) * 0.72)).prepare();
+        }
+
+        buffer = new PointBuffer(candidates.length);
+
+        for (final PreparedPoint candidate : candidates) {
+            buffer.add(candidate.point());
+        }
+    }
+
+    @Benchmark
+    public int haversine() {
+        int count = 0;
+
+        for (final PreparedPoint candidate : candidates) {
+            if (DistanceCalculator.distance(Unit.KILOMETERS, center, candidate) <= RADIUS) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    @Benchmark
+    public int threshold() {
+        return DistanceCalculator.isWithin(Unit.KILOMETERS, center.point(), buffer, RADIUS).cardinality();
+    }
+
+    @Benchmark
+    public int equirectangular() {
+        return count(ApproximateDistance.EQUIRECTANGULAR);
+    }
+
+    @Benchmark
+    public int flatEarth() {
+        return count(ApproximateDistance.FLAT_EARTH);
+    }
+
+    private int count(final ApproximateDistance approximation) {
+        int count = 0;
+
+        for (final PreparedPoint candidate : candidates) {
+            if (approximation.isWithin(Unit.KILOMETERS, center, candidate, RADIUS)) {
+                count++;
+            }
+        }
+
+        return count;
+    }
+}
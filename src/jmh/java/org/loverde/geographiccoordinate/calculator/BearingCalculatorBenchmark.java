@@ -0,0 +1,168 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.loverde.geographiccoordinate.calculator;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.loverde.geographiccoordinate.Bearing;
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.PreparedPoint;
+import org.loverde.geographiccoordinate.compass.CompassBearing;
+import org.loverde.geographiccoordinate.compass.CompassDirection;
+import org.loverde.geographiccoordinate.compass.CompassDirection16;
+import org.loverde.geographiccoordinate.compass.CompassDirection32;
+import org.loverde.geographiccoordinate.compass.CompassDirection8;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Measures {@linkplain BearingCalculator#initialBearing(Class, Point, Point)} for each compass type, and the bearings of
+ * a whole track computed leg by leg and in one batch
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BearingCalculatorBenchmark {
+
+    private static final int TRACK_SIZE = 1_000;
+
+    @Param({ "8", "16", "32" })
+    public int compassPoints;
+
+    private Class<? extends CompassDirection> compassType;
+
+    private Point from;
+
+    private Point to;
+
+    private PreparedPoint preparedFrom;
+
+    private PreparedPoint preparedTo;
+
+    private PointBuffer track;
+
+    private Point[] trackPoints;
+
+    private double[] bearings;
+
+    private byte[] directions;
+
+
+    @Setup
+    public void setUp() {
+        compassType = switch (compassPoints) {
+            case 8 -> CompassDirection8.class;
+            case 16 -> CompassDirection16.class;
+            default -> CompassDirection32.class;
+        };
+
+        from = new Point(new Latitude(40.712783d), new Longitude(-74.005941d));
+        to = new Point(new Latitude(38.907192d), new Longitude(-77.036871d));
+
+        preparedFrom = from.prepare();
+        preparedTo = to.prepare();
+
+        final Random random = new Random(42);
+
+        track = new PointBuffer(TRACK_SIZE);
+        trackPoints = new Point[TRACK_SIZE];
+
+        for (int i = 0; i < TRACK_SIZE; i++) {
+            trackPoints[i] = new Point(new Latitude(random.nextDouble() * 180.0d - 90.0d), new Longitude(random.nextDouble() * 360.0d - 180.0d));
+            track.add(trackPoints[i]);
+        }
+
+        bearings = new double[TRACK_SIZE - 1];
+        directions = new byte[TRACK_SIZE - 1];
+    }
+
+    @Benchmark
+    public Bearing<? extends CompassDirection> initialBearing() {
+        return BearingCalculator.initialBearing(compassType, from, to);
+    }
+
+    @Benchmark
+    public CompassBearing<? extends CompassDirection> initialCompassBearing() {
+        return BearingCalculator.initialCompassBearing(compassType, from, to);
+    }
+
+    @Benchmark
+    public CompassDirection initialBearingDegrees() {
+        final double bearing = BearingCalculator.initialBearingDegrees(from, to);
+
+        return switch (compassPoints) {
+            case 8 -> CompassDirection8.getByBearing(bearing);
+            case 16 -> CompassDirection16.getByBearing(bearing);
+            default -> CompassDirection32.getByBearing(bearing);
+        };
+    }
+
+    @Benchmark
+    public double initialBearingDegreesPrepared() {
+        return BearingCalculator.initialBearingDegrees(preparedFrom, preparedTo);
+    }
+
+    @Benchmark
+    public byte[] trackBearingsPairwise() {
+        for (int i = 0; i < bearings.length; i++) {
+            final double bearing = BearingCalculator.initialBearingDegrees(trackPoints[i], trackPoints[i + 1]);
+
+            bearings[i] = bearing;
+            directions[i] = (byte) switch (compassPoints) {
+                case 8 -> CompassDirection8.getByBearing(bearing).ordinal();
+                case 16 -> CompassDirection16.getByBearing(bearing).ordinal();
+                default -> CompassDirection32.getByBearing(bearing).ordinal();
+            };
+        }
+
+        return directions;
+    }
+
+    @Benchmark
+    public byte[] trackBearingsBatch() {
+        BearingCalculator.initialBearings(compassType, track, bearings, directions);
+
+        return directions;
+    }
+}
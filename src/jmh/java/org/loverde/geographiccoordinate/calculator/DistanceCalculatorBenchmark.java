@@ -0,0 +1,148 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.loverde.geographiccoordinate.calculator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.PackedPoint;
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Measures the total distance of a random track, using each of the {@linkplain DistanceCalculator} entry points
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DistanceCalculatorBenchmark {
+
+    @Param({ "2", "1000", "1000000" })
+    public int size;
+
+    private List<Point> list;
+
+    private Point[] array;
+
+    private PointBuffer buffer;
+
+    private long[] packed;
+
+    private Route route;
+
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+
+        list = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            list.add(new Point(new Latitude(random.nextDouble() * 180 - 90), new Longitude(random.nextDouble() * 360 - 180)));
+        }
+
+        array = list.toArray(new Point[0]);
+        buffer = PointBuffer.of(list);
+        packed = list.stream().mapToLong(PackedPoint::pack).toArray();
+        route = Route.of(list);
+    }
+
+    @Benchmark
+    public double list() {
+        return DistanceCalculator.distance(Unit.KILOMETERS, list);
+    }
+
+    @Benchmark
+    public double array() {
+        return DistanceCalculator.distance(Unit.KILOMETERS, array);
+    }
+
+    @Benchmark
+    public double pointBuffer() {
+        return DistanceCalculator.distance(Unit.KILOMETERS, buffer);
+    }
+
+    @Benchmark
+    public double packed() {
+        return DistanceCalculator.distance(Unit.KILOMETERS, packed);
+    }
+
+    @Benchmark
+    public double subList() {
+        return DistanceCalculator.distance(Unit.KILOMETERS, list.subList(size / 4, size - size / 4));
+    }
+
+    @Benchmark
+    public double routeSubRange() {
+        return route.distance(Unit.KILOMETERS, size / 4, size - size / 4 - 1);
+    }
+
+    @Benchmark
+    public Point routePointAt() {
+        return route.pointAt(Unit.KILOMETERS, route.length(Unit.KILOMETERS) / 3);
+    }
+
+    @Benchmark
+    public double haversineAlgorithm() {
+        return DistanceAlgorithm.HAVERSINE.distance(Unit.KILOMETERS, list);
+    }
+
+    @Benchmark
+    public double ellipsoidal() {
+        return EllipsoidalDistance.WGS_84.distance(Unit.KILOMETERS, list);
+    }
+
+    @Benchmark
+    public double parallelList() {
+        return DistanceCalculator.parallelDistance(Unit.KILOMETERS, list);
+    }
+
+    @Benchmark
+    public double parallelPointBuffer() {
+        return DistanceCalculator.parallelDistance(Unit.KILOMETERS, buffer);
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.loverde.geographiccoordinate.compass;
+
+import java.math.BigDecimal;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+
+/**
+ * Measures the {@code getByBearing} lookup of each compass enum over a fixed set of random bearings
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CompassDirectionBenchmark {
+
+    private static final int BEARINGS = 1024;
+
+    private BigDecimal[] bearings;
+
+    private double[] doubleBearings;
+
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+
+        bearings = new BigDecimal[BEARINGS];
+        doubleBearings = new double[BEARINGS];
+
+        for (int i = 0; i < BEARINGS; i++) {
+            doubleBearings[i] = random.nextDouble() * 360;
+            bearings[i] = new BigDecimal(doubleBearings[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BEARINGS)
+    public void getByBearing8(final Blackhole blackhole) {
+        for (final BigDecimal bearing : bearings) {
+            blackhole.consume(CompassDirection8.getByBearing(bearing));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BEARINGS)
+    public void getByBearing16(final Blackhole blackhole) {
+        for (final BigDecimal bearing : bearings) {
+            blackhole.consume(CompassDirection16.getByBearing(bearing));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BEARINGS)
+    public void getByBearing32(final Blackhole blackhole) {
+        for (final BigDecimal bearing : bearings) {
+            blackhole.consume(CompassDirection32.getByBearing(bearing));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BEARINGS)
+    public void getByDoubleBearing8(final Blackhole blackhole) {
+        for (final double bearing : doubleBearings) {
+            blackhole.consume(CompassDirection8.getByBearing(bearing));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BEARINGS)
+    public void getByDoubleBearing16(final Blackhole blackhole) {
+        for (final double bearing : doubleBearings) {
+            blackhole.consume(CompassDirection16.getByBearing(bearing));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BEARINGS)
+    public void getByDoubleBearing32(final Blackhole blackhole) {
+        for (final double bearing : doubleBearings) {
+            blackhole.consume(CompassDirection32.getByBearing(bearing));
+        }
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.loverde.geographiccoordinate.index;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+import org.loverde.geographiccoordinate.calculator.PointBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Measures how many positions per second {@linkplain GeofenceGrid} can check against 100,000 fences of 100 m to 2 km,
+ * spread over the contiguous United States
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class GeofenceGridBenchmark {
+
+    private static final int FENCES = 100_000;
+
+    private static final int POSITIONS = 1 << 16;
+
+    @Param({ "0.05", "0.25", "1.0" })
+    public double cellDegrees;
+
+    private GeofenceGrid grid;
+
+    private double[] latitudes;
+
+    private double[] longitudes;
+
+    private Point[] points;
+
+    private int[] found;
+
+    private int next;
+
+
+    @Setup
+    public void setUp() {
+        final Random random = new Random(42);
+        final PointBuffer centers = new PointBuffer(FENCES);
+        final double[] radii = new double[FENCES];
+
+        for (int i = 0; i < FENCES; i++) {
+            centers.add(randomLatitude(random), randomLongitude(random));
+            radii[i] = 0.1d + random.nextDouble() * 1.9d;
+        }
+
+        grid = GeofenceGrid.of(Unit.KILOMETERS, centers, radii, cellDegrees);
+
+        latitudes = new double[POSITIONS];
+        longitudes = new double[POSITIONS];
+        points = new Point[POSITIONS];
+        found = new int[64];
+
+        for (int i = 0; i < POSITIONS; i++) {
+            latitudes[i] = randomLatitude(random);
+            longitudes[i] = randomLongitude(random);
+            points[i] = new Point(new Latitude(latitudes[i]), new Longitude(longitudes[i]));
+        }
+    }
+
+    @Benchmark
+    public int findDoubles() {
+        final int i = advance();
+
+        return grid.find(latitudes[i], longitudes[i], found);
+    }
+
+    @Benchmark
+    public int findPoint() {
+        return grid.find(points[advance()], found);
+    }
+
+    private int advance() {
+        next = (next + 1) & (POSITIONS - 1);
+
+        return next;
+    }
+
+    private static double randomLatitude(final Random random) {
+        return 25.0d + random.nextDouble() * 24.0d;
+    }
+
+    private static double randomLongitude(final Random random) {
+        return -125.0d + random.nextDouble() * 58.0d;
+    }
+}
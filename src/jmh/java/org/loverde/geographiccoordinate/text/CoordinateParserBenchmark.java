@@ -0,0 +1,102 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.text;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import org.loverde.geographiccoordinate.Latitude;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * Compares {@linkplain CoordinateParser} against {@linkplain Double#parseDouble(String)} followed by the
+ * {@linkplain Latitude} constructor.  The byte benchmarks parse a coordinate in the middle of a CSV line, as an
+ * ingestion job would, so the baseline has to decode the slice into a {@linkplain String} first.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CoordinateParserBenchmark {
+
+    private String decimal;
+
+    private String dms;
+
+    private byte[] line;
+
+    private int from;
+
+    private int to;
+
+
+    @Setup
+    public void setUp() {
+        decimal = "-40.712783";
+        dms = "40°42'46.0188\"S";
+        line = "1234,-40.712783,-74.005941".getBytes(StandardCharsets.US_ASCII);
+        from = 5;
+        to = 15;
+    }
+
+    @Benchmark
+    public Latitude parseDoubleThenConstruct() {
+        return new Latitude(Double.parseDouble(decimal));
+    }
+
+    @Benchmark
+    public Latitude parseDecimal() {
+        return CoordinateParser.parseLatitude(decimal);
+    }
+
+    @Benchmark
+    public Latitude parseDms() {
+        return CoordinateParser.parseLatitude(dms);
+    }
+
+    @Benchmark
+    public Latitude bytesParseDoubleThenConstruct() {
+        return new Latitude(Double.parseDouble(new String(line, from, to - from, StandardCharsets.US_ASCII)));
+    }
+
+    @Benchmark
+    public Latitude bytesParseDecimal() {
+        return CoordinateParser.parseLatitude(line, from, to);
+    }
+}
@@ -44,12 +44,16 @@ import static org.loverde.geographiccoordinate.internal.Objects.failIf;
 
 
 /**
- * A class containing an exact bearing and a mapping of the bearing to a general compass direction
+ * A class containing an exact bearing and a mapping of the bearing to a general compass direction.  Instances are
+ * mutable;  {@linkplain org.loverde.geographiccoordinate.compass.CompassBearing CompassBearing} is an immutable
+ * alternative that can be shared between threads.
  *
  * @param <T> An implementation of {@linkplain CompassDirection}
  */
 public class Bearing<T extends CompassDirection> {
 
+    private static final BigDecimal BD_360 = new BigDecimal(360);
+
     private T compassDirection;
     private BigDecimal bearing;
 
@@ -76,7 +80,7 @@ public class Bearing<T extends CompassDirection> {
 
     public void setBearing(final BigDecimal bearing) {
         failIf(bearing == null, () -> BEARING_NULL);
-        failIf((bearing.compareTo(ZERO) < 0) || bearing.compareTo(new BigDecimal(360)) > 0, () -> BEARING_OUT_OF_RANGE.formatted(bearing.toPlainString()));
+        failIf((bearing.compareTo(ZERO) < 0) || bearing.compareTo(BD_360) > 0, BEARING_OUT_OF_RANGE, bearing);
 
         this.bearing = bearing;
     }
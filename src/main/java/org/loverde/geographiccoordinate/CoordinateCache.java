@@ -0,0 +1,253 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static org.loverde.geographiccoordinate.internal.Objects.failIf;
+
+
+/**
+ * <p>
+ * A bounded cache of {@linkplain Latitude}, {@linkplain Longitude} and {@linkplain Point} instances, for applications
+ * that create the same coordinates over and over - fixed stops or depots that appear in every message, for example.
+ * Asking the cache for a coordinate it already holds skips the conversion to degrees, minutes and seconds, and hands
+ * back the instance it created the first time, so repeated coordinates share one object on the heap.
+ * </p>
+ *
+ * <p>
+ * Latitudes, longitudes and points are looked up by the exact bit pattern of the {@code double}s they're created from,
+ * and packed points by their {@code long} value, so a cached coordinate is always identical to the one the
+ * constructor would have created.  Points created from {@code double}s share the cache's latitude and longitude
+ * instances.
+ * </p>
+ *
+ * <p>
+ * Each kind of coordinate has its own table of {@linkplain #capacity()} entries.  An entry can only live in one of
+ * two slots, chosen by its hash;  when both are taken, the older of the two is evicted.  Lookups and insertions use no
+ * locks, so the cache can be shared by any number of threads.  Threads that insert at the same time can overwrite each
+ * other's entries, which costs a later miss but never returns a wrong coordinate, and because the cached objects are
+ * immutable, they're safe to share without copying.  Compare cached coordinates with {@code equals}:  the same
+ * coordinate is usually, but not always, the same instance.
+ * </p>
+ */
+public final class CoordinateCache {
+
+    /** The number of entries per table when no capacity is specified */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /** The largest capacity a cache can have */
+    public static final int MAX_CAPACITY = 1 << 30;
+
+    /** 2^64 divided by the golden ratio.  Multiplying by it spreads similar keys across the table. */
+    private static final long GOLDEN_RATIO = 0x9E3779B97F4A7C15L;
+
+    private final AtomicReferenceArray<Entry<Latitude>> latitudes;
+    private final AtomicReferenceArray<Entry<Longitude>> longitudes;
+    private final AtomicReferenceArray<PointEntry> points;
+    private final AtomicReferenceArray<Entry<Point>> packedPoints;
+
+    /** Turns a 64-bit hash into the index of the first slot of a set */
+    private final int shift;
+
+
+    /**
+     * Creates a cache with {@linkplain #DEFAULT_CAPACITY} entries per table
+     */
+    public CoordinateCache() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * @param capacity The maximum number of entries per table.  It's rounded up to a power of 2, and to at least 4.
+     * @throws IllegalArgumentException If {@code capacity} is less than 1 or greater than {@linkplain #MAX_CAPACITY}
+     */
+    public CoordinateCache(final int capacity) {
+        failIf(capacity < 1 || capacity > MAX_CAPACITY, () -> "Capacity must be between 1 and %d".formatted(MAX_CAPACITY));
+
+        final int size = Math.max(4, Integer.highestOneBit(capacity - 1) << 1);
+
+        latitudes = new AtomicReferenceArray<>(size);
+        longitudes = new AtomicReferenceArray<>(size);
+        points = new AtomicReferenceArray<>(size);
+        packedPoints = new AtomicReferenceArray<>(size);
+
+        // One bit fewer than the table needs, because each set has two slots
+        shift = 64 - Integer.numberOfTrailingZeros(size) + 1;
+    }
+
+    /**
+     * @return The maximum number of entries in each of the cache's tables
+     */
+    public int capacity() {
+        return latitudes.length();
+    }
+
+    /**
+     * Gets a latitude from the cache, creating and caching it if necessary
+     *
+     * @param latitude A signed value.  See {@linkplain Latitude#Latitude(double)}.
+     * @return A latitude equal to {@code new Latitude(latitude)}
+     * @throws IllegalArgumentException If the value falls outside +/- {@linkplain Latitude#MAX_VALUE}
+     */
+    public Latitude latitude(final double latitude) {
+        final long key = Double.doubleToRawLongBits(latitude);
+        final int slot = slot(key);
+
+        Entry<Latitude> entry = find(latitudes, slot, key);
+
+        if (entry == null) {
+            entry = insert(latitudes, slot, new Entry<>(key, new Latitude(latitude)));
+        }
+
+        return entry.value();
+    }
+
+    /**
+     * Gets a longitude from the cache, creating and caching it if necessary
+     *
+     * @param longitude A signed value.  See {@linkplain Longitude#Longitude(double)}.
+     * @return A longitude equal to {@code new Longitude(longitude)}
+     * @throws IllegalArgumentException If the value falls outside +/- {@linkplain Longitude#MAX_VALUE}
+     */
+    public Longitude longitude(final double longitude) {
+        final long key = Double.doubleToRawLongBits(longitude);
+        final int slot = slot(key);
+
+        Entry<Longitude> entry = find(longitudes, slot, key);
+
+        if (entry == null) {
+            entry = insert(longitudes, slot, new Entry<>(key, new Longitude(longitude)));
+        }
+
+        return entry.value();
+    }
+
+    /**
+     * Gets a point from the cache, creating and caching it if necessary.  The point's latitude and longitude come from
+     * this cache as well.
+     *
+     * @param latitude  A signed latitude.  See {@linkplain Latitude#Latitude(double)}.
+     * @param longitude A signed longitude.  See {@linkplain Longitude#Longitude(double)}.
+     * @return A point equal to {@code new Point(new Latitude(latitude), new Longitude(longitude))}
+     * @throws IllegalArgumentException If either value is out of range
+     */
+    public Point point(final double latitude, final double longitude) {
+        final long latitudeBits = Double.doubleToRawLongBits(latitude);
+        final long longitudeBits = Double.doubleToRawLongBits(longitude);
+        final int slot = slot(latitudeBits * GOLDEN_RATIO + longitudeBits);
+
+        PointEntry entry = points.get(slot);
+
+        if (entry == null || !entry.matches(latitudeBits, longitudeBits)) {
+            entry = points.get(slot + 1);
+
+            if (entry == null || !entry.matches(latitudeBits, longitudeBits)) {
+                entry = insert(points, slot, new PointEntry(latitudeBits, longitudeBits, new Point(latitude(latitude), longitude(longitude))));
+            }
+        }
+
+        return entry.point();
+    }
+
+    /**
+     * Gets the point for a {@linkplain PackedPoint packed point} from the cache, creating and caching it if necessary
+     *
+     * @param packed A packed point
+     * @return A point equal to {@code PackedPoint.toPoint(packed)}
+     * @throws IllegalArgumentException If the packed point is out of range
+     */
+    public Point point(final long packed) {
+        final int slot = slot(packed);
+
+        Entry<Point> entry = find(packedPoints, slot, packed);
+
+        if (entry == null) {
+            entry = insert(packedPoints, slot, new Entry<>(packed, PackedPoint.toPoint(packed)));
+        }
+
+        return entry.value();
+    }
+
+    /**
+     * Removes every entry from the cache
+     */
+    public void clear() {
+        for (int i = 0; i < latitudes.length(); i++) {
+            latitudes.set(i, null);
+            longitudes.set(i, null);
+            points.set(i, null);
+            packedPoints.set(i, null);
+        }
+    }
+
+    /**
+     * @return The index of the first of the two slots {@code key} can occupy
+     */
+    private int slot(final long key) {
+        return (int) ((key * GOLDEN_RATIO) >>> shift) << 1;
+    }
+
+    private static <V> Entry<V> find(final AtomicReferenceArray<Entry<V>> table, final int slot, final long key) {
+        final Entry<V> first = table.get(slot);
+
+        if (first != null && first.key() == key) {
+            return first;
+        }
+
+        final Entry<V> second = table.get(slot + 1);
+
+        return second != null && second.key() == key ? second : null;
+    }
+
+    /**
+     * Puts an entry in the first slot of its set, moving the entry that was there to the second slot and evicting the
+     * one that was in the second slot
+     */
+    private static <E> E insert(final AtomicReferenceArray<E> table, final int slot, final E entry) {
+        table.set(slot + 1, table.get(slot));
+        table.set(slot, entry);
+
+        return entry;
+    }
+
+    private record Entry<V>(long key, V value) {
+    }
+
+    private record PointEntry(long latitudeBits, long longitudeBits, Point point) {
+
+        boolean matches(final long latitudeBits, final long longitudeBits) {
+            return this.latitudeBits == latitudeBits && this.longitudeBits == longitudeBits;
+        }
+    }
+}
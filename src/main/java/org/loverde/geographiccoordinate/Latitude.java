@@ -89,12 +89,17 @@ public record Latitude(int degrees, int minutes, double seconds, Direction direc
      *                                  are all 0 with a {@code direction} other than {@linkplain Direction#NEITHER}
      */
     public Latitude {
-        failIf(degrees < 0 || degrees > MAX_VALUE, Latitude::getRangeError);
-        failIf(minutes < 0 || minutes > MAX_VALUE_MINUTES, Latitude::getRangeError);
-        failIf(seconds < 0.0 || seconds > MAX_VALUE_SECONDS, Latitude::getRangeError);
-        failIf(degrees == MAX_VALUE && (minutes > 0 || seconds > 0.0), Latitude::getRangeError);
-        failIf(direction == null, () -> DIRECTION_NULL);
-        failIf(direction == Direction.NEITHER && !(degrees == 0 && minutes == 0 && seconds == 0.0d), () -> DIRECTION_CANT_BE_NEITHER);
+        // Valid values almost always pass this single test.  The individual checks only run when it fails, either
+        // because a value is out of range or because it's one of the special cases (degrees = 90, NEITHER) they accept.
+        if (!(degrees >= 0 && degrees < MAX_VALUE && minutes >= 0 && minutes <= MAX_VALUE_MINUTES &&
+              seconds >= 0.0 && seconds <= MAX_VALUE_SECONDS && direction != null && direction != Direction.NEITHER)) {
+            failIf(degrees < 0 || degrees > MAX_VALUE, Latitude::getRangeError);
+            failIf(minutes < 0 || minutes > MAX_VALUE_MINUTES, Latitude::getRangeError);
+            failIf(seconds < 0.0 || seconds > MAX_VALUE_SECONDS, Latitude::getRangeError);
+            failIf(degrees == MAX_VALUE && (minutes > 0 || seconds > 0.0), Latitude::getRangeError);
+            failIf(direction == null, () -> DIRECTION_NULL);
+            failIf(direction == Direction.NEITHER && !(degrees == 0 && minutes == 0 && seconds == 0.0d), () -> DIRECTION_CANT_BE_NEITHER);
+        }
     }
 
     /**
@@ -107,9 +112,7 @@ public record Latitude(int degrees, int minutes, double seconds, Direction direc
      */
     public Latitude(final double latitude) {
         this(
-            ((int) Math.abs(latitude)),
-            ((int) ((Math.abs(latitude) - (int) Math.abs(latitude)) * 60.0d)),
-            ((((Math.abs(latitude) - (int) Math.abs(latitude)) * 60.0d) % 1.0d) * 60.0d),
+            Math.abs(latitude),
 
             switch ((int) Math.signum(latitude)) {
                 case 1 -> Direction.NORTH;
@@ -119,6 +122,66 @@ public record Latitude(int degrees, int minutes, double seconds, Direction direc
         );
     }
 
+    private Latitude(final double magnitude, final Direction direction) {
+        this(
+            ((int) magnitude),
+            ((int) ((magnitude - (int) magnitude) * 60.0d)),
+            ((((magnitude - (int) magnitude) * 60.0d) % 1.0d) * 60.0d),
+            direction
+        );
+    }
+
+    /**
+     * Creates a Latitude for each value in an array, as {@linkplain #Latitude(double)} would
+     *
+     * @param latitudes - Signed values.  See {@linkplain #Latitude(double)}.
+     * @return One Latitude per value, in the same order
+     * @throws IllegalArgumentException If any value falls outside +/- {@linkplain Latitude#MAX_VALUE}
+     */
+    public static Latitude[] fromDoubles(final double[] latitudes) {
+        failIf(latitudes == null, () -> "Latitudes are null");
+
+        return fromDoubles(latitudes, 0, latitudes.length);
+    }
+
+    /**
+     * Creates a Latitude for each value in a range of an array, as {@linkplain #Latitude(double)} would.  The whole
+     * range is checked in one pass before anything is created.
+     *
+     * @param latitudes - Signed values.  See {@linkplain #Latitude(double)}.
+     * @param fromIndex - Index of the first value (inclusive)
+     * @param toIndex   - Index of the last value (exclusive)
+     * @return One Latitude per value, in the same order
+     * @throws IllegalArgumentException If any value falls outside +/- {@linkplain Latitude#MAX_VALUE}
+     */
+    public static Latitude[] fromDoubles(final double[] latitudes, final int fromIndex, final int toIndex) {
+        failIf(latitudes == null, () -> "Latitudes are null");
+        failIf(fromIndex < 0 || toIndex > latitudes.length || fromIndex > toIndex, () -> "Invalid range");
+
+        boolean valid = true;
+
+        // No early exit, so the loop can be vectorized
+        for (int i = fromIndex; i < toIndex; i++) {
+            valid &= (latitudes[i] >= -MAX_VALUE) & (latitudes[i] <= MAX_VALUE);
+        }
+
+        if (!valid) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                failIf(!(latitudes[i] >= -MAX_VALUE && latitudes[i] <= MAX_VALUE), "latitude %d is out of range", i);
+            }
+        }
+
+        final Latitude[] result = new Latitude[toIndex - fromIndex];
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            final double value = latitudes[i];
+
+            result[i - fromIndex] = new Latitude(Math.abs(value), value > 0 ? Direction.NORTH : value < 0 ? SOUTH : Direction.NEITHER);
+        }
+
+        return result;
+    }
+
     public double toDouble() {
         return (direction == SOUTH ? -1 : 1) * (degrees + ((minutes / 60.0) + (seconds / 3600.0)));
     }
@@ -88,12 +88,17 @@ public record Longitude (int degrees, int minutes, double seconds, Longitude.Dir
      *                                  are all 0 with a {@code direction} other than {@linkplain Direction#NEITHER}
      */
     public Longitude {
-        failIf(degrees < 0 || degrees > MAX_VALUE, Longitude::getRangeError);
-        failIf(minutes < 0 || minutes > MAX_VALUE_MINUTES, Longitude::getRangeError);
-        failIf(seconds < 0.0 || seconds > MAX_VALUE_SECONDS, Longitude::getRangeError);
-        failIf(degrees == MAX_VALUE && (minutes > 0 || seconds > 0.0), Longitude::getRangeError);
-        failIf(direction == null, () -> DIRECTION_NULL);
-        failIf(direction == Direction.NEITHER && !(degrees == 0 && minutes == 0 && seconds == 0.0d), () -> DIRECTION_CANT_BE_NEITHER);
+        // Valid values almost always pass this single test.  The individual checks only run when it fails, either
+        // because a value is out of range or because it's one of the special cases (degrees = 180, NEITHER) they accept.
+        if (!(degrees >= 0 && degrees < MAX_VALUE && minutes >= 0 && minutes <= MAX_VALUE_MINUTES &&
+              seconds >= 0.0 && seconds <= MAX_VALUE_SECONDS && direction != null && direction != Direction.NEITHER)) {
+            failIf(degrees < 0 || degrees > MAX_VALUE, Longitude::getRangeError);
+            failIf(minutes < 0 || minutes > MAX_VALUE_MINUTES, Longitude::getRangeError);
+            failIf(seconds < 0.0 || seconds > MAX_VALUE_SECONDS, Longitude::getRangeError);
+            failIf(degrees == MAX_VALUE && (minutes > 0 || seconds > 0.0), Longitude::getRangeError);
+            failIf(direction == null, () -> DIRECTION_NULL);
+            failIf(direction == Direction.NEITHER && !(degrees == 0 && minutes == 0 && seconds == 0.0d), () -> DIRECTION_CANT_BE_NEITHER);
+        }
     }
 
     /**
@@ -106,9 +111,7 @@ public record Longitude (int degrees, int minutes, double seconds, Longitude.Dir
      */
     public Longitude(final double longitude) {
         this(
-            ((int) Math.abs(longitude)),
-            ((int) ((Math.abs(longitude) - (int) Math.abs(longitude)) * 60.0d)),
-            ((((Math.abs(longitude) - (int) Math.abs(longitude)) * 60.0d) % 1.0d) * 60.0d),
+            Math.abs(longitude),
 
             switch ((int) Math.signum(longitude)) {
                 case 1 -> Direction.EAST;
@@ -118,6 +121,66 @@ public record Longitude (int degrees, int minutes, double seconds, Longitude.Dir
         );
     }
 
+    private Longitude(final double magnitude, final Direction direction) {
+        this(
+            ((int) magnitude),
+            ((int) ((magnitude - (int) magnitude) * 60.0d)),
+            ((((magnitude - (int) magnitude) * 60.0d) % 1.0d) * 60.0d),
+            direction
+        );
+    }
+
+    /**
+     * Creates a Longitude for each value in an array, as {@linkplain #Longitude(double)} would
+     *
+     * @param longitudes - Signed values.  See {@linkplain #Longitude(double)}.
+     * @return One Longitude per value, in the same order
+     * @throws IllegalArgumentException If any value falls outside +/- {@linkplain Longitude#MAX_VALUE}
+     */
+    public static Longitude[] fromDoubles(final double[] longitudes) {
+        failIf(longitudes == null, () -> "Longitudes are null");
+
+        return fromDoubles(longitudes, 0, longitudes.length);
+    }
+
+    /**
+     * Creates a Longitude for each value in a range of an array, as {@linkplain #Longitude(double)} would.  The whole
+     * range is checked in one pass before anything is created.
+     *
+     * @param longitudes - Signed values.  See {@linkplain #Longitude(double)}.
+     * @param fromIndex - Index of the first value (inclusive)
+     * @param toIndex   - Index of the last value (exclusive)
+     * @return One Longitude per value, in the same order
+     * @throws IllegalArgumentException If any value falls outside +/- {@linkplain Longitude#MAX_VALUE}
+     */
+    public static Longitude[] fromDoubles(final double[] longitudes, final int fromIndex, final int toIndex) {
+        failIf(longitudes == null, () -> "Longitudes are null");
+        failIf(fromIndex < 0 || toIndex > longitudes.length || fromIndex > toIndex, () -> "Invalid range");
+
+        boolean valid = true;
+
+        // No early exit, so the loop can be vectorized
+        for (int i = fromIndex; i < toIndex; i++) {
+            valid &= (longitudes[i] >= -MAX_VALUE) & (longitudes[i] <= MAX_VALUE);
+        }
+
+        if (!valid) {
+            for (int i = fromIndex; i < toIndex; i++) {
+                failIf(!(longitudes[i] >= -MAX_VALUE && longitudes[i] <= MAX_VALUE), "longitude %d is out of range", i);
+            }
+        }
+
+        final Longitude[] result = new Longitude[toIndex - fromIndex];
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            final double value = longitudes[i];
+
+            result[i - fromIndex] = new Longitude(Math.abs(value), value > 0 ? Direction.EAST : value < 0 ? Direction.WEST : Direction.NEITHER);
+        }
+
+        return result;
+    }
+
     public double toDouble() {
         final double decimal = degrees() + (minutes() / 60.0d) + (seconds() / 3600.0d);
         return direction() == Direction.EAST ? decimal : -decimal;
@@ -0,0 +1,217 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate;
+
+import static org.loverde.geographiccoordinate.exception.ExceptionMessages.*;
+import static org.loverde.geographiccoordinate.internal.Objects.failIf;
+
+
+/**
+ * <p>
+ * Packs a coordinate into a single {@code long}, for when millions of points need to be held in memory.  A
+ * {@linkplain Point} with its {@linkplain Latitude} and {@linkplain Longitude} takes over 100 bytes of heap; a packed
+ * point takes 8, and an array of them has no per-point objects at all.
+ * </p>
+ *
+ * <p>
+ * The latitude and longitude are stored as whole numbers of ten-millionths of a degree ("E7" values, as used by GPS
+ * receivers and many map formats), the latitude in the upper 32 bits and the longitude in the lower 32.  A ten-millionth
+ * of a degree is at most 1.11 cm on the ground, so packing rounds a coordinate by no more than 0.56 cm.  Unpacking is
+ * exact in the other direction:  a packed value converted to a {@code Point} and packed again gives back the same
+ * {@code long}.
+ * </p>
+ *
+ * <p>
+ * {@linkplain org.loverde.geographiccoordinate.calculator.DistanceCalculator} and
+ * {@linkplain org.loverde.geographiccoordinate.calculator.BearingCalculator} accept packed points directly.
+ * </p>
+ */
+public final class PackedPoint {
+
+    /** The number of units per degree */
+    public static final int UNITS_PER_DEGREE = 10_000_000;
+
+    /** The size of a unit, in degrees */
+    public static final double RESOLUTION_DEGREES = 1.0d / UNITS_PER_DEGREE;
+
+    private static final int MAX_LATITUDE_UNITS = (int) Latitude.MAX_VALUE * UNITS_PER_DEGREE;
+    private static final int MAX_LONGITUDE_UNITS = (int) Longitude.MAX_VALUE * UNITS_PER_DEGREE;
+
+
+    private PackedPoint() {
+    }
+
+    /**
+     * @param latitudeE7  Latitude in ten-millionths of a degree, +/- 900,000,000
+     * @param longitudeE7 Longitude in ten-millionths of a degree, +/- 1,800,000,000
+     * @return The packed point
+     */
+    public static long of(final int latitudeE7, final int longitudeE7) {
+        failIf(latitudeE7 < -MAX_LATITUDE_UNITS || latitudeE7 > MAX_LATITUDE_UNITS, Latitude::getRangeError);
+        failIf(longitudeE7 < -MAX_LONGITUDE_UNITS || longitudeE7 > MAX_LONGITUDE_UNITS, Longitude::getRangeError);
+
+        return ((long) latitudeE7 << 32) | (longitudeE7 & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Packs a coordinate, rounding it to the nearest ten-millionth of a degree
+     *
+     * @param latitude  Signed decimal latitude.  Positive values are north; negative values are south.
+     * @param longitude Signed decimal longitude.  Positive values are east; negative values are west.
+     * @return The packed point
+     */
+    public static long pack(final double latitude, final double longitude) {
+        failIf(!(Math.abs(latitude) <= Latitude.MAX_VALUE), Latitude::getRangeError);
+        failIf(!(Math.abs(longitude) <= Longitude.MAX_VALUE), Longitude::getRangeError);
+
+        return of((int) Math.round(latitude * UNITS_PER_DEGREE), (int) Math.round(longitude * UNITS_PER_DEGREE));
+    }
+
+    /**
+     * Packs a coordinate, rounding it to the nearest ten-millionth of a degree
+     *
+     * @param latitude  The latitude
+     * @param longitude The longitude
+     * @return The packed point
+     */
+    public static long pack(final Latitude latitude, final Longitude longitude) {
+        failIf(latitude == null, () -> LATITUDE_NULL);
+        failIf(longitude == null, () -> LONGITUDE_NULL);
+
+        return pack(latitude.toDouble(), longitude.toDouble());
+    }
+
+    /**
+     * Packs a point, rounding it to the nearest ten-millionth of a degree.  The point's name is not kept.
+     *
+     * @param point The point
+     * @return The packed point
+     */
+    public static long pack(final Point point) {
+        failIf(point == null, () -> "Point is null");
+
+        return pack(point.latitude(), point.longitude());
+    }
+
+    /**
+     * @param packed A packed point
+     * @return {@code true} if the latitude and longitude are in range
+     */
+    public static boolean isValid(final long packed) {
+        final int latitude = latitudeE7(packed),
+                  longitude = longitudeE7(packed);
+
+        return latitude >= -MAX_LATITUDE_UNITS && latitude <= MAX_LATITUDE_UNITS
+            && longitude >= -MAX_LONGITUDE_UNITS && longitude <= MAX_LONGITUDE_UNITS;
+    }
+
+    /**
+     * @param packed A packed point
+     * @return The latitude, in ten-millionths of a degree
+     */
+    public static int latitudeE7(final long packed) {
+        return (int) (packed >> 32);
+    }
+
+    /**
+     * @param packed A packed point
+     * @return The longitude, in ten-millionths of a degree
+     */
+    public static int longitudeE7(final long packed) {
+        return (int) packed;
+    }
+
+    /**
+     * @param packed A packed point
+     * @return The signed decimal latitude
+     */
+    public static double latitude(final long packed) {
+        return latitudeE7(packed) / (double) UNITS_PER_DEGREE;
+    }
+
+    /**
+     * @param packed A packed point
+     * @return The signed decimal longitude
+     */
+    public static double longitude(final long packed) {
+        return longitudeE7(packed) / (double) UNITS_PER_DEGREE;
+    }
+
+    /**
+     * @param packed A packed point
+     * @return The latitude in radians
+     */
+    public static double latitudeRadians(final long packed) {
+        return Math.toRadians(latitude(packed));
+    }
+
+    /**
+     * @param packed A packed point
+     * @return The longitude in radians
+     */
+    public static double longitudeRadians(final long packed) {
+        return Math.toRadians(longitude(packed));
+    }
+
+    /**
+     * @param packed A packed point
+     * @return The latitude
+     */
+    public static Latitude toLatitude(final long packed) {
+        return new Latitude(latitude(packed));
+    }
+
+    /**
+     * @param packed A packed point
+     * @return The longitude
+     */
+    public static Longitude toLongitude(final long packed) {
+        return new Longitude(longitude(packed));
+    }
+
+    /**
+     * @param packed A packed point
+     * @return The point
+     */
+    public static Point toPoint(final long packed) {
+        return new Point(toLatitude(packed), toLongitude(packed));
+    }
+
+    /**
+     * @param packed A packed point
+     * @return The point, formatted like {@linkplain Point#toString()}
+     */
+    public static String toString(final long packed) {
+        return toPoint(packed).toString();
+    }
+}
@@ -33,6 +33,8 @@
 
 package org.loverde.geographiccoordinate;
 
+import org.loverde.geographiccoordinate.text.CoordinateFormatter;
+
 import static org.loverde.geographiccoordinate.exception.ExceptionMessages.*;
 import static org.loverde.geographiccoordinate.internal.Objects.failIf;
 
@@ -67,10 +69,27 @@ public record Point(Latitude latitude, Longitude longitude, String name) {
         this(latitude, longitude, null);
     }
 
+    /**
+     * Converts this point to radians and computes the sine and cosine of its latitude, so that the calculators don't
+     * have to each time the point is used.  Worthwhile when a point takes part in many calculations.
+     *
+     * @return A {@linkplain PreparedPoint} wrapping this point
+     */
+    public PreparedPoint prepare() {
+        return new PreparedPoint(this);
+    }
+
     @Override
     public String toString() {
-        return name != null
-            ? "%s {%s , %s}".formatted(name, latitude, longitude)
-            : "{%s , %s}".formatted(latitude, longitude);
+        final StringBuilder text = new StringBuilder(80);
+
+        if (name != null) {
+            text.append(name).append(' ');
+        }
+
+        CoordinateFormatter.appendDms(text.append('{'), latitude, CoordinateFormatter.DEFAULT_PRECISION).append(" , ");
+        CoordinateFormatter.appendDms(text, longitude, CoordinateFormatter.DEFAULT_PRECISION).append('}');
+
+        return text.toString();
     }
 }
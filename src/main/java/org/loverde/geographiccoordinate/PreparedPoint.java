@@ -0,0 +1,122 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate;
+
+
+/**
+ * <p>
+ * A {@linkplain Point} whose radians, and the sine and cosine of its latitude, have been computed up front.  Create one
+ * with {@link Point#prepare()}.
+ * </p>
+ *
+ * <p>
+ * {@linkplain Latitude} and {@linkplain Longitude} store degrees, minutes and seconds, so each time the calculators
+ * use a {@code Point} they convert it to radians and take the sine and cosine of its latitude.  When the same point is
+ * used over and over - a depot that every vehicle's distance is measured against, for instance - preparing it once
+ * saves that work on every call.  The calculators' {@code PreparedPoint} overloads return exactly the same values as
+ * their {@code Point} overloads.
+ * </p>
+ *
+ * <p>
+ * Two {@code PreparedPoint}s are equal if their {@code Point}s are equal.
+ * </p>
+ */
+public final class PreparedPoint {
+
+    private final Point point;
+
+    private final double latitudeRadians;
+    private final double longitudeRadians;
+    private final double sinLatitude;
+    private final double cosLatitude;
+
+
+    PreparedPoint(final Point point) {
+        this.point = point;
+
+        latitudeRadians = point.latitude().toRadians();
+        longitudeRadians = point.longitude().toRadians();
+        sinLatitude = Math.sin(latitudeRadians);
+        cosLatitude = Math.cos(latitudeRadians);
+    }
+
+    /**
+     * @return The point this object was prepared from
+     */
+    public Point point() {
+        return point;
+    }
+
+    /**
+     * @return The latitude in radians.  This is the same value as {@code point().latitude().toRadians()}.
+     */
+    public double latitudeRadians() {
+        return latitudeRadians;
+    }
+
+    /**
+     * @return The longitude in radians.  This is the same value as {@code point().longitude().toRadians()}.
+     */
+    public double longitudeRadians() {
+        return longitudeRadians;
+    }
+
+    /**
+     * @return The sine of the latitude
+     */
+    public double sinLatitude() {
+        return sinLatitude;
+    }
+
+    /**
+     * @return The cosine of the latitude
+     */
+    public double cosLatitude() {
+        return cosLatitude;
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        return obj == this || (obj instanceof PreparedPoint other && point.equals(other.point));
+    }
+
+    @Override
+    public int hashCode() {
+        return point.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return point.toString();
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.calculator;
+
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.PreparedPoint;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+
+import static org.loverde.geographiccoordinate.calculator.DistanceCalculator.EARTH_RADIUS_KILOMETERS;
+import static org.loverde.geographiccoordinate.internal.Objects.failIf;
+
+
+/**
+ * <p>
+ * Approximations of the Haversine formula that project the two points onto a plane.  They're several times cheaper
+ * than Haversine and accurate for short distances away from the poles, which makes them useful for filtering
+ * candidates.  {@linkplain #isWithin(Unit, PreparedPoint, PreparedPoint, double)} uses an approximation to settle
+ * the pairs that are clearly inside or outside a radius, and only computes Haversine for the rest.
+ * </p>
+ *
+ * <p>
+ * The maximum relative error versus {@linkplain DistanceCalculator Haversine}, for points within
+ * {@linkplain #MAX_LATITUDE} degrees of the equator, is:
+ * </p>
+ *
+ * <table>
+ *     <caption>Maximum relative error by approximate distance</caption>
+ *     <tr><th>Distance</th><th>{@code EQUIRECTANGULAR}</th><th>{@code FLAT_EARTH}</th></tr>
+ *     <tr><td>up to 1 km</td><td>5 &times; 10<sup>-8</sup></td><td>2.5 &times; 10<sup>-4</sup></td></tr>
+ *     <tr><td>up to 10 km</td><td>5 &times; 10<sup>-6</sup></td><td>2.5 &times; 10<sup>-3</sup></td></tr>
+ *     <tr><td>up to 100 km</td><td>5 &times; 10<sup>-4</sup></td><td>2.5%</td></tr>
+ *     <tr><td>up to 1000 km</td><td>5%</td><td>20%</td></tr>
+ * </table>
+ *
+ * <p>
+ * The error grows with distance and with latitude.  Closer to the poles, or farther than 1000 km, there's no useful
+ * bound:  points on opposite sides of a pole can be measured at several times their true distance.
+ * </p>
+ */
+public enum ApproximateDistance implements DistanceAlgorithm {
+
+    /**
+     * Scales the longitude difference by the cosine of the mean latitude.  One cosine and one square root per pair.
+     */
+    EQUIRECTANGULAR(5E-8, 5E-6, 5E-4, 5E-2) {
+        @Override
+        double kilometers(final double lat1, final double cosLat1, final double lon1, final double lat2, final double lon2) {
+            final double x = longitudeDifference(lon1, lon2) * Math.cos((lat1 + lat2) / 2),
+                         y = lat2 - lat1;
+
+            return Math.sqrt(x * x + y * y) * EARTH_RADIUS_KILOMETERS;
+        }
+    },
+
+    /**
+     * Scales the longitude difference by the cosine of the first point's latitude.  With a {@linkplain PreparedPoint},
+     * that cosine is already known, so the only cost is a square root.  Pass the fixed point (the center of a
+     * geofence, for instance) first.  Because only the first point's latitude is used, the distance from A to B isn't
+     * quite the same as the distance from B to A.
+     */
+    FLAT_EARTH(2.5E-4, 2.5E-3, 2.5E-2, 0.2) {
+        @Override
+        double kilometers(final double lat1, final double cosLat1, final double lon1, final double lat2, final double lon2) {
+            final double x = longitudeDifference(lon1, lon2) * cosLat1,
+                         y = lat2 - lat1;
+
+            return Math.sqrt(x * x + y * y) * EARTH_RADIUS_KILOMETERS;
+        }
+    };
+
+    /** The error bounds only apply to points at or below this latitude (north or south), in degrees */
+    public static final double MAX_LATITUDE = 80;
+
+    private static final double MAX_LATITUDE_RADIANS = Math.toRadians(MAX_LATITUDE);
+
+    /** The upper limits of the distance bands, in kilometers */
+    private static final double[] BANDS = { 1, 10, 100, 1000 };
+
+    private final double[] maxRelativeErrors;
+
+
+    ApproximateDistance(final double... maxRelativeErrors) {
+        this.maxRelativeErrors = maxRelativeErrors;
+    }
+
+    /**
+     * @return The approximate distance in kilometers
+     */
+    abstract double kilometers(double lat1, double cosLat1, double lon1, double lat2, double lon2);
+
+    /**
+     * Gets the approximate distance between two points
+     *
+     * @param unit The unit that the returned value will be expressed in
+     * @param from The departing point
+     * @param to   The destination point
+     * @return The approximate distance from {@code from} to {@code to}, expressed in terms of {@code unit}
+     */
+    @Override
+    public double distance(final Unit unit, final Point from, final Point to) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(from == null, () -> "point 0 is null");
+        failIf(to == null, () -> "point 1 is null");
+
+        final double lat1 = from.latitude().toRadians();
+
+        return unit.fromKilometers(kilometers(lat1, Math.cos(lat1), from.longitude().toRadians(),
+                                              to.latitude().toRadians(), to.longitude().toRadians()));
+    }
+
+    /**
+     * Gets the approximate distance between two {@linkplain PreparedPoint}s
+     *
+     * @param unit The unit that the returned value will be expressed in
+     * @param from The departing point
+     * @param to   The destination point
+     * @return The approximate distance from {@code from} to {@code to}, expressed in terms of {@code unit}
+     */
+    public double distance(final Unit unit, final PreparedPoint from, final PreparedPoint to) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(from == null, () -> "point 0 is null");
+        failIf(to == null, () -> "point 1 is null");
+
+        return unit.fromKilometers(kilometers(from.latitudeRadians(), from.cosLatitude(), from.longitudeRadians(),
+                                              to.latitudeRadians(), to.longitudeRadians()));
+    }
+
+    /**
+     * Gets the bound on this approximation's relative error, |approximate - haversine| / haversine, for points within
+     * {@linkplain #MAX_LATITUDE} degrees of the equator
+     *
+     * @param kilometers An approximate distance, in kilometers
+     * @return The maximum relative error of approximate distances up to {@code kilometers}, or
+     *         {@linkplain Double#POSITIVE_INFINITY} if there's no bound
+     */
+    public double maxRelativeError(final double kilometers) {
+        for (int i = 0; i < BANDS.length; i++) {
+            if (kilometers <= BANDS[i]) {
+                return maxRelativeErrors[i];
+            }
+        }
+
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * <p>
+     * Determines whether two points are within a distance of each other, as measured by the Haversine formula.  The
+     * answer is always the same as {@code DistanceCalculator.distance(unit, from, to) <= radius}.
+     * </p>
+     *
+     * <p>
+     * The approximate distance is computed first.  If, allowing for its maximum error, it's clearly inside or outside
+     * the radius, that's the answer.  Only borderline pairs, and points too close to the poles for the approximation's
+     * bounds to apply, pay for the Haversine formula.
+     * </p>
+     *
+     * @param unit   The unit that {@code radius} is expressed in
+     * @param from   The fixed point, such as the center of a geofence
+     * @param to     The other point
+     * @param radius The distance
+     * @return True if the points are no farther apart than {@code radius}
+     * @throws IllegalArgumentException If any object is null, or if radius is negative or not a number
+     */
+    public boolean isWithin(final Unit unit, final Point from, final Point to, final double radius) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(from == null, () -> "point 0 is null");
+        failIf(to == null, () -> "point 1 is null");
+        failIf(!(radius >= 0), () -> "Radius must not be negative");
+
+        final double lat1 = from.latitude().toRadians(),
+                     lat2 = to.latitude().toRadians();
+
+        return isWithin(unit, lat1, Math.cos(lat1), from.longitude().toRadians(), lat2, Math.cos(lat2), to.longitude().toRadians(), radius);
+    }
+
+    /**
+     * <p>
+     * Determines whether two {@linkplain PreparedPoint}s are within a distance of each other, as measured by the
+     * Haversine formula.  The answer is always the same as {@code DistanceCalculator.distance(unit, from, to) <= radius}.
+     * </p>
+     *
+     * <p>
+     * The approximate distance is computed first.  If, allowing for its maximum error, it's clearly inside or outside
+     * the radius, that's the answer.  Only borderline pairs, and points too close to the poles for the approximation's
+     * bounds to apply, pay for the Haversine formula.
+     * </p>
+     *
+     * @param unit   The unit that {@code radius} is expressed in
+     * @param from   The fixed point, such as the center of a geofence
+     * @param to     The other point
+     * @param radius The distance
+     * @return True if the points are no farther apart than {@code radius}
+     * @throws IllegalArgumentException If any object is null, or if radius is negative or not a number
+     */
+    public boolean isWithin(final Unit unit, final PreparedPoint from, final PreparedPoint to, final double radius) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(from == null, () -> "point 0 is null");
+        failIf(to == null, () -> "point 1 is null");
+        failIf(!(radius >= 0), () -> "Radius must not be negative");
+
+        return isWithin(unit, from.latitudeRadians(), from.cosLatitude(), from.longitudeRadians(),
+                        to.latitudeRadians(), to.cosLatitude(), to.longitudeRadians(), radius);
+    }
+
+    private boolean isWithin(final Unit unit, final double lat1, final double cosLat1, final double lon1,
+                             final double lat2, final double cosLat2, final double lon2, final double radius) {
+        if (Math.abs(lat1) <= MAX_LATITUDE_RADIANS && Math.abs(lat2) <= MAX_LATITUDE_RADIANS) {
+            final double radiusKilometers = unit.toKilometers(radius),
+                         approximate = kilometers(lat1, cosLat1, lon1, lat2, lon2),
+                         error = maxRelativeError(approximate);
+
+            // approximate / (1 + error) <= haversine <= approximate / (1 - error).  An unbounded error gives NaN or
+            // infinite limits, which fail both tests.
+            if (approximate > radiusKilometers * (1 + error)) {
+                return false;
+            }
+
+            if (approximate <= radiusKilometers * (1 - error)) {
+                return true;
+            }
+        }
+
+        return unit.fromKilometers(ScalarHaversineKernel.haversine(lat1, cosLat1, lon1, lat2, cosLat2, lon2)) <= radius;
+    }
+
+    /**
+     * @return lon2 - lon1, taking the short way around
+     */
+    private static double longitudeDifference(final double lon1, final double lon2) {
+        final double difference = lon2 - lon1;
+
+        if (difference > Math.PI) {
+            return difference - 2 * Math.PI;
+        }
+
+        if (difference < -Math.PI) {
+            return difference + 2 * Math.PI;
+        }
+
+        return difference;
+    }
+}
@@ -36,7 +36,12 @@ package org.loverde.geographiccoordinate.calculator;
 import java.math.BigDecimal;
 
 import org.loverde.geographiccoordinate.Bearing;
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.PackedPoint;
 import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.PreparedPoint;
+import org.loverde.geographiccoordinate.compass.CompassBearing;
 import org.loverde.geographiccoordinate.compass.CompassDirection;
 import org.loverde.geographiccoordinate.compass.CompassDirection16;
 import org.loverde.geographiccoordinate.compass.CompassDirection32;
@@ -62,6 +67,9 @@ public class BearingCalculator {
     private static final BigDecimal BD_180 = new BigDecimal(180);
     private static final BigDecimal BD_NEG_180 = new BigDecimal(-180);
 
+    /** The same factor {@linkplain Math#toRadians(double)} uses, so converted coordinates match it exactly */
+    private static final double DEGREES_TO_RADIANS = Math.PI / 180.0d;
+
 
     /**
      * <p>
@@ -85,6 +93,19 @@ public class BearingCalculator {
         return newBearing(compassType, calculateBearing(from, to));
     }
 
+    /**
+     * Calculates the initial bearing between two {@linkplain PreparedPoint}s.  See
+     * {@link #initialBearing(Class, Point, Point)}.
+     *
+     * @param compassType The returned {@code Bearing} will be parameterized with this type, allowing you to safely cast it
+     * @param from        The departing point
+     * @param to          The destination point
+     * @return The initial bearing from A to B, and a mapping of the bearing to an 8, 16 or 32-point compass direction, depending on {@code compassType}
+     */
+    public static <T extends CompassDirection> Bearing<T> initialBearing(final Class<T> compassType, final PreparedPoint from, final PreparedPoint to) {
+        return newBearing(compassType, new BigDecimal(initialBearingDegrees(from, to)));
+    }
+
     /**
      * Calculates the back azimuth - the bearing that gets you back to your starting point
      *
@@ -102,6 +123,328 @@ public class BearingCalculator {
         return newBearing(compassType, calculateBackAzimuth(initialBearing));
     }
 
+    /**
+     * <p>
+     * Calculates the initial bearing that will take you from point A to point B, as an immutable
+     * {@linkplain CompassBearing}.  The bearing is rounded to hundredths of a degree and the shared instance for it is
+     * returned, so nothing is allocated once the instance exists, and the result can be handed to other threads as is.
+     * </p>
+     *
+     * <p><strong>
+     * THIS IS HOBBYIST SOFTWARE.  THE AUTHOR HAS NO BACKGROUND IN, OR EVEN AN UNDERSTANDING OF, GEODESY, AND MERELY
+     * IMPLEMENTED FORMULAS FOUND ONLINE.  DON'T ENTRUST YOUR SAFETY TO THIS SOFTWARE.  NOW WOULD BE A GOOD TIME TO
+     * READ AND UNDERSTAND THE WAIVER PRESENT IN THIS SOFTWARE'S LICENSE.
+     * </strong></p>
+     *
+     * @param compassType The compass enumeration the bearing is mapped to
+     * @param from        The departing point
+     * @param to          The destination point
+     * @return The initial bearing from A to B, rounded to hundredths of a degree, and its compass direction
+     * @see CompassBearing#of(Class, double)
+     */
+    public static <T extends CompassDirection> CompassBearing<T> initialCompassBearing(final Class<T> compassType, final Point from, final Point to) {
+        return CompassBearing.of(compassType, initialBearingDegrees(from, to));
+    }
+
+    /**
+     * Calculates the initial bearing between two {@linkplain PreparedPoint}s as an immutable
+     * {@linkplain CompassBearing}.  See {@link #initialCompassBearing(Class, Point, Point)}.
+     *
+     * @param compassType The compass enumeration the bearing is mapped to
+     * @param from        The departing point
+     * @param to          The destination point
+     * @return The initial bearing from A to B, rounded to hundredths of a degree, and its compass direction
+     */
+    public static <T extends CompassDirection> CompassBearing<T> initialCompassBearing(final Class<T> compassType, final PreparedPoint from,
+                                                                                       final PreparedPoint to) {
+        return CompassBearing.of(compassType, initialBearingDegrees(from, to));
+    }
+
+    /**
+     * Calculates the back azimuth of a {@linkplain CompassBearing} - the bearing that gets you back to your starting
+     * point - mapped to the same compass type
+     *
+     * @param compassType    The compass enumeration the back azimuth is mapped to
+     * @param initialBearing The initial bearing
+     * @return The shared instance for the back azimuth
+     */
+    public static <T extends CompassDirection> CompassBearing<T> compassBackAzimuth(final Class<T> compassType, final CompassBearing<?> initialBearing) {
+        failIf(initialBearing == null, BEARING_NULL);
+
+        return CompassBearing.of(compassType, backAzimuthDegrees(initialBearing.degrees()));
+    }
+
+    /**
+     * Calculates the initial bearing that will take you from point A to point B, without creating a
+     * {@linkplain Bearing} or any {@linkplain BigDecimal}s.  The result is the same value that
+     * {@link #initialBearing(Class, Point, Point)} wraps.  Use the {@code getByBearing(double)} method of a compass
+     * enumeration to map it to a compass direction.
+     *
+     * <p><strong>
+     * THIS IS HOBBYIST SOFTWARE.  THE AUTHOR HAS NO BACKGROUND IN, OR EVEN AN UNDERSTANDING OF, GEODESY, AND MERELY
+     * IMPLEMENTED FORMULAS FOUND ONLINE.  DON'T ENTRUST YOUR SAFETY TO THIS SOFTWARE.  NOW WOULD BE A GOOD TIME TO
+     * READ AND UNDERSTAND THE WAIVER PRESENT IN THIS SOFTWARE'S LICENSE.
+     * </strong></p>
+     *
+     * @param from The departing point
+     * @param to   The destination point
+     * @return The initial bearing from A to B in degrees, in the range [0, 360)
+     */
+    public static double initialBearingDegrees(final Point from, final Point to) {
+        failIf(from == null, STARTING_POINT_NULL);
+        failIf(to == null, BEARING_TO_NULL);
+
+        final double fromLatRadians = from.latitude().toRadians(),
+                     toLatRadians = to.latitude().toRadians();
+
+        return initialBearingDegrees(Math.sin(fromLatRadians), Math.cos(fromLatRadians), from.longitude().toRadians(),
+                                     Math.sin(toLatRadians), Math.cos(toLatRadians), to.longitude().toRadians());
+    }
+
+    /**
+     * Calculates the initial bearing between two {@linkplain PreparedPoint}s.  The result is the same as
+     * {@code initialBearingDegrees(from.point(), to.point())}, but none of the points' trigonometry is repeated.
+     *
+     * <p><strong>
+     * THIS IS HOBBYIST SOFTWARE.  THE AUTHOR HAS NO BACKGROUND IN, OR EVEN AN UNDERSTANDING OF, GEODESY, AND MERELY
+     * IMPLEMENTED FORMULAS FOUND ONLINE.  DON'T ENTRUST YOUR SAFETY TO THIS SOFTWARE.  NOW WOULD BE A GOOD TIME TO
+     * READ AND UNDERSTAND THE WAIVER PRESENT IN THIS SOFTWARE'S LICENSE.
+     * </strong></p>
+     *
+     * @param from The departing point
+     * @param to   The destination point
+     * @return The initial bearing from A to B in degrees, in the range [0, 360)
+     */
+    public static double initialBearingDegrees(final PreparedPoint from, final PreparedPoint to) {
+        failIf(from == null, STARTING_POINT_NULL);
+        failIf(to == null, BEARING_TO_NULL);
+
+        return initialBearingDegrees(from.sinLatitude(), from.cosLatitude(), from.longitudeRadians(),
+                                     to.sinLatitude(), to.cosLatitude(), to.longitudeRadians());
+    }
+
+    /**
+     * Calculates the initial bearing between two {@linkplain PackedPoint packed points}.  See
+     * {@link #initialBearingDegrees(Point, Point)}.
+     *
+     * @param from The departing point
+     * @param to   The destination point
+     * @return The initial bearing from A to B in degrees, in the range [0, 360)
+     */
+    public static double initialBearingDegreesPacked(final long from, final long to) {
+        failIf(!PackedPoint.isValid(from), () -> "'from' is out of range");
+        failIf(!PackedPoint.isValid(to), () -> "'to' is out of range");
+
+        final double fromLatRadians = PackedPoint.latitudeRadians(from),
+                     toLatRadians = PackedPoint.latitudeRadians(to);
+
+        return initialBearingDegrees(Math.sin(fromLatRadians), Math.cos(fromLatRadians), PackedPoint.longitudeRadians(from),
+                                     Math.sin(toLatRadians), Math.cos(toLatRadians), PackedPoint.longitudeRadians(to));
+    }
+
+    /**
+     * Calculates the back azimuth without creating a {@linkplain Bearing} or any {@linkplain BigDecimal}s
+     *
+     * @param initialBearing The initial bearing in degrees, 0 &lt;= x &lt;= 360
+     * @return The back azimuth in degrees, in the range [0, 360).  This is the {@code double} nearest to the value
+     *         {@link #backAzimuth(Class, BigDecimal)} would return for the same bearing, except that a result which
+     *         rounds up to 360 is returned as 0.0.
+     */
+    public static double backAzimuthDegrees(final double initialBearing) {
+        failIf(!(initialBearing >= 0.0d && initialBearing <= 360.0d), BEARING_OUT_OF_RANGE, initialBearing);
+
+        final double zeroedBearing = initialBearing == 360.0d ? 0.0d : initialBearing;
+
+        if (zeroedBearing == 180.0d) {
+            return 0.0d;
+        }
+
+        final double backAzimuth = zeroedBearing < 180.0d ? zeroedBearing + 180.0d : zeroedBearing - 180.0d;
+
+        // Bearings just below 180 round up to 360
+        return backAzimuth >= 360.0d ? backAzimuth - 360.0d : backAzimuth;
+    }
+
+    /**
+     * <p>
+     * Calculates the initial bearing of every leg of a track.  The bearing from point {@code i} to point {@code i + 1}
+     * is written to {@code destination[i]}, and is the same value {@link #initialBearingDegrees(Point, Point)} returns
+     * for that pair.  The sine and cosine of each point's latitude are computed once and used for both of the legs the
+     * point belongs to, and nothing is allocated.
+     * </p>
+     *
+     * <p><strong>
+     * THIS IS HOBBYIST SOFTWARE.  THE AUTHOR HAS NO BACKGROUND IN, OR EVEN AN UNDERSTANDING OF, GEODESY, AND MERELY
+     * IMPLEMENTED FORMULAS FOUND ONLINE.  DON'T ENTRUST YOUR SAFETY TO THIS SOFTWARE.  NOW WOULD BE A GOOD TIME TO
+     * READ AND UNDERSTAND THE WAIVER PRESENT IN THIS SOFTWARE'S LICENSE.
+     * </strong></p>
+     *
+     * @param points      Points arranged in the order in which they are visited.  You must provide at least 2.
+     * @param destination Receives the bearings in degrees, in the range [0, 360).  Must hold at least
+     *                    {@code points.size() - 1} values.
+     */
+    public static void initialBearingsDegrees(final PointBuffer points, final double[] destination) {
+        failIf(points == null, () -> "Points are null");
+        failIf(points.size() < 2, () -> "Need to provide at least 2 points");
+        checkDestination(destination, points.size() - 1);
+
+        legBearings(points.latitudes, points.longitudes, 0, points.size(), 1.0d, destination);
+    }
+
+    /**
+     * Calculates the initial bearing of every leg of a track stored in a pair of arrays.  See
+     * {@link #initialBearingsDegrees(PointBuffer, double[])}.  The bearing from point {@code fromIndex + i} to point
+     * {@code fromIndex + i + 1} is written to {@code destination[i]}.
+     *
+     * @param latitudes   Signed decimal latitudes
+     * @param longitudes  Signed decimal longitudes
+     * @param fromIndex   The index of the first point (inclusive)
+     * @param toIndex     The index of the last point (exclusive).  The range must contain at least 2 points.
+     * @param destination Receives the bearings in degrees, in the range [0, 360).  Must hold at least
+     *                    {@code toIndex - fromIndex - 1} values.
+     */
+    public static void initialBearingsDegrees(final double[] latitudes, final double[] longitudes, final int fromIndex, final int toIndex,
+                                              final double[] destination) {
+        checkCoordinates(latitudes, longitudes, fromIndex, toIndex);
+        checkDestination(destination, toIndex - fromIndex - 1);
+
+        legBearings(latitudes, longitudes, fromIndex, toIndex, DEGREES_TO_RADIANS, destination);
+    }
+
+    /**
+     * Calculates the initial bearing of every leg of a track, and maps each bearing to a compass direction.  The
+     * bearings are the same as those of {@link #initialBearingsDegrees(PointBuffer, double[])};  {@code directions[i]}
+     * receives the ordinal of the direction {@code getByBearing(bearings[i])} returns for {@code compassType}.  No
+     * {@linkplain Bearing}s or {@linkplain BigDecimal}s are created.
+     *
+     * @param compassType The compass enumeration whose ordinals are written to {@code directions}
+     * @param points      Points arranged in the order in which they are visited.  You must provide at least 2.
+     * @param bearings    Receives the bearings in degrees.  Must hold at least {@code points.size() - 1} values.
+     * @param directions  Receives the ordinals of the compass directions.  Must hold at least {@code points.size() - 1}
+     *                    values.
+     */
+    public static <T extends CompassDirection> void initialBearings(final Class<T> compassType, final PointBuffer points,
+                                                                    final double[] bearings, final byte[] directions) {
+        checkCompassType(compassType);
+        failIf(points == null, () -> "Points are null");
+        failIf(points.size() < 2, () -> "Need to provide at least 2 points");
+        checkDestination(bearings, points.size() - 1);
+        checkDirections(directions, points.size() - 1);
+
+        legBearings(points.latitudes, points.longitudes, 0, points.size(), 1.0d, bearings);
+        classify(compassType, bearings, points.size() - 1, directions);
+    }
+
+    /**
+     * Calculates the initial bearing of every leg of a track stored in a pair of arrays, and maps each bearing to a
+     * compass direction.  See {@link #initialBearings(Class, PointBuffer, double[], byte[])} and
+     * {@link #initialBearingsDegrees(double[], double[], int, int, double[])}.
+     *
+     * @param compassType The compass enumeration whose ordinals are written to {@code directions}
+     * @param latitudes   Signed decimal latitudes
+     * @param longitudes  Signed decimal longitudes
+     * @param fromIndex   The index of the first point (inclusive)
+     * @param toIndex     The index of the last point (exclusive).  The range must contain at least 2 points.
+     * @param bearings    Receives the bearings in degrees.  Must hold at least {@code toIndex - fromIndex - 1} values.
+     * @param directions  Receives the ordinals of the compass directions.  Must hold at least
+     *                    {@code toIndex - fromIndex - 1} values.
+     */
+    public static <T extends CompassDirection> void initialBearings(final Class<T> compassType, final double[] latitudes, final double[] longitudes,
+                                                                    final int fromIndex, final int toIndex,
+                                                                    final double[] bearings, final byte[] directions) {
+        checkCompassType(compassType);
+        checkCoordinates(latitudes, longitudes, fromIndex, toIndex);
+        checkDestination(bearings, toIndex - fromIndex - 1);
+        checkDirections(directions, toIndex - fromIndex - 1);
+
+        legBearings(latitudes, longitudes, fromIndex, toIndex, DEGREES_TO_RADIANS, bearings);
+        classify(compassType, bearings, toIndex - fromIndex - 1, directions);
+    }
+
+    private static double initialBearingDegrees(final double sinFromLat, final double cosFromLat, final double fromLonRadians,
+                                                final double sinToLat, final double cosToLat, final double toLonRadians) {
+        final double deltaLon = toLonRadians - fromLonRadians;
+
+        final double y = Math.sin(deltaLon) * cosToLat;
+        final double x = cosFromLat * sinToLat - sinFromLat * cosToLat * Math.cos(deltaLon);
+
+        final double bearing = Math.toDegrees(Math.atan2(y, x));
+
+        return normalizeBearing(bearing);
+    }
+
+    /**
+     * Computes the bearings of the legs between consecutive points, carrying each point's trigonometry over to the
+     * next leg.  {@code scale} converts the coordinates to radians:  1 for radians, {@link #DEGREES_TO_RADIANS} for
+     * degrees.
+     */
+    private static void legBearings(final double[] latitudes, final double[] longitudes, final int fromIndex, final int toIndex,
+                                    final double scale, final double[] destination) {
+        final double firstLat = latitudes[fromIndex] * scale;
+
+        double sinFromLat = Math.sin(firstLat),
+               cosFromLat = Math.cos(firstLat),
+               fromLon = longitudes[fromIndex] * scale;
+
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            final double toLat = latitudes[i] * scale;
+            final double sinToLat = Math.sin(toLat),
+                         cosToLat = Math.cos(toLat),
+                         toLon = longitudes[i] * scale;
+
+            destination[i - fromIndex - 1] = initialBearingDegrees(sinFromLat, cosFromLat, fromLon, sinToLat, cosToLat, toLon);
+
+            sinFromLat = sinToLat;
+            cosFromLat = cosToLat;
+            fromLon = toLon;
+        }
+    }
+
+    private static void classify(final Class<?> compassType, final double[] bearings, final int count, final byte[] directions) {
+        if (compassType == CompassDirection8.class) {
+            for (int i = 0; i < count; i++) {
+                directions[i] = (byte) CompassDirection8.getByBearing(bearings[i]).ordinal();
+            }
+        } else if (compassType == CompassDirection16.class) {
+            for (int i = 0; i < count; i++) {
+                directions[i] = (byte) CompassDirection16.getByBearing(bearings[i]).ordinal();
+            }
+        } else if (compassType == CompassDirection32.class) {
+            for (int i = 0; i < count; i++) {
+                directions[i] = (byte) CompassDirection32.getByBearing(bearings[i]).ordinal();
+            }
+        } else {
+            throw new IllegalArgumentException(COMPASS_TYPE_NULL);
+        }
+    }
+
+    private static void checkCoordinates(final double[] latitudes, final double[] longitudes, final int fromIndex, final int toIndex) {
+        failIf(latitudes == null, () -> "Latitudes are null");
+        failIf(longitudes == null, () -> "Longitudes are null");
+        failIf(fromIndex < 0 || toIndex > Math.min(latitudes.length, longitudes.length) || fromIndex > toIndex, () -> "Invalid range");
+        failIf(toIndex - fromIndex < 2, () -> "Need to provide at least 2 points");
+
+        for (int i = fromIndex; i < toIndex; i++) {
+            failIf(!(Math.abs(latitudes[i]) <= Latitude.MAX_VALUE), "latitude %d is out of range", i);
+            failIf(!(Math.abs(longitudes[i]) <= Longitude.MAX_VALUE), "longitude %d is out of range", i);
+        }
+    }
+
+    private static void checkDestination(final double[] destination, final int count) {
+        failIf(destination == null, () -> "Destination is null");
+        failIf(destination.length < count, () -> "Destination is too small");
+    }
+
+    private static void checkDirections(final byte[] directions, final int count) {
+        failIf(directions == null, () -> "Directions are null");
+        failIf(directions.length < count, () -> "Directions are too small");
+    }
+
+    private static void checkCompassType(final Class<?> compassType) {
+        failIf(compassType != CompassDirection8.class && compassType != CompassDirection16.class && compassType != CompassDirection32.class,
+               COMPASS_TYPE_NULL);
+    }
+
     private static <T extends CompassDirection> Bearing<T> newBearing(final Class<T> compassType, final BigDecimal angle) {
         failIf(compassType == null, COMPASS_TYPE_NULL);
 
@@ -117,22 +460,7 @@ public class BearingCalculator {
     }
 
     private static BigDecimal calculateBearing(final Point from, final Point to) {
-        failIf(from == null, STARTING_POINT_NULL);
-        failIf(to == null, BEARING_TO_NULL);
-
-        final double fromLatRadians = from.latitude().toRadians(),
-                     fromLonRadians = from.longitude().toRadians(),
-                     toLatRadians = to.latitude().toRadians(),
-                     toLonRadians = to.longitude().toRadians(),
-                     deltaLon = toLonRadians - fromLonRadians;
-
-        final double y = Math.sin(deltaLon) * Math.cos(toLatRadians);
-        final double x = Math.cos(fromLatRadians) * Math.sin(toLatRadians) - Math.sin(fromLatRadians) * Math.cos(toLatRadians) * Math.cos(deltaLon);
-
-        final double bearing = Math.toDegrees(Math.atan2(y, x));
-        final double normalizedBearing = normalizeBearing(bearing);
-
-        return new BigDecimal(normalizedBearing);
+        return new BigDecimal(initialBearingDegrees(from, to));
     }
 
     private static BigDecimal calculateBackAzimuth(final BigDecimal bearing) {
@@ -140,7 +468,7 @@ public class BearingCalculator {
         BigDecimal backAzimuth;
 
         failIf(bearing == null, BEARING_NULL);
-        failIf(bearing.compareTo(ZERO) < 0 || bearing.compareTo(BD_360) > 0, () -> BEARING_OUT_OF_RANGE.formatted(bearing.toPlainString()));
+        failIf(bearing.compareTo(ZERO) < 0 || bearing.compareTo(BD_360) > 0, BEARING_OUT_OF_RANGE, bearing);
 
         zeroedBearing = bearing.compareTo(BD_360) == 0 ? ZERO : bearing;
 
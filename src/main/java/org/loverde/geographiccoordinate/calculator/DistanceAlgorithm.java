@@ -0,0 +1,102 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.calculator;
+
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+
+import java.util.List;
+
+import static org.loverde.geographiccoordinate.internal.Objects.failIf;
+
+
+/**
+ * <p>
+ * A way of measuring the distance between two points.  Callers that need to choose between speed and accuracy can
+ * hold a {@code DistanceAlgorithm} and decide per call:
+ * </p>
+ *
+ * <ul>
+ *     <li>{@linkplain #HAVERSINE} treats the Earth as a sphere, like {@linkplain DistanceCalculator}.  It's the fastest,
+ *         and can be off by up to about 0.5%.</li>
+ *     <li>{@linkplain EllipsoidalDistance} measures geodesics on an {@linkplain Ellipsoid}, WGS-84 by default.  It's
+ *         accurate to well under a millimeter, but several times slower.</li>
+ * </ul>
+ */
+@FunctionalInterface
+public interface DistanceAlgorithm {
+
+    /** The Haversine formula.  Results are identical to {@linkplain DistanceCalculator#distance(Unit, Point, Point)}. */
+    DistanceAlgorithm HAVERSINE = DistanceCalculator::distance;
+
+
+    /**
+     * Gets the distance between two points
+     *
+     * @param unit The unit that the returned value will be expressed in
+     * @param from The departing point
+     * @param to   The destination point
+     * @return The distance from {@code from} to {@code to}, expressed in terms of {@code unit}
+     * @throws IllegalArgumentException If any parameter is null
+     */
+    double distance(Unit unit, Point from, Point to);
+
+    /**
+     * Gets the total distance between a list of points, visited in order
+     *
+     * @param unit   The unit that the returned value will be expressed in
+     * @param points Points arranged in the order in which they are visited.  You must provide at least 2, otherwise a
+     *               {@linkplain IllegalArgumentException} will be thrown.
+     * @return The total distance traveled, expressed in terms of {@code unit}
+     */
+    default double distance(final Unit unit, final List<Point> points) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(points == null, () -> "Points are null");
+        failIf(points.size() < 2, () -> "Need to provide at least 2 points");
+
+        double distance = 0;
+        Point previous = points.get(0);
+
+        for (int i = 1; i < points.size(); i++) {
+            final Point current = points.get(i);
+
+            failIf(previous == null, "point %d is null", i - 1);
+            failIf(current == null, "point %d is null", i);
+
+            distance += distance(unit, previous, current);
+            previous = current;
+        }
+
+        return distance;
+    }
+}
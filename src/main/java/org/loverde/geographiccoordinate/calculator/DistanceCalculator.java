@@ -33,10 +33,17 @@
 
 package org.loverde.geographiccoordinate.calculator;
 
+import org.loverde.geographiccoordinate.PackedPoint;
 import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.PreparedPoint;
+import org.loverde.geographiccoordinate.store.MappedPointStore;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.List;
+import java.util.RandomAccess;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 import static org.loverde.geographiccoordinate.internal.Objects.failIf;
@@ -54,6 +61,12 @@ import static org.loverde.geographiccoordinate.internal.Objects.failIf;
  * </p>
  *
  * <p>
+ * When ellipsoidal accuracy is needed, use {@linkplain EllipsoidalDistance}, which bounds Vincenty's iteration and
+ * switches to a different method for the inputs that it handles poorly.  {@linkplain DistanceAlgorithm} lets callers
+ * choose between the two.
+ * </p>
+ *
+ * <p>
  * The Earth radius used in calculations is the volumetric mean radius, not the equatorial radius.  As of April 2024,
  * NASA's figure for the volumetric mean radius was 6371.000 km.
  * </p>
@@ -120,12 +133,36 @@ public class DistanceCalculator {
         Unit(final double perKilometer) {
             this.perKilometer = perKilometer;
         }
+
+        /**
+         * @param kilometers A distance in kilometers
+         * @return The same distance expressed in this unit
+         */
+        public double fromKilometers(final double kilometers) {
+            return kilometers * perKilometer;
+        }
+
+        /**
+         * @param distance A distance expressed in this unit
+         * @return The same distance in kilometers
+         */
+        public double toKilometers(final double distance) {
+            return distance / perKilometer;
+        }
     }
 
     /**
+     * The Earth's volumetric mean radius, which the Haversine calculations in this library use
+     *
      * @see <a href="http://nssdc.gsfc.nasa.gov/planetary/factsheet/earthfact.html">http://nssdc.gsfc.nasa.gov/planetary/factsheet/earthfact.html</a>
      */
-    private static final double EARTH_RADIUS_KILOMETERS = 6371;
+    public static final double EARTH_RADIUS_KILOMETERS = 6371;
+
+    /**
+     * The number of points below which the {@code parallelDistance} methods stay in the calling thread, unless another
+     * threshold is specified
+     */
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 1 << 16;
 
 
     /**
@@ -179,18 +216,15 @@ public class DistanceCalculator {
         for (int i = 1; i < points.size(); i++) {
             final Point current = points.get(i);
 
-            failIf(previous == null, "point %d is null".formatted(i - 1));
-            failIf(current == null, "point %d is null".formatted(i));
+            failIf(previous == null, "point %d is null", i - 1);
+            failIf(current == null, "point %d is null", i);
 
             final double lat1 = previous.latitude().toRadians(),
                          lat2 = current.latitude().toRadians(),
                          lon1 = previous.longitude().toRadians(),
-                         lon2 = current.longitude().toRadians(),
-                         deltaLat = lat2 - lat1,
-                         deltaLon = lon2 - lon1;
+                         lon2 = current.longitude().toRadians();
 
-            final double d = (2.0d * EARTH_RADIUS_KILOMETERS) * Math.asin(Math.sqrt(Math.pow(Math.sin(deltaLat / 2.0d), 2.0d)
-                    + (Math.cos(lat1) * Math.cos(lat2) * Math.pow(Math.sin(deltaLon / 2.0d), 2.0d))));
+            final double d = ScalarHaversineKernel.haversine(lat1, Math.cos(lat1), lon1, lat2, Math.cos(lat2), lon2);
 
             distance += d * unit.perKilometer;
             previous = current;
@@ -198,4 +232,478 @@ public class DistanceCalculator {
 
         return distance;
     }
+
+    /**
+     * Gets the distance between two {@linkplain Point}s.  The result is identical to
+     * {@link #distance(Unit, Point...)}, without creating an array or list.
+     *
+     * @param unit The unit that the returned value will be expressed in
+     * @param from The departing point
+     * @param to   The destination point
+     * @return The distance from {@code from} to {@code to}, expressed in terms of {@code unit}
+     */
+    public static double distance(final Unit unit, final Point from, final Point to) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(from == null, () -> "point 0 is null");
+        failIf(to == null, () -> "point 1 is null");
+
+        final double lat1 = from.latitude().toRadians(),
+                     lat2 = to.latitude().toRadians();
+
+        return ScalarHaversineKernel.haversine(lat1, Math.cos(lat1), from.longitude().toRadians(),
+                                               lat2, Math.cos(lat2), to.longitude().toRadians()) * unit.perKilometer;
+    }
+
+    /**
+     * <p>
+     * Determines whether two points are within a distance of each other.  Rather than computing the distance, the
+     * radius is converted to a threshold on the Haversine formula's intermediate term, so no arcsine or square root is
+     * taken.
+     * </p>
+     *
+     * <p>
+     * The answer is the same as {@code distance(unit, from, to) <= radius}, except possibly when the distance is within
+     * a rounding error of the radius.  Any radius of at least half the Earth's circumference includes every point.
+     * </p>
+     *
+     * @param unit   The unit that {@code radius} is expressed in
+     * @param from   One point
+     * @param to     The other point
+     * @param radius The distance
+     * @return True if the points are no farther apart than {@code radius}
+     * @throws IllegalArgumentException If any object is null, or if radius is negative or not a number
+     */
+    public static boolean isWithin(final Unit unit, final Point from, final Point to, final double radius) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(from == null, () -> "point 0 is null");
+        failIf(to == null, () -> "point 1 is null");
+
+        final double threshold = withinThreshold(unit, radius),
+                     lat1 = from.latitude().toRadians(),
+                     lat2 = to.latitude().toRadians();
+
+        return ScalarHaversineKernel.term(lat1, Math.cos(lat1), from.longitude().toRadians(),
+                                          lat2, Math.cos(lat2), to.longitude().toRadians()) <= threshold;
+    }
+
+    /**
+     * Finds the candidates within a distance of a center point.  The center's trigonometry and the threshold are
+     * computed once; each candidate costs three sines or cosines and no arcsine or square root.  See
+     * {@linkplain #isWithin(Unit, Point, Point, double)}.
+     *
+     * @param unit       The unit that {@code radius} is expressed in
+     * @param center     The center point
+     * @param candidates The points to test
+     * @param radius     The distance
+     * @return A bit set in which bit {@code i} is set if {@code candidates.get(i)} is no farther from
+     *         {@code center} than {@code radius}
+     * @throws IllegalArgumentException If any object is null, or if radius is negative or not a number
+     */
+    public static BitSet isWithin(final Unit unit, final Point center, final List<Point> candidates, final double radius) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(center == null, () -> "Center is null");
+        failIf(candidates == null, () -> "Points are null");
+
+        final double threshold = withinThreshold(unit, radius),
+                     lat1 = center.latitude().toRadians(),
+                     cosLat1 = Math.cos(lat1),
+                     lon1 = center.longitude().toRadians();
+
+        final BitSet hits = new BitSet(candidates.size());
+        int i = 0;
+
+        for (final Point candidate : candidates) {
+            failIf(candidate == null, "point %d is null", i);
+
+            final double lat2 = candidate.latitude().toRadians();
+
+            if (ScalarHaversineKernel.term(lat1, cosLat1, lon1, lat2, Math.cos(lat2), candidate.longitude().toRadians()) <= threshold) {
+                hits.set(i);
+            }
+
+            i++;
+        }
+
+        return hits;
+    }
+
+    /**
+     * Finds the points in a {@linkplain PointBuffer} within a distance of a center point.  The center's trigonometry
+     * and the threshold are computed once; each candidate costs three sines or cosines and no arcsine or square root.
+     * See {@linkplain #isWithin(Unit, Point, Point, double)}.
+     *
+     * @param unit       The unit that {@code radius} is expressed in
+     * @param center     The center point
+     * @param candidates The points to test
+     * @param radius     The distance
+     * @return A bit set in which bit {@code i} is set if point {@code i} of the buffer is no farther from
+     *         {@code center} than {@code radius}
+     * @throws IllegalArgumentException If any object is null, or if radius is negative or not a number
+     */
+    public static BitSet isWithin(final Unit unit, final Point center, final PointBuffer candidates, final double radius) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(center == null, () -> "Center is null");
+        failIf(candidates == null, () -> "Points are null");
+
+        final double threshold = withinThreshold(unit, radius),
+                     lat1 = center.latitude().toRadians(),
+                     cosLat1 = Math.cos(lat1),
+                     lon1 = center.longitude().toRadians();
+
+        final double[] latitudes = candidates.latitudes,
+                       longitudes = candidates.longitudes;
+
+        final int size = candidates.size();
+        final BitSet hits = new BitSet(size);
+
+        for (int i = 0; i < size; i++) {
+            final double lat2 = latitudes[i];
+
+            if (ScalarHaversineKernel.term(lat1, cosLat1, lon1, lat2, Math.cos(lat2), longitudes[i]) <= threshold) {
+                hits.set(i);
+            }
+        }
+
+        return hits;
+    }
+
+    /**
+     * <p>
+     * Gets the distance between two {@linkplain PreparedPoint}s.  The result is the same as
+     * {@code distance(unit, from.point(), to.point())}, but none of the points' trigonometry is repeated.
+     * </p>
+     *
+     * <p><strong>
+     * THIS IS HOBBYIST SOFTWARE.  THE AUTHOR HAS NO BACKGROUND IN, OR EVEN AN UNDERSTANDING OF, GEODESY, AND MERELY
+     * IMPLEMENTED FORMULAS FOUND ONLINE.  DON'T ENTRUST YOUR SAFETY TO THIS SOFTWARE.  NOW WOULD BE A GOOD TIME TO
+     * READ AND UNDERSTAND THE WAIVER PRESENT IN THIS SOFTWARE'S LICENSE.
+     * </strong></p>
+     *
+     * @param unit The unit that the returned value will be expressed in
+     * @param from The departing point
+     * @param to   The destination point
+     * @return The distance from {@code from} to {@code to}, expressed in terms of {@code unit}
+     */
+    public static double distance(final Unit unit, final PreparedPoint from, final PreparedPoint to) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(from == null, () -> "point 0 is null");
+        failIf(to == null, () -> "point 1 is null");
+
+        return ScalarHaversineKernel.haversine(from.latitudeRadians(), from.cosLatitude(), from.longitudeRadians(),
+                                               to.latitudeRadians(), to.cosLatitude(), to.longitudeRadians()) * unit.perKilometer;
+    }
+
+    /**
+     * Gets the distance between two points expressed in radians.  For the same points, the result is identical to
+     * {@link #distance(Unit, Point...)}.
+     *
+     * @param unit          The unit that the returned value will be expressed in
+     * @param fromLatitude  Latitude of the departing point, in radians
+     * @param fromLongitude Longitude of the departing point, in radians
+     * @param toLatitude    Latitude of the destination point, in radians
+     * @param toLongitude   Longitude of the destination point, in radians
+     * @return The distance between the points, expressed in terms of {@code unit}
+     */
+    public static double distanceRadians(final Unit unit, final double fromLatitude, final double fromLongitude,
+                                         final double toLatitude, final double toLongitude) {
+        failIf(unit == null, () -> "Unit is null");
+
+        return ScalarHaversineKernel.haversine(fromLatitude, Math.cos(fromLatitude), fromLongitude,
+                                               toLatitude, Math.cos(toLatitude), toLongitude) * unit.perKilometer;
+    }
+
+    /**
+     * Gets the distance between two {@linkplain PackedPoint packed points}.  The name differs from the other
+     * {@code distance} methods so that {@code int} arguments can't widen to {@code long} and be taken for packed points.
+     *
+     * @param unit The unit that the returned value will be expressed in
+     * @param from The departing point
+     * @param to   The destination point
+     * @return The distance from {@code from} to {@code to}, expressed in terms of {@code unit}
+     */
+    public static double distancePacked(final Unit unit, final long from, final long to) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(!PackedPoint.isValid(from), () -> "point 0 is out of range");
+        failIf(!PackedPoint.isValid(to), () -> "point 1 is out of range");
+
+        final double lat1 = PackedPoint.latitudeRadians(from),
+                     lat2 = PackedPoint.latitudeRadians(to);
+
+        return ScalarHaversineKernel.haversine(lat1, Math.cos(lat1), PackedPoint.longitudeRadians(from),
+                                               lat2, Math.cos(lat2), PackedPoint.longitudeRadians(to)) * unit.perKilometer;
+    }
+
+    /**
+     * Gets the total distance between an array of {@linkplain PackedPoint packed points}.  Nothing is allocated.
+     *
+     * @param unit   The unit that the returned value will be expressed in
+     * @param points Packed points arranged in the order in which they are visited.  You must provide at least 2,
+     *               otherwise a {@linkplain IllegalArgumentException} will be thrown.
+     * @return The total distance traveled, expressed in terms of {@code unit}
+     */
+    public static double distance(final Unit unit, final long[] points) {
+        failIf(points == null, () -> "Points are null");
+
+        return distance(unit, points, 0, points.length);
+    }
+
+    /**
+     * Gets the total distance between a range of {@linkplain PackedPoint packed points}.  Nothing is allocated.
+     *
+     * @param unit      The unit that the returned value will be expressed in
+     * @param points    Packed points arranged in the order in which they are visited
+     * @param fromIndex Index of the first point in the range (inclusive)
+     * @param toIndex   Index of the last point in the range (exclusive).  The range must contain at least 2 points,
+     *                  otherwise a {@linkplain IllegalArgumentException} will be thrown.
+     * @return The total distance traveled from point {@code fromIndex} to point {@code toIndex - 1}, expressed in terms
+     *         of {@code unit}
+     */
+    public static double distance(final Unit unit, final long[] points, final int fromIndex, final int toIndex) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(points == null, () -> "Points are null");
+        failIf(fromIndex < 0 || toIndex > points.length || fromIndex > toIndex, () -> "Invalid range");
+        failIf(toIndex - fromIndex < 2, () -> "Need to provide at least 2 points");
+
+        checkPacked(points, fromIndex);
+
+        double distance = 0;
+        double lat1 = PackedPoint.latitudeRadians(points[fromIndex]),
+               lon1 = PackedPoint.longitudeRadians(points[fromIndex]),
+               cosLat1 = Math.cos(lat1);
+
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            checkPacked(points, i);
+
+            final double lat2 = PackedPoint.latitudeRadians(points[i]),
+                         lon2 = PackedPoint.longitudeRadians(points[i]),
+                         cosLat2 = Math.cos(lat2);
+
+            distance += ScalarHaversineKernel.haversine(lat1, cosLat1, lon1, lat2, cosLat2, lon2) * unit.perKilometer;
+
+            lat1 = lat2;
+            lon1 = lon2;
+            cosLat1 = cosLat2;
+        }
+
+        return distance;
+    }
+
+    /**
+     * Gets the total distance between a range of records in a {@linkplain MappedPointStore}.  The records are read
+     * straight from the mapped file; no {@linkplain Point} objects are created.
+     *
+     * @param unit      The unit that the returned value will be expressed in
+     * @param store     Records arranged in the order in which they are visited
+     * @param fromIndex Index of the first record in the range (inclusive)
+     * @param toIndex   Index of the last record in the range (exclusive).  The range must contain at least 2 records,
+     *                  otherwise a {@linkplain IllegalArgumentException} will be thrown.
+     * @return The total distance traveled from record {@code fromIndex} to record {@code toIndex - 1}, expressed in
+     *         terms of {@code unit}
+     */
+    public static double distance(final Unit unit, final MappedPointStore store, final long fromIndex, final long toIndex) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(store == null, () -> "Store is null");
+        failIf(fromIndex < 0 || toIndex > store.size() || fromIndex > toIndex, () -> "Invalid range");
+        failIf(toIndex - fromIndex < 2, () -> "Need to provide at least 2 points");
+
+        final long first = store.packedPoint(fromIndex);
+
+        double distance = 0;
+        double lat1 = PackedPoint.latitudeRadians(first),
+               lon1 = PackedPoint.longitudeRadians(first),
+               cosLat1 = Math.cos(lat1);
+
+        for (long i = fromIndex + 1; i < toIndex; i++) {
+            final long point = store.packedPoint(i);
+            final double lat2 = PackedPoint.latitudeRadians(point),
+                         lon2 = PackedPoint.longitudeRadians(point),
+                         cosLat2 = Math.cos(lat2);
+
+            distance += ScalarHaversineKernel.haversine(lat1, cosLat1, lon1, lat2, cosLat2, lon2) * unit.perKilometer;
+
+            lat1 = lat2;
+            lon1 = lon2;
+            cosLat1 = cosLat2;
+        }
+
+        return distance;
+    }
+
+    /**
+     * <p>
+     * Gets the total distance between all of the points in a {@linkplain PointBuffer}.  The buffer's radians are read
+     * directly, and nothing is allocated.
+     * </p>
+     *
+     * <p>
+     * When the JVM is started with {@code --add-modules jdk.incubator.vector}, several legs are computed at once using
+     * SIMD instructions.  In that case the result can differ from {@link #distance(Unit, List)} in the last few
+     * digits.  Otherwise, the result is identical.
+     * </p>
+     *
+     * @param unit   The unit that the returned value will be expressed in
+     * @param points Points arranged in the order in which they are visited.  You must provide at least 2, otherwise a
+     *               {@linkplain IllegalArgumentException} will be thrown.
+     * @return The total distance traveled, expressed in terms of {@code unit}
+     */
+    public static double distance(final Unit unit, final PointBuffer points) {
+        failIf(points == null, () -> "Points are null");
+
+        return distance(unit, points, 0, points.size());
+    }
+
+    /**
+     * Gets the total distance between a range of the points in a {@linkplain PointBuffer}.  See
+     * {@link #distance(Unit, PointBuffer)}.
+     *
+     * @param unit      The unit that the returned value will be expressed in
+     * @param points    Points arranged in the order in which they are visited
+     * @param fromIndex Index of the first point in the range (inclusive)
+     * @param toIndex   Index of the last point in the range (exclusive).  The range must contain at least 2 points,
+     *                  otherwise a {@linkplain IllegalArgumentException} will be thrown.
+     * @return The total distance traveled from point {@code fromIndex} to point {@code toIndex - 1}, expressed in terms
+     *         of {@code unit}
+     */
+    public static double distance(final Unit unit, final PointBuffer points, final int fromIndex, final int toIndex) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(points == null, () -> "Points are null");
+        failIf(fromIndex < 0 || toIndex > points.size() || fromIndex > toIndex, () -> "Invalid range");
+        failIf(toIndex - fromIndex < 2, () -> "Need to provide at least 2 points");
+
+        return HaversineKernel.SELECTED.total(points.latitudes, points.longitudes, fromIndex, toIndex, unit.perKilometer);
+    }
+
+    /**
+     * Gets the distance of each leg of the trip described by a {@linkplain PointBuffer}.  Leg {@code i} is the
+     * distance from point {@code i} to point {@code i + 1}.  See {@link #distance(Unit, PointBuffer)}.
+     *
+     * @param unit        The unit that the distances will be expressed in
+     * @param points      Points arranged in the order in which they are visited.  You must provide at least 2,
+     *                    otherwise a {@linkplain IllegalArgumentException} will be thrown.
+     * @param destination Receives the leg distances.  It must have room for at least {@code points.size() - 1} values.
+     */
+    public static void legDistances(final Unit unit, final PointBuffer points, final double[] destination) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(points == null, () -> "Points are null");
+        failIf(points.size() < 2, () -> "Need to provide at least 2 points");
+        failIf(destination == null, () -> "Destination is null");
+        failIf(destination.length < points.size() - 1, () -> "Destination is too small");
+
+        HaversineKernel.SELECTED.legs(points.latitudes, points.longitudes, 0, points.size(), unit.perKilometer, destination, 0);
+    }
+
+    /**
+     * Same as {@link #parallelDistance(Unit, List, ForkJoinPool, int)} using the common pool and
+     * {@linkplain #DEFAULT_PARALLEL_THRESHOLD}
+     *
+     * @param unit   The unit that the returned value will be expressed in
+     * @param points {@linkplain Point}s arranged in the order in which they are visited.  You must provide at least 2,
+     *               otherwise a {@linkplain IllegalArgumentException} will be thrown.
+     * @return The total distance traveled, expressed in terms of {@code unit}
+     */
+    public static double parallelDistance(final Unit unit, final List<Point> points) {
+        return parallelDistance(unit, points, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * <p>
+     * Gets the total distance between an unlimited number of {@linkplain Point}s, splitting the work across a
+     * {@linkplain ForkJoinPool}.  Intended for tracks with millions of points.
+     * </p>
+     *
+     * <p>
+     * The legs are added up with compensated (Neumaier) summation in fixed-size blocks, so the result doesn't depend
+     * on the pool's parallelism or on {@code threshold} - the same track always gives the same answer.  Because of the
+     * compensation, the answer can differ from {@link #distance(Unit, List)} in the last few digits.
+     * </p>
+     *
+     * <p><strong>
+     * THIS IS HOBBYIST SOFTWARE.  THE AUTHOR HAS NO BACKGROUND IN, OR EVEN AN UNDERSTANDING OF, GEODESY, AND MERELY
+     * IMPLEMENTED FORMULAS FOUND ONLINE.  DON'T ENTRUST YOUR SAFETY TO THIS SOFTWARE.  NOW WOULD BE A GOOD TIME TO
+     * READ AND UNDERSTAND THE WAIVER PRESENT IN THIS SOFTWARE'S LICENSE.
+     * </strong></p>
+     *
+     * @param unit      The unit that the returned value will be expressed in
+     * @param points    {@linkplain Point}s arranged in the order in which they are visited.  You must provide at least
+     *                  2, otherwise a {@linkplain IllegalArgumentException} will be thrown.
+     * @param pool      The pool to run on
+     * @param threshold Tracks with fewer points than this are processed in the calling thread.  Larger tracks are split
+     *                  into tasks of roughly this many points.  Must be at least 1.
+     * @return The total distance traveled, expressed in terms of {@code unit}
+     */
+    public static double parallelDistance(final Unit unit, final List<Point> points, final ForkJoinPool pool, final int threshold) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(points == null, () -> "Points are null");
+        failIf(points.size() < 2, () -> "Need to provide at least 2 points");
+        failIf(pool == null, () -> "Pool is null");
+        failIf(threshold < 1, () -> "Threshold must be at least 1");
+
+        final List<Point> track = points instanceof RandomAccess ? points : new ArrayList<>(points);
+
+        for (int i = 0; i < track.size(); i++) {
+            failIf(track.get(i) == null, "point %d is null", i);
+        }
+
+        return ParallelDistance.total(ParallelDistance.Track.of(track), pool, threshold) * unit.perKilometer;
+    }
+
+    /**
+     * Same as {@link #parallelDistance(Unit, PointBuffer, ForkJoinPool, int)} using the common pool and
+     * {@linkplain #DEFAULT_PARALLEL_THRESHOLD}
+     *
+     * @param unit   The unit that the returned value will be expressed in
+     * @param points Points arranged in the order in which they are visited.  You must provide at least 2, otherwise a
+     *               {@linkplain IllegalArgumentException} will be thrown.
+     * @return The total distance traveled, expressed in terms of {@code unit}
+     */
+    public static double parallelDistance(final Unit unit, final PointBuffer points) {
+        return parallelDistance(unit, points, ForkJoinPool.commonPool(), DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    /**
+     * Gets the total distance between all of the points in a {@linkplain PointBuffer}, splitting the work across a
+     * {@linkplain ForkJoinPool}.  See {@link #parallelDistance(Unit, List, ForkJoinPool, int)}.
+     *
+     * @param unit      The unit that the returned value will be expressed in
+     * @param points    Points arranged in the order in which they are visited.  You must provide at least 2, otherwise
+     *                  a {@linkplain IllegalArgumentException} will be thrown.
+     * @param pool      The pool to run on
+     * @param threshold Tracks with fewer points than this are processed in the calling thread.  Larger tracks are split
+     *                  into tasks of roughly this many points.  Must be at least 1.
+     * @return The total distance traveled, expressed in terms of {@code unit}
+     */
+    public static double parallelDistance(final Unit unit, final PointBuffer points, final ForkJoinPool pool, final int threshold) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(points == null, () -> "Points are null");
+        failIf(points.size() < 2, () -> "Need to provide at least 2 points");
+        failIf(pool == null, () -> "Pool is null");
+        failIf(threshold < 1, () -> "Threshold must be at least 1");
+
+        return ParallelDistance.total(ParallelDistance.Track.of(points, 0, points.size()), pool, threshold) * unit.perKilometer;
+    }
+
+    /**
+     * @return {@code true} if the {@linkplain PointBuffer} overloads are using SIMD instructions
+     */
+    public static boolean isVectorized() {
+        return HaversineKernel.SELECTED.isVectorized();
+    }
+
+    /**
+     * Converts a radius to the largest Haversine term, sin&sup2;(d / 2R), of a point within it
+     */
+    private static double withinThreshold(final Unit unit, final double radius) {
+        failIf(!(radius >= 0), () -> "Radius must not be negative");
+
+        final double halfAngle = unit.toKilometers(radius) / (2.0d * EARTH_RADIUS_KILOMETERS);
+
+        // Every point is within half the circumference.  The term can round to slightly more than 1, so don't use 1.
+        return halfAngle >= Math.PI / 2 ? Double.POSITIVE_INFINITY : Math.pow(Math.sin(halfAngle), 2.0d);
+    }
+
+    private static void checkPacked(final long[] points, final int index) {
+        if (!PackedPoint.isValid(points[index])) {
+            throw new IllegalArgumentException("point %d is out of range".formatted(index));
+        }
+    }
 }
@@ -0,0 +1,372 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.calculator;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+
+import static org.loverde.geographiccoordinate.calculator.DistanceCalculator.EARTH_RADIUS_KILOMETERS;
+import static org.loverde.geographiccoordinate.internal.Objects.failIf;
+
+
+/**
+ * <p>
+ * A matrix of Haversine distances, either between every pair of points in one {@linkplain PointBuffer} (symmetric),
+ * or from every point in one buffer (origins) to every point in another (destinations).
+ * </p>
+ *
+ * <p>
+ * Distances are stored as {@code float}s in a single array, which is accurate to about a meter at the longest
+ * distances on Earth and halves the memory of {@code double}s.  A symmetric matrix only stores the cells above the
+ * diagonal:  {@code get(i, j)} and {@code get(j, i)} read the same cell, and {@code get(i, i)} is always 0.  That is
+ * {@code n * (n - 1) / 2} cells - about 800 MB for 20,000 points.
+ * </p>
+ *
+ * <p>
+ * Each point's unit vector is computed once.  The Haversine of the angle between two points is then a quarter of the
+ * squared chord between their vectors, so a cell costs one square root and one arc sine, and no other trigonometry.
+ * The matrix is computed in square tiles, so that the tile's points stay in the CPU cache, and the rows of tiles are
+ * spread across a {@linkplain ForkJoinPool}.  Every cell is computed independently, so the result doesn't depend on
+ * the pool.  Cells agree with {@link DistanceCalculator#distance(Unit, org.loverde.geographiccoordinate.Point...)} to
+ * within {@code float} precision.
+ * </p>
+ *
+ * <p><strong>
+ * THIS IS HOBBYIST SOFTWARE.  THE AUTHOR HAS NO BACKGROUND IN, OR EVEN AN UNDERSTANDING OF, GEODESY, AND MERELY
+ * IMPLEMENTED FORMULAS FOUND ONLINE.  DON'T ENTRUST YOUR SAFETY TO THIS SOFTWARE.  NOW WOULD BE A GOOD TIME TO
+ * READ AND UNDERSTAND THE WAIVER PRESENT IN THIS SOFTWARE'S LICENSE.
+ * </strong></p>
+ */
+public final class DistanceMatrix {
+
+    /** The number of rows and columns in a tile */
+    static final int TILE_SIZE = 256;
+
+    /** The largest number of cells a matrix can hold */
+    static final long MAX_CELLS = Integer.MAX_VALUE - 8;
+
+    private final Unit unit;
+    private final int rows;
+    private final int columns;
+    private final boolean symmetric;
+    private final float[] cells;
+
+
+    private DistanceMatrix(final Unit unit, final int rows, final int columns, final boolean symmetric) {
+        this.unit = unit;
+        this.rows = rows;
+        this.columns = columns;
+        this.symmetric = symmetric;
+
+        cells = new float[(int) (symmetric ? triangleSize(rows) : (long) rows * columns)];
+    }
+
+    /**
+     * Same as {@link #of(Unit, PointBuffer, ForkJoinPool)} using the common pool
+     *
+     * @param unit   The unit that distances will be expressed in
+     * @param points The points
+     * @return A symmetric matrix of the distances between every pair of points
+     */
+    public static DistanceMatrix of(final Unit unit, final PointBuffer points) {
+        return of(unit, points, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes the distance between every pair of points
+     *
+     * @param unit   The unit that distances will be expressed in
+     * @param points The points.  At most 65,536 points are supported.
+     * @param pool   The pool to run on
+     * @return A symmetric matrix of the distances between every pair of points
+     */
+    public static DistanceMatrix of(final Unit unit, final PointBuffer points, final ForkJoinPool pool) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(points == null, () -> "Points are null");
+        failIf(pool == null, () -> "Pool is null");
+        failIf(triangleSize(points.size()) > MAX_CELLS, () -> "Too many points for a distance matrix");
+
+        final DistanceMatrix matrix = new DistanceMatrix(unit, points.size(), points.size(), true);
+        final UnitVectors vectors = new UnitVectors(points);
+
+        matrix.compute(vectors, vectors, pool);
+
+        return matrix;
+    }
+
+    /**
+     * Same as {@link #of(Unit, PointBuffer, PointBuffer, ForkJoinPool)} using the common pool
+     *
+     * @param unit         The unit that distances will be expressed in
+     * @param origins      The points that label the rows
+     * @param destinations The points that label the columns
+     * @return A matrix of the distances from every origin to every destination
+     */
+    public static DistanceMatrix of(final Unit unit, final PointBuffer origins, final PointBuffer destinations) {
+        return of(unit, origins, destinations, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Computes the distance from every origin to every destination
+     *
+     * @param unit         The unit that distances will be expressed in
+     * @param origins      The points that label the rows
+     * @param destinations The points that label the columns
+     * @param pool         The pool to run on
+     * @return A matrix of the distances from every origin to every destination
+     */
+    public static DistanceMatrix of(final Unit unit, final PointBuffer origins, final PointBuffer destinations, final ForkJoinPool pool) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(origins == null, () -> "Origins are null");
+        failIf(destinations == null, () -> "Destinations are null");
+        failIf(pool == null, () -> "Pool is null");
+        failIf((long) origins.size() * destinations.size() > MAX_CELLS, () -> "Too many points for a distance matrix");
+
+        final DistanceMatrix matrix = new DistanceMatrix(unit, origins.size(), destinations.size(), false);
+
+        matrix.compute(new UnitVectors(origins), new UnitVectors(destinations), pool);
+
+        return matrix;
+    }
+
+    /**
+     * @param row    Index of the origin
+     * @param column Index of the destination
+     * @return The distance between the two points, expressed in terms of {@linkplain #unit()}
+     */
+    public double get(final int row, final int column) {
+        Objects.checkIndex(row, rows);
+        Objects.checkIndex(column, columns);
+
+        if (!symmetric) {
+            return cells[row * columns + column];
+        }
+
+        if (row == column) {
+            return 0.0d;
+        }
+
+        return row < column ? cells[(int) triangleIndex(rows, row, column)] : cells[(int) triangleIndex(rows, column, row)];
+    }
+
+    /**
+     * Copies one row of the matrix
+     *
+     * @param row         Index of the origin
+     * @param destination Receives the distances from the origin to every column.  It must have room for at least
+     *                    {@linkplain #columns()} values.
+     */
+    public void getRow(final int row, final double[] destination) {
+        Objects.checkIndex(row, rows);
+        failIf(destination == null, () -> "Destination is null");
+        failIf(destination.length < columns, () -> "Destination is too small");
+
+        if (!symmetric) {
+            for (int column = 0, i = row * columns; column < columns; column++, i++) {
+                destination[column] = cells[i];
+            }
+
+            return;
+        }
+
+        // Left of the diagonal, walk down the column.  Right of the diagonal, the row is contiguous.
+        for (int column = 0; column < row; column++) {
+            destination[column] = cells[(int) triangleIndex(rows, column, row)];
+        }
+
+        destination[row] = 0.0d;
+
+        for (int column = row + 1, i = (int) triangleIndex(rows, row, row + 1); column < columns; column++, i++) {
+            destination[column] = cells[i];
+        }
+    }
+
+    /**
+     * @return The number of origins
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * @return The number of destinations.  For a symmetric matrix, this is the same as {@linkplain #rows()}.
+     */
+    public int columns() {
+        return columns;
+    }
+
+    /**
+     * @return {@code true} if the matrix was computed from a single set of points
+     */
+    public boolean isSymmetric() {
+        return symmetric;
+    }
+
+    /**
+     * @return The unit that distances are expressed in
+     */
+    public Unit unit() {
+        return unit;
+    }
+
+    private void compute(final UnitVectors origins, final UnitVectors destinations, final ForkJoinPool pool) {
+        final int tileRows = (rows + TILE_SIZE - 1) / TILE_SIZE;
+
+        if (tileRows <= 1) {
+            computeTileRow(origins, destinations, 0);
+        } else {
+            pool.invoke(new TileRows(origins, destinations, 0, tileRows));
+        }
+    }
+
+    /**
+     * Computes every cell in one row of tiles, one tile at a time
+     */
+    private void computeTileRow(final UnitVectors origins, final UnitVectors destinations, final int tileRow) {
+        final int fromRow = tileRow * TILE_SIZE;
+        final int toRow = Math.min(fromRow + TILE_SIZE, rows);
+        final double scale = unit.fromKilometers(2.0d * EARTH_RADIUS_KILOMETERS);
+
+        for (int fromColumn = symmetric ? fromRow : 0; fromColumn < columns; fromColumn += TILE_SIZE) {
+            final int toColumn = Math.min(fromColumn + TILE_SIZE, columns);
+
+            for (int row = fromRow; row < toRow; row++) {
+                final int firstColumn = symmetric ? Math.max(fromColumn, row + 1) : fromColumn;
+
+                if (firstColumn < toColumn) {
+                    final int offset = (int) (symmetric ? triangleIndex(rows, row, firstColumn) : (long) row * columns + firstColumn);
+
+                    computeCells(origins, row, destinations, firstColumn, toColumn, scale, offset);
+                }
+            }
+        }
+    }
+
+    private void computeCells(final UnitVectors origins, final int row, final UnitVectors destinations, final int fromColumn,
+                              final int toColumn, final double scale, final int offset) {
+        final double x = origins.x[row],
+                     y = origins.y[row],
+                     z = origins.z[row];
+
+        final double[] xs = destinations.x,
+                       ys = destinations.y,
+                       zs = destinations.z;
+
+        for (int column = fromColumn, i = offset; column < toColumn; column++, i++) {
+            final double dx = x - xs[column],
+                         dy = y - ys[column],
+                         dz = z - zs[column];
+
+            // The squared chord is 4 * hav(angle).  Rounding can push it a hair past 4 for antipodal points.
+            final double haversine = Math.min(1.0d, (dx * dx + dy * dy + dz * dz) * 0.25d);
+
+            cells[i] = (float) (scale * Math.asin(Math.sqrt(haversine)));
+        }
+    }
+
+    /**
+     * @return The number of cells above the diagonal of an {@code n} by {@code n} matrix
+     */
+    static long triangleSize(final int n) {
+        return (long) n * (n - 1) / 2;
+    }
+
+    /**
+     * @return The position of cell ({@code row}, {@code column}), where {@code row < column}, in the row-major upper
+     *         triangle of an {@code n} by {@code n} matrix
+     */
+    static long triangleIndex(final int n, final int row, final int column) {
+        return (long) row * n - (long) row * (row + 1) / 2 + (column - row - 1);
+    }
+
+    /**
+     * The unit vectors of a {@linkplain PointBuffer}'s points, in Earth-centered coordinates
+     */
+    private static final class UnitVectors {
+        private final double[] x;
+        private final double[] y;
+        private final double[] z;
+
+        private UnitVectors(final PointBuffer points) {
+            final int size = points.size();
+
+            x = new double[size];
+            y = new double[size];
+            z = new double[size];
+
+            for (int i = 0; i < size; i++) {
+                final double latitude = points.latitudes[i],
+                             longitude = points.longitudes[i],
+                             cosLatitude = Math.cos(latitude);
+
+                x[i] = cosLatitude * Math.cos(longitude);
+                y[i] = cosLatitude * Math.sin(longitude);
+                z[i] = Math.sin(latitude);
+            }
+        }
+    }
+
+    /**
+     * Splits rows of tiles in half until each task has one
+     */
+    private final class TileRows extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final UnitVectors origins;
+        private final UnitVectors destinations;
+        private final int fromTileRow;
+        private final int toTileRow;
+
+        private TileRows(final UnitVectors origins, final UnitVectors destinations, final int fromTileRow, final int toTileRow) {
+            this.origins = origins;
+            this.destinations = destinations;
+            this.fromTileRow = fromTileRow;
+            this.toTileRow = toTileRow;
+        }
+
+        @Override
+        protected void compute() {
+            if (toTileRow - fromTileRow == 1) {
+                computeTileRow(origins, destinations, fromTileRow);
+            } else {
+                final int middle = (fromTileRow + toTileRow) >>> 1;
+
+                invokeAll(new TileRows(origins, destinations, fromTileRow, middle),
+                          new TileRows(origins, destinations, middle, toTileRow));
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.calculator;
+
+import static org.loverde.geographiccoordinate.internal.Objects.failIf;
+
+
+/**
+ * <p>
+ * An ellipsoid of revolution used as a model of the Earth by {@linkplain EllipsoidalDistance}.
+ * </p>
+ *
+ * <p>
+ * The formulas in {@code EllipsoidalDistance} are series expansions in the flattening, so they're intended for
+ * Earth-like ellipsoids.  A flattening of 0 describes a sphere.
+ * </p>
+ *
+ * @param semiMajorAxis The equatorial radius, in kilometers
+ * @param flattening    (a - b) / a, where a and b are the semi-major and semi-minor axes
+ */
+public record Ellipsoid(double semiMajorAxis, double flattening) {
+
+    /** The World Geodetic System 1984 ellipsoid, used by GPS */
+    public static final Ellipsoid WGS_84 = new Ellipsoid(6378.137d, 1.0d / 298.257223563d);
+
+    /** The Geodetic Reference System 1980 ellipsoid */
+    public static final Ellipsoid GRS_80 = new Ellipsoid(6378.137d, 1.0d / 298.257222101d);
+
+
+    /**
+     * Creates a new Ellipsoid
+     *
+     * @param semiMajorAxis The equatorial radius, in kilometers
+     * @param flattening    (a - b) / a, where a and b are the semi-major and semi-minor axes
+     * @throws IllegalArgumentException If the semi-major axis isn't a positive finite number, or if the flattening
+     *                                  isn't at least 0 and less than 1
+     */
+    public Ellipsoid {
+        failIf(!(semiMajorAxis > 0 && semiMajorAxis < Double.POSITIVE_INFINITY), () -> "Semi-major axis must be positive");
+        failIf(!(flattening >= 0 && flattening < 1), () -> "Flattening must be at least 0 and less than 1");
+    }
+
+    /**
+     * @return The polar radius, in kilometers
+     */
+    public double semiMinorAxis() {
+        return semiMajorAxis * (1 - flattening);
+    }
+}
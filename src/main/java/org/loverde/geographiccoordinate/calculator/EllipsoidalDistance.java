@@ -0,0 +1,491 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.calculator;
+
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+
+import static org.loverde.geographiccoordinate.internal.Objects.failIf;
+
+
+/**
+ * <p>
+ * Calculates the length of the geodesic (shortest path) between two points on an {@linkplain Ellipsoid}.
+ * </p>
+ *
+ * <p>
+ * Most pairs of points are solved with <a href="https://en.wikipedia.org/wiki/Vincenty's_formulae">Vincenty's inverse
+ * formula</a>, whose iteration is sped up with Aitken's delta-squared process.  Vincenty's iteration converges slowly,
+ * or not at all, for points that are nearly antipodal.  Those points - and any that Vincenty doesn't solve within a
+ * few iterations - are solved instead by searching for the departure azimuth, the approach taken by Karney in
+ * <a href="https://doi.org/10.1007/s00190-012-0578-z">Algorithms for geodesics</a>.  The azimuth search uses the
+ * secant method, falling back to bisection, so it always converges and never takes more than about 60 iterations.
+ * </p>
+ *
+ * <p>
+ * Every calculation is bounded by a maximum number of iterations.  {@linkplain #inverse(Point, Point)} reports how
+ * many were used, which method was used and whether the result converged.  A result that didn't converge is still
+ * the best estimate found.
+ * </p>
+ *
+ * <p>
+ * Both methods use Vincenty's series, which are accurate to a fraction of a millimeter on Earth-like ellipsoids.
+ * Instances are immutable and thread-safe.
+ * </p>
+ *
+ * <p><strong>
+ * THIS IS HOBBYIST SOFTWARE.  THE AUTHOR HAS NO BACKGROUND IN, OR EVEN AN UNDERSTANDING OF, GEODESY, AND MERELY
+ * IMPLEMENTED FORMULAS FOUND ONLINE.  DON'T ENTRUST YOUR SAFETY TO THIS SOFTWARE.  NOW WOULD BE A GOOD TIME TO
+ * READ AND UNDERSTAND THE WAIVER PRESENT IN THIS SOFTWARE'S LICENSE.
+ * </strong></p>
+ */
+public final class EllipsoidalDistance implements DistanceAlgorithm {
+
+    /** The maximum number of iterations used unless another limit is specified */
+    public static final int DEFAULT_MAX_ITERATIONS = 64;
+
+    /** Measures distances on the {@linkplain Ellipsoid#WGS_84 WGS-84 ellipsoid} */
+    public static final EllipsoidalDistance WGS_84 = new EllipsoidalDistance(Ellipsoid.WGS_84, DEFAULT_MAX_ITERATIONS);
+
+    /** Longitude differences on the auxiliary sphere are solved to within this many radians - about 6 micrometers */
+    private static final double TOLERANCE = 1E-12;
+
+    /** Vincenty's iteration is abandoned in favor of the azimuth search after this many iterations */
+    private static final int VINCENTY_ITERATIONS = 12;
+
+    /** Points closer than 0.05 radians to each other's antipode go straight to the azimuth search */
+    private static final double COS_ANTIPODAL_MARGIN = Math.cos(0.05d);
+
+    /** Stands in for the sine of 0 and pi at the ends of the azimuth search, so that the ends can be compared */
+    private static final double TINY = Math.sqrt(Double.MIN_NORMAL);
+
+    private final Ellipsoid ellipsoid;
+    private final int maxIterations;
+
+    private final double semiMajorAxis;
+    private final double semiMinorAxis;
+    private final double flattening;
+
+    /** The second eccentricity squared, (a² - b²) / b² */
+    private final double secondEccentricitySquared;
+
+
+    /** The method that produced a {@linkplain Result} */
+    public enum Solver {
+        /** Vincenty's inverse formula */
+        VINCENTY,
+
+        /** The search for the departure azimuth, used for nearly antipodal points */
+        AZIMUTH
+    }
+
+    /**
+     * The outcome of one calculation
+     *
+     * @param kilometers The length of the geodesic, in kilometers
+     * @param iterations The number of iterations used, including any spent in Vincenty's iteration before switching
+     *                   to the azimuth search
+     * @param converged  False if the iteration limit was reached first, in which case {@code kilometers} is the best
+     *                   estimate found
+     * @param solver     The method that produced the result
+     */
+    public record Result(double kilometers, int iterations, boolean converged, Solver solver) {
+
+        /**
+         * @param unit The unit that the returned value will be expressed in
+         * @return The length of the geodesic, expressed in terms of {@code unit}
+         */
+        public double distance(final Unit unit) {
+            failIf(unit == null, () -> "Unit is null");
+
+            return unit.fromKilometers(kilometers);
+        }
+    }
+
+    /**
+     * Creates a calculator for an ellipsoid
+     *
+     * @param ellipsoid     The model of the Earth
+     * @param maxIterations The most iterations that a calculation may use.  {@linkplain #DEFAULT_MAX_ITERATIONS} is
+     *                      always enough to converge.
+     * @throws IllegalArgumentException If ellipsoid is null or maxIterations is less than 1
+     */
+    public EllipsoidalDistance(final Ellipsoid ellipsoid, final int maxIterations) {
+        failIf(ellipsoid == null, () -> "Ellipsoid is null");
+        failIf(maxIterations < 1, () -> "Maximum iterations must be at least 1");
+
+        this.ellipsoid = ellipsoid;
+        this.maxIterations = maxIterations;
+
+        semiMajorAxis = ellipsoid.semiMajorAxis();
+        semiMinorAxis = ellipsoid.semiMinorAxis();
+        flattening = ellipsoid.flattening();
+        secondEccentricitySquared = (semiMajorAxis * semiMajorAxis - semiMinorAxis * semiMinorAxis) / (semiMinorAxis * semiMinorAxis);
+    }
+
+    /**
+     * @return The model of the Earth
+     */
+    public Ellipsoid ellipsoid() {
+        return ellipsoid;
+    }
+
+    /**
+     * @return The most iterations that a calculation may use
+     */
+    public int maxIterations() {
+        return maxIterations;
+    }
+
+    @Override
+    public double distance(final Unit unit, final Point from, final Point to) {
+        failIf(unit == null, () -> "Unit is null");
+
+        return unit.fromKilometers(inverse(from, to).kilometers());
+    }
+
+    /**
+     * Solves for the geodesic between two points
+     *
+     * @param from The departing point
+     * @param to   The destination point
+     * @return The length of the geodesic and how it was calculated
+     * @throws IllegalArgumentException If either point is null
+     */
+    public Result inverse(final Point from, final Point to) {
+        failIf(from == null, () -> "point 0 is null");
+        failIf(to == null, () -> "point 1 is null");
+
+        return solve(from.latitude().toRadians(), from.longitude().toRadians(), to.latitude().toRadians(), to.longitude().toRadians());
+    }
+
+    /**
+     * Solves for the geodesic between two points
+     *
+     * @param fromLatitude  Signed decimal latitude of the departing point.  Positive values are north.
+     * @param fromLongitude Signed decimal longitude of the departing point.  Positive values are east.
+     * @param toLatitude    Signed decimal latitude of the destination point
+     * @param toLongitude   Signed decimal longitude of the destination point
+     * @return The length of the geodesic and how it was calculated
+     * @throws IllegalArgumentException If any value is out of range
+     */
+    public Result inverse(final double fromLatitude, final double fromLongitude, final double toLatitude, final double toLongitude) {
+        failIf(!(Math.abs(fromLatitude) <= Latitude.MAX_VALUE && Math.abs(toLatitude) <= Latitude.MAX_VALUE), Latitude::getRangeError);
+        failIf(!(Math.abs(fromLongitude) <= Longitude.MAX_VALUE && Math.abs(toLongitude) <= Longitude.MAX_VALUE), Longitude::getRangeError);
+
+        return solve(Math.toRadians(fromLatitude), Math.toRadians(fromLongitude), Math.toRadians(toLatitude), Math.toRadians(toLongitude));
+    }
+
+    private Result solve(final double latitude1, final double longitude1, final double latitude2, final double longitude2) {
+        // The distance doesn't depend on direction, so only the size of the longitude difference matters
+        final double longitudeDifference = Math.abs(Math.IEEEremainder(longitude2 - longitude1, 2 * Math.PI));
+
+        // Reduced latitudes, which are the latitudes on the auxiliary sphere
+        double sinBeta1 = (1 - flattening) * Math.sin(latitude1),
+               cosBeta1 = Math.cos(latitude1),
+               sinBeta2 = (1 - flattening) * Math.sin(latitude2),
+               cosBeta2 = Math.cos(latitude2);
+
+        double norm = Math.hypot(sinBeta1, cosBeta1);
+        sinBeta1 /= norm;
+        cosBeta1 /= norm;
+
+        norm = Math.hypot(sinBeta2, cosBeta2);
+        sinBeta2 /= norm;
+        cosBeta2 /= norm;
+
+        int iterations = 0;
+
+        if (sinBeta1 * sinBeta2 + cosBeta1 * cosBeta2 * Math.cos(longitudeDifference) > -COS_ANTIPODAL_MARGIN) {
+            final Result result = vincenty(sinBeta1, cosBeta1, sinBeta2, cosBeta2, longitudeDifference, Math.min(VINCENTY_ITERATIONS, maxIterations / 2));
+
+            if (result.converged()) {
+                return result;
+            }
+
+            iterations = result.iterations();
+        }
+
+        // The azimuth search expects the point farther from the equator to be first, and in the southern hemisphere
+        if (Math.abs(sinBeta1) < Math.abs(sinBeta2)) {
+            double swap = sinBeta1;
+            sinBeta1 = sinBeta2;
+            sinBeta2 = swap;
+
+            swap = cosBeta1;
+            cosBeta1 = cosBeta2;
+            cosBeta2 = swap;
+        }
+
+        if (sinBeta1 > 0) {
+            sinBeta1 = -sinBeta1;
+            sinBeta2 = -sinBeta2;
+        }
+
+        // A first point on the equator must be -0.0, so that heading south puts it at -pi rather than pi
+        sinBeta1 = -Math.abs(sinBeta1);
+
+        return azimuth(sinBeta1, cosBeta1, sinBeta2, cosBeta2, longitudeDifference, iterations);
+    }
+
+    /**
+     * Vincenty's inverse formula.  The longitude on the auxiliary sphere is iterated, and after every second step the
+     * last three values are extrapolated with Aitken's delta-squared process.
+     *
+     * @return A converged result, or one that didn't converge if the iteration diverged or ran out of steps
+     */
+    private Result vincenty(final double sinBeta1, final double cosBeta1, final double sinBeta2, final double cosBeta2,
+                            final double longitudeDifference, final int limit) {
+        double lambda = longitudeDifference,
+               extrapolateFrom = 0,
+               extrapolateVia = 0;
+
+        boolean extrapolate = false;
+
+        for (int i = 1; i <= limit; i++) {
+            final double sinLambda = Math.sin(lambda),
+                         cosLambda = Math.cos(lambda);
+
+            final double sinSigma = Math.hypot(cosBeta2 * sinLambda, cosBeta1 * sinBeta2 - sinBeta1 * cosBeta2 * cosLambda);
+
+            if (sinSigma == 0) {
+                // Coincident points
+                return new Result(0, i, true, Solver.VINCENTY);
+            }
+
+            final double cosSigma = sinBeta1 * sinBeta2 + cosBeta1 * cosBeta2 * cosLambda,
+                         sigma = Math.atan2(sinSigma, cosSigma),
+                         sinAlpha = cosBeta1 * cosBeta2 * sinLambda / sinSigma,
+                         cosSquaredAlpha = 1 - sinAlpha * sinAlpha,
+                         cos2SigmaM = cosSquaredAlpha != 0 ? cosSigma - 2 * sinBeta1 * sinBeta2 / cosSquaredAlpha : 0;
+
+            double next = longitudeDifference + correction(sinAlpha, cosSquaredAlpha, sigma, sinSigma, cosSigma, cos2SigmaM);
+
+            if (Math.abs(next - lambda) <= TOLERANCE) {
+                return new Result(length(cosSquaredAlpha, sigma, sinSigma, cosSigma, cos2SigmaM), i, true, Solver.VINCENTY);
+            }
+
+            if (extrapolate) {
+                final double denominator = (next - extrapolateVia) - (extrapolateVia - extrapolateFrom);
+
+                if (denominator != 0) {
+                    next -= (next - extrapolateVia) * (next - extrapolateVia) / denominator;
+                }
+            } else {
+                extrapolateFrom = lambda;
+                extrapolateVia = next;
+            }
+
+            extrapolate = !extrapolate;
+
+            if (!(Math.abs(next) <= Math.PI)) {
+                // Diverging, which happens when the points are nearly antipodal
+                return new Result(Double.NaN, i, false, Solver.VINCENTY);
+            }
+
+            lambda = next;
+        }
+
+        return new Result(Double.NaN, limit, false, Solver.VINCENTY);
+    }
+
+    /**
+     * <p>
+     * Searches for the azimuth at the first point, alpha1, whose geodesic reaches the second point's latitude at the
+     * second point's longitude.  The points must be arranged so that the first is in the southern hemisphere (or on
+     * the equator) and at least as far from the equator as the second, and the longitude difference must be between
+     * 0 and pi.  The geodesic is followed north to the second point's latitude, and its longitude there increases
+     * with alpha1 between 0 and pi, so the root is always bracketed.
+     * </p>
+     *
+     * <p>
+     * The azimuth is kept as a sine and cosine rather than an angle, because the solution can be within a rounding
+     * error of 0, pi/2 or pi.
+     * </p>
+     */
+    private Result azimuth(final double sinBeta1, final double cosBeta1, final double sinBeta2, final double cosBeta2,
+                           final double longitudeDifference, final int previousIterations) {
+        if (sinBeta1 == 0 && sinBeta2 == 0 && longitudeDifference <= (1 - flattening) * Math.PI) {
+            // Both points are on the equator, which is the geodesic between them
+            return new Result(semiMajorAxis * longitudeDifference, previousIterations, true, Solver.AZIMUTH);
+        }
+
+        double sinAlpha1, cosAlpha1;
+
+        if (longitudeDifference == Math.PI) {
+            // The geodesic runs along the meridians, through the south pole
+            sinAlpha1 = 0;
+            cosAlpha1 = -1;
+        } else {
+            // Start from the azimuth on the auxiliary sphere
+            sinAlpha1 = cosBeta2 * Math.sin(longitudeDifference);
+            cosAlpha1 = cosBeta1 * sinBeta2 - sinBeta1 * cosBeta2 * Math.cos(longitudeDifference);
+
+            final double norm = Math.hypot(sinAlpha1, cosAlpha1);
+
+            if (norm == 0) {
+                sinAlpha1 = 1;
+            } else {
+                sinAlpha1 /= norm;
+                cosAlpha1 /= norm;
+            }
+        }
+
+        // The bracket, [low, high], starts as [0, pi]
+        double sinLow = TINY, cosLow = 1,
+               sinHigh = TINY, cosHigh = -1;
+
+        double previousSin = 0, previousCos = 0, previousError = 0;
+
+        double sinAlpha0, cosSquaredAlpha0, sigma, sigmaSum;
+        final int budget = maxIterations - previousIterations;
+        int iterations = 0;
+        boolean converged = false;
+
+        do {
+            // Clairaut's relation gives the azimuth where the geodesic crosses the equator, alpha0
+            sinAlpha0 = sinAlpha1 * cosBeta1;
+            cosSquaredAlpha0 = (cosAlpha1 * cosBeta1) * (cosAlpha1 * cosBeta1) + sinBeta1 * sinBeta1;
+
+            // cos(alpha) * cos(beta) at each point.  The geodesic is heading north at the second point.
+            final double x1 = cosAlpha1 * cosBeta1,
+                         x2 = cosBeta2 != cosBeta1 ? Math.sqrt(x1 * x1 + (cosBeta2 - cosBeta1) * (cosBeta2 + cosBeta1)) : Math.abs(x1);
+
+            // Arc lengths (sigma) and longitudes (omega) on the auxiliary sphere, measured from the equator crossing
+            final double sigma1 = Math.atan2(sinBeta1, x1),
+                         sigma2 = Math.atan2(sinBeta2, x2),
+                         omega1 = Math.atan2(sinAlpha0 * sinBeta1, x1),
+                         omega2 = Math.atan2(sinAlpha0 * sinBeta2, x2);
+
+            sigma = sigma2 - sigma1;
+            sigmaSum = sigma1 + sigma2;
+
+            final double sinSigma = Math.sin(sigma);
+            final double error = omega2 - omega1 - longitudeDifference
+                                 - correction(sinAlpha0, cosSquaredAlpha0, sigma, sinSigma, Math.cos(sigma), Math.cos(sigmaSum));
+
+            iterations++;
+
+            if (Math.abs(error) <= TOLERANCE) {
+                converged = true;
+                break;
+            }
+
+            if (error > 0) {
+                sinHigh = sinAlpha1;
+                cosHigh = cosAlpha1;
+            } else {
+                sinLow = sinAlpha1;
+                cosLow = cosAlpha1;
+            }
+
+            // The slope of the error: on the first step, that of a sphere, and afterward, the secant
+            final double slope;
+
+            if (iterations == 1) {
+                slope = x2 > 0 ? sinSigma / x2 : 0;
+            } else {
+                final double step = Math.atan2(sinAlpha1 * previousCos - cosAlpha1 * previousSin, cosAlpha1 * previousCos + sinAlpha1 * previousSin);
+                slope = step != 0 ? (error - previousError) / step : 0;
+            }
+
+            previousSin = sinAlpha1;
+            previousCos = cosAlpha1;
+            previousError = error;
+
+            double nextSin = Double.NaN, nextCos = Double.NaN;
+
+            if (slope > 0) {
+                final double step = -error / slope;
+
+                if (Math.abs(step) < Math.PI) {
+                    final double sinStep = Math.sin(step),
+                                 cosStep = Math.cos(step);
+
+                    nextSin = sinAlpha1 * cosStep + cosAlpha1 * sinStep;
+                    nextCos = cosAlpha1 * cosStep - sinAlpha1 * sinStep;
+                }
+            }
+
+            // Bisect unless the step stays strictly inside the bracket, comparing cotangents, which decrease with alpha1
+            if (!(nextSin > 0 && nextCos * sinHigh > cosHigh * nextSin && nextCos * sinLow < cosLow * nextSin)) {
+                nextSin = sinLow + sinHigh;
+                nextCos = cosLow + cosHigh;
+
+                final double norm = Math.hypot(nextSin, nextCos);
+                nextSin /= norm;
+                nextCos /= norm;
+            }
+
+            if (nextSin == sinAlpha1 && nextCos == cosAlpha1) {
+                // The bracket can't get any smaller
+                converged = true;
+                break;
+            }
+
+            sinAlpha1 = nextSin;
+            cosAlpha1 = nextCos;
+        } while (iterations < budget);
+
+        return new Result(length(cosSquaredAlpha0, sigma, Math.sin(sigma), Math.cos(sigma), Math.cos(sigmaSum)),
+                          previousIterations + iterations, converged, Solver.AZIMUTH);
+    }
+
+    /**
+     * @return The difference between the longitude on the auxiliary sphere and the longitude on the ellipsoid
+     */
+    private double correction(final double sinAlpha, final double cosSquaredAlpha, final double sigma, final double sinSigma,
+                              final double cosSigma, final double cos2SigmaM) {
+        final double c = flattening / 16 * cosSquaredAlpha * (4 + flattening * (4 - 3 * cosSquaredAlpha));
+
+        return (1 - c) * flattening * sinAlpha
+               * (sigma + c * sinSigma * (cos2SigmaM + c * cosSigma * (-1 + 2 * cos2SigmaM * cos2SigmaM)));
+    }
+
+    /**
+     * @return The length of the geodesic, in kilometers
+     */
+    private double length(final double cosSquaredAlpha, final double sigma, final double sinSigma, final double cosSigma,
+                          final double cos2SigmaM) {
+        final double uSquared = cosSquaredAlpha * secondEccentricitySquared,
+                     a = 1 + uSquared / 16384 * (4096 + uSquared * (-768 + uSquared * (320 - 175 * uSquared))),
+                     b = uSquared / 1024 * (256 + uSquared * (-128 + uSquared * (74 - 47 * uSquared)));
+
+        final double deltaSigma = b * sinSigma * (cos2SigmaM + b / 4 * (cosSigma * (-1 + 2 * cos2SigmaM * cos2SigmaM)
+                                  - b / 6 * cos2SigmaM * (-3 + 4 * sinSigma * sinSigma) * (-3 + 4 * cos2SigmaM * cos2SigmaM)));
+
+        return semiMinorAxis * a * (sigma - deltaSigma);
+    }
+}
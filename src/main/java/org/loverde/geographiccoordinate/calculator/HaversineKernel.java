@@ -0,0 +1,102 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.loverde.geographiccoordinate.calculator;
+
+
+/**
+ * The inner loop of the Haversine formula over primitive coordinate arrays.  There are two implementations:  a scalar
+ * one which is always available, and a vectorized one built on the incubating JDK Vector API.  The vectorized kernel
+ * lives in the {@code vector} source set and is only used when the {@code jdk.incubator.vector} module has been added
+ * to the JVM (for example, {@code --add-modules jdk.incubator.vector}) and the platform offers more than one
+ * {@code double} lane.  It can be switched off with {@code -Dorg.loverde.geographiccoordinate.vector=false}.
+ *
+ * <p>
+ * Latitudes and longitudes are in radians.  Leg {@code i} runs from point {@code i} to point {@code i + 1}.
+ * </p>
+ */
+interface HaversineKernel {
+
+    String VECTOR_PROPERTY = "org.loverde.geographiccoordinate.vector";
+    String VECTOR_MODULE = "jdk.incubator.vector";
+    String VECTOR_KERNEL = "org.loverde.geographiccoordinate.calculator.VectorHaversineKernel";
+
+    /** The kernel chosen when this class was initialized */
+    HaversineKernel SELECTED = select();
+
+
+    /**
+     * Sums the legs between points {@code fromIndex} and {@code toIndex - 1}
+     *
+     * @param scale Each leg, in kilometers, is multiplied by this value
+     * @return The total distance
+     */
+    double total(double[] latitudes, double[] longitudes, int fromIndex, int toIndex, double scale);
+
+    /**
+     * Computes the legs between points {@code fromIndex} and {@code toIndex - 1}, storing them in
+     * {@code destination} starting at {@code destinationOffset}
+     *
+     * @param scale Each leg, in kilometers, is multiplied by this value
+     */
+    void legs(double[] latitudes, double[] longitudes, int fromIndex, int toIndex, double scale, double[] destination, int destinationOffset);
+
+    /**
+     * @return {@code true} if this kernel processes more than one leg per instruction
+     */
+    boolean isVectorized();
+
+    /**
+     * Instantiates a kernel by class name
+     *
+     * @return The kernel, or {@code null} if it could not be loaded (for example, because its module is missing or
+     *         the platform does not support it)
+     */
+    static HaversineKernel load(final String className) {
+        try {
+            return (HaversineKernel) Class.forName(className).getDeclaredConstructor().newInstance();
+        } catch (final ReflectiveOperationException | LinkageError | RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static HaversineKernel select() {
+        HaversineKernel kernel = null;
+
+        if (Boolean.parseBoolean(System.getProperty(VECTOR_PROPERTY, "true")) && ModuleLayer.boot().findModule(VECTOR_MODULE).isPresent()) {
+            kernel = load(VECTOR_KERNEL);
+        }
+
+        return kernel != null ? kernel : new ScalarHaversineKernel();
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.calculator;
+
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.PackedPoint;
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+
+import static org.loverde.geographiccoordinate.exception.ExceptionMessages.*;
+import static org.loverde.geographiccoordinate.internal.Objects.failIf;
+
+
+/**
+ * <p>
+ * Accumulates the distance traveled along a track as points arrive, for live feeds where the track is never complete.
+ * Only the previous point (its radians and the cosine of its latitude) and the first point are kept, so each new
+ * point costs one leg of the Haversine formula no matter how long the track gets.  An odometer is about 80 bytes, small
+ * enough to keep one per vehicle for hundreds of thousands of vehicles.
+ * </p>
+ *
+ * <p>
+ * Legs are computed exactly as {@linkplain DistanceCalculator#distance(Unit, Point...)} computes them, and are added
+ * with compensated summation, so the total can differ from {@code distance} in the last few digits.  Odometers can be
+ * copied with {@linkplain #snapshot()} and joined with {@linkplain #merge(Odometer)}.
+ * </p>
+ *
+ * <p>
+ * This class is not thread-safe.
+ * </p>
+ */
+public final class Odometer {
+
+    private double firstLatitude;
+    private double firstLongitude;
+
+    private double lastLatitude;
+    private double lastLongitude;
+    private double lastCosLatitude;
+
+    /** The running total in kilometers, split into a sum and its Neumaier compensation */
+    private double sum;
+    private double compensation;
+
+    private long count;
+
+
+    /**
+     * Creates an odometer that hasn't seen any points
+     */
+    public Odometer() {
+    }
+
+    private Odometer(final Odometer other) {
+        firstLatitude = other.firstLatitude;
+        firstLongitude = other.firstLongitude;
+        lastLatitude = other.lastLatitude;
+        lastLongitude = other.lastLongitude;
+        lastCosLatitude = other.lastCosLatitude;
+        sum = other.sum;
+        compensation = other.compensation;
+        count = other.count;
+    }
+
+    /**
+     * Adds the next point of the track
+     *
+     * @param point The point
+     * @return This odometer
+     */
+    public Odometer add(final Point point) {
+        failIf(point == null, () -> "Point is null");
+
+        return add(point.latitude(), point.longitude());
+    }
+
+    /**
+     * Adds the next point of the track
+     *
+     * @param latitude  The latitude
+     * @param longitude The longitude
+     * @return This odometer
+     */
+    public Odometer add(final Latitude latitude, final Longitude longitude) {
+        failIf(latitude == null, () -> LATITUDE_NULL);
+        failIf(longitude == null, () -> LONGITUDE_NULL);
+
+        return addRadians(latitude.toRadians(), longitude.toRadians());
+    }
+
+    /**
+     * Adds the next point of the track
+     *
+     * @param latitude  Signed decimal latitude.  Positive values are north; negative values are south.
+     * @param longitude Signed decimal longitude.  Positive values are east; negative values are west.
+     * @return This odometer
+     * @throws IllegalArgumentException If either value is out of range
+     */
+    public Odometer add(final double latitude, final double longitude) {
+        failIf(!(Math.abs(latitude) <= Latitude.MAX_VALUE), Latitude::getRangeError);
+        failIf(!(Math.abs(longitude) <= Longitude.MAX_VALUE), Longitude::getRangeError);
+
+        return addRadians(Math.toRadians(latitude), Math.toRadians(longitude));
+    }
+
+    /**
+     * Adds the next point of the track
+     *
+     * @param packedPoint A {@linkplain PackedPoint packed point}
+     * @return This odometer
+     * @throws IllegalArgumentException If the point is out of range
+     */
+    public Odometer addPacked(final long packedPoint) {
+        failIf(!PackedPoint.isValid(packedPoint), () -> "Point is out of range");
+
+        return addRadians(PackedPoint.latitudeRadians(packedPoint), PackedPoint.longitudeRadians(packedPoint));
+    }
+
+    /**
+     * @return The number of points added
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * @param unit The unit that the returned value will be expressed in
+     * @return The total distance traveled, expressed in terms of {@code unit}.  0 if fewer than 2 points were added.
+     */
+    public double distance(final Unit unit) {
+        failIf(unit == null, () -> "Unit is null");
+
+        return unit.fromKilometers(sum + compensation);
+    }
+
+    /**
+     * @return An independent copy of this odometer
+     */
+    public Odometer snapshot() {
+        return new Odometer(this);
+    }
+
+    /**
+     * Appends a track that follows this one.  Afterward, this odometer reads as if it had been given this track's
+     * points and then {@code following}'s.  {@code following} isn't changed.
+     *
+     * @param following An odometer for the track that continues from this one's last point
+     * @return This odometer
+     */
+    public Odometer merge(final Odometer following) {
+        failIf(following == null, () -> "Odometer is null");
+
+        if (following.count == 0) {
+            return this;
+        }
+
+        // Copy these first, in case following is this odometer
+        final double followingSum = following.sum,
+                     followingCompensation = following.compensation,
+                     followingFirstLatitude = following.firstLatitude,
+                     followingFirstLongitude = following.firstLongitude;
+        final long followingCount = following.count;
+
+        if (count == 0) {
+            firstLatitude = followingFirstLatitude;
+            firstLongitude = followingFirstLongitude;
+        } else {
+            accumulate(ScalarHaversineKernel.haversine(lastLatitude, lastCosLatitude, lastLongitude,
+                                                       followingFirstLatitude, Math.cos(followingFirstLatitude), followingFirstLongitude));
+        }
+
+        lastLatitude = following.lastLatitude;
+        lastLongitude = following.lastLongitude;
+        lastCosLatitude = following.lastCosLatitude;
+        count += followingCount;
+
+        accumulate(followingSum);
+        compensation += followingCompensation;
+
+        return this;
+    }
+
+    /**
+     * Forgets every point, as if this odometer were new
+     */
+    public void reset() {
+        firstLatitude = firstLongitude = 0;
+        lastLatitude = lastLongitude = lastCosLatitude = 0;
+        sum = compensation = 0;
+        count = 0;
+    }
+
+    private Odometer addRadians(final double latitude, final double longitude) {
+        final double cosLatitude = Math.cos(latitude);
+
+        if (count == 0) {
+            firstLatitude = latitude;
+            firstLongitude = longitude;
+        } else {
+            accumulate(ScalarHaversineKernel.haversine(lastLatitude, lastCosLatitude, lastLongitude, latitude, cosLatitude, longitude));
+        }
+
+        lastLatitude = latitude;
+        lastLongitude = longitude;
+        lastCosLatitude = cosLatitude;
+        count++;
+
+        return this;
+    }
+
+    /** Adds to the running total with Neumaier's variant of Kahan summation */
+    private void accumulate(final double kilometers) {
+        final double t = sum + kilometers;
+
+        if (Math.abs(sum) >= Math.abs(kilometers)) {
+            compensation += (sum - t) + kilometers;
+        } else {
+            compensation += (kilometers - t) + sum;
+        }
+
+        sum = t;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.calculator;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+import org.loverde.geographiccoordinate.Point;
+
+
+/**
+ * <p>
+ * Sums the legs of a track on a {@linkplain ForkJoinPool}.
+ * </p>
+ *
+ * <p>
+ * The track is cut into fixed blocks of {@value #BLOCK_SIZE} legs.  Adjacent blocks share their boundary point, so no
+ * leg is lost at a cut.  Each block is summed on its own with Neumaier's compensated summation, and the block sums are
+ * then combined, in order, the same way.  Tasks are only ever split between blocks, and the blocks don't depend on how
+ * the work was divided, so the result is the same for every pool size and threshold.
+ * </p>
+ */
+final class ParallelDistance extends RecursiveAction {
+
+    private static final long serialVersionUID = 1L;
+
+    /** The number of legs in each block */
+    static final int BLOCK_SIZE = 2048;
+
+    private final Track track;
+    private final double[] blockSums;
+    private final int fromBlock;
+    private final int toBlock;
+    private final int blocksPerTask;
+
+
+    private ParallelDistance(final Track track, final double[] blockSums, final int fromBlock, final int toBlock, final int blocksPerTask) {
+        this.track = track;
+        this.blockSums = blockSums;
+        this.fromBlock = fromBlock;
+        this.toBlock = toBlock;
+        this.blocksPerTask = blocksPerTask;
+    }
+
+    /**
+     * @param pool      Runs the tasks
+     * @param threshold Tracks with fewer points than this are summed in the calling thread.  It is also the number of
+     *                  points, rounded to whole blocks, that each task handles.
+     * @return The total distance in kilometers
+     */
+    static double total(final Track track, final ForkJoinPool pool, final int threshold) {
+        final int legs = track.size() - 1;
+        final double[] blockSums = new double[(legs + BLOCK_SIZE - 1) / BLOCK_SIZE];
+        final ParallelDistance task = new ParallelDistance(track, blockSums, 0, blockSums.length, Math.max(1, threshold / BLOCK_SIZE));
+
+        if (track.size() < threshold) {
+            task.sumBlocks();
+        } else {
+            pool.invoke(task);
+        }
+
+        return sum(blockSums, blockSums.length);
+    }
+
+    @Override
+    protected void compute() {
+        if (toBlock - fromBlock <= blocksPerTask) {
+            sumBlocks();
+        } else {
+            final int middle = (fromBlock + toBlock) >>> 1;
+
+            invokeAll(new ParallelDistance(track, blockSums, fromBlock, middle, blocksPerTask),
+                      new ParallelDistance(track, blockSums, middle, toBlock, blocksPerTask));
+        }
+    }
+
+    private void sumBlocks() {
+        final double[] latitudes = new double[BLOCK_SIZE + 1];
+        final double[] longitudes = new double[BLOCK_SIZE + 1];
+        final double[] legs = new double[BLOCK_SIZE];
+
+        for (int block = fromBlock; block < toBlock; block++) {
+            final int fromIndex = block * BLOCK_SIZE;
+            final int toIndex = Math.min(fromIndex + BLOCK_SIZE + 1, track.size());
+
+            track.legs(fromIndex, toIndex, legs, latitudes, longitudes);
+            blockSums[block] = sum(legs, toIndex - fromIndex - 1);
+        }
+    }
+
+    /**
+     * Neumaier's variant of Kahan summation
+     */
+    static double sum(final double[] values, final int count) {
+        double sum = 0.0d;
+        double compensation = 0.0d;
+
+        for (int i = 0; i < count; i++) {
+            final double value = values[i];
+            final double t = sum + value;
+
+            if (Math.abs(sum) >= Math.abs(value)) {
+                compensation += (sum - t) + value;
+            } else {
+                compensation += (value - t) + sum;
+            }
+
+            sum = t;
+        }
+
+        return sum + compensation;
+    }
+
+    /**
+     * A sequence of points whose legs can be computed in any order
+     */
+    abstract static class Track {
+
+        /**
+         * @return The number of points
+         */
+        abstract int size();
+
+        /**
+         * Computes the legs, in kilometers, between points {@code fromIndex} and {@code toIndex - 1}, storing them in
+         * {@code destination} starting at 0.  {@code latitudes} and {@code longitudes} have room for
+         * {@code BLOCK_SIZE + 1} values and may be used as scratch space.
+         */
+        abstract void legs(int fromIndex, int toIndex, double[] destination, double[] latitudes, double[] longitudes);
+
+        static Track of(final PointBuffer points, final int fromIndex, final int toIndex) {
+            return new Track() {
+                @Override
+                int size() {
+                    return toIndex - fromIndex;
+                }
+
+                @Override
+                void legs(final int from, final int to, final double[] destination, final double[] latitudes, final double[] longitudes) {
+                    HaversineKernel.SELECTED.legs(points.latitudes, points.longitudes, fromIndex + from, fromIndex + to, 1.0d, destination, 0);
+                }
+            };
+        }
+
+        /**
+         * @param points A random-access list without nulls
+         */
+        static Track of(final List<Point> points) {
+            return new Track() {
+                @Override
+                int size() {
+                    return points.size();
+                }
+
+                @Override
+                void legs(final int from, final int to, final double[] destination, final double[] latitudes, final double[] longitudes) {
+                    for (int i = from, j = 0; i < to; i++, j++) {
+                        final Point point = points.get(i);
+
+                        latitudes[j] = point.latitude().toRadians();
+                        longitudes[j] = point.longitude().toRadians();
+                    }
+
+                    HaversineKernel.SELECTED.legs(latitudes, longitudes, 0, to - from, 1.0d, destination, 0);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.loverde.geographiccoordinate.calculator;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.Point;
+
+import static org.loverde.geographiccoordinate.exception.ExceptionMessages.*;
+import static org.loverde.geographiccoordinate.internal.Objects.failIf;
+
+
+/**
+ * <p>
+ * A growable, columnar container of coordinates.  Rather than holding {@linkplain Point} objects, the latitudes and
+ * longitudes are converted to radians once, when they're added, and stored in parallel {@code double} arrays.  The
+ * {@code PointBuffer} overloads in {@linkplain DistanceCalculator} walk these arrays directly, so a track can be
+ * converted once and then measured as many times as you like without re-deriving radians from degrees, minutes and
+ * seconds or allocating anything per point.
+ * </p>
+ *
+ * <p>
+ * This class is not thread-safe.  A buffer that is no longer being modified can be read by any number of threads.
+ * </p>
+ */
+public final class PointBuffer {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    /** Latitudes in radians.  Only the first {@link #size} elements are meaningful. */
+    double[] latitudes;
+
+    /** Longitudes in radians.  Only the first {@link #size} elements are meaningful. */
+    double[] longitudes;
+
+    int size;
+
+
+    /**
+     * Creates an empty buffer with a default initial capacity
+     */
+    public PointBuffer() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty buffer
+     *
+     * @param initialCapacity The number of points the buffer can hold before it needs to grow
+     * @throws IllegalArgumentException If {@code initialCapacity} is negative
+     */
+    public PointBuffer(final int initialCapacity) {
+        failIf(initialCapacity < 0, () -> CAPACITY_NEGATIVE);
+
+        latitudes = new double[initialCapacity];
+        longitudes = new double[initialCapacity];
+    }
+
+    /**
+     * Creates a buffer containing the supplied points, in order
+     *
+     * @param points The points to copy into the buffer
+     * @return A new buffer
+     * @throws IllegalArgumentException If {@code points} or any of its elements are null
+     */
+    public static PointBuffer of(final List<Point> points) {
+        failIf(points == null, () -> "Points are null");
+
+        return new PointBuffer(points.size()).addAll(points);
+    }
+
+    /**
+     * Creates a buffer containing the supplied points, in order
+     *
+     * @param points The points to copy into the buffer
+     * @return A new buffer
+     * @throws IllegalArgumentException If {@code points} or any of its elements are null
+     */
+    public static PointBuffer of(final Point... points) {
+        failIf(points == null, () -> "Points are null");
+
+        return of(Arrays.asList(points));
+    }
+
+    /**
+     * Appends a point to the end of the buffer
+     *
+     * @param point The point to append
+     * @return This buffer
+     * @throws IllegalArgumentException If {@code point} is null
+     */
+    public PointBuffer add(final Point point) {
+        failIf(point == null, () -> "Point is null");
+
+        return add(point.latitude(), point.longitude());
+    }
+
+    /**
+     * Appends a coordinate to the end of the buffer
+     *
+     * @param latitude  The latitude
+     * @param longitude The longitude
+     * @return This buffer
+     * @throws IllegalArgumentException If either parameter is null
+     */
+    public PointBuffer add(final Latitude latitude, final Longitude longitude) {
+        failIf(latitude == null, () -> LATITUDE_NULL);
+        failIf(longitude == null, () -> LONGITUDE_NULL);
+
+        return addRadians(latitude.toRadians(), longitude.toRadians());
+    }
+
+    /**
+     * Appends a coordinate to the end of the buffer
+     *
+     * @param latitude  Signed decimal latitude.  Positive values are north; negative values are south.
+     * @param longitude Signed decimal longitude.  Positive values are east; negative values are west.
+     * @return This buffer
+     * @throws IllegalArgumentException If either value is out of range
+     */
+    public PointBuffer add(final double latitude, final double longitude) {
+        failIf(!(Math.abs(latitude) <= Latitude.MAX_VALUE), Latitude::getRangeError);
+        failIf(!(Math.abs(longitude) <= Longitude.MAX_VALUE), Longitude::getRangeError);
+
+        return addRadians(Math.toRadians(latitude), Math.toRadians(longitude));
+    }
+
+    /**
+     * Appends every point in the list to the end of the buffer
+     *
+     * @param points The points to append
+     * @return This buffer
+     * @throws IllegalArgumentException If {@code points} or any of its elements are null
+     */
+    public PointBuffer addAll(final List<Point> points) {
+        failIf(points == null, () -> "Points are null");
+
+        ensureCapacity(size + points.size());
+
+        for (final Point point : points) {
+            add(point);
+        }
+
+        return this;
+    }
+
+    /**
+     * @return The number of points in the buffer
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index The point's position in the buffer
+     * @return The latitude of the point, in radians
+     * @throws IndexOutOfBoundsException If {@code index} is negative or not less than {@link #size()}
+     */
+    public double latitudeRadians(final int index) {
+        return latitudes[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * @param index The point's position in the buffer
+     * @return The longitude of the point, in radians
+     * @throws IndexOutOfBoundsException If {@code index} is negative or not less than {@link #size()}
+     */
+    public double longitudeRadians(final int index) {
+        return longitudes[Objects.checkIndex(index, size)];
+    }
+
+    /**
+     * Empties the buffer without releasing its storage, so it can be refilled without reallocating
+     */
+    public void clear() {
+        size = 0;
+    }
+
+    private PointBuffer addRadians(final double latitudeRadians, final double longitudeRadians) {
+        ensureCapacity(size + 1);
+
+        latitudes[size] = latitudeRadians;
+        longitudes[size] = longitudeRadians;
+        size++;
+
+        return this;
+    }
+
+    private void ensureCapacity(final int capacity) {
+        if (capacity > latitudes.length) {
+            final int newCapacity = Math.max(capacity, latitudes.length + (latitudes.length >> 1) + 1);
+
+            latitudes = Arrays.copyOf(latitudes, newCapacity);
+            longitudes = Arrays.copyOf(longitudes, newCapacity);
+        }
+    }
+}
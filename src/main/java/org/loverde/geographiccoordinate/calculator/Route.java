@@ -0,0 +1,285 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.calculator;
+
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.loverde.geographiccoordinate.calculator.DistanceCalculator.EARTH_RADIUS_KILOMETERS;
+import static org.loverde.geographiccoordinate.internal.Objects.failIf;
+
+
+/**
+ * <p>
+ * A fixed sequence of points whose cumulative distances are computed once, when the route is created.  Afterward, the
+ * distance between any two points along the route takes constant time, and the position at any distance along the
+ * route is found with a binary search.  Use it when the same route is asked about repeatedly - for progress, arrival
+ * estimates or splitting a trip into billable parts.
+ * </p>
+ *
+ * <p>
+ * Legs are measured with the Haversine formula, exactly as {@linkplain DistanceCalculator#distance(Unit, List)} measures
+ * them, and accumulated with compensated summation.  A route holds three {@code double}s per point, and a route created
+ * from a list of points also keeps the points themselves.  Routes are immutable and thread-safe.
+ * </p>
+ */
+public final class Route {
+
+    /** The points the route was created from, or null if it was created from a {@linkplain PointBuffer} */
+    private final Point[] points;
+
+    private final double[] latitudes;
+    private final double[] longitudes;
+
+    /** cumulative[i] is the distance from the first point to point i, in kilometers */
+    private final double[] cumulative;
+
+
+    private Route(final Point[] points, final double[] latitudes, final double[] longitudes) {
+        this.points = points;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+
+        cumulative = new double[latitudes.length];
+
+        double sum = 0, compensation = 0;
+        double cosLat1 = Math.cos(latitudes[0]);
+
+        for (int i = 1; i < latitudes.length; i++) {
+            final double cosLat2 = Math.cos(latitudes[i]);
+            final double leg = ScalarHaversineKernel.haversine(latitudes[i - 1], cosLat1, longitudes[i - 1], latitudes[i], cosLat2, longitudes[i]);
+            final double t = sum + leg;
+
+            // Neumaier's compensated summation; legs are never negative, so the larger operand is known
+            compensation += sum >= leg ? (sum - t) + leg : (leg - t) + sum;
+            sum = t;
+
+            cumulative[i] = sum + compensation;
+            cosLat1 = cosLat2;
+        }
+    }
+
+    /**
+     * Creates a route
+     *
+     * @param points {@linkplain Point}s arranged in the order in which they are visited.  You must provide at least 2,
+     *               otherwise a {@linkplain IllegalArgumentException} will be thrown.
+     * @return A new route
+     */
+    public static Route of(final List<Point> points) {
+        failIf(points == null, () -> "Points are null");
+        failIf(points.size() < 2, () -> "Need to provide at least 2 points");
+
+        final Point[] vertices = new Point[points.size()];
+        final double[] latitudes = new double[points.size()],
+                       longitudes = new double[points.size()];
+
+        int i = 0;
+
+        for (final Point point : points) {
+            failIf(point == null, "point %d is null", i);
+
+            vertices[i] = point;
+            latitudes[i] = point.latitude().toRadians();
+            longitudes[i] = point.longitude().toRadians();
+            i++;
+        }
+
+        return new Route(vertices, latitudes, longitudes);
+    }
+
+    /**
+     * Creates a route from the points in a {@linkplain PointBuffer}.  The buffer is copied, so later changes to it
+     * don't affect the route.
+     *
+     * @param points Points arranged in the order in which they are visited.  You must provide at least 2, otherwise a
+     *               {@linkplain IllegalArgumentException} will be thrown.
+     * @return A new route
+     */
+    public static Route of(final PointBuffer points) {
+        failIf(points == null, () -> "Points are null");
+        failIf(points.size() < 2, () -> "Need to provide at least 2 points");
+
+        return new Route(null, Arrays.copyOf(points.latitudes, points.size()), Arrays.copyOf(points.longitudes, points.size()));
+    }
+
+    /**
+     * @return The number of points on the route
+     */
+    public int size() {
+        return latitudes.length;
+    }
+
+    /**
+     * @param unit The unit that the returned value will be expressed in
+     * @return The distance from the first point to the last
+     */
+    public double length(final Unit unit) {
+        failIf(unit == null, () -> "Unit is null");
+
+        return unit.fromKilometers(cumulative[cumulative.length - 1]);
+    }
+
+    /**
+     * @param unit  The unit that the returned value will be expressed in
+     * @param index The index of a point
+     * @return The distance along the route from the first point to point {@code index}
+     */
+    public double distanceTo(final Unit unit, final int index) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(index < 0 || index >= cumulative.length, () -> "Invalid index");
+
+        return unit.fromKilometers(cumulative[index]);
+    }
+
+    /**
+     * Gets the distance along the route between two of its points.  The result is the same as
+     * {@code DistanceCalculator.distance(unit, points.subList(from, to + 1))}, give or take rounding.
+     *
+     * @param unit The unit that the returned value will be expressed in
+     * @param from The index of the earlier point
+     * @param to   The index of the later point.  May equal {@code from}.
+     * @return The distance along the route from point {@code from} to point {@code to}
+     */
+    public double distance(final Unit unit, final int from, final int to) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(from < 0 || to >= cumulative.length || from > to, () -> "Invalid range");
+
+        return unit.fromKilometers(cumulative[to] - cumulative[from]);
+    }
+
+    /**
+     * Finds the leg that contains a distance along the route
+     *
+     * @param unit     The unit that {@code distance} is expressed in
+     * @param distance A distance from the first point, between 0 and the route's {@linkplain #length(Unit) length}
+     * @return The index of the last point at or before {@code distance}.  At the end of the route, that's the last point.
+     */
+    public int indexAt(final Unit unit, final double distance) {
+        failIf(unit == null, () -> "Unit is null");
+
+        checkDistance(unit, distance);
+
+        return lastIndexAt(unit, distance);
+    }
+
+    /**
+     * Finds the position at a distance along the route.  Between two points, the position is interpolated along the
+     * great circle joining them, which is the path the Haversine formula measures.  At a point - for example, at
+     * {@code distanceTo(unit, i)} - the point the route was created from is returned.
+     *
+     * @param unit     The unit that {@code distance} is expressed in
+     * @param distance A distance from the first point, between 0 and the route's {@linkplain #length(Unit) length}
+     * @return The position at {@code distance}
+     */
+    public Point pointAt(final Unit unit, final double distance) {
+        failIf(unit == null, () -> "Unit is null");
+
+        final double kilometers = kilometers(unit, distance);
+        final int index = lastIndexAt(unit, distance);
+
+        if (index == cumulative.length - 1 || distance == unit.fromKilometers(cumulative[index])) {
+            return vertex(index);
+        }
+
+        final double lat1 = latitudes[index], lon1 = longitudes[index],
+                     lat2 = latitudes[index + 1], lon2 = longitudes[index + 1];
+
+        final double angle = (cumulative[index + 1] - cumulative[index]) / EARTH_RADIUS_KILOMETERS,
+                     offset = (kilometers - cumulative[index]) / EARTH_RADIUS_KILOMETERS,
+                     sinAngle = Math.sin(angle);
+
+        if (sinAngle == 0) {
+            return vertex(index);
+        }
+
+        // Spherical linear interpolation between the points' unit vectors
+        final double a = Math.sin(angle - offset) / sinAngle,
+                     b = Math.sin(offset) / sinAngle,
+                     cosLat1 = Math.cos(lat1),
+                     cosLat2 = Math.cos(lat2);
+
+        final double x = a * cosLat1 * Math.cos(lon1) + b * cosLat2 * Math.cos(lon2),
+                     y = a * cosLat1 * Math.sin(lon1) + b * cosLat2 * Math.sin(lon2),
+                     z = a * Math.sin(lat1) + b * Math.sin(lat2);
+
+        return point(Math.atan2(z, Math.sqrt(x * x + y * y)), Math.atan2(y, x));
+    }
+
+    private double kilometers(final Unit unit, final double distance) {
+        checkDistance(unit, distance);
+
+        // Converting length(unit) back to kilometers can round past the end
+        return Math.min(unit.toKilometers(distance), cumulative[cumulative.length - 1]);
+    }
+
+    private void checkDistance(final Unit unit, final double distance) {
+        failIf(!(distance >= 0 && distance <= unit.fromKilometers(cumulative[cumulative.length - 1])), () -> "Distance is not on the route");
+    }
+
+    /**
+     * Compares in {@code unit} rather than in kilometers, so that the distance {@link #distanceTo(Unit, int)} returns
+     * for a point finds that point even when converting it back to kilometers would round below it.
+     *
+     * @return The largest index whose cumulative distance, expressed in {@code unit}, is at most {@code distance}
+     */
+    private int lastIndexAt(final Unit unit, final double distance) {
+        int low = 0,
+            high = cumulative.length - 1;
+
+        while (low < high) {
+            final int middle = (low + high + 1) >>> 1;
+
+            if (unit.fromKilometers(cumulative[middle]) <= distance) {
+                low = middle;
+            } else {
+                high = middle - 1;
+            }
+        }
+
+        return low;
+    }
+
+    private Point vertex(final int index) {
+        return points != null ? points[index] : point(latitudes[index], longitudes[index]);
+    }
+
+    private static Point point(final double latitude, final double longitude) {
+        return new Point(new Latitude(Math.toDegrees(latitude)), new Longitude(Math.toDegrees(longitude)));
+    }
+}
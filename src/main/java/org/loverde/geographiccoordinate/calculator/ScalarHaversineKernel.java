@@ -0,0 +1,102 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.loverde.geographiccoordinate.calculator;
+
+import static org.loverde.geographiccoordinate.calculator.DistanceCalculator.EARTH_RADIUS_KILOMETERS;
+
+
+/**
+ * The portable {@linkplain HaversineKernel}.  Each point's cosine is computed once and carried over to the next leg.
+ */
+final class ScalarHaversineKernel implements HaversineKernel {
+
+    @Override
+    public double total(final double[] latitudes, final double[] longitudes, final int fromIndex, final int toIndex, final double scale) {
+        double distance = 0;
+        double cosLat1 = Math.cos(latitudes[fromIndex]);
+
+        for (int i = fromIndex + 1; i < toIndex; i++) {
+            final double cosLat2 = Math.cos(latitudes[i]);
+
+            distance += haversine(latitudes[i - 1], cosLat1, longitudes[i - 1], latitudes[i], cosLat2, longitudes[i]) * scale;
+            cosLat1 = cosLat2;
+        }
+
+        return distance;
+    }
+
+    @Override
+    public void legs(final double[] latitudes, final double[] longitudes, final int fromIndex, final int toIndex, final double scale,
+                     final double[] destination, final int destinationOffset) {
+        double cosLat1 = Math.cos(latitudes[fromIndex]);
+
+        for (int i = fromIndex + 1, j = destinationOffset; i < toIndex; i++, j++) {
+            final double cosLat2 = Math.cos(latitudes[i]);
+
+            destination[j] = haversine(latitudes[i - 1], cosLat1, longitudes[i - 1], latitudes[i], cosLat2, longitudes[i]) * scale;
+            cosLat1 = cosLat2;
+        }
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return false;
+    }
+
+    /**
+     * The Haversine formula.  The cosines of the latitudes are passed in so that callers walking a track can compute
+     * each one once rather than once per leg.
+     *
+     * @return The distance in kilometers
+     */
+    static double haversine(final double lat1, final double cosLat1, final double lon1,
+                            final double lat2, final double cosLat2, final double lon2) {
+        return (2.0d * EARTH_RADIUS_KILOMETERS) * Math.asin(Math.sqrt(term(lat1, cosLat1, lon1, lat2, cosLat2, lon2)));
+    }
+
+    /**
+     * The haversine of the central angle between two points - the value that {@linkplain #haversine} takes the arcsine
+     * of the square root of.  It increases with distance, so comparing it to a threshold answers whether the points
+     * are within a distance without computing the distance.
+     *
+     * @return The haversine of the central angle, between 0 and 1 (give or take a rounding error)
+     */
+    static double term(final double lat1, final double cosLat1, final double lon1,
+                       final double lat2, final double cosLat2, final double lon2) {
+        final double deltaLat = lat2 - lat1,
+                     deltaLon = lon2 - lon1;
+
+        return Math.pow(Math.sin(deltaLat / 2.0d), 2.0d) + (cosLat1 * cosLat2 * Math.pow(Math.sin(deltaLon / 2.0d), 2.0d));
+    }
+}
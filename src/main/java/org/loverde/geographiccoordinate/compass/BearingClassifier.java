@@ -0,0 +1,216 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.loverde.geographiccoordinate.compass;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static java.math.BigDecimal.ZERO;
+import static org.loverde.geographiccoordinate.exception.ExceptionMessages.BEARING_OUT_OF_RANGE;
+import static org.loverde.geographiccoordinate.internal.Objects.failIf;
+
+
+/**
+ * <p>
+ * Maps bearings to compass directions with a lookup table.
+ * </p>
+ *
+ * <p>
+ * Compass directions are resolved to hundredths of a degree, so there are only 36,001 distinct inputs (0.00 through
+ * 360.00).  When the classifier is created, it works out the direction for each of them once, using the algorithm
+ * {@code getByBearing} has always used, and stores the direction's ordinal in a table.  Classifying a bearing is then
+ * a matter of rounding it to hundredths and loading a table entry.  The table is built from
+ * {@linkplain CompassDirection#getMinimum()} and {@linkplain CompassDirection#getMaximum()}, so the same class serves
+ * every compass enumeration.
+ * </p>
+ *
+ * <p>
+ * {@code double} bearings are rounded to hundredths in integer arithmetic, half up, based on the bearing's exact binary
+ * value - just as {@code new BigDecimal(bearing).setScale(2, RoundingMode.HALF_UP)} does - so the {@code double} and
+ * {@linkplain BigDecimal} lookups always agree.
+ * </p>
+ *
+ * @param <T> The compass enumeration
+ */
+final class BearingClassifier<T extends Enum<T> & CompassDirection> {
+
+    private static final int FULL_CIRCLE = 36000;
+
+    private static final BigDecimal BD360 = new BigDecimal(360);
+
+    /** 2^27 + 1, used to split a double into two halves whose products are exact */
+    private static final double SPLITTER = 134217729.0d;
+
+    private final T[] values;
+
+    /** Indexed by hundredths of a degree; holds the ordinal of the direction */
+    private final byte[] table;
+
+    /** Indexed by hundredths of a degree; filled in as bearings are requested */
+    private final CompassBearing<T>[] compassBearings;
+
+
+    /**
+     * @param values The enumeration's values, in order.  The first must be north.
+     * @param step   The number of degrees between adjacent directions
+     */
+    BearingClassifier(final T[] values, final BigDecimal step) {
+        final int stepHundredths = toHundredths(step);
+        final int[] minimums = new int[values.length];
+        final int[] maximums = new int[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            minimums[i] = toHundredths(values[i].getMinimum());
+            maximums[i] = toHundredths(values[i].getMaximum());
+        }
+
+        this.values = values;
+        table = new byte[FULL_CIRCLE + 1];
+        compassBearings = newCompassBearingArray(FULL_CIRCLE);
+
+        for (int hundredths = 0; hundredths <= FULL_CIRCLE; hundredths++) {
+            table[hundredths] = (byte) ordinalByRange(hundredths, stepHundredths, minimums, maximums);
+        }
+    }
+
+    /**
+     * @param bearing Bearing in degrees.  Value must be 0 &lt;= x &lt;= 360 (360 is treated as 0.0)
+     * @return The compass direction closest to the specified bearing
+     */
+    T classify(final double bearing) {
+        failIf(!(bearing >= 0.0d && bearing <= 360.0d), BEARING_OUT_OF_RANGE, bearing);
+
+        return classify(bearing == 360.0d ? 0 : toHundredths(bearing));
+    }
+
+    /**
+     * @param bearing Bearing in degrees.  Value must be 0 &lt;= x &lt;= 360 (360 is treated as 0.0)
+     * @return The compass direction closest to the specified bearing
+     */
+    T classify(final BigDecimal bearing) {
+        failIf(bearing.compareTo(ZERO) < 0 || bearing.compareTo(BD360) > 0, BEARING_OUT_OF_RANGE, bearing);
+
+        return classify(bearing.compareTo(BD360) == 0 ? 0 : bearing.setScale(2, RoundingMode.HALF_UP).unscaledValue().intValue());
+    }
+
+    /**
+     * @param hundredths Bearing in hundredths of a degree, 0 - 36000
+     * @return The compass direction closest to the specified bearing
+     */
+    T classify(final int hundredths) {
+        return values[table[hundredths]];
+    }
+
+    /**
+     * Gets the shared {@linkplain CompassBearing} for a bearing rounded to hundredths of a degree.  If two threads ask
+     * for the same missing instance at once, both may create one;  either is correct, and the last one stored is
+     * shared from then on.  The record's fields are final, so an instance read from the array is always complete.
+     *
+     * @param bearing Bearing in degrees.  Value must be 0 &lt;= x &lt;= 360 (360 is treated as 0.0)
+     * @return The shared instance for the rounded bearing
+     */
+    CompassBearing<T> compassBearing(final double bearing) {
+        failIf(!(bearing >= 0.0d && bearing <= 360.0d), BEARING_OUT_OF_RANGE, bearing);
+
+        final int hundredths = toHundredths(bearing) % FULL_CIRCLE;
+        CompassBearing<T> compassBearing = compassBearings[hundredths];
+
+        if (compassBearing == null) {
+            compassBearing = new CompassBearing<>(hundredths / 100.0d, classify(hundredths));
+            compassBearings[hundredths] = compassBearing;
+        }
+
+        return compassBearing;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends CompassDirection> CompassBearing<T>[] newCompassBearingArray(final int length) {
+        return (CompassBearing<T>[]) new CompassBearing<?>[length];
+    }
+
+    /**
+     * The original {@code getByBearing} algorithm, carried out in hundredths of a degree:  estimate the direction by
+     * dividing by the step (rounding to 2 places, then to 0 places), then move to the neighbouring direction if the
+     * bearing falls outside the estimate's range.
+     */
+    private static int ordinalByRange(final int hundredths, final int step, final int[] minimums, final int[] maximums) {
+        final int count = minimums.length;
+        final int quotient = (int) ((200L * hundredths + step) / (2L * step));
+        final int idx = Math.min((quotient + 50) / 100, count - 1);
+
+        if (!isWithinRange(hundredths, idx, minimums, maximums)) {
+            if (hundredths > maximums[idx]) {
+                return idx == count - 1 ? 0 : idx + 1;
+            } else if (hundredths < minimums[idx]) {
+                return idx == 0 ? count - 1 : idx - 1;
+            }
+        }
+
+        return idx;
+    }
+
+    private static boolean isWithinRange(final int hundredths, final int idx, final int[] minimums, final int[] maximums) {
+        if (idx != 0) {
+            return hundredths >= minimums[idx] && hundredths <= maximums[idx];
+        }
+
+        // North is a special case where the minimum is greater than the maximum
+        return (hundredths >= minimums[0] && hundredths <= FULL_CIRCLE) || (hundredths >= 0 && hundredths <= maximums[0]);
+    }
+
+    /**
+     * Rounds a non-negative bearing to hundredths of a degree, half up, based on its exact value.  Multiplying by 100
+     * in floating point can round the product onto the wrong side of a .5 boundary, so the rounding error of the
+     * multiplication is recovered (Dekker's product) and included in the comparison.
+     *
+     * @param bearing A value in the range [0, 360]
+     * @return The bearing in hundredths of a degree
+     */
+    static int toHundredths(final double bearing) {
+        final double product = bearing * 100.0d;
+        final double half = Math.floor(product) + 0.5d;
+
+        final double c = SPLITTER * bearing;
+        final double high = c - (c - bearing);
+        final double low = bearing - high;
+        final double error = (high * 100.0d - product) + low * 100.0d;
+
+        // product + error is exactly bearing * 100.  Near the boundary, product - half is exact.
+        return (int) Math.floor(product) + ((product - half) + error >= 0.0d ? 1 : 0);
+    }
+
+    private static int toHundredths(final BigDecimal value) {
+        return value.movePointRight(2).intValueExact();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.compass;
+
+import static org.loverde.geographiccoordinate.exception.ExceptionMessages.BEARING_NOT_HUNDREDTHS;
+import static org.loverde.geographiccoordinate.exception.ExceptionMessages.BEARING_OUT_OF_RANGE;
+import static org.loverde.geographiccoordinate.exception.ExceptionMessages.COMPASS_TYPE_NULL;
+import static org.loverde.geographiccoordinate.exception.ExceptionMessages.DIRECTION_MISMATCH;
+import static org.loverde.geographiccoordinate.exception.ExceptionMessages.DIRECTION_NULL;
+import static org.loverde.geographiccoordinate.internal.Objects.failIf;
+
+
+/**
+ * <p>
+ * An immutable bearing:  the angle in degrees, and the compass direction it maps to.  Unlike
+ * {@linkplain org.loverde.geographiccoordinate.Bearing Bearing}, instances can be shared between threads and cached
+ * without copying them.
+ * </p>
+ *
+ * <p>
+ * Compass directions are defined to hundredths of a degree, so {@link #of(Class, double)} rounds the bearing to
+ * hundredths and returns a shared instance for the rounded value - there are only 36,000 of them per compass type,
+ * and each is created the first time it's needed.  Two calls for bearings that round to the same value usually
+ * return the same instance, but compare instances with {@code equals}:  threads that race to create an instance may
+ * briefly receive different (equal) ones.
+ * </p>
+ *
+ * <p>
+ * The constructor holds instances to the same rules:  {@code degrees} must be a whole number of hundredths of a
+ * degree, and {@code direction} must be the one {@code getByBearing(degrees)} returns for its compass type.
+ * </p>
+ *
+ * @param degrees   The bearing in degrees, 0 &lt;= x &lt; 360, in hundredths of a degree
+ * @param direction The compass direction the bearing maps to
+ * @param <T>       The compass enumeration
+ */
+public record CompassBearing<T extends CompassDirection>(double degrees, T direction) {
+
+    public CompassBearing {
+        failIf(!(degrees >= 0.0d && degrees < 360.0d), BEARING_OUT_OF_RANGE, degrees);
+        failIf(direction == null, DIRECTION_NULL);
+        failIf(BearingClassifier.toHundredths(degrees) / 100.0d != degrees, BEARING_NOT_HUNDREDTHS, degrees);
+        failIf(direction != directionOf(direction, degrees), () -> DIRECTION_MISMATCH.formatted(direction, degrees));
+    }
+
+    /**
+     * Gets the shared instance for a bearing rounded to hundredths of a degree.  The direction is the one
+     * {@code getByBearing(bearing)} returns for {@code compassType}, and {@linkplain #degrees()} is the rounded bearing.
+     *
+     * @param compassType The compass enumeration:  {@linkplain CompassDirection8}, {@linkplain CompassDirection16} or
+     *                    {@linkplain CompassDirection32}
+     * @param bearing     Bearing in degrees.  Value must be 0 &lt;= x &lt;= 360 (360 is treated as 0.0)
+     * @return The shared instance for the rounded bearing
+     */
+    @SuppressWarnings("unchecked")
+    public static <T extends CompassDirection> CompassBearing<T> of(final Class<T> compassType, final double bearing) {
+        failIf(compassType == null, COMPASS_TYPE_NULL);
+
+        if (compassType == CompassDirection8.class) {
+            return (CompassBearing<T>) CompassDirection8.getCompassBearing(bearing);
+        } else if (compassType == CompassDirection16.class) {
+            return (CompassBearing<T>) CompassDirection16.getCompassBearing(bearing);
+        } else if (compassType == CompassDirection32.class) {
+            return (CompassBearing<T>) CompassDirection32.getCompassBearing(bearing);
+        }
+
+        throw new IllegalArgumentException(COMPASS_TYPE_NULL);
+    }
+
+    private static CompassDirection directionOf(final CompassDirection direction, final double degrees) {
+        if (direction instanceof CompassDirection8) {
+            return CompassDirection8.getByBearing(degrees);
+        } else if (direction instanceof CompassDirection16) {
+            return CompassDirection16.getByBearing(degrees);
+        } else if (direction instanceof CompassDirection32) {
+            return CompassDirection32.getByBearing(degrees);
+        }
+
+        return direction;
+    }
+}
@@ -34,15 +34,10 @@
 package org.loverde.geographiccoordinate.compass;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.Map;
 
 import org.loverde.geographiccoordinate.internal.EnumHelper;
 
-import static java.math.BigDecimal.ZERO;
-import static org.loverde.geographiccoordinate.exception.ExceptionMessages.BEARING_OUT_OF_RANGE;
-import static org.loverde.geographiccoordinate.internal.Objects.failIf;
-
 
 /**
  * Represents the directions on a 32-point compass, where points are 11.25 degrees apart
@@ -89,9 +84,10 @@ public enum CompassDirection32 implements CompassDirection {
     private final BigDecimal middle;
     private final BigDecimal maximum;
 
-    private static final BigDecimal BD360 = new BigDecimal(360);
     private static final BigDecimal STEP = new BigDecimal("11.25");
 
+    private static final BearingClassifier<CompassDirection32> bearingClassifier = new BearingClassifier<>(values(), STEP);
+
     private static final Map<String, CompassDirection32> abbreviationMap = EnumHelper.populateEnumMap(
         CompassDirection32.class, CompassDirection32::getAbbreviation);
 
@@ -172,39 +168,27 @@ public enum CompassDirection32 implements CompassDirection {
      * @return The compass direction closest to the specified bearing
      */
     public static CompassDirection32 getByBearing(final BigDecimal bearing) {
-        BigDecimal newBearing;
-        final int idx;
-        final CompassDirection32[] values;
-        CompassDirection32 dir;
-
-        failIf(bearing.compareTo(ZERO) < 0 || bearing.compareTo(BD360) > 0, () -> BEARING_OUT_OF_RANGE.formatted(bearing.toPlainString()));
-
-        values = values();
-        newBearing = (bearing.compareTo(BD360) == 0 ? ZERO : bearing).setScale(2, RoundingMode.HALF_UP);
-        idx = Math.min(newBearing.divide(STEP, 2, RoundingMode.HALF_UP).setScale(0, RoundingMode.HALF_UP).toBigInteger().intValue(), values.length - 1);
-        dir = values[idx];
-
-        // If the bearing is greater than the direction's max, we need to go to the next one.
-        // If the bearing is less than the min, we need to go the previous one.
-
-        if (!isBearingWithinRange(newBearing, dir)) {
-            if (newBearing.compareTo(dir.getMaximum()) > 0) {
-                dir = dir.getNext();
-            } else if (bearing.compareTo(dir.getMinimum()) < 0) {
-                dir = dir.getPrevious();
-            }
-        }
-
-        return dir;
+        return bearingClassifier.classify(bearing);
     }
 
-    private static boolean isBearingWithinRange(final BigDecimal bearing, final CompassDirection32 direction) {
-        if (direction != NORTH) {
-            return bearing.compareTo(direction.getMinimum()) >= 0 && bearing.compareTo(direction.getMaximum()) <= 0;
-        }
+    /**
+     * Equivalent to {@code getByBearing(new BigDecimal(bearing))}, without creating any {@linkplain BigDecimal}s
+     *
+     * @param bearing Bearing in degrees.  Value must be 0 &lt;= x &lt;= 360 (360 is treated as 0.0)
+     * @return The compass direction closest to the specified bearing
+     */
+    public static CompassDirection32 getByBearing(final double bearing) {
+        return bearingClassifier.classify(bearing);
+    }
 
-        // North is a special case where the minimum is greater than the maximum
-        return (bearing.compareTo(NORTH.getMinimum()) >= 0 && bearing.compareTo(BD360) <= 0) ||
-               (bearing.compareTo(ZERO) >= 0 && bearing.compareTo(NORTH.getMaximum()) <= 0);
+    /**
+     * Gets the shared {@linkplain CompassBearing} for a bearing rounded to hundredths of a degree.  See
+     * {@link CompassBearing#of(Class, double)}.
+     *
+     * @param bearing Bearing in degrees.  Value must be 0 &lt;= x &lt;= 360 (360 is treated as 0.0)
+     * @return The shared instance for the rounded bearing
+     */
+    public static CompassBearing<CompassDirection32> getCompassBearing(final double bearing) {
+        return bearingClassifier.compassBearing(bearing);
     }
 }
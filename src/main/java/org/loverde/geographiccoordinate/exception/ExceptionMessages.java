@@ -49,10 +49,13 @@ public class ExceptionMessages {
     public static final String DIRECTION_NULL = "Direction is null";
     public static final String DIRECTION_CANT_BE_NEITHER = "Direction can only be NEITHER when the value is 0.0";
     public static final String BEARING_OUT_OF_RANGE = "Bearing [%s] is out of range [0, 360]";
+    public static final String BEARING_NOT_HUNDREDTHS = "Bearing [%s] is not a whole number of hundredths of a degree";
+    public static final String DIRECTION_MISMATCH = "Direction %s does not match bearing [%s]";
     public static final String COMPASS_TYPE_NULL = "Compass type is null";
     public static final String BEARING_NULL = "Bearing is null";
     public static final String LATITUDE_NULL = "Latitude is null";
     public static final String LONGITUDE_NULL = "Longitude is null";
+    public static final String CAPACITY_NEGATIVE = "Capacity is negative";
 
     public static final String STARTING_POINT_NULL = "Starting point is null";
     public static final String BEARING_TO_NULL = "'to' is null";
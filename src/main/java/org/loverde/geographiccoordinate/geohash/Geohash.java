@@ -0,0 +1,526 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.geohash;
+
+import java.util.Arrays;
+
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+
+import static org.loverde.geographiccoordinate.calculator.DistanceCalculator.EARTH_RADIUS_KILOMETERS;
+import static org.loverde.geographiccoordinate.exception.ExceptionMessages.*;
+import static org.loverde.geographiccoordinate.internal.Objects.failIf;
+
+
+/**
+ * <p>
+ * Encodes and decodes <a href="https://en.wikipedia.org/wiki/Geohash">geohashes</a>.
+ * </p>
+ *
+ * <p>
+ * A geohash names a cell of a grid laid over latitude and longitude.  Each bit halves the cell, alternating between
+ * longitude (first) and latitude, so the bits of the two are interleaved and nearby points tend to share a prefix.
+ * This class works with geohashes in two forms:
+ * </p>
+ *
+ * <ul>
+ *    <li>
+ *       A {@code long} holding the geohash's bits in its lowest {@code bits} bits, most significant bit first, from
+ *       1 to {@value #MAX_BITS} bits.  Geohashes of the same precision sort in the same order as their strings.
+ *       The methods that work on {@code long}s don't allocate.
+ *    </li>
+ *    <li>
+ *       The familiar base 32 string, where each character holds 5 bits.  {@code "dr5ru"} is the 25-bit geohash
+ *       covering part of Manhattan.
+ *    </li>
+ * </ul>
+ *
+ * <p>
+ * Points on a boundary between cells belong to the cell to the north and/or east, matching the classic bisection
+ * algorithm exactly.  Latitude 90 belongs to the northernmost cells and longitude 180 to the easternmost.
+ * </p>
+ */
+public final class Geohash {
+
+    /** The most bits a {@code long} geohash can hold (12 base 32 characters) */
+    public static final int MAX_BITS = 60;
+
+    /** The most characters a base 32 geohash can have */
+    public static final int MAX_CHARACTERS = MAX_BITS / 5;
+
+    /** Returned by {@link #neighbor(long, int, int, int)} when the neighbor would be beyond a pole */
+    public static final long NO_NEIGHBOR = -1L;
+
+    /** The most cells {@link #cover(Unit, Point, double, int)} will return */
+    public static final int MAX_COVER_CELLS = 1 << 16;
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private static final byte[] BASE32_VALUES = new byte[128];
+
+    static {
+        Arrays.fill(BASE32_VALUES, (byte) -1);
+
+        for (int i = 0; i < BASE32.length; i++) {
+            BASE32_VALUES[BASE32[i]] = (byte) i;
+            BASE32_VALUES[Character.toUpperCase(BASE32[i])] = (byte) i;
+        }
+    }
+
+    /**
+     * The bounds of a geohash cell, in degrees
+     *
+     * @param minLatitude  Southern edge
+     * @param minLongitude Western edge
+     * @param maxLatitude  Northern edge
+     * @param maxLongitude Eastern edge
+     */
+    public record Cell(double minLatitude, double minLongitude, double maxLatitude, double maxLongitude) {
+
+        /**
+         * @return The latitude of the cell's center
+         */
+        public double centerLatitude() {
+            return (minLatitude + maxLatitude) / 2.0d;
+        }
+
+        /**
+         * @return The longitude of the cell's center
+         */
+        public double centerLongitude() {
+            return (minLongitude + maxLongitude) / 2.0d;
+        }
+
+        /**
+         * @return The cell's center
+         */
+        public Point center() {
+            return new Point(new Latitude(centerLatitude()), new Longitude(centerLongitude()));
+        }
+    }
+
+
+    private Geohash() {
+    }
+
+    /**
+     * Encodes a coordinate.  Doesn't allocate.
+     *
+     * @param latitude  Signed decimal latitude.  Positive values are north; negative values are south.
+     * @param longitude Signed decimal longitude.  Positive values are east; negative values are west.
+     * @param bits      The geohash's precision, 1 to {@value #MAX_BITS}
+     * @return The geohash, in the lowest {@code bits} bits
+     */
+    public static long encode(final double latitude, final double longitude, final int bits) {
+        failIf(!(Math.abs(latitude) <= Latitude.MAX_VALUE), Latitude::getRangeError);
+        failIf(!(Math.abs(longitude) <= Longitude.MAX_VALUE), Longitude::getRangeError);
+        checkBits(bits);
+
+        return interleave(cellIndex(latitude, Latitude.MAX_VALUE, latitudeBits(bits)),
+                          cellIndex(longitude, Longitude.MAX_VALUE, longitudeBits(bits)), bits);
+    }
+
+    /**
+     * Encodes a coordinate
+     *
+     * @param latitude  The latitude
+     * @param longitude The longitude
+     * @param bits      The geohash's precision, 1 to {@value #MAX_BITS}
+     * @return The geohash, in the lowest {@code bits} bits
+     */
+    public static long encode(final Latitude latitude, final Longitude longitude, final int bits) {
+        failIf(latitude == null, () -> LATITUDE_NULL);
+        failIf(longitude == null, () -> LONGITUDE_NULL);
+
+        return encode(latitude.toDouble(), longitude.toDouble(), bits);
+    }
+
+    /**
+     * Encodes a point
+     *
+     * @param point The point
+     * @param bits  The geohash's precision, 1 to {@value #MAX_BITS}
+     * @return The geohash, in the lowest {@code bits} bits
+     */
+    public static long encode(final Point point, final int bits) {
+        failIf(point == null, () -> "Point is null");
+
+        return encode(point.latitude(), point.longitude(), bits);
+    }
+
+    /**
+     * Encodes a point as a base 32 string
+     *
+     * @param point      The point
+     * @param characters The length of the geohash, 1 to {@value #MAX_CHARACTERS}
+     * @return The geohash
+     */
+    public static String encodeBase32(final Point point, final int characters) {
+        failIf(characters < 1 || characters > MAX_CHARACTERS, () -> "Characters must be between 1 and %d".formatted(MAX_CHARACTERS));
+
+        return toBase32(encode(point, characters * 5), characters * 5);
+    }
+
+    /**
+     * Converts a {@code long} geohash to a base 32 string
+     *
+     * @param hash The geohash
+     * @param bits The geohash's precision, which must be a multiple of 5
+     * @return The geohash as a string of {@code bits / 5} characters
+     */
+    public static String toBase32(final long hash, final int bits) {
+        checkBits(bits);
+        failIf(bits % 5 != 0, () -> "Bits must be a multiple of 5");
+
+        final char[] characters = new char[bits / 5];
+
+        for (int i = characters.length - 1, shift = 0; i >= 0; i--, shift += 5) {
+            characters[i] = BASE32[(int) (hash >>> shift) & 31];
+        }
+
+        return new String(characters);
+    }
+
+    /**
+     * Converts a base 32 geohash to a {@code long}.  Upper and lower case are accepted.  Doesn't allocate.
+     *
+     * @param geohash The geohash, 1 to {@value #MAX_CHARACTERS} characters.  The result has {@code 5 * length} bits.
+     * @return The geohash, in the lowest {@code 5 * geohash.length()} bits
+     */
+    public static long fromBase32(final CharSequence geohash) {
+        failIf(geohash == null, () -> "Geohash is null");
+        failIf(geohash.length() < 1 || geohash.length() > MAX_CHARACTERS, () -> "Characters must be between 1 and %d".formatted(MAX_CHARACTERS));
+
+        long hash = 0L;
+
+        for (int i = 0; i < geohash.length(); i++) {
+            final char c = geohash.charAt(i);
+            final int value = c < 128 ? BASE32_VALUES[c] : -1;
+
+            if (value < 0) {
+                throw new IllegalArgumentException("Invalid geohash character [%s]".formatted(c));
+            }
+
+            hash = (hash << 5) | value;
+        }
+
+        return hash;
+    }
+
+    /**
+     * @param hash The geohash
+     * @param bits The geohash's precision
+     * @return The cell the geohash names
+     */
+    public static Cell decode(final long hash, final int bits) {
+        checkHash(hash, bits);
+
+        final int latitudeBits = latitudeBits(bits),
+                  longitudeBits = longitudeBits(bits);
+        final long latitudeIndex = latitudeIndex(hash, bits),
+                   longitudeIndex = longitudeIndex(hash, bits);
+
+        return new Cell(cellEdge(latitudeIndex, Latitude.MAX_VALUE, latitudeBits),
+                        cellEdge(longitudeIndex, Longitude.MAX_VALUE, longitudeBits),
+                        cellEdge(latitudeIndex + 1, Latitude.MAX_VALUE, latitudeBits),
+                        cellEdge(longitudeIndex + 1, Longitude.MAX_VALUE, longitudeBits));
+    }
+
+    /**
+     * @param geohash A base 32 geohash
+     * @return The cell the geohash names
+     */
+    public static Cell decode(final CharSequence geohash) {
+        return decode(fromBase32(geohash), geohash.length() * 5);
+    }
+
+    /**
+     * Finds a cell of the same precision a number of cells away.  Moving east or west wraps around the 180th meridian.
+     * Doesn't allocate.
+     *
+     * @param hash           The geohash
+     * @param bits           The geohash's precision
+     * @param latitudeSteps  Cells to move north (positive) or south (negative)
+     * @param longitudeSteps Cells to move east (positive) or west (negative)
+     * @return The neighboring geohash, or {@linkplain #NO_NEIGHBOR} if it would be beyond a pole
+     */
+    public static long neighbor(final long hash, final int bits, final int latitudeSteps, final int longitudeSteps) {
+        checkHash(hash, bits);
+
+        final long latitudeIndex = latitudeIndex(hash, bits) + latitudeSteps;
+
+        if (latitudeIndex < 0 || latitudeIndex >= 1L << latitudeBits(bits)) {
+            return NO_NEIGHBOR;
+        }
+
+        final long longitudeIndex = Math.floorMod(longitudeIndex(hash, bits) + longitudeSteps, 1L << longitudeBits(bits));
+
+        return interleave(latitudeIndex, longitudeIndex, bits);
+    }
+
+    /**
+     * Finds the 8 cells surrounding a geohash.  Doesn't allocate.
+     *
+     * @param hash        The geohash
+     * @param bits        The geohash's precision
+     * @param destination Receives the neighbors in the order N, NE, E, SE, S, SW, W, NW.  Neighbors beyond a pole are
+     *                    {@linkplain #NO_NEIGHBOR}.  It must have room for at least 8 values.
+     */
+    public static void neighbors(final long hash, final int bits, final long[] destination) {
+        failIf(destination == null, () -> "Destination is null");
+        failIf(destination.length < 8, () -> "Destination is too small");
+
+        destination[0] = neighbor(hash, bits, 1, 0);
+        destination[1] = neighbor(hash, bits, 1, 1);
+        destination[2] = neighbor(hash, bits, 0, 1);
+        destination[3] = neighbor(hash, bits, -1, 1);
+        destination[4] = neighbor(hash, bits, -1, 0);
+        destination[5] = neighbor(hash, bits, -1, -1);
+        destination[6] = neighbor(hash, bits, 0, -1);
+        destination[7] = neighbor(hash, bits, 1, -1);
+    }
+
+    /**
+     * Finds the 8 cells surrounding a geohash.  See {@link #neighbors(long, int, long[])}.
+     *
+     * @param hash The geohash
+     * @param bits The geohash's precision
+     * @return The neighbors in the order N, NE, E, SE, S, SW, W, NW
+     */
+    public static long[] neighbors(final long hash, final int bits) {
+        final long[] neighbors = new long[8];
+        neighbors(hash, bits, neighbors);
+
+        return neighbors;
+    }
+
+    /**
+     * <p>
+     * Finds the cells that a circle touches.  Every point within {@code radius} of {@code center} is in one of the
+     * returned cells, so a proximity search only needs to look in these buckets and then measure the candidates.  Some
+     * cells may only come close to the circle.
+     * </p>
+     *
+     * <p>
+     * Cells in the circle's bounding box are discarded when the distance from {@code center} to the cell's center is
+     * greater than {@code radius} plus the distance from the cell's center to its farthest corner.
+     * </p>
+     *
+     * @param unit   The unit {@code radius} is expressed in
+     * @param center The center of the circle
+     * @param radius The radius of the circle, expressed in terms of {@code unit}
+     * @param bits   The precision of the returned geohashes
+     * @return The geohashes, in ascending order
+     * @throws IllegalArgumentException If more than {@value #MAX_COVER_CELLS} cells would be needed
+     */
+    public static long[] cover(final Unit unit, final Point center, final double radius, final int bits) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(center == null, () -> "Center is null");
+        failIf(!(radius >= 0.0d), () -> "Radius is negative");
+        checkBits(bits);
+
+        final int latitudeBits = latitudeBits(bits),
+                  longitudeBits = longitudeBits(bits);
+        final long longitudeCells = 1L << longitudeBits;
+
+        final double latitude = center.latitude().toDouble(),
+                     longitude = center.longitude().toDouble(),
+                     angle = Math.toDegrees(unit.toKilometers(radius) / EARTH_RADIUS_KILOMETERS),
+                     minLatitude = Math.max(-Latitude.MAX_VALUE, latitude - angle),
+                     maxLatitude = Math.min(Latitude.MAX_VALUE, latitude + angle),
+                     longitudeRadius = longitudeRadius(latitude, angle);
+
+        final long fromLatitude = cellIndex(minLatitude, Latitude.MAX_VALUE, latitudeBits),
+                   toLatitude = cellIndex(maxLatitude, Latitude.MAX_VALUE, latitudeBits);
+        long fromLongitude = 0,
+             toLongitude = longitudeCells - 1;
+
+        if (longitudeRadius < Longitude.MAX_VALUE) {
+            // Cells are counted from -180 without wrapping here, then wrapped when the geohash is built
+            final double width = 2.0d * Longitude.MAX_VALUE / longitudeCells;
+
+            fromLongitude = (long) Math.floor((longitude - longitudeRadius + Longitude.MAX_VALUE) / width);
+            toLongitude = Math.max(fromLongitude, Math.min(fromLongitude + longitudeCells - 1,
+                                                           (long) Math.floor((longitude + longitudeRadius + Longitude.MAX_VALUE) / width)));
+        }
+
+        final long cellCount = (toLatitude - fromLatitude + 1) * (toLongitude - fromLongitude + 1);
+        failIf(cellCount > MAX_COVER_CELLS, () -> "The circle needs more than %d cells.  Use fewer bits.".formatted(MAX_COVER_CELLS));
+
+        final double centerLatitude = Math.toRadians(latitude),
+                     centerLongitude = Math.toRadians(longitude),
+                     kilometers = unit.toKilometers(radius);
+
+        final long[] cells = new long[(int) cellCount];
+        int count = 0;
+
+        for (long latitudeIndex = fromLatitude; latitudeIndex <= toLatitude; latitudeIndex++) {
+            final double south = cellEdge(latitudeIndex, Latitude.MAX_VALUE, latitudeBits),
+                         north = cellEdge(latitudeIndex + 1, Latitude.MAX_VALUE, latitudeBits),
+                         middle = Math.toRadians((south + north) / 2.0d);
+
+            for (long i = fromLongitude; i <= toLongitude; i++) {
+                final long longitudeIndex = Math.floorMod(i, longitudeCells);
+                final double west = cellEdge(longitudeIndex, Longitude.MAX_VALUE, longitudeBits),
+                             east = cellEdge(longitudeIndex + 1, Longitude.MAX_VALUE, longitudeBits),
+                             halfWidth = Math.toRadians((east - west) / 2.0d),
+                             cellCenter = Math.toRadians((west + east) / 2.0d);
+
+                final double toCell = DistanceCalculator.distanceRadians(Unit.KILOMETERS, centerLatitude, centerLongitude, middle, cellCenter);
+                final double cellRadius = Math.max(
+                    DistanceCalculator.distanceRadians(Unit.KILOMETERS, middle, 0.0d, Math.toRadians(south), halfWidth),
+                    DistanceCalculator.distanceRadians(Unit.KILOMETERS, middle, 0.0d, Math.toRadians(north), halfWidth));
+
+                // The farthest corner bounds the cell when it's no more than 90 degrees wide, which covers any cell
+                // that could be left out.  Wider cells are always kept.
+                if (halfWidth > Math.PI / 4.0d || toCell <= kilometers + cellRadius) {
+                    cells[count++] = interleave(latitudeIndex, longitudeIndex, bits);
+                }
+            }
+        }
+
+        final long[] covering = Arrays.copyOf(cells, count);
+        Arrays.sort(covering);
+
+        return covering;
+    }
+
+    /**
+     * @return The number of degrees of longitude the circle's bounding box extends either side of its center, or
+     *         {@linkplain Longitude#MAX_VALUE} if it spans every longitude
+     */
+    private static double longitudeRadius(final double latitude, final double angle) {
+        if (angle >= 90.0d || Math.abs(latitude) + angle >= Latitude.MAX_VALUE) {
+            return Longitude.MAX_VALUE;
+        }
+
+        final double ratio = Math.sin(Math.toRadians(angle)) / Math.cos(Math.toRadians(latitude));
+
+        return ratio >= 1.0d ? Longitude.MAX_VALUE : Math.min(Longitude.MAX_VALUE, Math.toDegrees(Math.asin(ratio)));
+    }
+
+    static int latitudeBits(final int bits) {
+        return bits / 2;
+    }
+
+    static int longitudeBits(final int bits) {
+        return (bits + 1) / 2;
+    }
+
+    /**
+     * @return The index of the cell containing {@code value}, where {@code max} is the largest valid value (90 or 180)
+     *         and there are {@code 2^cellBits} cells
+     */
+    static long cellIndex(final double value, final double max, final int cellBits) {
+        final long cells = 1L << cellBits;
+        long index = Math.min(cells - 1, (long) ((value + max) / (2.0d * max) * cells));
+
+        // The division above can round across a cell edge.  The edges themselves are exact, so check against them.
+        if (index > 0 && value < cellEdge(index, max, cellBits)) {
+            index--;
+        } else if (index < cells - 1 && value >= cellEdge(index + 1, max, cellBits)) {
+            index++;
+        }
+
+        return index;
+    }
+
+    /**
+     * @return The western or southern edge of cell {@code index}.  This is exact:  {@code index * 2 * max} needs fewer
+     *         than 40 bits, and scaling by a power of 2 and subtracting {@code max} don't round.
+     */
+    static double cellEdge(final long index, final double max, final int cellBits) {
+        return Math.scalb(index * 2.0d * max, -cellBits) - max;
+    }
+
+    private static long interleave(final long latitudeIndex, final long longitudeIndex, final int bits) {
+        // Longitude takes the most significant bit, so when there's an odd number of bits it also takes the least
+        return (bits & 1) == 0
+            ? (spread(longitudeIndex) << 1) | spread(latitudeIndex)
+            : spread(longitudeIndex) | (spread(latitudeIndex) << 1);
+    }
+
+    private static long latitudeIndex(final long hash, final int bits) {
+        return compact((bits & 1) == 0 ? hash : hash >>> 1);
+    }
+
+    private static long longitudeIndex(final long hash, final int bits) {
+        return compact((bits & 1) == 0 ? hash >>> 1 : hash);
+    }
+
+    /**
+     * Moves the lowest 32 bits of {@code value} to the even bit positions
+     */
+    static long spread(final long value) {
+        long v = value & 0xFFFFFFFFL;
+
+        v = (v | (v << 16)) & 0x0000FFFF0000FFFFL;
+        v = (v | (v << 8)) & 0x00FF00FF00FF00FFL;
+        v = (v | (v << 4)) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | (v << 2)) & 0x3333333333333333L;
+        v = (v | (v << 1)) & 0x5555555555555555L;
+
+        return v;
+    }
+
+    /**
+     * The inverse of {@link #spread(long)}:  gathers the even bits of {@code value}
+     */
+    static long compact(final long value) {
+        long v = value & 0x5555555555555555L;
+
+        v = (v | (v >>> 1)) & 0x3333333333333333L;
+        v = (v | (v >>> 2)) & 0x0F0F0F0F0F0F0F0FL;
+        v = (v | (v >>> 4)) & 0x00FF00FF00FF00FFL;
+        v = (v | (v >>> 8)) & 0x0000FFFF0000FFFFL;
+        v = (v | (v >>> 16)) & 0x00000000FFFFFFFFL;
+
+        return v;
+    }
+
+    private static void checkBits(final int bits) {
+        failIf(bits < 1 || bits > MAX_BITS, () -> "Bits must be between 1 and %d".formatted(MAX_BITS));
+    }
+
+    private static void checkHash(final long hash, final int bits) {
+        checkBits(bits);
+
+        // Not failIf:  a capturing lambda would allocate on every call
+        if (hash < 0 || hash >>> bits != 0) {
+            throw new IllegalArgumentException("Geohash [%d] has more than %d bits".formatted(hash, bits));
+        }
+    }
+}
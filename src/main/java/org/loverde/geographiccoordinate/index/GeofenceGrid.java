@@ -0,0 +1,413 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.index;
+
+import java.util.List;
+
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+import org.loverde.geographiccoordinate.calculator.PointBuffer;
+
+import static org.loverde.geographiccoordinate.calculator.DistanceCalculator.EARTH_RADIUS_KILOMETERS;
+import static org.loverde.geographiccoordinate.internal.Objects.failIf;
+
+
+/**
+ * <p>
+ * An immutable set of circular geofences which answers "which fences contain this position?" for a high rate of
+ * positions, without measuring the distance to every fence.
+ * </p>
+ *
+ * <p>
+ * The globe is divided into rows of equal height ({@code cellDegrees} of latitude), and each row is divided into cells.
+ * Lines of longitude converge toward the poles, so rows nearer the poles are given fewer, wider cells, and every cell
+ * is roughly {@code cellDegrees} of latitude wide on the ground.  Each fence is listed in every cell its bounding box
+ * touches:  cells that wrap around the 180th meridian are included on both sides, and a fence that contains a pole is
+ * listed in every cell of the rows it covers.  The lists are stored back to back in a single array, so the grid has no
+ * per-cell objects.
+ * </p>
+ *
+ * <p>
+ * A position is only checked against the fences listed in its own cell.  Fences whose bounding box doesn't contain
+ * the position are skipped after a comparison or two, and the remaining ones are measured with the Haversine formula,
+ * exactly as {@linkplain DistanceCalculator} does:  a fence contains a position if
+ * {@code DistanceCalculator.distance(unit, center, position)} is no greater than its radius.
+ * </p>
+ *
+ * <p>
+ * Results refer to fences by their position in the {@code List} or {@linkplain PointBuffer} of centers the grid was
+ * built from.
+ * </p>
+ *
+ * <p><strong>
+ * THIS IS HOBBYIST SOFTWARE.  THE AUTHOR HAS NO BACKGROUND IN, OR EVEN AN UNDERSTANDING OF, GEODESY, AND MERELY
+ * IMPLEMENTED FORMULAS FOUND ONLINE.  DON'T ENTRUST YOUR SAFETY TO THIS SOFTWARE.  NOW WOULD BE A GOOD TIME TO
+ * READ AND UNDERSTAND THE WAIVER PRESENT IN THIS SOFTWARE'S LICENSE.
+ * </strong></p>
+ */
+public final class GeofenceGrid {
+
+    /** The height of a row when none is specified:  about 28 km */
+    public static final double DEFAULT_CELL_DEGREES = 0.25d;
+
+    /** The smallest cell size.  Smaller cells would need too much memory for the cell table. */
+    public static final double MIN_CELL_DEGREES = 0.05d;
+
+    /** The largest cell size */
+    public static final double MAX_CELL_DEGREES = 90.0d;
+
+    /** The most fence entries the cells can hold in total */
+    private static final long MAX_ENTRIES = Integer.MAX_VALUE - 8;
+
+    /** Widens the bounding boxes so that rounding can never exclude a position the Haversine formula would include */
+    private static final double RELATIVE_SLACK = 1E-9;
+    private static final double ABSOLUTE_SLACK = 1E-12;
+
+    private static final double HALF_PI = Math.PI / 2.0d;
+    private static final double TWO_PI = 2.0d * Math.PI;
+
+    private final Unit unit;
+
+    /** Fence centers in radians, fence radii in {@code unit}, and the half-widths of the fences' bounding boxes */
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final double[] radii;
+    private final double[] latitudeReach;
+    private final double[] longitudeReach;
+
+    /** The height of a row, in radians */
+    private final double rowHeight;
+
+    /** For each row, the number of cells, the width of a cell in radians, and the index of the row's first cell */
+    private final int[] rowCells;
+    private final double[] cellWidths;
+    private final int[] rowOffsets;
+
+    /** The fences in cell {@code c} are {@code cellFences[cellStarts[c]]} up to {@code cellFences[cellStarts[c + 1]]} */
+    private final int[] cellStarts;
+    private final int[] cellFences;
+
+
+    private GeofenceGrid(final Unit unit, final double[] latitudes, final double[] longitudes, final double[] radii, final double cellDegrees) {
+        this.unit = unit;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.radii = radii;
+
+        final int size = latitudes.length;
+
+        latitudeReach = new double[size];
+        longitudeReach = new double[size];
+
+        for (int i = 0; i < size; i++) {
+            final double angle = unit.toKilometers(radii[i]) / EARTH_RADIUS_KILOMETERS * (1.0d + RELATIVE_SLACK) + ABSOLUTE_SLACK;
+
+            final double sinReach = Math.sin(angle) / Math.cos(latitudes[i]);
+
+            latitudeReach[i] = angle;
+
+            // A cap that contains a pole covers every longitude.  Otherwise its widest point is asin(sin(r) / cos(lat)).
+            // The ratio can round up to 1 for caps that almost reach a pole;  treat those as covering every longitude too.
+            longitudeReach[i] = angle >= HALF_PI - Math.abs(latitudes[i]) || !(sinReach < 1.0d)
+                ? Math.PI
+                : Math.min(Math.PI, Math.asin(sinReach) * (1.0d + RELATIVE_SLACK) + ABSOLUTE_SLACK);
+        }
+
+        final int rows = (int) Math.ceil(180.0d / cellDegrees);
+        final int maxCells = (int) Math.ceil(360.0d / cellDegrees);
+
+        rowHeight = Math.PI / rows;
+        rowCells = new int[rows];
+        cellWidths = new double[rows];
+        rowOffsets = new int[rows];
+
+        int totalCells = 0;
+
+        for (int row = 0; row < rows; row++) {
+            // The edge of the row nearest the equator is its widest
+            final double nearestEquator = Math.min(Math.abs(row * rowHeight - HALF_PI), Math.abs((row + 1) * rowHeight - HALF_PI));
+            final double widest = row * rowHeight < HALF_PI && (row + 1) * rowHeight > HALF_PI ? 0.0d : nearestEquator;
+
+            rowCells[row] = Math.max(1, Math.min(maxCells, (int) Math.ceil(maxCells * Math.cos(widest))));
+            cellWidths[row] = TWO_PI / rowCells[row];
+            rowOffsets[row] = totalCells;
+            totalCells += rowCells[row];
+        }
+
+        // Count each cell's fences, turn the counts into starting positions, then fill in the fences
+        cellStarts = new int[totalCells + 1];
+        long entries = 0;
+
+        for (int i = 0; i < size; i++) {
+            entries += forEachCell(i, null);
+            failIf(entries > MAX_ENTRIES, () -> "The fences cover too many cells.  Use larger cells.");
+        }
+
+        for (int cell = 0; cell < totalCells; cell++) {
+            cellStarts[cell + 1] += cellStarts[cell];
+        }
+
+        cellFences = new int[(int) entries];
+
+        final int[] next = new int[totalCells];
+        System.arraycopy(cellStarts, 0, next, 0, totalCells);
+
+        for (int i = 0; i < size; i++) {
+            forEachCell(i, next);
+        }
+    }
+
+    /**
+     * Builds a grid of fences with {@linkplain #DEFAULT_CELL_DEGREES default-sized} cells
+     *
+     * @param unit    The unit {@code radii} are expressed in
+     * @param centers The centers of the fences
+     * @param radii   The radii of the fences, in the same order as {@code centers}
+     * @return The grid
+     */
+    public static GeofenceGrid of(final Unit unit, final List<Point> centers, final double[] radii) {
+        return of(unit, centers, radii, DEFAULT_CELL_DEGREES);
+    }
+
+    /**
+     * Builds a grid of fences.  Smaller cells mean fewer fences to check per position, but more memory, and more
+     * entries for fences that cover several cells.  Cells about as large as a typical fence are a good start.
+     *
+     * @param unit        The unit {@code radii} are expressed in
+     * @param centers     The centers of the fences
+     * @param radii       The radii of the fences, in the same order as {@code centers}
+     * @param cellDegrees The height of a row of cells, in degrees of latitude
+     * @return The grid
+     */
+    public static GeofenceGrid of(final Unit unit, final List<Point> centers, final double[] radii, final double cellDegrees) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(centers == null, () -> "Centers are null");
+        checkArguments(centers.size(), radii, cellDegrees);
+
+        final double[] latitudes = new double[centers.size()];
+        final double[] longitudes = new double[centers.size()];
+        int i = 0;
+
+        for (final Point center : centers) {
+            failIf(center == null, "point %d is null", i);
+
+            latitudes[i] = center.latitude().toRadians();
+            longitudes[i] = center.longitude().toRadians();
+            i++;
+        }
+
+        return new GeofenceGrid(unit, latitudes, longitudes, radii.clone(), cellDegrees);
+    }
+
+    /**
+     * Builds a grid of fences with {@linkplain #DEFAULT_CELL_DEGREES default-sized} cells
+     *
+     * @param unit    The unit {@code radii} are expressed in
+     * @param centers The centers of the fences
+     * @param radii   The radii of the fences, in the same order as {@code centers}
+     * @return The grid
+     */
+    public static GeofenceGrid of(final Unit unit, final PointBuffer centers, final double[] radii) {
+        return of(unit, centers, radii, DEFAULT_CELL_DEGREES);
+    }
+
+    /**
+     * Builds a grid of fences.  See {@link #of(Unit, List, double[], double)}.
+     *
+     * @param unit        The unit {@code radii} are expressed in
+     * @param centers     The centers of the fences
+     * @param radii       The radii of the fences, in the same order as {@code centers}
+     * @param cellDegrees The height of a row of cells, in degrees of latitude
+     * @return The grid
+     */
+    public static GeofenceGrid of(final Unit unit, final PointBuffer centers, final double[] radii, final double cellDegrees) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(centers == null, () -> "Centers are null");
+        checkArguments(centers.size(), radii, cellDegrees);
+
+        final double[] latitudes = new double[centers.size()];
+        final double[] longitudes = new double[centers.size()];
+
+        for (int i = 0; i < latitudes.length; i++) {
+            latitudes[i] = centers.latitudeRadians(i);
+            longitudes[i] = centers.longitudeRadians(i);
+        }
+
+        return new GeofenceGrid(unit, latitudes, longitudes, radii.clone(), cellDegrees);
+    }
+
+    /**
+     * @return The number of fences in the grid
+     */
+    public int size() {
+        return latitudes.length;
+    }
+
+    /**
+     * Finds the fences that contain a position
+     *
+     * @param position    The position
+     * @param destination Receives the positions of the fences found, in ascending order.  If there are more than it
+     *                    can hold, the rest are counted but not stored.
+     * @return The number of fences that contain {@code position}, which may exceed {@code destination.length}
+     */
+    public int find(final Point position, final int[] destination) {
+        failIf(position == null, () -> "Position is null");
+        failIf(destination == null, () -> "Destination is null");
+
+        return findRadians(position.latitude().toRadians(), position.longitude().toRadians(), destination);
+    }
+
+    /**
+     * Finds the fences that contain a position.  See {@link #find(Point, int[])}.
+     *
+     * @param latitude    Signed decimal latitude.  Positive values are north; negative values are south.
+     * @param longitude   Signed decimal longitude.  Positive values are east; negative values are west.
+     * @param destination Receives the positions of the fences found, in ascending order
+     * @return The number of fences that contain the position, which may exceed {@code destination.length}
+     */
+    public int find(final double latitude, final double longitude, final int[] destination) {
+        failIf(!(Math.abs(latitude) <= Latitude.MAX_VALUE), Latitude::getRangeError);
+        failIf(!(Math.abs(longitude) <= Longitude.MAX_VALUE), Longitude::getRangeError);
+        failIf(destination == null, () -> "Destination is null");
+
+        return findRadians(Math.toRadians(latitude), Math.toRadians(longitude), destination);
+    }
+
+    private int findRadians(final double latitude, final double longitude, final int[] destination) {
+        final int row = row(latitude);
+        final int cell = rowOffsets[row] + column(row, longitude);
+        final int end = cellStarts[cell + 1];
+
+        int found = 0;
+
+        for (int entry = cellStarts[cell]; entry < end; entry++) {
+            final int fence = cellFences[entry];
+
+            if (contains(fence, latitude, longitude)) {
+                if (found < destination.length) {
+                    destination[found] = fence;
+                }
+
+                found++;
+            }
+        }
+
+        return found;
+    }
+
+    private boolean contains(final int fence, final double latitude, final double longitude) {
+        if (Math.abs(latitude - latitudes[fence]) > latitudeReach[fence]) {
+            return false;
+        }
+
+        double longitudeDifference = Math.abs(longitude - longitudes[fence]);
+
+        if (longitudeDifference > Math.PI) {
+            longitudeDifference = TWO_PI - longitudeDifference;
+        }
+
+        return longitudeDifference <= longitudeReach[fence] &&
+               DistanceCalculator.distanceRadians(unit, latitudes[fence], longitudes[fence], latitude, longitude) <= radii[fence];
+    }
+
+    /**
+     * Visits the cells covered by a fence's bounding box.  With no {@code next} array, the cells' fence counts are
+     * incremented;  otherwise the fence is stored at each cell's next free entry.
+     *
+     * @return The number of cells visited
+     */
+    private int forEachCell(final int fence, final int[] next) {
+        final int firstRow = row(Math.max(-HALF_PI, latitudes[fence] - latitudeReach[fence]));
+        final int lastRow = row(Math.min(HALF_PI, latitudes[fence] + latitudeReach[fence]));
+
+        int visited = 0;
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            final int cells = rowCells[row];
+            final int firstColumn, lastColumn;
+
+            if (longitudeReach[fence] >= Math.PI) {
+                firstColumn = 0;
+                lastColumn = cells - 1;
+            } else {
+                // May lie outside [0, cells) when the box crosses the 180th meridian;  wrapped below
+                final int first = (int) Math.floor((longitudes[fence] - longitudeReach[fence] + Math.PI) / cellWidths[row]);
+                final int last = (int) Math.floor((longitudes[fence] + longitudeReach[fence] + Math.PI) / cellWidths[row]);
+                final boolean everyColumn = last - first + 1 >= cells;
+
+                firstColumn = everyColumn ? 0 : first;
+                lastColumn = everyColumn ? cells - 1 : last;
+            }
+
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                final int cell = rowOffsets[row] + Math.floorMod(column, cells);
+
+                if (next == null) {
+                    cellStarts[cell + 1]++;
+                } else {
+                    cellFences[next[cell]++] = fence;
+                }
+
+                visited++;
+            }
+        }
+
+        return visited;
+    }
+
+    private int row(final double latitude) {
+        return Math.min(rowCells.length - 1, (int) ((latitude + HALF_PI) / rowHeight));
+    }
+
+    private int column(final int row, final double longitude) {
+        // +180 is the same meridian as -180, so it wraps around to the first cell
+        final int column = (int) ((longitude + Math.PI) / cellWidths[row]);
+
+        return column >= rowCells[row] ? column - rowCells[row] : column;
+    }
+
+    private static void checkArguments(final int size, final double[] radii, final double cellDegrees) {
+        failIf(radii == null, () -> "Radii are null");
+        failIf(radii.length != size, () -> "There must be one radius per center");
+        failIf(!(cellDegrees >= MIN_CELL_DEGREES && cellDegrees <= MAX_CELL_DEGREES),
+               () -> "Cell size must be between %s and %s degrees".formatted(MIN_CELL_DEGREES, MAX_CELL_DEGREES));
+
+        for (int i = 0; i < size; i++) {
+            failIf(!(radii[i] >= 0.0d), "radius %d is negative", i);
+        }
+    }
+}
@@ -0,0 +1,570 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+import org.loverde.geographiccoordinate.calculator.PointBuffer;
+
+import static org.loverde.geographiccoordinate.calculator.DistanceCalculator.EARTH_RADIUS_KILOMETERS;
+import static org.loverde.geographiccoordinate.internal.Objects.failIf;
+
+
+/**
+ * <p>
+ * An immutable index of points which answers "which points are within this distance of X?" and "which are the k
+ * points nearest to X?" without measuring the distance to every point.
+ * </p>
+ *
+ * <p>
+ * Each point is stored as a unit vector from the center of the Earth, and the vectors are arranged in a k-d tree:  the
+ * points are split at the median of whichever of x, y or z varies the most, then each half is split the same way, and
+ * so on.  The tree is implicit - it is nothing more than the order of the points in a handful of arrays - so it has
+ * no per-node objects.  Because the vectors live in ordinary 3-dimensional space, there are no special cases at the
+ * poles or the 180th meridian.
+ * </p>
+ *
+ * <p>
+ * The straight-line (chord) distance between two unit vectors grows with the distance over the Earth's surface, so
+ * whole branches of the tree can be skipped by comparing a single coordinate to the chord that corresponds to the
+ * search radius.  Points that survive this cheap test are then measured with the Haversine formula, exactly as
+ * {@linkplain DistanceCalculator} does, and that measurement decides whether they are included.
+ * </p>
+ *
+ * <p>
+ * Results refer to points by their position in the {@code List} or {@linkplain PointBuffer} the index was built from.
+ * </p>
+ *
+ * <p><strong>
+ * THIS IS HOBBYIST SOFTWARE.  THE AUTHOR HAS NO BACKGROUND IN, OR EVEN AN UNDERSTANDING OF, GEODESY, AND MERELY
+ * IMPLEMENTED FORMULAS FOUND ONLINE.  DON'T ENTRUST YOUR SAFETY TO THIS SOFTWARE.  NOW WOULD BE A GOOD TIME TO
+ * READ AND UNDERSTAND THE WAIVER PRESENT IN THIS SOFTWARE'S LICENSE.
+ * </strong></p>
+ */
+public final class SpatialIndex {
+
+    /** Ranges of this many points or fewer are not split any further */
+    static final int LEAF_SIZE = 8;
+
+    /**
+     * Widens the chord tests so that rounding in the unit vectors can never exclude a point the Haversine formula
+     * would include
+     */
+    private static final double RELATIVE_SLACK = 1E-9;
+    private static final double ABSOLUTE_SLACK = 1E-14;
+
+    /** Unit vectors, in tree order */
+    private final double[] x;
+    private final double[] y;
+    private final double[] z;
+
+    /** Coordinates in radians, in tree order */
+    private final double[] latitudes;
+    private final double[] longitudes;
+
+    /** The original position of each point, in tree order */
+    private final int[] positions;
+
+    /** The axis (0 = x, 1 = y, 2 = z) each range was split on, stored at the range's median */
+    private final byte[] axes;
+
+
+    private SpatialIndex(final int size) {
+        x = new double[size];
+        y = new double[size];
+        z = new double[size];
+        latitudes = new double[size];
+        longitudes = new double[size];
+        positions = new int[size];
+        axes = new byte[size];
+    }
+
+    /**
+     * Builds an index over a list of points
+     *
+     * @param points The points to index
+     * @return The index
+     */
+    public static SpatialIndex of(final List<Point> points) {
+        failIf(points == null, () -> "Points are null");
+
+        final SpatialIndex index = new SpatialIndex(points.size());
+        int i = 0;
+
+        for (final Point point : points) {
+            failIf(point == null, "point %d is null", i);
+
+            index.set(i++, point.latitude().toRadians(), point.longitude().toRadians());
+        }
+
+        index.build(0, i);
+
+        return index;
+    }
+
+    /**
+     * Builds an index over the points in a {@linkplain PointBuffer}
+     *
+     * @param points The points to index
+     * @return The index
+     */
+    public static SpatialIndex of(final PointBuffer points) {
+        failIf(points == null, () -> "Points are null");
+
+        final SpatialIndex index = new SpatialIndex(points.size());
+
+        for (int i = 0; i < points.size(); i++) {
+            index.set(i, points.latitudeRadians(i), points.longitudeRadians(i));
+        }
+
+        index.build(0, points.size());
+
+        return index;
+    }
+
+    /**
+     * @return The number of points in the index
+     */
+    public int size() {
+        return positions.length;
+    }
+
+    /**
+     * Finds every point within a distance of {@code center}
+     *
+     * @param unit   The unit {@code radius} is expressed in
+     * @param center The center of the search
+     * @param radius The greatest distance from {@code center}, inclusive, expressed in terms of {@code unit}
+     * @return The positions of the points found, in ascending order
+     */
+    public int[] withinRadius(final Unit unit, final Point center, final double radius) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(center == null, () -> "Center is null");
+        failIf(!(radius >= 0.0d), () -> "Radius is negative");
+
+        final Search search = new Search(center, unit);
+        final RadiusResults results = new RadiusResults(radius);
+
+        if (size() > 0) {
+            search.radius(0, size(), chordBound(unit.toKilometers(radius)), results);
+        }
+
+        final int[] found = Arrays.copyOf(results.positions, results.size);
+        Arrays.sort(found);
+
+        return found;
+    }
+
+    /**
+     * Finds the points nearest to {@code center}
+     *
+     * @param unit   The unit the returned distances will be expressed in
+     * @param center The center of the search
+     * @param k      The number of points to find
+     * @return Up to {@code k} points, nearest first.  Points at the same distance are ordered by position.
+     */
+    public List<Neighbor> nearest(final Unit unit, final Point center, final int k) {
+        failIf(unit == null, () -> "Unit is null");
+        failIf(center == null, () -> "Center is null");
+        failIf(k < 1, () -> "k must be at least 1");
+
+        final Search search = new Search(center, unit);
+        final NearestResults results = new NearestResults(Math.min(k, size()));
+
+        if (size() > 0) {
+            search.nearest(0, size(), results);
+        }
+
+        final List<Neighbor> neighbors = new ArrayList<>(results.size);
+
+        for (int i = 0; i < results.size; i++) {
+            neighbors.add(new Neighbor(results.positions[i], results.distances[i]));
+        }
+
+        neighbors.sort(Comparator.comparingDouble(Neighbor::distance).thenComparingInt(Neighbor::index));
+
+        return neighbors;
+    }
+
+    /**
+     * @param kilometers A distance over the Earth's surface
+     * @return The squared chord between two points that distance apart, widened to allow for rounding
+     */
+    static double chordBound(final double kilometers) {
+        final double angle = kilometers / EARTH_RADIUS_KILOMETERS;
+
+        if (angle >= Math.PI) {
+            return Double.POSITIVE_INFINITY;
+        }
+
+        final double chord = 2.0d * Math.sin(angle / 2.0d);
+
+        return chord * chord * (1.0d + RELATIVE_SLACK) + ABSOLUTE_SLACK;
+    }
+
+    private void set(final int i, final double latitude, final double longitude) {
+        final double cosLatitude = Math.cos(latitude);
+
+        x[i] = cosLatitude * Math.cos(longitude);
+        y[i] = cosLatitude * Math.sin(longitude);
+        z[i] = Math.sin(latitude);
+        latitudes[i] = latitude;
+        longitudes[i] = longitude;
+        positions[i] = i;
+    }
+
+    private double[] coordinates(final int axis) {
+        return switch (axis) {
+            case 0 -> x;
+            case 1 -> y;
+            default -> z;
+        };
+    }
+
+    private void build(final int fromIndex, final int toIndex) {
+        if (toIndex - fromIndex <= LEAF_SIZE) {
+            return;
+        }
+
+        final int axis = widestAxis(fromIndex, toIndex);
+        final int median = (fromIndex + toIndex) >>> 1;
+
+        select(coordinates(axis), fromIndex, toIndex - 1, median);
+        axes[median] = (byte) axis;
+
+        build(fromIndex, median);
+        build(median + 1, toIndex);
+    }
+
+    private int widestAxis(final int fromIndex, final int toIndex) {
+        int widest = 0;
+        double widestSpread = -1.0d;
+
+        for (int axis = 0; axis < 3; axis++) {
+            final double[] values = coordinates(axis);
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+
+            for (int i = fromIndex; i < toIndex; i++) {
+                min = Math.min(min, values[i]);
+                max = Math.max(max, values[i]);
+            }
+
+            if (max - min > widestSpread) {
+                widest = axis;
+                widestSpread = max - min;
+            }
+        }
+
+        return widest;
+    }
+
+    /**
+     * Hoare's selection algorithm:  rearranges points {@code left} through {@code right} (inclusive) so that the point
+     * at {@code k} is where it would be if they were sorted by {@code values}, with no greater value before it and no
+     * lesser value after it
+     */
+    private void select(final double[] values, int left, int right, final int k) {
+        while (right > left) {
+            final int middle = (left + right) >>> 1;
+
+            // Median of three, which keeps sorted input from degrading to quadratic time
+            if (values[middle] < values[left]) {
+                swap(middle, left);
+            }
+
+            if (values[right] < values[left]) {
+                swap(right, left);
+            }
+
+            if (values[right] < values[middle]) {
+                swap(right, middle);
+            }
+
+            final double pivot = values[middle];
+            int i = left;
+            int j = right;
+
+            while (i <= j) {
+                while (values[i] < pivot) {
+                    i++;
+                }
+
+                while (values[j] > pivot) {
+                    j--;
+                }
+
+                if (i <= j) {
+                    swap(i++, j--);
+                }
+            }
+
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void swap(final int i, final int j) {
+        swap(x, i, j);
+        swap(y, i, j);
+        swap(z, i, j);
+        swap(latitudes, i, j);
+        swap(longitudes, i, j);
+
+        final int position = positions[i];
+        positions[i] = positions[j];
+        positions[j] = position;
+    }
+
+    private static void swap(final double[] values, final int i, final int j) {
+        final double value = values[i];
+        values[i] = values[j];
+        values[j] = value;
+    }
+
+    /**
+     * The state of one query
+     */
+    private final class Search {
+        private final Unit unit;
+        private final double latitude;
+        private final double longitude;
+        private final double[] center;
+
+        private Search(final Point point, final Unit unit) {
+            this.unit = unit;
+
+            latitude = point.latitude().toRadians();
+            longitude = point.longitude().toRadians();
+
+            final double cosLatitude = Math.cos(latitude);
+            center = new double[] { cosLatitude * Math.cos(longitude), cosLatitude * Math.sin(longitude), Math.sin(latitude) };
+        }
+
+        private double squaredChord(final int i) {
+            final double dx = center[0] - x[i],
+                         dy = center[1] - y[i],
+                         dz = center[2] - z[i];
+
+            return dx * dx + dy * dy + dz * dz;
+        }
+
+        private double distance(final int i) {
+            return DistanceCalculator.distanceRadians(unit, latitude, longitude, latitudes[i], longitudes[i]);
+        }
+
+        private void radius(final int fromIndex, final int toIndex, final double bound, final RadiusResults results) {
+            if (toIndex - fromIndex <= LEAF_SIZE) {
+                for (int i = fromIndex; i < toIndex; i++) {
+                    visitRadius(i, bound, results);
+                }
+
+                return;
+            }
+
+            final int median = (fromIndex + toIndex) >>> 1;
+            final int axis = axes[median];
+            final double offset = center[axis] - coordinates(axis)[median];
+
+            visitRadius(median, bound, results);
+
+            if (offset <= 0.0d || offset * offset <= bound) {
+                radius(fromIndex, median, bound, results);
+            }
+
+            if (offset >= 0.0d || offset * offset <= bound) {
+                radius(median + 1, toIndex, bound, results);
+            }
+        }
+
+        private void visitRadius(final int i, final double bound, final RadiusResults results) {
+            if (squaredChord(i) <= bound && distance(i) <= results.radius) {
+                results.add(positions[i]);
+            }
+        }
+
+        private void nearest(final int fromIndex, final int toIndex, final NearestResults results) {
+            if (toIndex - fromIndex <= LEAF_SIZE) {
+                for (int i = fromIndex; i < toIndex; i++) {
+                    visitNearest(i, results);
+                }
+
+                return;
+            }
+
+            final int median = (fromIndex + toIndex) >>> 1;
+            final int axis = axes[median];
+            final double offset = center[axis] - coordinates(axis)[median];
+
+            visitNearest(median, results);
+
+            // Search the side the center is on first, so the far side is more likely to be skipped
+            if (offset <= 0.0d) {
+                nearest(fromIndex, median, results);
+
+                if (offset * offset <= results.bound) {
+                    nearest(median + 1, toIndex, results);
+                }
+            } else {
+                nearest(median + 1, toIndex, results);
+
+                if (offset * offset <= results.bound) {
+                    nearest(fromIndex, median, results);
+                }
+            }
+        }
+
+        private void visitNearest(final int i, final NearestResults results) {
+            if (squaredChord(i) <= results.bound) {
+                if (results.offer(positions[i], distance(i))) {
+                    results.bound = results.isFull() ? chordBound(unit.toKilometers(results.worstDistance())) : Double.POSITIVE_INFINITY;
+                }
+            }
+        }
+    }
+
+    private static final class RadiusResults {
+        private final double radius;
+        private int[] positions = new int[16];
+        private int size;
+
+        private RadiusResults(final double radius) {
+            this.radius = radius;
+        }
+
+        private void add(final int position) {
+            if (size == positions.length) {
+                positions = Arrays.copyOf(positions, size * 2);
+            }
+
+            positions[size++] = position;
+        }
+    }
+
+    /**
+     * A bounded max-heap of the best points found so far.  The root is the worst of them:  the farthest, and of
+     * equally far points, the one with the highest position.
+     */
+    private static final class NearestResults {
+        private final int[] positions;
+        private final double[] distances;
+        private int size;
+
+        /** Squared chords greater than this can't improve the results */
+        private double bound = Double.POSITIVE_INFINITY;
+
+        private NearestResults(final int capacity) {
+            positions = new int[capacity];
+            distances = new double[capacity];
+        }
+
+        private boolean isFull() {
+            return size == positions.length;
+        }
+
+        private double worstDistance() {
+            return distances[0];
+        }
+
+        /**
+         * @return {@code true} if the point was added
+         */
+        private boolean offer(final int position, final double distance) {
+            if (!isFull()) {
+                int i = size++;
+
+                while (i > 0) {
+                    final int parent = (i - 1) >>> 1;
+
+                    if (!isWorse(position, distance, positions[parent], distances[parent])) {
+                        break;
+                    }
+
+                    positions[i] = positions[parent];
+                    distances[i] = distances[parent];
+                    i = parent;
+                }
+
+                positions[i] = position;
+                distances[i] = distance;
+
+                return true;
+            }
+
+            if (!isWorse(positions[0], distances[0], position, distance)) {
+                return false;
+            }
+
+            int i = 0;
+
+            while (true) {
+                final int left = 2 * i + 1;
+
+                if (left >= size) {
+                    break;
+                }
+
+                final int right = left + 1;
+                final int worse = right < size && isWorse(positions[right], distances[right], positions[left], distances[left]) ? right : left;
+
+                if (!isWorse(positions[worse], distances[worse], position, distance)) {
+                    break;
+                }
+
+                positions[i] = positions[worse];
+                distances[i] = distances[worse];
+                i = worse;
+            }
+
+            positions[i] = position;
+            distances[i] = distance;
+
+            return true;
+        }
+
+        private static boolean isWorse(final int position1, final double distance1, final int position2, final double distance2) {
+            return distance1 > distance2 || (distance1 == distance2 && position1 > position2);
+        }
+    }
+}
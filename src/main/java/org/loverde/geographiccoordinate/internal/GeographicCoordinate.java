@@ -33,9 +33,7 @@
 
 package org.loverde.geographiccoordinate.internal;
 
-import java.text.DecimalFormat;
-import java.text.DecimalFormatSymbols;
-import java.util.Locale;
+import org.loverde.geographiccoordinate.text.CoordinateFormatter;
 
 
 public interface GeographicCoordinate {
@@ -60,14 +58,6 @@ public interface GeographicCoordinate {
      * @return String representation of this object
      */
     default String toDmsString() {
-        final DecimalFormat fmt = new DecimalFormat("0", DecimalFormatSymbols.getInstance(Locale.US));
-        fmt.setMaximumFractionDigits(15);
-
-        return String.format(Locale.US,
-            "%d°%d'%s\"%s",
-            degrees(),
-            minutes(),
-            fmt.format(seconds()),
-            direction().getAbbreviation());
+        return CoordinateFormatter.appendDms(new StringBuilder(32), this, CoordinateFormatter.DEFAULT_PRECISION).toString();
     }
 }
@@ -1,5 +1,6 @@
 package org.loverde.geographiccoordinate.internal;
 
+import java.math.BigDecimal;
 import java.util.function.Supplier;
 
 
@@ -26,4 +27,43 @@ public class Objects {
             throw new IllegalArgumentException(iaeMessage);
         }
     }
+
+    /**
+     * Shorthand for IF statements that throw IllegalArgumentException.  The message is only formatted if the check
+     * fails, and no lambda is needed to defer it.
+     * @param isFailed The result of the check
+     * @param iaeMessageFormat Exception message format string with one placeholder
+     * @param value The value of the placeholder
+     */
+    public static void failIf(final boolean isFailed, final String iaeMessageFormat, final double value) {
+        if (isFailed) {
+            throw new IllegalArgumentException(iaeMessageFormat.formatted(value));
+        }
+    }
+
+    /**
+     * Shorthand for IF statements that throw IllegalArgumentException.  Use it inside loops:  the message is only
+     * formatted if the check fails, and nothing is allocated if it passes.
+     * @param isFailed The result of the check
+     * @param iaeMessageFormat Exception message format string with one placeholder, usually {@code %d}
+     * @param index The value of the placeholder, usually the index being checked
+     */
+    public static void failIf(final boolean isFailed, final String iaeMessageFormat, final long index) {
+        if (isFailed) {
+            throw new IllegalArgumentException(iaeMessageFormat.formatted(index));
+        }
+    }
+
+    /**
+     * Shorthand for IF statements that throw IllegalArgumentException.  The message is only formatted if the check
+     * fails, and no lambda is needed to defer it.
+     * @param isFailed The result of the check
+     * @param iaeMessageFormat Exception message format string with one placeholder
+     * @param value The value of the placeholder, which is formatted with {@linkplain BigDecimal#toPlainString()}
+     */
+    public static void failIf(final boolean isFailed, final String iaeMessageFormat, final BigDecimal value) {
+        if (isFailed) {
+            throw new IllegalArgumentException(iaeMessageFormat.formatted(value.toPlainString()));
+        }
+    }
 }
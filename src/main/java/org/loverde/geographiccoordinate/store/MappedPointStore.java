@@ -0,0 +1,486 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.store;
+
+import org.loverde.geographiccoordinate.PackedPoint;
+import org.loverde.geographiccoordinate.Point;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+import static org.loverde.geographiccoordinate.internal.Objects.failIf;
+
+
+/**
+ * <p>
+ * A file of fixed-width point records, accessed through memory mapping so that the points stay off the heap.  Each
+ * record holds a {@linkplain PackedPoint packed point} and, if the store was created with them, a timestamp and an id.
+ * Because records have a fixed width, record {@code i} is found by arithmetic alone, and reopening a store is
+ * immediate:  nothing is parsed, and pages are only read from disk when they're touched.
+ * </p>
+ *
+ * <p>
+ * The file starts with a {@value #HEADER_SIZE}-byte header (a magic number, the format version, which fields the
+ * records hold, the record width and the number of records), followed by the records.  All values are big-endian.
+ * The file is mapped in chunks of up to {@code 2^25} records, since a single mapping can't exceed 2 GB; a store can
+ * hold any number of records the file system allows.  The last chunk's mapping grows as records are appended, and the
+ * file is trimmed to its records when the store is closed.
+ * </p>
+ *
+ * <p>
+ * This class is not thread-safe.  A store that is no longer being appended to can be read by any number of threads.
+ * </p>
+ */
+public final class MappedPointStore implements Closeable {
+
+    /** The optional fields a record can hold */
+    public enum Field {
+        /** A {@code long} timestamp, in whatever unit the application chooses */
+        TIMESTAMP(1),
+
+        /** A {@code long} identifier */
+        ID(2);
+
+        private final int flag;
+
+        Field(final int flag) {
+            this.flag = flag;
+        }
+    }
+
+    /** Receives records from {@link #forEach(long, long, Visitor)} */
+    @FunctionalInterface
+    public interface Visitor {
+        /**
+         * @param index       The record's index
+         * @param packedPoint The record's point
+         * @param timestamp   The record's timestamp, or 0 if the store has none
+         * @param id          The record's id, or 0 if the store has none
+         */
+        void visit(long index, long packedPoint, long timestamp, long id);
+    }
+
+    /** The size of the file header, in bytes */
+    public static final int HEADER_SIZE = 32;
+
+    static final int DEFAULT_CHUNK_BITS = 25;
+
+    private static final int MAGIC = 0x47435053;  // "GCPS"
+    private static final int VERSION = 1;
+
+    private static final int VERSION_OFFSET = 4;
+    private static final int FLAGS_OFFSET = 8;
+    private static final int RECORD_SIZE_OFFSET = 12;
+    private static final int COUNT_OFFSET = 16;
+
+    /** The fewest records a chunk is mapped with while the store is growing */
+    private static final long MIN_MAPPED_RECORDS = 1024;
+
+    private final FileChannel channel;
+    private final boolean readOnly;
+    private final int flags;
+    private final int recordSize;
+    private final int chunkBits;
+    private final long chunkMask;
+    private final MappedByteBuffer header;
+
+    private MappedByteBuffer[] chunks = new MappedByteBuffer[4];
+
+    /** The number of records the current mappings have room for */
+    private long capacity;
+
+    private long size;
+
+    private boolean closed;
+
+
+    private MappedPointStore(final FileChannel channel, final boolean readOnly, final int flags, final int chunkBits) throws IOException {
+        this.channel = channel;
+        this.readOnly = readOnly;
+        this.flags = flags;
+        this.chunkBits = chunkBits;
+
+        recordSize = recordSize(flags);
+        chunkMask = (1L << chunkBits) - 1;
+        header = channel.map(readOnly ? MapMode.READ_ONLY : MapMode.READ_WRITE, 0, HEADER_SIZE);
+    }
+
+    /**
+     * Creates a new store, replacing any existing file
+     *
+     * @param path   The file
+     * @param fields The optional fields each record holds
+     * @return The store, open for appending
+     * @throws IOException If the file can't be created
+     */
+    public static MappedPointStore create(final Path path, final Field... fields) throws IOException {
+        return create(path, DEFAULT_CHUNK_BITS, fields);
+    }
+
+    static MappedPointStore create(final Path path, final int chunkBits, final Field... fields) throws IOException {
+        failIf(path == null, () -> "Path is null");
+        failIf(fields == null, () -> "Fields are null");
+
+        final Set<Field> fieldSet = fields.length == 0 ? EnumSet.noneOf(Field.class) : EnumSet.copyOf(Arrays.asList(fields));
+        int flags = 0;
+
+        for (final Field field : fieldSet) {
+            flags |= field.flag;
+        }
+
+        final FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                                                     StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            final MappedPointStore store = new MappedPointStore(channel, false, flags, chunkBits);
+
+            store.header.putInt(0, MAGIC)
+                        .putInt(VERSION_OFFSET, VERSION)
+                        .putInt(FLAGS_OFFSET, flags)
+                        .putInt(RECORD_SIZE_OFFSET, store.recordSize)
+                        .putLong(COUNT_OFFSET, 0L);
+
+            return store;
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens an existing store for reading and appending
+     *
+     * @param path The file
+     * @return The store
+     * @throws IOException If the file can't be opened or isn't a point store
+     */
+    public static MappedPointStore open(final Path path) throws IOException {
+        return open(path, false, DEFAULT_CHUNK_BITS);
+    }
+
+    /**
+     * Opens an existing store for reading only
+     *
+     * @param path The file
+     * @return The store
+     * @throws IOException If the file can't be opened or isn't a point store
+     */
+    public static MappedPointStore openReadOnly(final Path path) throws IOException {
+        return open(path, true, DEFAULT_CHUNK_BITS);
+    }
+
+    static MappedPointStore open(final Path path, final boolean readOnly, final int chunkBits) throws IOException {
+        failIf(path == null, () -> "Path is null");
+
+        final FileChannel channel = readOnly
+            ? FileChannel.open(path, StandardOpenOption.READ)
+            : FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        try {
+            if (channel.size() < HEADER_SIZE) {
+                throw new IOException("Not a point store:  %s".formatted(path));
+            }
+
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            channel.read(header, 0);
+
+            final int flags = header.getInt(FLAGS_OFFSET);
+            final long count = header.getLong(COUNT_OFFSET);
+
+            if (header.getInt(0) != MAGIC) {
+                throw new IOException("Not a point store:  %s".formatted(path));
+            }
+
+            if (header.getInt(VERSION_OFFSET) != VERSION) {
+                throw new IOException("Unsupported point store version %d:  %s".formatted(header.getInt(VERSION_OFFSET), path));
+            }
+
+            if (header.getInt(RECORD_SIZE_OFFSET) != recordSize(flags) || count < 0 || channel.size() < HEADER_SIZE + count * recordSize(flags)) {
+                throw new IOException("Point store is corrupt:  %s".formatted(path));
+            }
+
+            final MappedPointStore store = new MappedPointStore(channel, readOnly, flags, chunkBits);
+
+            store.ensureCapacity(count);
+            store.size = count;
+
+            return store;
+        } catch (final IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * @return The number of records
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * @return {@code true} if the records hold timestamps
+     */
+    public boolean hasTimestamps() {
+        return (flags & Field.TIMESTAMP.flag) != 0;
+    }
+
+    /**
+     * @return {@code true} if the records hold ids
+     */
+    public boolean hasIds() {
+        return (flags & Field.ID.flag) != 0;
+    }
+
+    /**
+     * Appends a record with a timestamp and id of 0
+     *
+     * @param packedPoint A {@linkplain PackedPoint packed point}
+     * @return The new record's index
+     * @throws IOException If the file can't be extended
+     */
+    public long append(final long packedPoint) throws IOException {
+        return append(packedPoint, 0L, 0L);
+    }
+
+    /**
+     * Appends a record
+     *
+     * @param packedPoint A {@linkplain PackedPoint packed point}
+     * @param timestamp   The record's timestamp.  Ignored if the store has no timestamps.
+     * @param id          The record's id.  Ignored if the store has no ids.
+     * @return The new record's index
+     * @throws IOException If the file can't be extended
+     */
+    public long append(final long packedPoint, final long timestamp, final long id) throws IOException {
+        checkOpen();
+        failIf(readOnly, () -> "Store is read-only");
+        failIf(!PackedPoint.isValid(packedPoint), () -> "Point is out of range");
+
+        ensureCapacity(size + 1);
+
+        final MappedByteBuffer chunk = chunks[(int) (size >>> chunkBits)];
+        final int offset = (int) (size & chunkMask) * recordSize;
+
+        chunk.putLong(offset, packedPoint);
+
+        if (hasTimestamps()) {
+            chunk.putLong(offset + Long.BYTES, timestamp);
+        }
+
+        if (hasIds()) {
+            chunk.putLong(offset + recordSize - Long.BYTES, id);
+        }
+
+        header.putLong(COUNT_OFFSET, ++size);
+
+        return size - 1;
+    }
+
+    /**
+     * Appends a record with a timestamp and id of 0.  The point is rounded to the nearest ten-millionth of a degree.
+     *
+     * @param point The point
+     * @return The new record's index
+     * @throws IOException If the file can't be extended
+     */
+    public long append(final Point point) throws IOException {
+        return append(PackedPoint.pack(point));
+    }
+
+    /**
+     * @param index The record's index
+     * @return The record's {@linkplain PackedPoint packed point}
+     */
+    public long packedPoint(final long index) {
+        checkOpen();
+        Objects.checkIndex(index, size);
+
+        return chunks[(int) (index >>> chunkBits)].getLong((int) (index & chunkMask) * recordSize);
+    }
+
+    /**
+     * @param index The record's index
+     * @return The record's point
+     */
+    public Point point(final long index) {
+        return PackedPoint.toPoint(packedPoint(index));
+    }
+
+    /**
+     * @param index The record's index
+     * @return The record's timestamp
+     */
+    public long timestamp(final long index) {
+        failIf(!hasTimestamps(), () -> "Store has no timestamps");
+
+        return field(index, Long.BYTES);
+    }
+
+    /**
+     * @param index The record's index
+     * @return The record's id
+     */
+    public long id(final long index) {
+        failIf(!hasIds(), () -> "Store has no ids");
+
+        return field(index, recordSize - Long.BYTES);
+    }
+
+    /**
+     * Passes a range of records to {@code visitor}, in order
+     *
+     * @param fromIndex Index of the first record (inclusive)
+     * @param toIndex   Index of the last record (exclusive)
+     * @param visitor   Receives the records
+     */
+    public void forEach(final long fromIndex, final long toIndex, final Visitor visitor) {
+        checkOpen();
+        Objects.checkFromToIndex(fromIndex, toIndex, size);
+        failIf(visitor == null, () -> "Visitor is null");
+
+        final boolean timestamps = hasTimestamps(),
+                      ids = hasIds();
+
+        long index = fromIndex;
+
+        while (index < toIndex) {
+            final MappedByteBuffer chunk = chunks[(int) (index >>> chunkBits)];
+            final long chunkEnd = Math.min(toIndex, (index | chunkMask) + 1);
+
+            for (int offset = (int) (index & chunkMask) * recordSize; index < chunkEnd; index++, offset += recordSize) {
+                visitor.visit(index,
+                              chunk.getLong(offset),
+                              timestamps ? chunk.getLong(offset + Long.BYTES) : 0L,
+                              ids ? chunk.getLong(offset + recordSize - Long.BYTES) : 0L);
+            }
+        }
+    }
+
+    /**
+     * Writes appended records to the storage device
+     */
+    public void flush() {
+        checkOpen();
+
+        if (!readOnly) {
+            for (final MappedByteBuffer chunk : chunks) {
+                if (chunk != null) {
+                    chunk.force();
+                }
+            }
+
+            header.force();
+        }
+    }
+
+    /**
+     * Flushes the store, trims the file to its records and closes it.  Does nothing if the store is already closed.
+     *
+     * @throws IOException If the file can't be trimmed or closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+
+        try {
+            flush();
+            closed = true;
+            chunks = null;
+
+            if (!readOnly) {
+                // Some platforms won't shrink a file that's still mapped.  The header's count is what matters, so the
+                // extra space is harmless.
+                try {
+                    channel.truncate(HEADER_SIZE + size * recordSize);
+                } catch (final IOException e) {
+                    // Leave the file as it is
+                }
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    private long field(final long index, final int fieldOffset) {
+        checkOpen();
+        Objects.checkIndex(index, size);
+
+        return chunks[(int) (index >>> chunkBits)].getLong((int) (index & chunkMask) * recordSize + fieldOffset);
+    }
+
+    private void ensureCapacity(final long records) throws IOException {
+        final long chunkRecords = 1L << chunkBits;
+
+        while (capacity < records) {
+            final int chunk = (int) (capacity >>> chunkBits);
+            final long chunkStart = (long) chunk << chunkBits;
+            final long mapped = capacity - chunkStart;
+
+            // A read-only mapping can't extend the file, so map exactly what's there
+            final long grown = readOnly
+                ? Math.min(chunkRecords, records - chunkStart)
+                : Math.min(chunkRecords, Math.max(Math.max(MIN_MAPPED_RECORDS, mapped * 2), records - chunkStart));
+
+            if (chunk == chunks.length) {
+                chunks = Arrays.copyOf(chunks, chunks.length * 2);
+            }
+
+            chunks[chunk] = channel.map(readOnly ? MapMode.READ_ONLY : MapMode.READ_WRITE,
+                                        HEADER_SIZE + chunkStart * recordSize, grown * recordSize);
+            capacity = chunkStart + grown;
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Store is closed");
+        }
+    }
+
+    private static int recordSize(final int flags) {
+        return Long.BYTES * (1 + Integer.bitCount(flags & (Field.TIMESTAMP.flag | Field.ID.flag)));
+    }
+}
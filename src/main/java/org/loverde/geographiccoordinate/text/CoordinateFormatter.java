@@ -0,0 +1,551 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.text;
+
+import org.loverde.geographiccoordinate.internal.GeographicCoordinate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+import static org.loverde.geographiccoordinate.internal.Objects.failIf;
+
+
+/**
+ * <p>
+ * Writes coordinates as text into a caller-supplied {@linkplain StringBuilder}, {@linkplain Appendable} or
+ * {@code byte} array, without allocating.  Degrees/minutes/seconds are written as {@code 30°59'40.912"N}, and decimal
+ * values as plain digits with an optional minus sign.  Bytes are written as UTF-8.
+ * </p>
+ *
+ * <p>
+ * Decimal values (the seconds, in the DMS form) have at most {@code precision} fraction digits, and never have
+ * trailing zeros.  The output is identical to a {@linkplain java.text.DecimalFormat} with pattern {@code "0"}, US
+ * symbols and {@code precision} maximum fraction digits:  the shortest digits that identify the {@code double} are
+ * used if they fit, and otherwise the value is rounded half-even.
+ * </p>
+ */
+public final class CoordinateFormatter {
+
+    /** The precision used by {@linkplain GeographicCoordinate#toDmsString()} */
+    public static final int DEFAULT_PRECISION = 15;
+
+    /** The largest number of fraction digits that can be requested */
+    public static final int MAX_PRECISION = 17;
+
+    /** The most bytes {@linkplain #writeDms(byte[], int, GeographicCoordinate, int)} can write */
+    public static final int MAX_DMS_BYTES = 34;
+
+    /** The most bytes {@linkplain #writeDecimal(byte[], int, double, int)} can write */
+    public static final int MAX_DECIMAL_BYTES = 350;
+
+    private static final long[] POWERS_OF_TEN = {
+        1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+        10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+        1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L
+    };
+
+    /** Values handled with integer arithmetic must be at least this large... */
+    private static final double MIN_FAST = 0x1p-60;
+
+    /** ...and, once scaled, smaller than this, so that the digits and their count fit in one {@code long} */
+    private static final double MAX_FAST_SCALED = 0x1p58;
+
+    private static final int PRECISION_SHIFT = 58;
+    private static final long DIGITS_MASK = (1L << PRECISION_SHIFT) - 1;
+
+    /** Returned by {@linkplain #toFixed(double, int)} when the value needs {@linkplain BigDecimal} */
+    private static final long SLOW = -1L;
+
+
+    private CoordinateFormatter() {
+    }
+
+    /**
+     * Appends a coordinate in degrees/minutes/seconds form, as {@linkplain GeographicCoordinate#toDmsString()} would
+     *
+     * @param destination Receives the text
+     * @param coordinate  The coordinate
+     * @param precision   The most fraction digits the seconds can have, from 0 to {@value #MAX_PRECISION}
+     * @return {@code destination}
+     */
+    public static StringBuilder appendDms(final StringBuilder destination, final GeographicCoordinate coordinate, final int precision) {
+        try {
+            appendDms((Appendable) destination, coordinate, precision);
+        } catch (final IOException e) {
+            throw new AssertionError(e);  // StringBuilder doesn't throw
+        }
+
+        return destination;
+    }
+
+    /**
+     * Appends a coordinate in degrees/minutes/seconds form, as {@linkplain GeographicCoordinate#toDmsString()} would
+     *
+     * @param destination Receives the text
+     * @param coordinate  The coordinate
+     * @param precision   The most fraction digits the seconds can have, from 0 to {@value #MAX_PRECISION}
+     * @throws IOException If {@code destination} throws
+     */
+    public static void appendDms(final Appendable destination, final GeographicCoordinate coordinate, final int precision) throws IOException {
+        failIf(destination == null, () -> "Destination is null");
+        failIf(coordinate == null, () -> "Coordinate is null");
+        checkPrecision(precision);
+
+        appendLong(destination, coordinate.degrees());
+        destination.append('°');
+        appendLong(destination, coordinate.minutes());
+        destination.append('\'');
+        appendDecimal(destination, coordinate.seconds(), toFixed(Math.abs(coordinate.seconds()), precision), precision);
+        destination.append('"').append(coordinate.direction().getAbbreviation());
+    }
+
+    /**
+     * Appends a decimal value
+     *
+     * @param destination Receives the text
+     * @param value       The value
+     * @param precision   The most fraction digits to write, from 0 to {@value #MAX_PRECISION}
+     * @return {@code destination}
+     */
+    public static StringBuilder appendDecimal(final StringBuilder destination, final double value, final int precision) {
+        try {
+            appendDecimal((Appendable) destination, value, precision);
+        } catch (final IOException e) {
+            throw new AssertionError(e);  // StringBuilder doesn't throw
+        }
+
+        return destination;
+    }
+
+    /**
+     * Appends a decimal value
+     *
+     * @param destination Receives the text
+     * @param value       The value
+     * @param precision   The most fraction digits to write, from 0 to {@value #MAX_PRECISION}
+     * @throws IOException If {@code destination} throws
+     */
+    public static void appendDecimal(final Appendable destination, final double value, final int precision) throws IOException {
+        failIf(destination == null, () -> "Destination is null");
+        checkPrecision(precision);
+
+        appendDecimal(destination, value, toFixed(Math.abs(value), precision), precision);
+    }
+
+    /**
+     * Writes a coordinate in degrees/minutes/seconds form as UTF-8, as {@linkplain GeographicCoordinate#toDmsString()}
+     * would
+     *
+     * @param destination Receives the text.  At most {@value #MAX_DMS_BYTES} bytes are written.
+     * @param offset      Where to start writing
+     * @param coordinate  The coordinate
+     * @param precision   The most fraction digits the seconds can have, from 0 to {@value #MAX_PRECISION}
+     * @return The index after the last byte written
+     */
+    public static int writeDms(final byte[] destination, final int offset, final GeographicCoordinate coordinate, final int precision) {
+        failIf(destination == null, () -> "Destination is null");
+        failIf(coordinate == null, () -> "Coordinate is null");
+        checkPrecision(precision);
+
+        final double seconds = coordinate.seconds();
+        final long fixed = toFixed(Math.abs(seconds), precision);
+        final String direction = coordinate.direction().getAbbreviation();
+
+        final int length = digitCount(coordinate.degrees()) + 2 + digitCount(coordinate.minutes()) + 1
+                           + decimalLength(seconds, fixed, precision) + 1 + direction.length();
+
+        failIf(offset < 0 || offset > destination.length, () -> "Invalid offset");
+        failIf(destination.length - offset < length, () -> "Destination is too small");
+
+        int position = writeLong(destination, offset, coordinate.degrees());
+        destination[position++] = (byte) 0xC2;  // °
+        destination[position++] = (byte) 0xB0;
+        position = writeLong(destination, position, coordinate.minutes());
+        destination[position++] = '\'';
+        position = writeDecimal(destination, position, seconds, fixed, precision);
+        destination[position++] = '"';
+
+        for (int i = 0; i < direction.length(); i++) {
+            destination[position++] = (byte) direction.charAt(i);
+        }
+
+        return position;
+    }
+
+    /**
+     * Writes a decimal value as ASCII
+     *
+     * @param destination Receives the text.  At most {@value #MAX_DECIMAL_BYTES} bytes are written.
+     * @param offset      Where to start writing
+     * @param value       The value
+     * @param precision   The most fraction digits to write, from 0 to {@value #MAX_PRECISION}
+     * @return The index after the last byte written
+     */
+    public static int writeDecimal(final byte[] destination, final int offset, final double value, final int precision) {
+        failIf(destination == null, () -> "Destination is null");
+        checkPrecision(precision);
+
+        final long fixed = toFixed(Math.abs(value), precision);
+
+        failIf(offset < 0 || offset > destination.length, () -> "Invalid offset");
+        failIf(destination.length - offset < decimalLength(value, fixed, precision), () -> "Destination is too small");
+
+        return writeDecimal(destination, offset, value, fixed, precision);
+    }
+
+    private static void checkPrecision(final int precision) {
+        failIf(precision < 0 || precision > MAX_PRECISION, () -> "Precision must be between 0 and %d".formatted(MAX_PRECISION));
+    }
+
+    /**
+     * <p>
+     * Converts a non-negative value to at most {@code precision} fraction digits.  Returns the digits as an integer in
+     * the low bits, and the number of fraction digits in the high bits, or {@linkplain #SLOW} if the value is too
+     * large, too small or not finite.
+     * </p>
+     *
+     * <p>
+     * The value's rounding interval (the real numbers that round to it) is found exactly using 128-bit integer
+     * arithmetic.  If the interval contains a number with {@code precision} or fewer fraction digits, the shortest
+     * such number is used, which is what {@linkplain Double#toString(double)} prints.  Otherwise the value is rounded
+     * half-even.
+     * </p>
+     */
+    private static long toFixed(final double magnitude, final int precision) {
+        if (magnitude == 0.0) {
+            return 0L;
+        }
+
+        if (!(magnitude >= MIN_FAST && magnitude * POWERS_OF_TEN[precision] < MAX_FAST_SCALED)) {
+            return SLOW;
+        }
+
+        final long bits = Double.doubleToRawLongBits(magnitude);
+        final int exponent = (int) (bits >>> 52);  // the sign bit is clear
+        final long fraction = bits & ((1L << 52) - 1);
+
+        // magnitude = significand * 2^-shift.  MIN_FAST rules out subnormals.
+        final long significand = fraction | (1L << 52);
+        final int shift = 1075 - exponent;
+
+        if (shift <= 0) {
+            // An integer.  Below 2^53 every integer is a double, so its digits are exact.
+            return magnitude < 0x1p53 ? significand << -shift : SLOW;
+        }
+
+        // Scale everything by 2^(shift + 2) * 10^precision:  the value is 4 * significand, and the interval extends
+        // 2 either side, or only 1 below when the significand is a power of two (the gap below is half as wide)
+        final long scale = POWERS_OF_TEN[precision];
+        final int totalShift = shift + 2;
+        final boolean closed = (significand & 1) == 0;
+        final long lowerGap = fraction == 0 && exponent > 1 ? 1 : 2;
+
+        final long low = shiftRight(Math.multiplyHigh(4 * significand - lowerGap, scale), (4 * significand - lowerGap) * scale, totalShift, closed ? 1 : 2);
+        final long high = shiftRight(Math.multiplyHigh(4 * significand + 2, scale), (4 * significand + 2) * scale, totalShift, closed ? 0 : -1);
+
+        // If the interval holds a number with some count of fraction digits, it holds one with any larger count, so
+        // the shortest can be found by bisection
+        if (hasCandidate(low, high, 1)) {
+            int fewest = 0,
+                most = precision;
+
+            while (fewest < most) {
+                final int middle = (fewest + most) >>> 1;
+
+                if (hasCandidate(low, high, POWERS_OF_TEN[precision - middle])) {
+                    most = middle;
+                } else {
+                    fewest = middle + 1;
+                }
+            }
+
+            final long divisor = POWERS_OF_TEN[precision - fewest];
+            final long nearest = round(significand, scale, totalShift, divisor);
+            final long min = Math.floorDiv(low + divisor - 1, divisor),
+                       max = Math.floorDiv(high, divisor);
+
+            return ((long) fewest << PRECISION_SHIFT) | Math.max(min, Math.min(max, nearest));
+        }
+
+        if (magnitude < 1e-3 && isShortestFive(significand, lowerGap, closed, totalShift, precision + 1)) {
+            // DecimalFormat reads the digits from Double.toString, which writes 5.0E-4 (say).  When that lone 5 is
+            // the first digit dropped, the ".0" makes DecimalFormat treat it as an exact tie and round down, even
+            // though the double is slightly above or below the tie.  Do the same, so the output stays identical.
+            return 0L;
+        }
+
+        return stripZeros(((long) precision << PRECISION_SHIFT) | round(significand, scale, totalShift, 1));
+    }
+
+    /** Returns {@code true} if {@code [low, high]} contains a multiple of {@code divisor} */
+    private static boolean hasCandidate(final long low, final long high, final long divisor) {
+        return high - high % divisor >= low;  // both are non-negative
+    }
+
+    /** Returns {@code true} if the shortest digits that identify the value are a single 5, at the given position */
+    private static boolean isShortestFive(final long significand, final long lowerGap, final boolean closed, final int totalShift, final int digits) {
+        if (digits >= POWERS_OF_TEN.length) {
+            return false;
+        }
+
+        final long scale = POWERS_OF_TEN[digits];
+        final long low = shiftRight(Math.multiplyHigh(4 * significand - lowerGap, scale), (4 * significand - lowerGap) * scale, totalShift, closed ? 1 : 2);
+        final long high = shiftRight(Math.multiplyHigh(4 * significand + 2, scale), (4 * significand + 2) * scale, totalShift, closed ? 0 : -1);
+
+        return low <= 5 && high >= 5;
+    }
+
+    /**
+     * Shifts the 128-bit value {@code high:low} right by {@code shift} (1 to 127).  {@code mode} adjusts the result:
+     * 0 floors, 1 takes the ceiling, 2 returns floor + 1 and -1 returns ceiling - 1 (the bounds of an open interval).
+     */
+    private static long shiftRight(final long high, final long low, final int shift, final int mode) {
+        final long quotient;
+        final boolean exact;
+
+        if (shift < 64) {
+            quotient = (high << (64 - shift)) | (low >>> shift);
+            exact = (low & ((1L << shift) - 1)) == 0;
+        } else {
+            quotient = high >>> (shift - 64);
+            exact = low == 0 && (shift == 64 || (high & ((1L << (shift - 64)) - 1)) == 0);
+        }
+
+        return switch (mode) {
+            case 1 -> exact ? quotient : quotient + 1;
+            case 2 -> quotient + 1;
+            case -1 -> exact ? quotient - 1 : quotient;
+            default -> quotient;
+        };
+    }
+
+    /** Rounds {@code significand * scale / 2^(shift - 2) / divisor} half-even */
+    private static long round(final long significand, final long scale, final int shift, final long divisor) {
+        final int valueShift = shift - 2;
+        final long high = Math.multiplyHigh(significand, scale),
+                   low = significand * scale;
+
+        final long floor = shiftRight(high, low, valueShift, 0);
+        final boolean exact = shiftRight(high, low, valueShift, 1) == floor;
+
+        final long quotient = floor / divisor,
+                   remainder = floor % divisor;
+
+        if (divisor == 1) {
+            // Compare the discarded bits with one half
+            final boolean half = valueShift - 1 < 64
+                ? ((low >>> (valueShift - 1)) & 1) != 0
+                : ((high >>> (valueShift - 65)) & 1) != 0;
+            final boolean belowHalf = valueShift > 1 && shiftRight(high, low, valueShift - 1, 1) != shiftRight(high, low, valueShift - 1, 0);
+
+            return half && (belowHalf || (quotient & 1) != 0) ? quotient + 1 : quotient;
+        }
+
+        final long half = divisor / 2;
+
+        if (remainder > half || (remainder == half && (!exact || (quotient & 1) != 0))) {
+            return quotient + 1;
+        }
+
+        return quotient;
+    }
+
+    private static long stripZeros(long fixed) {
+        long digits = fixed & DIGITS_MASK;
+        int precision = (int) (fixed >>> PRECISION_SHIFT);
+
+        while (precision > 0 && digits % 10 == 0) {
+            digits /= 10;
+            precision--;
+        }
+
+        return ((long) precision << PRECISION_SHIFT) | digits;
+    }
+
+    /** Formats values the fast path can't handle.  Allocates, but only for values far outside coordinate ranges. */
+    private static String slowDecimal(final double magnitude, final int precision) {
+        if (Double.isNaN(magnitude)) {
+            return "NaN";
+        }
+
+        if (Double.isInfinite(magnitude)) {
+            return "∞";
+        }
+
+        final BigDecimal shortest = BigDecimal.valueOf(magnitude);
+        final BigDecimal rounded = shortest.scale() <= precision
+            ? shortest
+            : new BigDecimal(magnitude).setScale(precision, RoundingMode.HALF_EVEN);
+
+        return rounded.stripTrailingZeros().toPlainString();
+    }
+
+    private static boolean isNegative(final double value) {
+        return Double.doubleToRawLongBits(value) < 0 && !Double.isNaN(value);
+    }
+
+    private static void appendDecimal(final Appendable destination, final double value, final long fixed, final int precision) throws IOException {
+        if (isNegative(value)) {
+            destination.append('-');
+        }
+
+        if (fixed == SLOW) {
+            destination.append(slowDecimal(Math.abs(value), precision));
+            return;
+        }
+
+        final long digits = fixed & DIGITS_MASK;
+        final int fractionDigits = (int) (fixed >>> PRECISION_SHIFT);
+
+        appendLong(destination, digits / POWERS_OF_TEN[fractionDigits]);
+
+        if (fractionDigits > 0) {
+            destination.append('.');
+
+            appendDigits(destination, digits % POWERS_OF_TEN[fractionDigits], fractionDigits);
+        }
+    }
+
+    private static int writeDecimal(final byte[] destination, final int offset, final double value, final long fixed, final int precision) {
+        int position = offset;
+
+        if (isNegative(value)) {
+            destination[position++] = '-';
+        }
+
+        if (fixed == SLOW) {
+            final String text = slowDecimal(Math.abs(value), precision);
+
+            if (text.equals("∞")) {
+                destination[position++] = (byte) 0xE2;
+                destination[position++] = (byte) 0x88;
+                destination[position++] = (byte) 0x9E;
+                return position;
+            }
+
+            for (int i = 0; i < text.length(); i++) {
+                destination[position++] = (byte) text.charAt(i);
+            }
+
+            return position;
+        }
+
+        final long digits = fixed & DIGITS_MASK;
+        final int fractionDigits = (int) (fixed >>> PRECISION_SHIFT);
+
+        position = writeLong(destination, position, digits / POWERS_OF_TEN[fractionDigits]);
+
+        if (fractionDigits > 0) {
+            destination[position++] = '.';
+
+            position = writeDigits(destination, position, digits % POWERS_OF_TEN[fractionDigits], fractionDigits);
+        }
+
+        return position;
+    }
+
+    private static int decimalLength(final double value, final long fixed, final int precision) {
+        final int sign = isNegative(value) ? 1 : 0;
+
+        if (fixed == SLOW) {
+            final String text = slowDecimal(Math.abs(value), precision);
+
+            return sign + (text.equals("∞") ? 3 : text.length());
+        }
+
+        final int fractionDigits = (int) (fixed >>> PRECISION_SHIFT);
+
+        return sign + digitCount((fixed & DIGITS_MASK) / POWERS_OF_TEN[fractionDigits]) + (fractionDigits > 0 ? fractionDigits + 1 : 0);
+    }
+
+    private static void appendLong(final Appendable destination, final long value) throws IOException {
+        if (value < 0) {
+            destination.append('-');
+        }
+
+        final long magnitude = Math.abs(value);
+
+        appendDigits(destination, magnitude, digitCount(magnitude));
+    }
+
+    /** Appends {@code count} digits of {@code value}, with leading zeros */
+    private static void appendDigits(final Appendable destination, final long value, final int count) throws IOException {
+        long remainder = value;
+
+        for (long unit = POWERS_OF_TEN[count - 1]; unit > 0; unit /= 10) {
+            final long digit = remainder / unit;
+
+            destination.append((char) ('0' + digit));
+            remainder -= digit * unit;
+        }
+    }
+
+    private static int writeLong(final byte[] destination, final int offset, final long value) {
+        int position = offset;
+
+        if (value < 0) {
+            destination[position++] = '-';
+        }
+
+        final long magnitude = Math.abs(value);
+
+        return writeDigits(destination, position, magnitude, digitCount(magnitude));
+    }
+
+    /** Writes {@code count} digits of {@code value}, with leading zeros */
+    private static int writeDigits(final byte[] destination, final int offset, final long value, final int count) {
+        long remainder = value;
+        int position = offset;
+
+        for (long unit = POWERS_OF_TEN[count - 1]; unit > 0; unit /= 10) {
+            final long digit = remainder / unit;
+
+            destination[position++] = (byte) ('0' + digit);
+            remainder -= digit * unit;
+        }
+
+        return position;
+    }
+
+    /** Counts the digits in a non-negative value below 10^18 (degrees and minutes are validated well below that) */
+    private static int digitCount(final long value) {
+        int count = 1;
+
+        while (count < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[count]) {
+            count++;
+        }
+
+        return count;
+    }
+}
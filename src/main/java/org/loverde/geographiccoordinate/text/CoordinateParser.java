@@ -0,0 +1,585 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.text;
+
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.loverde.geographiccoordinate.internal.Objects.failIf;
+
+
+/**
+ * <p>
+ * Parses latitudes and longitudes from text, without regular expressions and without creating intermediate
+ * {@linkplain String}s.  Text can be supplied as a {@linkplain CharSequence}, or as ASCII/UTF-8 bytes in an array or
+ * a {@linkplain ByteBuffer}.  These forms are accepted:
+ * </p>
+ *
+ * <ul>
+ *     <li>Signed decimal degrees:  {@code -73.9857}, {@code 40.7128}</li>
+ *     <li>Decimal degrees with a hemisphere:  {@code 73.9857W}, {@code 40.7128° N}</li>
+ *     <li>Degrees and decimal minutes:  {@code 40°42.768'N}</li>
+ *     <li>Degrees, minutes and seconds:  {@code 40°42'46.08"N}, as produced by
+ *         {@linkplain org.loverde.geographiccoordinate.internal.GeographicCoordinate#toDmsString() toDmsString()}</li>
+ * </ul>
+ *
+ * <p>
+ * The hemisphere letter ({@code N}/{@code S} for latitude, {@code E}/{@code W} for longitude, in either case) may come
+ * before or after the value, and can't be combined with a sign.  Without either, the value is north/east, or
+ * {@code NEITHER} if it's 0.  Minutes may be marked with {@code '} or {@code ′}, and seconds with {@code "},
+ * {@code ''} or {@code ″}.  Spaces and tabs are allowed between the parts.
+ * </p>
+ *
+ * <p>
+ * Decimal values produce the same coordinate as passing {@linkplain Double#parseDouble(String)}'s result to the
+ * {@code double} constructor.  Values with no more than 15 significant digits are converted with a single exact
+ * division; anything longer is handed to {@code Double.parseDouble}.
+ * </p>
+ */
+public final class CoordinateParser {
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+        1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private static final long[] LONG_POWERS_OF_TEN = {
+        1L, 10L, 100L, 1000L, 10000L, 100000L, 1000000L, 10000000L, 100000000L, 1000000000L,
+        10000000000L, 100000000000L, 1000000000000L, 10000000000000L, 100000000000000L,
+        1000000000000000L, 10000000000000000L, 100000000000000000L, 1000000000000000000L
+    };
+
+    /** Mantissas up to this size are exactly representable as a {@code double} */
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+
+    private static final BigDecimal SIXTY = BigDecimal.valueOf(60);
+
+
+    private CoordinateParser() {
+    }
+
+    /**
+     * @param text A latitude in one of the supported forms
+     * @return The latitude
+     * @throws IllegalArgumentException If the text can't be parsed, or the latitude is out of range
+     */
+    public static Latitude parseLatitude(final CharSequence text) {
+        failIf(text == null, () -> "Text is null");
+
+        return parseLatitude(text, 0, text.length());
+    }
+
+    /**
+     * @param text      Contains a latitude in one of the supported forms
+     * @param fromIndex Index of the latitude's first character (inclusive)
+     * @param toIndex   Index of the latitude's last character (exclusive)
+     * @return The latitude
+     * @throws IllegalArgumentException If the text can't be parsed, or the latitude is out of range
+     */
+    public static Latitude parseLatitude(final CharSequence text, final int fromIndex, final int toIndex) {
+        failIf(text == null, () -> "Text is null");
+        failIf(fromIndex < 0 || toIndex > text.length() || fromIndex > toIndex, () -> "Invalid range");
+
+        return latitude(new CharScanner(text, fromIndex, toIndex));
+    }
+
+    /**
+     * @param bytes     Contains a latitude in one of the supported forms, encoded as ASCII or UTF-8
+     * @param fromIndex Index of the latitude's first byte (inclusive)
+     * @param toIndex   Index of the latitude's last byte (exclusive)
+     * @return The latitude
+     * @throws IllegalArgumentException If the text can't be parsed, or the latitude is out of range
+     */
+    public static Latitude parseLatitude(final byte[] bytes, final int fromIndex, final int toIndex) {
+        failIf(bytes == null, () -> "Bytes are null");
+        failIf(fromIndex < 0 || toIndex > bytes.length || fromIndex > toIndex, () -> "Invalid range");
+
+        return latitude(new ByteArrayScanner(bytes, fromIndex, toIndex));
+    }
+
+    /**
+     * Parses the bytes between the buffer's position and limit.  The buffer's position isn't changed.
+     *
+     * @param buffer Contains a latitude in one of the supported forms, encoded as ASCII or UTF-8
+     * @return The latitude
+     * @throws IllegalArgumentException If the text can't be parsed, or the latitude is out of range
+     */
+    public static Latitude parseLatitude(final ByteBuffer buffer) {
+        failIf(buffer == null, () -> "Buffer is null");
+
+        return latitude(new ByteBufferScanner(buffer));
+    }
+
+    /**
+     * @param text A longitude in one of the supported forms
+     * @return The longitude
+     * @throws IllegalArgumentException If the text can't be parsed, or the longitude is out of range
+     */
+    public static Longitude parseLongitude(final CharSequence text) {
+        failIf(text == null, () -> "Text is null");
+
+        return parseLongitude(text, 0, text.length());
+    }
+
+    /**
+     * @param text      Contains a longitude in one of the supported forms
+     * @param fromIndex Index of the longitude's first character (inclusive)
+     * @param toIndex   Index of the longitude's last character (exclusive)
+     * @return The longitude
+     * @throws IllegalArgumentException If the text can't be parsed, or the longitude is out of range
+     */
+    public static Longitude parseLongitude(final CharSequence text, final int fromIndex, final int toIndex) {
+        failIf(text == null, () -> "Text is null");
+        failIf(fromIndex < 0 || toIndex > text.length() || fromIndex > toIndex, () -> "Invalid range");
+
+        return longitude(new CharScanner(text, fromIndex, toIndex));
+    }
+
+    /**
+     * @param bytes     Contains a longitude in one of the supported forms, encoded as ASCII or UTF-8
+     * @param fromIndex Index of the longitude's first byte (inclusive)
+     * @param toIndex   Index of the longitude's last byte (exclusive)
+     * @return The longitude
+     * @throws IllegalArgumentException If the text can't be parsed, or the longitude is out of range
+     */
+    public static Longitude parseLongitude(final byte[] bytes, final int fromIndex, final int toIndex) {
+        failIf(bytes == null, () -> "Bytes are null");
+        failIf(fromIndex < 0 || toIndex > bytes.length || fromIndex > toIndex, () -> "Invalid range");
+
+        return longitude(new ByteArrayScanner(bytes, fromIndex, toIndex));
+    }
+
+    /**
+     * Parses the bytes between the buffer's position and limit.  The buffer's position isn't changed.
+     *
+     * @param buffer Contains a longitude in one of the supported forms, encoded as ASCII or UTF-8
+     * @return The longitude
+     * @throws IllegalArgumentException If the text can't be parsed, or the longitude is out of range
+     */
+    public static Longitude parseLongitude(final ByteBuffer buffer) {
+        failIf(buffer == null, () -> "Buffer is null");
+
+        return longitude(new ByteBufferScanner(buffer));
+    }
+
+    private static Latitude latitude(final Scanner scanner) {
+        scanner.parse('N', 'S', "latitude");
+
+        if (!scanner.sexagesimal) {
+            return new Latitude(scanner.decimal);
+        }
+
+        return new Latitude(scanner.degrees, scanner.minutes, scanner.seconds,
+                            scanner.hemisphere > 0 ? Latitude.Direction.NORTH
+                                : scanner.hemisphere < 0 ? Latitude.Direction.SOUTH
+                                : Latitude.Direction.NEITHER);
+    }
+
+    private static Longitude longitude(final Scanner scanner) {
+        scanner.parse('E', 'W', "longitude");
+
+        if (!scanner.sexagesimal) {
+            return new Longitude(scanner.decimal);
+        }
+
+        return new Longitude(scanner.degrees, scanner.minutes, scanner.seconds,
+                             scanner.hemisphere > 0 ? Longitude.Direction.EAST
+                                 : scanner.hemisphere < 0 ? Longitude.Direction.WEST
+                                 : Longitude.Direction.NEITHER);
+    }
+
+    /**
+     * Walks the text once.  Numbers are accumulated as an integer mantissa and a count of fraction digits, and the
+     * results are left in fields so that nothing else needs to be allocated.
+     */
+    private abstract static class Scanner {
+        private static final int DEGREE = 0xB0;
+        private static final int PRIME = 0x2032;
+        private static final int DOUBLE_PRIME = 0x2033;
+
+        final int start;
+        final int end;
+        private final boolean utf8;
+
+        private int position;
+
+        // The most recent number
+        private long mantissa;
+        private int scale;
+        private boolean overflow;
+        private int numberStart;
+
+        // Results
+        boolean sexagesimal;
+        double decimal;
+        int degrees;
+        int minutes;
+        double seconds;
+        int hemisphere;
+
+
+        Scanner(final int start, final int end, final boolean utf8) {
+            this.start = start;
+            this.end = end;
+            this.utf8 = utf8;
+        }
+
+        /** Returns the character or byte (as an unsigned value) at {@code index} */
+        abstract int at(int index);
+
+        /** Only used for error messages and for numbers too long for the fast path */
+        abstract String text(int from, int to);
+
+        void parse(final char positive, final char negative, final String kind) {
+            position = start;
+            skipSpace();
+
+            int letter = hemisphere(positive, negative);
+            int sign = 0;
+
+            if (letter != 0) {
+                position++;
+                skipSpace();
+            } else if (position < end && (at(position) == '-' || at(position) == '+')) {
+                sign = at(position) == '-' ? -1 : 1;
+                position++;
+            }
+
+            if (!number()) {
+                throw error(kind);
+            }
+
+            final long firstMantissa = mantissa;
+            final int firstScale = scale;
+            final boolean firstOverflow = overflow;
+            final int firstStart = numberStart,
+                      firstEnd = position;
+
+            skipSpace();
+
+            int length = symbol(DEGREE, -1, '\0');
+
+            if (length > 0) {
+                position += length;
+                skipSpace();
+            }
+
+            sexagesimal = length > 0 && number();
+
+            if (sexagesimal) {
+                if (firstScale != 0 || firstOverflow || firstMantissa > Integer.MAX_VALUE) {
+                    throw error(kind);
+                }
+
+                degrees = (int) firstMantissa;
+
+                final long minuteMantissa = mantissa;
+                final int minuteScale = scale;
+                final boolean minuteOverflow = overflow;
+                final int minuteStart = numberStart,
+                          minuteEnd = position;
+
+                skipSpace();
+
+                if ((length = symbol(PRIME, '\'', '\0')) == 0) {
+                    throw error(kind);
+                }
+
+                position += length;
+                skipSpace();
+
+                if (number()) {
+                    // Degrees, minutes and seconds
+                    if (minuteScale != 0 || minuteOverflow || minuteMantissa > Integer.MAX_VALUE) {
+                        throw error(kind);
+                    }
+
+                    minutes = (int) minuteMantissa;
+                    seconds = toDouble();
+
+                    skipSpace();
+
+                    if ((length = symbol(DOUBLE_PRIME, '"', '\'')) == 0) {
+                        throw error(kind);
+                    }
+
+                    position += length;
+                    skipSpace();
+                } else if (minuteOverflow) {
+                    // Degrees and decimal minutes, with more digits than a long holds
+                    final BigDecimal decimalMinutes = new BigDecimal(text(minuteStart, minuteEnd));
+                    final BigDecimal wholeMinutes = decimalMinutes.setScale(0, RoundingMode.DOWN);
+
+                    if (wholeMinutes.compareTo(BigDecimal.valueOf(Integer.MAX_VALUE)) > 0) {
+                        throw error(kind);
+                    }
+
+                    minutes = wholeMinutes.intValue();
+                    seconds = decimalMinutes.subtract(wholeMinutes).multiply(SIXTY).doubleValue();
+                } else {
+                    // Degrees and decimal minutes.  The fraction is converted to seconds with integer arithmetic so
+                    // that, for example, 26.767' becomes exactly 46.02".
+                    final long unit = LONG_POWERS_OF_TEN[minuteScale];
+                    final long wholeMinutes = minuteMantissa / unit;
+
+                    if (wholeMinutes > Integer.MAX_VALUE) {
+                        throw error(kind);
+                    }
+
+                    minutes = (int) wholeMinutes;
+                    seconds = toSeconds(minuteMantissa % unit, minuteScale);
+                }
+            } else {
+                decimal = fastDouble(firstMantissa, firstScale, firstOverflow, firstStart, firstEnd);
+            }
+
+            if (letter == 0 && sign == 0 && (letter = hemisphere(positive, negative)) != 0) {
+                position++;
+                skipSpace();
+            }
+
+            if (position != end) {
+                throw error(kind);
+            }
+
+            if (letter != 0) {
+                hemisphere = letter;
+            } else if (sexagesimal) {
+                hemisphere = degrees == 0 && minutes == 0 && seconds == 0.0 ? 0 : sign < 0 ? -1 : 1;
+            }
+
+            if (!sexagesimal && (letter < 0 || sign < 0)) {
+                decimal = -decimal;
+            }
+        }
+
+        /** Reads an unsigned decimal number.  Returns {@code false} without moving if there isn't one. */
+        private boolean number() {
+            final int from = position;
+
+            long value = 0;
+            int digits = 0,
+                fractionDigits = 0;
+            boolean inFraction = false,
+                    tooLong = false;
+
+            for (; position < end; position++) {
+                final int c = at(position);
+
+                if (c >= '0' && c <= '9') {
+                    if (value != 0 || c != '0') {
+                        digits++;
+                    }
+
+                    if (digits > 18) {
+                        tooLong = true;
+                    } else {
+                        value = value * 10 + (c - '0');
+                    }
+
+                    if (inFraction) {
+                        fractionDigits++;
+                    }
+                } else if (c == '.' && !inFraction) {
+                    inFraction = true;
+                } else {
+                    break;
+                }
+            }
+
+            final int length = position - from;
+
+            if (length == 0 || (length == 1 && inFraction)) {
+                position = from;
+                return false;
+            }
+
+            mantissa = value;
+            scale = fractionDigits;
+            overflow = tooLong || fractionDigits > 18;
+            numberStart = from;
+
+            return true;
+        }
+
+        private double toDouble() {
+            return fastDouble(mantissa, scale, overflow, numberStart, position);
+        }
+
+        /**
+         * Clinger's fast path:  when both the mantissa and the power of ten are exact doubles, one correctly rounded
+         * division gives the same result as {@linkplain Double#parseDouble(String)}
+         */
+        private double fastDouble(final long value, final int fractionDigits, final boolean tooLong, final int from, final int to) {
+            if (!tooLong && value <= MAX_EXACT_MANTISSA && fractionDigits < POWERS_OF_TEN.length) {
+                return value / POWERS_OF_TEN[fractionDigits];
+            }
+
+            return Double.parseDouble(text(from, to));
+        }
+
+        /** Converts a fraction of a minute, {@code value / 10^fractionDigits}, to seconds */
+        private static double toSeconds(final long value, final int fractionDigits) {
+            if (value <= MAX_EXACT_MANTISSA / 60) {
+                return (value * 60) / POWERS_OF_TEN[fractionDigits];
+            }
+
+            return BigDecimal.valueOf(value, fractionDigits).multiply(SIXTY).doubleValue();
+        }
+
+        private int hemisphere(final char positive, final char negative) {
+            if (position < end) {
+                final int c = at(position) & ~0x20;  // upper case
+
+                if (c == positive) {
+                    return 1;
+                }
+
+                if (c == negative) {
+                    return -1;
+                }
+            }
+
+            return 0;
+        }
+
+        /**
+         * Returns the length of the symbol at the current position, or 0 if it isn't there.  {@code symbol} is the
+         * Unicode character, which takes 2 or 3 bytes in UTF-8.  {@code ascii} is an alternative, which is doubled if
+         * {@code doubledAscii} is given.
+         */
+        private int symbol(final int symbol, final int ascii, final int doubledAscii) {
+            if (position >= end) {
+                return 0;
+            }
+
+            final int c = at(position);
+
+            if (c == ascii) {
+                return 1;
+            }
+
+            if (doubledAscii != '\0' && c == doubledAscii && position + 1 < end && at(position + 1) == doubledAscii) {
+                return 2;
+            }
+
+            if (!utf8) {
+                return c == symbol ? 1 : 0;
+            }
+
+            if (symbol < 0x800) {
+                return c == (0xC0 | (symbol >> 6)) && position + 1 < end && at(position + 1) == (0x80 | (symbol & 0x3F)) ? 2 : 0;
+            }
+
+            return c == (0xE0 | (symbol >> 12)) && position + 2 < end
+                && at(position + 1) == (0x80 | ((symbol >> 6) & 0x3F))
+                && at(position + 2) == (0x80 | (symbol & 0x3F)) ? 3 : 0;
+        }
+
+        private void skipSpace() {
+            while (position < end && (at(position) == ' ' || at(position) == '\t')) {
+                position++;
+            }
+        }
+
+        private IllegalArgumentException error(final String kind) {
+            return new IllegalArgumentException("[%s] is not a valid %s".formatted(text(start, end), kind));
+        }
+    }
+
+    private static final class CharScanner extends Scanner {
+        private final CharSequence text;
+
+        CharScanner(final CharSequence text, final int start, final int end) {
+            super(start, end, false);
+            this.text = text;
+        }
+
+        @Override
+        int at(final int index) {
+            return text.charAt(index);
+        }
+
+        @Override
+        String text(final int from, final int to) {
+            return text.subSequence(from, to).toString();
+        }
+    }
+
+    private static final class ByteArrayScanner extends Scanner {
+        private final byte[] bytes;
+
+        ByteArrayScanner(final byte[] bytes, final int start, final int end) {
+            super(start, end, true);
+            this.bytes = bytes;
+        }
+
+        @Override
+        int at(final int index) {
+            return bytes[index] & 0xFF;
+        }
+
+        @Override
+        String text(final int from, final int to) {
+            return new String(bytes, from, to - from, StandardCharsets.UTF_8);
+        }
+    }
+
+    private static final class ByteBufferScanner extends Scanner {
+        private final ByteBuffer buffer;
+
+        ByteBufferScanner(final ByteBuffer buffer) {
+            super(buffer.position(), buffer.limit(), true);
+            this.buffer = buffer;
+        }
+
+        @Override
+        int at(final int index) {
+            return buffer.get(index) & 0xFF;
+        }
+
+        @Override
+        String text(final int from, final int to) {
+            final byte[] bytes = new byte[to - from];
+
+            buffer.get(from, bytes);
+
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class CoordinateCacheTest {
+
+    @Test
+    void latitude_equalsConstructor() {
+        final CoordinateCache cache = new CoordinateCache();
+        final Random random = new Random(11);
+
+        for (int i = 0; i < 10_000; i++) {
+            final double value = random.nextDouble() * 180.0d - 90.0d;
+
+            assertEquals(new Latitude(value), cache.latitude(value));
+        }
+
+        assertEquals(new Latitude(0.0d), cache.latitude(0.0d));
+        assertEquals(new Latitude(-0.0d), cache.latitude(-0.0d));
+        assertEquals(new Latitude(90.0d), cache.latitude(90.0d));
+    }
+
+    @Test
+    void longitude_equalsConstructor() {
+        final CoordinateCache cache = new CoordinateCache();
+        final Random random = new Random(12);
+
+        for (int i = 0; i < 10_000; i++) {
+            final double value = random.nextDouble() * 360.0d - 180.0d;
+
+            assertEquals(new Longitude(value), cache.longitude(value));
+        }
+    }
+
+    @Test
+    void point_equalsConstructor() {
+        final CoordinateCache cache = new CoordinateCache(64);
+        final Random random = new Random(13);
+
+        for (int i = 0; i < 10_000; i++) {
+            final double latitude = random.nextDouble() * 180.0d - 90.0d;
+            final double longitude = random.nextDouble() * 360.0d - 180.0d;
+
+            assertEquals(new Point(new Latitude(latitude), new Longitude(longitude)), cache.point(latitude, longitude));
+        }
+    }
+
+    @Test
+    void point_packedEqualsToPoint() {
+        final CoordinateCache cache = new CoordinateCache(64);
+        final Random random = new Random(14);
+
+        for (int i = 0; i < 10_000; i++) {
+            final long packed = PackedPoint.pack(random.nextDouble() * 180.0d - 90.0d, random.nextDouble() * 360.0d - 180.0d);
+
+            assertEquals(PackedPoint.toPoint(packed), cache.point(packed));
+        }
+    }
+
+    @Test
+    void repeatedValuesReturnSameInstance() {
+        final CoordinateCache cache = new CoordinateCache();
+        final long packed = PackedPoint.pack(40.712783d, -74.005941d);
+
+        assertSame(cache.latitude(40.712783d), cache.latitude(40.712783d));
+        assertSame(cache.longitude(-74.005941d), cache.longitude(-74.005941d));
+        assertSame(cache.point(40.712783d, -74.005941d), cache.point(40.712783d, -74.005941d));
+        assertSame(cache.point(packed), cache.point(packed));
+    }
+
+    @Test
+    void point_sharesComponents() {
+        final CoordinateCache cache = new CoordinateCache();
+        final Point point = cache.point(40.712783d, -74.005941d);
+
+        assertSame(cache.latitude(40.712783d), point.latitude());
+        assertSame(cache.longitude(-74.005941d), point.longitude());
+    }
+
+    @Test
+    void keysAreExactBitPatterns() {
+        final CoordinateCache cache = new CoordinateCache();
+
+        assertNotSame(cache.latitude(0.0d), cache.latitude(-0.0d));
+        assertNotSame(cache.latitude(10.0d), cache.latitude(Math.nextUp(10.0d)));
+    }
+
+    @Test
+    void capacity() {
+        assertEquals(CoordinateCache.DEFAULT_CAPACITY, new CoordinateCache().capacity());
+        assertEquals(4, new CoordinateCache(1).capacity());
+        assertEquals(1024, new CoordinateCache(1000).capacity());
+        assertEquals(1024, new CoordinateCache(1024).capacity());
+
+        Exception e = assertThrows(IllegalArgumentException.class, () -> new CoordinateCache(0));
+        assertEquals("Capacity must be between 1 and %d".formatted(CoordinateCache.MAX_CAPACITY), e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> new CoordinateCache(CoordinateCache.MAX_CAPACITY + 1));
+        assertEquals("Capacity must be between 1 and %d".formatted(CoordinateCache.MAX_CAPACITY), e.getMessage());
+    }
+
+    @Test
+    void evictsWhenFull() {
+        final CoordinateCache cache = new CoordinateCache(4);
+        final Latitude first = cache.latitude(1.0d);
+
+        for (int i = 3; i < 100; i++) {
+            cache.latitude(i / 2.0d);
+        }
+
+        final Latitude again = cache.latitude(1.0d);
+
+        assertEquals(first, again);
+        assertNotSame(first, again);
+    }
+
+    @Test
+    void clear() {
+        final CoordinateCache cache = new CoordinateCache();
+        final Latitude latitude = cache.latitude(1.0d);
+
+        cache.clear();
+
+        assertNotSame(latitude, cache.latitude(1.0d));
+    }
+
+    @Test
+    void invalidValuesAreNotCached() {
+        final CoordinateCache cache = new CoordinateCache();
+
+        assertThrows(IllegalArgumentException.class, () -> cache.latitude(90.5d));
+        assertThrows(IllegalArgumentException.class, () -> cache.longitude(Double.NaN));
+        assertThrows(IllegalArgumentException.class, () -> cache.point(0.0d, 181.0d));
+        assertThrows(IllegalArgumentException.class, () -> cache.latitude(90.5d));
+    }
+
+    @Test
+    void concurrentAccess() throws Exception {
+        final CoordinateCache cache = new CoordinateCache(256);
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+
+            for (int thread = 0; thread < 4; thread++) {
+                final int seed = thread;
+
+                futures.add(executor.submit(() -> {
+                    final Random random = new Random(seed);
+
+                    for (int i = 0; i < 50_000; i++) {
+                        final double latitude = random.nextInt(1000) / 20.0d;
+                        final double longitude = -random.nextInt(1000) / 10.0d;
+
+                        assertEquals(new Point(new Latitude(latitude), new Longitude(longitude)), cache.point(latitude, longitude));
+                    }
+                }));
+            }
+
+            for (final Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
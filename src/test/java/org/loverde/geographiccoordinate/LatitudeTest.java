@@ -36,6 +36,8 @@ package org.loverde.geographiccoordinate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.loverde.geographiccoordinate.exception.ExceptionMessages.DIRECTION_CANT_BE_NEITHER;
 import static org.loverde.geographiccoordinate.exception.ExceptionMessages.DIRECTION_NULL;
@@ -314,4 +316,65 @@ class LatitudeTest {
         final Latitude l = new Latitude(12, 16, 0, Latitude.Direction.NORTH);
         assertEquals("12°16'0\"N", l.toString());
     }
+
+    @Test
+    void fromDoubles_matchesConstructor() {
+        final Random random = new Random(42);
+        final double[] values = new double[1000];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble() * 180 - 90;
+        }
+
+        values[0] = 0.0;
+        values[1] = -0.0;
+        values[2] = 90;
+        values[3] = -90;
+
+        final Latitude[] result = Latitude.fromDoubles(values);
+
+        assertEquals(values.length, result.length);
+
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(new Latitude(values[i]), result[i]);
+        }
+
+        assertEquals(Latitude.Direction.NEITHER, result[1].direction());
+        assertEquals(Latitude.Direction.NORTH, result[2].direction());
+        assertEquals(Latitude.Direction.SOUTH, result[3].direction());
+    }
+
+    @Test
+    void fromDoubles_range() {
+        final Latitude[] result = Latitude.fromDoubles(new double[] {1, 2, 3, 4}, 1, 3);
+
+        assertEquals(2, result.length);
+        assertEquals(new Latitude(2), result[0]);
+        assertEquals(new Latitude(3), result[1]);
+        assertEquals(0, Latitude.fromDoubles(new double[] {1}, 1, 1).length);
+    }
+
+    @Test
+    void fromDoubles_outOfRange() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> Latitude.fromDoubles(new double[] {1, -90.0000001, Double.NaN}));
+        assertEquals("latitude 1 is out of range", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> Latitude.fromDoubles(new double[] {1, 2, Double.NaN}));
+        assertEquals("latitude 2 is out of range", e.getMessage());
+
+        // Values outside the range aren't checked
+        assertEquals(1, Latitude.fromDoubles(new double[] {Double.NaN, 1}, 1, 2).length);
+    }
+
+    @Test
+    void fromDoubles_invalidArguments() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> Latitude.fromDoubles(null));
+        assertEquals("Latitudes are null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> Latitude.fromDoubles(new double[2], 1, 3));
+        assertEquals("Invalid range", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> Latitude.fromDoubles(new double[2], 2, 1));
+        assertEquals("Invalid range", e.getMessage());
+    }
 }
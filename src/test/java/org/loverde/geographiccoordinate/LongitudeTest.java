@@ -36,6 +36,8 @@ package org.loverde.geographiccoordinate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.loverde.geographiccoordinate.exception.ExceptionMessages.DIRECTION_CANT_BE_NEITHER;
 import static org.loverde.geographiccoordinate.exception.ExceptionMessages.DIRECTION_NULL;
@@ -313,4 +315,65 @@ class LongitudeTest {
         final Longitude l = new Longitude(12, 16, 0, Longitude.Direction.EAST);
         assertEquals("12°16'0\"E", l.toString());
     }
+
+    @Test
+    void fromDoubles_matchesConstructor() {
+        final Random random = new Random(42);
+        final double[] values = new double[1000];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextDouble() * 360 - 180;
+        }
+
+        values[0] = 0.0;
+        values[1] = -0.0;
+        values[2] = 180;
+        values[3] = -180;
+
+        final Longitude[] result = Longitude.fromDoubles(values);
+
+        assertEquals(values.length, result.length);
+
+        for (int i = 0; i < values.length; i++) {
+            assertEquals(new Longitude(values[i]), result[i]);
+        }
+
+        assertEquals(Longitude.Direction.NEITHER, result[1].direction());
+        assertEquals(Longitude.Direction.EAST, result[2].direction());
+        assertEquals(Longitude.Direction.WEST, result[3].direction());
+    }
+
+    @Test
+    void fromDoubles_range() {
+        final Longitude[] result = Longitude.fromDoubles(new double[] {1, 2, 3, 4}, 1, 3);
+
+        assertEquals(2, result.length);
+        assertEquals(new Longitude(2), result[0]);
+        assertEquals(new Longitude(3), result[1]);
+        assertEquals(0, Longitude.fromDoubles(new double[] {1}, 1, 1).length);
+    }
+
+    @Test
+    void fromDoubles_outOfRange() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> Longitude.fromDoubles(new double[] {1, -180.0000001, Double.NaN}));
+        assertEquals("longitude 1 is out of range", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> Longitude.fromDoubles(new double[] {1, 2, Double.NaN}));
+        assertEquals("longitude 2 is out of range", e.getMessage());
+
+        // Values outside the range aren't checked
+        assertEquals(1, Longitude.fromDoubles(new double[] {Double.NaN, 1}, 1, 2).length);
+    }
+
+    @Test
+    void fromDoubles_invalidArguments() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> Longitude.fromDoubles(null));
+        assertEquals("Longitudes are null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> Longitude.fromDoubles(new double[2], 1, 3));
+        assertEquals("Invalid range", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> Longitude.fromDoubles(new double[2], 2, 1));
+        assertEquals("Invalid range", e.getMessage());
+    }
 }
@@ -0,0 +1,116 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate;
+
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class PackedPointTest {
+
+    @Test
+    void pack_unpack() {
+        final long packed = PackedPoint.pack(40.7127753d, -74.0059728d);
+
+        assertEquals(407127753, PackedPoint.latitudeE7(packed));
+        assertEquals(-740059728, PackedPoint.longitudeE7(packed));
+        assertEquals(40.7127753d, PackedPoint.latitude(packed));
+        assertEquals(-74.0059728d, PackedPoint.longitude(packed));
+        assertEquals(Math.toRadians(40.7127753d), PackedPoint.latitudeRadians(packed));
+        assertEquals(Math.toRadians(-74.0059728d), PackedPoint.longitudeRadians(packed));
+    }
+
+    @Test
+    void pack_extremes() {
+        for (final double latitude : new double[] { -90.0d, 0.0d, 90.0d }) {
+            for (final double longitude : new double[] { -180.0d, 0.0d, 180.0d }) {
+                final long packed = PackedPoint.pack(latitude, longitude);
+
+                assertEquals(latitude, PackedPoint.latitude(packed));
+                assertEquals(longitude, PackedPoint.longitude(packed));
+                assertTrue(PackedPoint.isValid(packed));
+            }
+        }
+    }
+
+    @Test
+    void pack_roundsToNearestUnit() {
+        final long packed = PackedPoint.pack(1.00000004d, -1.00000006d);
+
+        assertEquals(10000000, PackedPoint.latitudeE7(packed));
+        assertEquals(-10000001, PackedPoint.longitudeE7(packed));
+    }
+
+    @Test
+    void toPoint_roundTripIsLossless() {
+        final Random random = new Random(1);
+
+        for (int i = 0; i < 100000; i++) {
+            final long packed = PackedPoint.of(random.nextInt(1_800_000_001) - 900_000_000, random.nextInt(2_000_000_000) - 1_000_000_000);
+
+            assertEquals(packed, PackedPoint.pack(PackedPoint.toPoint(packed)));
+            assertEquals(packed, PackedPoint.pack(PackedPoint.toLatitude(packed), PackedPoint.toLongitude(packed)));
+        }
+    }
+
+    @Test
+    void pack_pointIsWithinResolution() {
+        final Point point = new Point(new Latitude(38, 54, 17, Latitude.Direction.NORTH), new Longitude(77, 0, 59, Longitude.Direction.WEST));
+        final long packed = PackedPoint.pack(point);
+
+        assertEquals(point.latitude().toDouble(), PackedPoint.latitude(packed), PackedPoint.RESOLUTION_DEGREES / 2);
+        assertEquals(point.longitude().toDouble(), PackedPoint.longitude(packed), PackedPoint.RESOLUTION_DEGREES / 2);
+    }
+
+    @Test
+    void isValid() {
+        assertFalse(PackedPoint.isValid(((long) 900_000_001 << 32)));
+        assertFalse(PackedPoint.isValid(Integer.MIN_VALUE & 0xFFFFFFFFL));
+        assertTrue(PackedPoint.isValid(PackedPoint.of(-900_000_000, 1_800_000_000)));
+    }
+
+    @Test
+    void outOfRange() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> PackedPoint.pack(90.0000001d, 0.0d));
+        assertEquals(Latitude.getRangeError(), e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> PackedPoint.of(0, 1_800_000_001));
+        assertEquals(Longitude.getRangeError(), e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> PackedPoint.pack(null));
+        assertEquals("Point is null", e.getMessage());
+    }
+}
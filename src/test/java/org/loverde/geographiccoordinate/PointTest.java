@@ -64,6 +64,19 @@ class PointTest {
         assertSame("name", point1.name());
     }
 
+    @Test
+    void prepare() {
+        final PreparedPoint prepared = point1.prepare();
+
+        assertSame(point1, prepared.point());
+        assertEquals(latitude1.toRadians(), prepared.latitudeRadians());
+        assertEquals(longitude1.toRadians(), prepared.longitudeRadians());
+        assertEquals(Math.sin(latitude1.toRadians()), prepared.sinLatitude());
+        assertEquals(Math.cos(latitude1.toRadians()), prepared.cosLatitude());
+        assertEquals(prepared, point1.prepare());
+        assertEquals(point1.hashCode(), prepared.hashCode());
+    }
+
     @Test
     void constructor2arg_fail_nullLatitude() {
         Exception e = assertThrows(IllegalArgumentException.class, () -> new Point(null, longitude1));
@@ -0,0 +1,79 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+
+/**
+ * Random points for the tests that need many of them
+ */
+public final class TestPoints {
+
+    private TestPoints() {
+    }
+
+    /**
+     * @param random The source of randomness
+     * @return A point anywhere on the globe
+     */
+    public static Point randomPoint(final Random random) {
+        return new Point(new Latitude(random.nextDouble() * 180.0d - 90.0d), new Longitude(random.nextDouble() * 360.0d - 180.0d));
+    }
+
+    /**
+     * @param random The source of randomness
+     * @param size   The number of points
+     * @return Points scattered over the whole globe
+     */
+    public static List<Point> randomPoints(final Random random, final int size) {
+        final List<Point> points = new ArrayList<>(size);
+
+        for (int i = 0; i < size; i++) {
+            points.add(randomPoint(random));
+        }
+
+        return points;
+    }
+
+    /**
+     * @param seed The seed of the random number generator
+     * @param size The number of points
+     * @return Points scattered over the whole globe.  The same seed and size always give the same points.
+     */
+    public static List<Point> randomPoints(final long seed, final int size) {
+        return randomPoints(new Random(seed), size);
+    }
+}
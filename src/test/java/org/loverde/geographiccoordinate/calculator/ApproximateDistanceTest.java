@@ -0,0 +1,221 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.calculator;
+
+import org.junit.jupiter.api.Test;
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.PreparedPoint;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class ApproximateDistanceTest {
+
+    @Test
+    void distance_shortDistances() {
+        final Point from = new Point(new Latitude(38.898556), new Longitude(-77.037852)),
+                    to = new Point(new Latitude(38.897147), new Longitude(-77.043934));
+
+        final double haversine = DistanceCalculator.distance(Unit.METERS, from, to);
+
+        for (final ApproximateDistance approximation : ApproximateDistance.values()) {
+            assertEquals(haversine, approximation.distance(Unit.METERS, from, to), haversine * approximation.maxRelativeError(1));
+            assertEquals(approximation.distance(Unit.METERS, from, to), approximation.distance(Unit.METERS, from.prepare(), to.prepare()));
+        }
+    }
+
+    @Test
+    void distance_acrossAntimeridian() {
+        final Point west = new Point(new Latitude(10), new Longitude(179.99)),
+                    east = new Point(new Latitude(10), new Longitude(-179.99));
+
+        final double haversine = DistanceCalculator.distance(Unit.KILOMETERS, west, east);
+
+        for (final ApproximateDistance approximation : ApproximateDistance.values()) {
+            assertEquals(haversine, approximation.distance(Unit.KILOMETERS, west, east), haversine * 1E-6);
+            assertEquals(haversine, approximation.distance(Unit.KILOMETERS, east, west), haversine * 1E-6);
+        }
+    }
+
+    @Test
+    void distance_equirectangularIsSymmetric() {
+        final Point from = new Point(new Latitude(60), new Longitude(5)),
+                    to = new Point(new Latitude(61), new Longitude(7));
+
+        assertEquals(ApproximateDistance.EQUIRECTANGULAR.distance(Unit.MILES, from, to), ApproximateDistance.EQUIRECTANGULAR.distance(Unit.MILES, to, from));
+        assertNotEquals(ApproximateDistance.FLAT_EARTH.distance(Unit.MILES, from, to), ApproximateDistance.FLAT_EARTH.distance(Unit.MILES, to, from));
+    }
+
+    @Test
+    void maxRelativeError_holdsByBand() {
+        final Random random = new Random(18);
+        final double[] bands = { 1, 10, 100, 1000 };
+
+        for (int i = 0; i < 200_000; i++) {
+            final double latitude = (random.nextDouble() * 2 - 1) * ApproximateDistance.MAX_LATITUDE,
+                         longitude = random.nextDouble() * 360 - 180,
+                         kilometers = Math.exp(random.nextDouble() * Math.log(1E6)) / 1000,
+                         bearing = random.nextDouble() * 2 * Math.PI;
+
+            final Point from = new Point(new Latitude(latitude), new Longitude(longitude)),
+                        to = destination(latitude, longitude, bearing, kilometers);
+
+            if (to == null) {
+                continue;
+            }
+
+            final double haversine = DistanceCalculator.distance(Unit.KILOMETERS, from, to);
+
+            for (final ApproximateDistance approximation : ApproximateDistance.values()) {
+                final double approximate = approximation.distance(Unit.KILOMETERS, from, to),
+                             error = Math.abs(approximate - haversine) / haversine;
+
+                for (final double band : bands) {
+                    if (approximate <= band) {
+                        assertTrue(error <= approximation.maxRelativeError(band), () -> "%s %s %s".formatted(approximation, from, to));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void maxRelativeError_bands() {
+        for (final ApproximateDistance approximation : ApproximateDistance.values()) {
+            assertTrue(approximation.maxRelativeError(0) < approximation.maxRelativeError(5));
+            assertEquals(approximation.maxRelativeError(1), approximation.maxRelativeError(0.5));
+            assertTrue(approximation.maxRelativeError(1000) < 1);
+            assertEquals(Double.POSITIVE_INFINITY, approximation.maxRelativeError(1000.001));
+            assertEquals(Double.POSITIVE_INFINITY, approximation.maxRelativeError(Double.NaN));
+        }
+    }
+
+    @Test
+    void isWithin_matchesHaversine() {
+        final Random random = new Random(19);
+        final Unit[] units = { Unit.METERS, Unit.KILOMETERS, Unit.MILES, Unit.FEET };
+
+        for (int i = 0; i < 100_000; i++) {
+            final double latitude = random.nextDouble() * 180 - 90,
+                         longitude = random.nextDouble() * 360 - 180;
+
+            final Point center = new Point(new Latitude(latitude), new Longitude(longitude)),
+                        other = i % 2 == 0
+                                ? destination(latitude, longitude, random.nextDouble() * 2 * Math.PI, Math.exp(random.nextDouble() * Math.log(2E6)) / 1000)
+                                : new Point(new Latitude(random.nextDouble() * 180 - 90), new Longitude(random.nextDouble() * 360 - 180));
+
+            if (other == null) {
+                continue;
+            }
+
+            final Unit unit = units[i % units.length];
+            final double distance = DistanceCalculator.distance(unit, center, other);
+
+            // Radii on both sides of the true distance, including the exact distance itself
+            final double[] radii = { distance, Math.nextDown(distance), distance * (1 + 1E-9), distance * 0.9, distance * 1.1, distance * 0.999, 0 };
+
+            final PreparedPoint preparedCenter = center.prepare(),
+                                preparedOther = other.prepare();
+
+            for (final ApproximateDistance approximation : ApproximateDistance.values()) {
+                for (final double radius : radii) {
+                    assertEquals(distance <= radius, approximation.isWithin(unit, center, other, radius));
+                    assertEquals(distance <= radius, approximation.isWithin(unit, preparedCenter, preparedOther, radius));
+                }
+            }
+        }
+    }
+
+    @Test
+    void isWithin_nearPole() {
+        final Point a = new Point(new Latitude(89.99), new Longitude(0)),
+                    b = new Point(new Latitude(89.99), new Longitude(180));
+
+        final double distance = DistanceCalculator.distance(Unit.KILOMETERS, a, b);
+
+        // The approximations are far off here, so Haversine decides
+        assertTrue(ApproximateDistance.EQUIRECTANGULAR.distance(Unit.KILOMETERS, a, b) > distance * 1.5);
+        assertTrue(ApproximateDistance.EQUIRECTANGULAR.isWithin(Unit.KILOMETERS, a, b, distance));
+        assertFalse(ApproximateDistance.FLAT_EARTH.isWithin(Unit.KILOMETERS, a, b, distance * 0.99));
+    }
+
+    @Test
+    void distanceAlgorithm() {
+        final Point from = new Point(new Latitude(1), new Longitude(1)),
+                    to = new Point(new Latitude(1.01), new Longitude(1.01));
+
+        final DistanceAlgorithm algorithm = ApproximateDistance.EQUIRECTANGULAR;
+
+        assertEquals(ApproximateDistance.EQUIRECTANGULAR.distance(Unit.METERS, from, to), algorithm.distance(Unit.METERS, from, to));
+    }
+
+    @Test
+    void invalidArguments() {
+        final Point point = new Point(new Latitude(1), new Longitude(1));
+        final PreparedPoint prepared = point.prepare();
+        final ApproximateDistance approximation = ApproximateDistance.FLAT_EARTH;
+
+        assertEquals("Unit is null", assertThrows(IllegalArgumentException.class, () -> approximation.distance(null, point, point)).getMessage());
+        assertEquals("point 0 is null", assertThrows(IllegalArgumentException.class, () -> approximation.distance(Unit.METERS, null, point)).getMessage());
+        assertEquals("point 1 is null", assertThrows(IllegalArgumentException.class, () -> approximation.distance(Unit.METERS, prepared, null)).getMessage());
+        assertEquals("Unit is null", assertThrows(IllegalArgumentException.class, () -> approximation.isWithin(null, prepared, prepared, 1)).getMessage());
+        assertEquals("point 1 is null", assertThrows(IllegalArgumentException.class, () -> approximation.isWithin(Unit.METERS, point, null, 1)).getMessage());
+        assertEquals("Radius must not be negative", assertThrows(IllegalArgumentException.class, () -> approximation.isWithin(Unit.METERS, point, point, -1)).getMessage());
+        assertEquals("Radius must not be negative", assertThrows(IllegalArgumentException.class, () -> approximation.isWithin(Unit.METERS, prepared, prepared, Double.NaN)).getMessage());
+    }
+
+    /**
+     * @return The point at a distance and bearing along a great circle, or null if it's past {@linkplain ApproximateDistance#MAX_LATITUDE}
+     */
+    private static Point destination(final double latitude, final double longitude, final double bearing, final double kilometers) {
+        final double lat1 = Math.toRadians(latitude),
+                     lon1 = Math.toRadians(longitude),
+                     angle = kilometers / DistanceCalculator.EARTH_RADIUS_KILOMETERS;
+
+        final double lat2 = Math.asin(Math.sin(lat1) * Math.cos(angle) + Math.cos(lat1) * Math.sin(angle) * Math.cos(bearing)),
+                     lon2 = lon1 + Math.atan2(Math.sin(bearing) * Math.sin(angle) * Math.cos(lat1), Math.cos(angle) - Math.sin(lat1) * Math.sin(lat2));
+
+        final double degrees = Math.toDegrees(lat2);
+
+        if (Math.abs(degrees) > ApproximateDistance.MAX_LATITUDE) {
+            return null;
+        }
+
+        return new Point(new Latitude(degrees), new Longitude(Math.toDegrees(Math.IEEEremainder(lon2, 2 * Math.PI))));
+    }
+}
@@ -48,7 +48,11 @@ import org.junit.jupiter.api.Test;
 import org.loverde.geographiccoordinate.Bearing;
 import org.loverde.geographiccoordinate.Latitude;
 import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.PackedPoint;
 import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.PreparedPoint;
+import org.loverde.geographiccoordinate.compass.CompassBearing;
+import org.loverde.geographiccoordinate.compass.CompassDirection;
 import org.loverde.geographiccoordinate.compass.CompassDirection16;
 import org.loverde.geographiccoordinate.compass.CompassDirection32;
 import org.loverde.geographiccoordinate.compass.CompassDirection8;
@@ -120,6 +124,239 @@ class BearingCalculatorTest {
         assertEquals(bearing16.getBearing(), bearing32.getBearing());
     }
 
+    @Test
+    void initialCompassBearing_matchesInitialBearingDegrees() {
+        final double degrees = BearingCalculator.initialBearingDegrees(point1, point2);
+        final CompassBearing<CompassDirection16> bearing = BearingCalculator.initialCompassBearing(CompassDirection16.class, point1, point2);
+
+        assertEquals(Math.round(degrees * 100) / 100.0d, bearing.degrees());
+        assertEquals(CompassDirection16.getByBearing(degrees), bearing.direction());
+        assertSame(bearing, BearingCalculator.initialCompassBearing(CompassDirection16.class, point1.prepare(), point2.prepare()));
+    }
+
+    @Test
+    void initialCompassBearing_nullCompassDirectionType() {
+        final IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialCompassBearing(null, point1, point2));
+        assertEquals(COMPASS_TYPE_NULL, e.getMessage());
+    }
+
+    @Test
+    void compassBackAzimuth() {
+        final CompassBearing<CompassDirection8> northEast = CompassBearing.of(CompassDirection8.class, 45.25d);
+        final CompassBearing<CompassDirection8> back = BearingCalculator.compassBackAzimuth(CompassDirection8.class, northEast);
+
+        assertEquals(225.25d, back.degrees());
+        assertEquals(CompassDirection8.SOUTHWEST, back.direction());
+
+        final IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.compassBackAzimuth(CompassDirection8.class, null));
+        assertEquals(BEARING_NULL, e.getMessage());
+    }
+
+    @Test
+    void initialBearingDegrees_matchesBigDecimal() {
+        final double degrees = BearingCalculator.initialBearingDegrees(point1, point2);
+
+        assertEquals(initialBearing(CompassDirection8.class, point1, point2).getBearing(), new BigDecimal(degrees));
+        assertEquals(CompassDirection32.SOUTHWEST_BY_WEST, CompassDirection32.getByBearing(degrees));
+    }
+
+    @Test
+    void initialBearingDegrees_preparedPointsMatchPoints() {
+        assertEquals(BearingCalculator.initialBearingDegrees(point1, point2), BearingCalculator.initialBearingDegrees(point1.prepare(), point2.prepare()));
+        assertEquals(BearingCalculator.initialBearingDegrees(point2, point1), BearingCalculator.initialBearingDegrees(point2.prepare(), point1.prepare()));
+
+        final Bearing<CompassDirection16> expected = initialBearing(CompassDirection16.class, point1, point2);
+        final Bearing<CompassDirection16> actual = initialBearing(CompassDirection16.class, point1.prepare(), point2.prepare());
+        assertEquals(expected.getBearing(), actual.getBearing());
+        assertSame(expected.getCompassDirection(), actual.getCompassDirection());
+    }
+
+    @Test
+    void initialBearingDegrees_nullPreparedPoint() {
+        final PreparedPoint prepared = point1.prepare();
+
+        Exception e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearingDegrees(null, prepared));
+        assertEquals(STARTING_POINT_NULL, e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearingDegrees(prepared, null));
+        assertEquals(ExceptionMessages.BEARING_TO_NULL, e.getMessage());
+    }
+
+    @Test
+    void initialBearingDegrees_packedPoints() {
+        assertEquals(BearingCalculator.initialBearingDegrees(point1, point2),
+                     BearingCalculator.initialBearingDegreesPacked(PackedPoint.pack(point1), PackedPoint.pack(point2)), 1E-6);
+
+        Exception e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearingDegreesPacked(PackedPoint.pack(point1), (long) Integer.MAX_VALUE << 32));
+        assertEquals("'to' is out of range", e.getMessage());
+    }
+
+    @Test
+    void initialBearingDegrees_nullFromPoint() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearingDegrees(null, point2));
+        assertEquals(STARTING_POINT_NULL, e.getMessage());
+    }
+
+    @Test
+    void initialBearingDegrees_nullToPoint() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearingDegrees(point1, null));
+        assertEquals(ExceptionMessages.BEARING_TO_NULL, e.getMessage());
+    }
+
+    @Test
+    void initialBearingsDegrees_matchesPairs() {
+        final double[] latitudes = { 40.712783d, 38.907192d, -33.868820d, 89.5d, -89.5d, 0.0d, 0.0d };
+        final double[] longitudes = { -74.005941d, -77.036871d, 151.209290d, 179.9d, -179.9d, 0.0d, 180.0d };
+        final PointBuffer buffer = new PointBuffer();
+
+        for (int i = 0; i < latitudes.length; i++) {
+            buffer.add(latitudes[i], longitudes[i]);
+        }
+
+        final double[] fromBuffer = new double[latitudes.length - 1];
+        final double[] fromArrays = new double[latitudes.length - 1];
+
+        BearingCalculator.initialBearingsDegrees(buffer, fromBuffer);
+        BearingCalculator.initialBearingsDegrees(latitudes, longitudes, 0, latitudes.length, fromArrays);
+
+        for (int i = 0; i < fromBuffer.length; i++) {
+            final Point from = new Point(new Latitude(latitudes[i]), new Longitude(longitudes[i]));
+            final Point to = new Point(new Latitude(latitudes[i + 1]), new Longitude(longitudes[i + 1]));
+            final double expected = BearingCalculator.initialBearingDegrees(from, to);
+
+            assertEquals(expected, fromBuffer[i]);
+            assertEquals(expected, fromArrays[i]);
+        }
+    }
+
+    @Test
+    void initialBearingsDegrees_range() {
+        final double[] latitudes = { 10, 20, 30, 40 };
+        final double[] longitudes = { 10, 20, 30, 40 };
+        final double[] all = new double[3];
+        final double[] some = { -1, -1, -1 };
+
+        BearingCalculator.initialBearingsDegrees(latitudes, longitudes, 0, 4, all);
+        BearingCalculator.initialBearingsDegrees(latitudes, longitudes, 1, 3, some);
+
+        assertEquals(all[1], some[0]);
+        assertEquals(-1, some[1]);
+    }
+
+    @Test
+    void initialBearings_directionsMatchGetByBearing() {
+        final PointBuffer buffer = new PointBuffer();
+
+        for (int degrees = 0; degrees < 360; degrees += 5) {
+            buffer.add(Math.sin(Math.toRadians(degrees)) * 60, degrees - 180);
+        }
+
+        final int legs = buffer.size() - 1;
+        final double[] bearings = new double[legs];
+        final byte[] directions8 = new byte[legs];
+        final byte[] directions16 = new byte[legs];
+        final byte[] directions32 = new byte[legs];
+
+        BearingCalculator.initialBearings(CompassDirection8.class, buffer, bearings, directions8);
+        BearingCalculator.initialBearings(CompassDirection16.class, buffer, bearings, directions16);
+        BearingCalculator.initialBearings(CompassDirection32.class, buffer, bearings, directions32);
+
+        for (int i = 0; i < legs; i++) {
+            assertEquals(CompassDirection8.getByBearing(bearings[i]).ordinal(), directions8[i]);
+            assertEquals(CompassDirection16.getByBearing(bearings[i]).ordinal(), directions16[i]);
+            assertEquals(CompassDirection32.getByBearing(bearings[i]).ordinal(), directions32[i]);
+        }
+
+        final double[] latitudes = new double[buffer.size()];
+        final double[] longitudes = new double[buffer.size()];
+
+        for (int i = 0; i < buffer.size(); i++) {
+            latitudes[i] = Math.toDegrees(buffer.latitudeRadians(i));
+            longitudes[i] = Math.toDegrees(buffer.longitudeRadians(i));
+        }
+
+        final byte[] fromArrays = new byte[legs];
+
+        BearingCalculator.initialBearings(CompassDirection32.class, latitudes, longitudes, 0, latitudes.length, new double[legs], fromArrays);
+
+        assertArrayEquals(directions32, fromArrays);
+    }
+
+    @Test
+    void initialBearings_invalidArguments() {
+        final PointBuffer buffer = new PointBuffer().add(1, 1).add(2, 2).add(3, 3);
+        final double[] coordinates = { 1, 2, 3 };
+
+        Exception e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearingsDegrees((PointBuffer) null, new double[2]));
+        assertEquals("Points are null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearingsDegrees(new PointBuffer().add(1, 1), new double[2]));
+        assertEquals("Need to provide at least 2 points", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearingsDegrees(buffer, null));
+        assertEquals("Destination is null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearingsDegrees(buffer, new double[1]));
+        assertEquals("Destination is too small", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearingsDegrees(null, coordinates, 0, 3, new double[2]));
+        assertEquals("Latitudes are null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearingsDegrees(coordinates, null, 0, 3, new double[2]));
+        assertEquals("Longitudes are null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearingsDegrees(coordinates, new double[2], 0, 3, new double[2]));
+        assertEquals("Invalid range", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearingsDegrees(coordinates, coordinates, 2, 1, new double[2]));
+        assertEquals("Invalid range", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearingsDegrees(coordinates, coordinates, 1, 2, new double[2]));
+        assertEquals("Need to provide at least 2 points", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearingsDegrees(new double[] { 1, 91, 3 }, coordinates, 0, 3, new double[2]));
+        assertEquals("latitude 1 is out of range", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearingsDegrees(coordinates, new double[] { 1, 2, Double.NaN }, 0, 3, new double[2]));
+        assertEquals("longitude 2 is out of range", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearings(null, buffer, new double[2], new byte[2]));
+        assertEquals(COMPASS_TYPE_NULL, e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearings(CompassDirection8.class, buffer, new double[2], null));
+        assertEquals("Directions are null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearings(CompassDirection8.class, buffer, new double[2], new byte[1]));
+        assertEquals("Directions are too small", e.getMessage());
+
+        final double[] untouched = { -1.0d, -1.0d };
+
+        assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearings(CompassDirection8.class, buffer, untouched, null));
+        assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearings(CompassDirection8.class, buffer, untouched, new byte[1]));
+        assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearings(CompassDirection.class, buffer, untouched, new byte[2]));
+        assertThrows(IllegalArgumentException.class, () -> BearingCalculator.initialBearings(CompassDirection8.class, coordinates, coordinates, 0, 3, untouched, new byte[1]));
+        assertArrayEquals(new double[] { -1.0d, -1.0d }, untouched);
+    }
+
+    @Test
+    void backAzimuthDegrees() {
+        assertEquals(180.0d, BearingCalculator.backAzimuthDegrees(0.0d));
+        assertEquals(0.0d, BearingCalculator.backAzimuthDegrees(180.0d));
+        assertEquals(180.0d, BearingCalculator.backAzimuthDegrees(360.0d));
+        assertEquals(359.9999999999d, BearingCalculator.backAzimuthDegrees(179.9999999999d));
+        assertEquals(0.0d, BearingCalculator.backAzimuthDegrees(Math.nextDown(180.0d)));
+        assertEquals(52.95302d, BearingCalculator.backAzimuthDegrees(232.95302d), 1E-12);
+
+        final double bearing = BearingCalculator.initialBearingDegrees(point1, point2);
+        assertEquals(backAzimuth(CompassDirection8.class, new BigDecimal(bearing)).getBearing().doubleValue(), BearingCalculator.backAzimuthDegrees(bearing));
+    }
+
+    @Test
+    void backAzimuthDegrees_outOfRange() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> BearingCalculator.backAzimuthDegrees(-0.00000000001d));
+        assertEquals(BEARING_OUT_OF_RANGE.formatted(-0.00000000001d), e.getMessage());
+    }
+
     @Test
     void backAzimuth_nullCompassDirectionType() {
         Exception e = assertThrows(IllegalArgumentException.class, () -> backAzimuth(null, BigDecimal.ZERO));
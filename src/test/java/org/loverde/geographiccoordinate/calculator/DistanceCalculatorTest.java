@@ -37,14 +37,26 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.loverde.geographiccoordinate.Latitude;
 import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.PackedPoint;
 import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.PreparedPoint;
 import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
 
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 import static org.loverde.geographiccoordinate.calculator.DistanceCalculator.distance;
+import static org.loverde.geographiccoordinate.calculator.TestTracks.randomTrack;
 
 
 class DistanceCalculatorTest {
@@ -54,6 +66,9 @@ class DistanceCalculatorTest {
 
     private static final double fpDelta = 1E-15;
 
+    /** Relative tolerance for the {@code PointBuffer} overloads, which may be vectorized */
+    private static final double kernelDelta = DistanceCalculator.isVectorized() ? 1E-12 : 0.0;
+
 
     @BeforeEach
     void setUp() {
@@ -85,6 +100,53 @@ class DistanceCalculatorTest {
         assertEquals("point 0 is null", e.getMessage());
     }
 
+    @Test
+    void distance_preparedPointsMatchPoints() {
+        for (final Unit unit : Unit.values()) {
+            assertEquals(distance(unit, point1, point2), distance(unit, point1.prepare(), point2.prepare()));
+            assertEquals(distance(unit, point2, point1), distance(unit, point2.prepare(), point1.prepare()));
+        }
+    }
+
+    @Test
+    void distance_nullPreparedPoint() {
+        final PreparedPoint prepared = point1.prepare();
+
+        Exception e = assertThrows(IllegalArgumentException.class, () -> distance(Unit.KILOMETERS, null, prepared));
+        assertEquals("point 0 is null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> distance(Unit.KILOMETERS, prepared, null));
+        assertEquals("point 1 is null", e.getMessage());
+    }
+
+    @Test
+    void distance_packedPoints() {
+        final List<Point> points = randomTrack(100);
+        final long[] packed = new long[points.size()];
+
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = PackedPoint.pack(points.get(i));
+        }
+
+        final double expected = distance(Unit.KILOMETERS, points);
+
+        // Packing moves each point by no more than a centimeter
+        assertEquals(expected, distance(Unit.KILOMETERS, packed), 1E-5 * points.size());
+        assertEquals(distance(Unit.METERS, points.get(3), points.get(4)), DistanceCalculator.distancePacked(Unit.METERS, packed[3], packed[4]), 0.02d);
+        assertEquals(DistanceCalculator.distancePacked(Unit.KILOMETERS, packed[1], packed[2]) + DistanceCalculator.distancePacked(Unit.KILOMETERS, packed[2], packed[3]), distance(Unit.KILOMETERS, packed, 1, 4), fpDelta * 100000);
+    }
+
+    @Test
+    void distance_packedPointOutOfRange() {
+        final long[] packed = { PackedPoint.pack(point1), PackedPoint.pack(point2), (long) Integer.MAX_VALUE << 32 };
+
+        Exception e = assertThrows(IllegalArgumentException.class, () -> distance(Unit.KILOMETERS, packed));
+        assertEquals("point 2 is out of range", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> DistanceCalculator.distancePacked(Unit.KILOMETERS, packed[0], packed[2]));
+        assertEquals("point 1 is out of range", e.getMessage());
+    }
+
     @Test
     void distance_centimeters() {
         final Point point1 = new Point(new Latitude(12.34), new Longitude(56.78));
@@ -104,6 +166,136 @@ class DistanceCalculatorTest {
         assertEquals(distance, DistanceCalculator.distance(Unit.CENTIMETERS, List.of(point1, point2)));
     }
 
+    @Test
+    void distance_doesNotAllocatePerPoint() {
+        final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        assumeTrue(threads.isThreadAllocatedMemorySupported() && threads.isThreadAllocatedMemoryEnabled());
+
+        final List<Point> track = randomTrack(100_000);
+        final long threadId = Thread.currentThread().getId();
+
+        // Warm up so that the measured call runs compiled code rather than the interpreter
+        for (int i = 0; i < 20; i++) {
+            distance(Unit.KILOMETERS, track);
+        }
+
+        final long before = threads.getThreadAllocatedBytes(threadId);
+        final double kilometers = distance(Unit.KILOMETERS, track);
+        final long allocated = threads.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(kilometers > 0);
+        assertTrue(allocated < track.size(), () -> "allocated %d bytes for %d points".formatted(allocated, track.size()));
+    }
+
+    @Test
+    void distance_pointBufferMatchesList() {
+        final List<Point> points = List.of(point1, point2, new Point(new Latitude(12.34), new Longitude(56.78)), point1);
+        final PointBuffer buffer = PointBuffer.of(points);
+
+        for (final Unit unit : Unit.values()) {
+            final double expected = distance(unit, points);
+            assertEquals(expected, distance(unit, buffer), expected * kernelDelta);
+        }
+    }
+
+    @Test
+    void distance_pointBufferRange() {
+        final Point point3 = new Point(new Latitude(12.34), new Longitude(56.78));
+        final PointBuffer buffer = PointBuffer.of(point3, point1, point2, point3);
+
+        assertEquals(326.38344385863024d, distance(Unit.KILOMETERS, buffer, 1, 3), 326.38344385863024d * kernelDelta);
+        assertEquals(distance(Unit.KILOMETERS, point1, point2, point3), distance(Unit.KILOMETERS, buffer, 1, 4), 10000 * kernelDelta);
+    }
+
+    @Test
+    void distance_pointBufferOnePoint() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> distance(Unit.KILOMETERS, PointBuffer.of(point1)));
+        assertEquals("Need to provide at least 2 points", e.getMessage());
+    }
+
+    @Test
+    void distance_pointBufferInvalidRange() {
+        final PointBuffer buffer = PointBuffer.of(point1, point2);
+
+        Exception e = assertThrows(IllegalArgumentException.class, () -> distance(Unit.KILOMETERS, buffer, 0, 3));
+        assertEquals("Invalid range", e.getMessage());
+    }
+
+    @Test
+    void legDistances() {
+        final Point point3 = new Point(new Latitude(12.34), new Longitude(56.78));
+        final double[] legs = new double[3];
+
+        DistanceCalculator.legDistances(Unit.MILES, PointBuffer.of(point1, point2, point3), legs);
+
+        assertArrayEquals(new double[] { distance(Unit.MILES, point1, point2), distance(Unit.MILES, point2, point3), 0.0 }, legs, 10000 * kernelDelta);
+    }
+
+    @Test
+    void legDistances_destinationTooSmall() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> DistanceCalculator.legDistances(Unit.MILES, PointBuffer.of(point1, point2, point1), new double[1]));
+        assertEquals("Destination is too small", e.getMessage());
+    }
+
+    @Test
+    void parallelDistance_matchesSequential() {
+        final List<Point> points = randomTrack(50000);
+        final double expected = distance(Unit.KILOMETERS, points);
+
+        assertEquals(expected, DistanceCalculator.parallelDistance(Unit.KILOMETERS, points), expected * 1E-12);
+        assertEquals(expected, DistanceCalculator.parallelDistance(Unit.KILOMETERS, PointBuffer.of(points)), expected * 1E-12);
+    }
+
+    @Test
+    void parallelDistance_sameResultForAnySplit() {
+        final List<Point> points = randomTrack(20001);
+        final PointBuffer buffer = PointBuffer.of(points);
+        final ForkJoinPool pool = new ForkJoinPool(3);
+
+        try {
+            final double expected = DistanceCalculator.parallelDistance(Unit.MILES, points, pool, Integer.MAX_VALUE);
+
+            for (final int threshold : new int[] { 1, 100, 2048, 5000, 20001 }) {
+                assertEquals(expected, DistanceCalculator.parallelDistance(Unit.MILES, points, pool, threshold));
+                assertEquals(expected, DistanceCalculator.parallelDistance(Unit.MILES, new LinkedList<>(points), ForkJoinPool.commonPool(), threshold));
+                assertEquals(expected, DistanceCalculator.parallelDistance(Unit.MILES, buffer, pool, threshold));
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void parallelDistance_twoPoints() {
+        assertEquals(distance(Unit.FEET, point1, point2), DistanceCalculator.parallelDistance(Unit.FEET, List.of(point1, point2)), 10000 * fpDelta);
+    }
+
+    @Test
+    void parallelDistance_nullPoint() {
+        final List<Point> points = new ArrayList<>(randomTrack(10));
+        points.set(7, null);
+
+        Exception e = assertThrows(IllegalArgumentException.class, () -> DistanceCalculator.parallelDistance(Unit.KILOMETERS, points));
+        assertEquals("point 7 is null", e.getMessage());
+    }
+
+    @Test
+    void parallelDistance_invalidThreshold() {
+        Exception e = assertThrows(IllegalArgumentException.class,
+            () -> DistanceCalculator.parallelDistance(Unit.KILOMETERS, List.of(point1, point2), ForkJoinPool.commonPool(), 0));
+        assertEquals("Threshold must be at least 1", e.getMessage());
+    }
+
+    @Test
+    void unit_kilometerConversions() {
+        assertEquals(1000.0d, Unit.METERS.fromKilometers(1.0d));
+        assertEquals(1.609344d, Unit.MILES.toKilometers(1.0d), fpDelta);
+
+        for (final Unit unit : Unit.values()) {
+            assertEquals(123.456d, unit.toKilometers(unit.fromKilometers(123.456d)), 1E-12);
+        }
+    }
+
     @Test
     void distance_inches() {
         final Point point1 = new Point(new Latitude(12.34), new Longitude(56.78));
@@ -204,4 +396,82 @@ class DistanceCalculatorTest {
 
         assertEquals(95.5d, distance, .026d);
     }
+
+    @Test
+    void isWithin_matchesDistance() {
+        final List<Point> points = randomTrack(2000);
+
+        for (int i = 1; i < points.size(); i++) {
+            final Point from = points.get(i - 1),
+                        to = points.get(i);
+
+            for (final Unit unit : Unit.values()) {
+                final double distance = distance(unit, from, to);
+
+                assertTrue(DistanceCalculator.isWithin(unit, from, to, distance * (1 + 1E-9)));
+                assertFalse(DistanceCalculator.isWithin(unit, from, to, distance * (1 - 1E-9)));
+            }
+        }
+    }
+
+    @Test
+    void isWithin_limits() {
+        final Point point = new Point(new Latitude(10), new Longitude(20)),
+                    antipode = new Point(new Latitude(-10), new Longitude(-160));
+
+        assertTrue(DistanceCalculator.isWithin(Unit.METERS, point, point, 0));
+        assertTrue(DistanceCalculator.isWithin(Unit.KILOMETERS, point, antipode, Math.PI * DistanceCalculator.EARTH_RADIUS_KILOMETERS));
+        assertTrue(DistanceCalculator.isWithin(Unit.KILOMETERS, point, antipode, Double.POSITIVE_INFINITY));
+        assertFalse(DistanceCalculator.isWithin(Unit.KILOMETERS, point, antipode, 20000));
+        assertTrue(DistanceCalculator.isWithin(Unit.MILES, point1, point2, 202.81d));
+        assertFalse(DistanceCalculator.isWithin(Unit.MILES, point1, point2, 202.80d));
+    }
+
+    @Test
+    void isWithin_batch() {
+        final List<Point> candidates = randomTrack(5000);
+        final Point center = new Point(new Latitude(35), new Longitude(-100));
+        final PointBuffer buffer = PointBuffer.of(candidates);
+
+        for (final double radius : new double[] { 0, 500, 3000, 10000, 25000 }) {
+            final BitSet hits = DistanceCalculator.isWithin(Unit.KILOMETERS, center, candidates, radius);
+
+            for (int i = 0; i < candidates.size(); i++) {
+                assertEquals(DistanceCalculator.isWithin(Unit.KILOMETERS, center, candidates.get(i), radius), hits.get(i));
+            }
+
+            assertEquals(hits, DistanceCalculator.isWithin(Unit.KILOMETERS, center, buffer, radius));
+            assertEquals(hits, DistanceCalculator.isWithin(Unit.KILOMETERS, center, new LinkedList<>(candidates), radius));
+        }
+
+        assertEquals(candidates.size(), DistanceCalculator.isWithin(Unit.KILOMETERS, center, candidates, 25000).cardinality());
+        assertTrue(DistanceCalculator.isWithin(Unit.KILOMETERS, center, new PointBuffer(), 1).isEmpty());
+    }
+
+    @Test
+    void isWithin_invalidArguments() {
+        final List<Point> withNull = new ArrayList<>(List.of(point1, point2));
+        withNull.add(1, null);
+
+        Exception e = assertThrows(IllegalArgumentException.class, () -> DistanceCalculator.isWithin(null, point1, point2, 1));
+        assertEquals("Unit is null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> DistanceCalculator.isWithin(Unit.MILES, point1, (Point) null, 1));
+        assertEquals("point 1 is null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> DistanceCalculator.isWithin(Unit.MILES, point1, point2, -1));
+        assertEquals("Radius must not be negative", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> DistanceCalculator.isWithin(Unit.MILES, point1, point2, Double.NaN));
+        assertEquals("Radius must not be negative", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> DistanceCalculator.isWithin(Unit.MILES, null, withNull, 1));
+        assertEquals("Center is null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> DistanceCalculator.isWithin(Unit.MILES, point1, (PointBuffer) null, 1));
+        assertEquals("Points are null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> DistanceCalculator.isWithin(Unit.MILES, point1, withNull, 1));
+        assertEquals("point 1 is null", e.getMessage());
+    }
 }
@@ -0,0 +1,205 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.calculator;
+
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.jupiter.api.Test;
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.loverde.geographiccoordinate.TestPoints.randomPoints;
+
+
+class DistanceMatrixTest {
+
+    /** Relative tolerance of a {@code float} cell */
+    private static final double floatDelta = 1E-6;
+
+
+    @Test
+    void symmetric_matchesDistanceCalculator() {
+        final PointBuffer points = PointBuffer.of(randomPoints(1, 600));
+        final DistanceMatrix matrix = DistanceMatrix.of(Unit.MILES, points);
+
+        assertTrue(matrix.isSymmetric());
+        assertEquals(600, matrix.rows());
+        assertEquals(600, matrix.columns());
+        assertSame(Unit.MILES, matrix.unit());
+
+        for (int row = 0; row < points.size(); row += 7) {
+            for (int column = 0; column < points.size(); column += 3) {
+                assertCell(points, row, points, column, matrix);
+            }
+        }
+    }
+
+    @Test
+    void symmetric_diagonalIsZeroAndCellsMirror() {
+        final DistanceMatrix matrix = DistanceMatrix.of(Unit.KILOMETERS, PointBuffer.of(randomPoints(2, 300)));
+
+        for (int i = 0; i < matrix.rows(); i++) {
+            assertEquals(0.0d, matrix.get(i, i));
+
+            for (int j = 0; j < i; j++) {
+                assertEquals(matrix.get(j, i), matrix.get(i, j));
+            }
+        }
+    }
+
+    @Test
+    void rectangular_matchesDistanceCalculator() {
+        final PointBuffer origins = PointBuffer.of(randomPoints(3, 300));
+        final PointBuffer destinations = PointBuffer.of(randomPoints(4, 517));
+        final DistanceMatrix matrix = DistanceMatrix.of(Unit.KILOMETERS, origins, destinations);
+
+        assertFalse(matrix.isSymmetric());
+        assertEquals(300, matrix.rows());
+        assertEquals(517, matrix.columns());
+
+        for (int row = 0; row < origins.size(); row += 5) {
+            for (int column = 0; column < destinations.size(); column++) {
+                assertCell(origins, row, destinations, column, matrix);
+            }
+        }
+    }
+
+    @Test
+    void sameResultForAnyPool() {
+        final PointBuffer points = PointBuffer.of(randomPoints(5, 700));
+        final ForkJoinPool pool = new ForkJoinPool(1);
+
+        try {
+            final DistanceMatrix expected = DistanceMatrix.of(Unit.FEET, points, pool);
+            final DistanceMatrix actual = DistanceMatrix.of(Unit.FEET, points);
+
+            for (int row = 0; row < points.size(); row++) {
+                final double[] expectedRow = new double[points.size()];
+                final double[] actualRow = new double[points.size()];
+
+                expected.getRow(row, expectedRow);
+                actual.getRow(row, actualRow);
+
+                assertArrayEquals(expectedRow, actualRow, 0.0d);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void getRow() {
+        final PointBuffer points = PointBuffer.of(randomPoints(6, 20));
+        final DistanceMatrix symmetric = DistanceMatrix.of(Unit.KILOMETERS, points);
+        final DistanceMatrix rectangular = DistanceMatrix.of(Unit.KILOMETERS, points, PointBuffer.of(randomPoints(7, 9)));
+        final double[] row = new double[20];
+
+        for (int i = 0; i < 20; i++) {
+            symmetric.getRow(i, row);
+
+            for (int j = 0; j < 20; j++) {
+                assertEquals(symmetric.get(i, j), row[j]);
+            }
+
+            rectangular.getRow(i, row);
+
+            for (int j = 0; j < 9; j++) {
+                assertEquals(rectangular.get(i, j), row[j]);
+            }
+        }
+
+        Exception e = assertThrows(IllegalArgumentException.class, () -> symmetric.getRow(0, new double[19]));
+        assertEquals("Destination is too small", e.getMessage());
+    }
+
+    @Test
+    void antipodes() {
+        final PointBuffer points = PointBuffer.of(new Point(new Latitude(0.0d), new Longitude(0.0d)), new Point(new Latitude(0.0d), new Longitude(180.0d)),
+                                                  new Point(new Latitude(90.0d), new Longitude(0.0d)), new Point(new Latitude(-90.0d), new Longitude(0.0d)));
+        final DistanceMatrix matrix = DistanceMatrix.of(Unit.KILOMETERS, points);
+
+        assertEquals(Math.PI * 6371, matrix.get(0, 1), Math.PI * 6371 * floatDelta);
+        assertEquals(Math.PI * 6371, matrix.get(2, 3), Math.PI * 6371 * floatDelta);
+        assertEquals(Math.PI * 6371 / 2, matrix.get(0, 2), Math.PI * 6371 * floatDelta);
+    }
+
+    @Test
+    void emptyAndSinglePoint() {
+        assertEquals(0, DistanceMatrix.of(Unit.KILOMETERS, new PointBuffer()).rows());
+        assertEquals(0.0d, DistanceMatrix.of(Unit.KILOMETERS, PointBuffer.of(randomPoints(8, 1))).get(0, 0));
+    }
+
+    @Test
+    void get_outOfBounds() {
+        final DistanceMatrix matrix = DistanceMatrix.of(Unit.KILOMETERS, PointBuffer.of(randomPoints(9, 3)));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> matrix.get(0, -1));
+    }
+
+    @Test
+    void triangleIndex() {
+        int expected = 0;
+
+        for (int row = 0; row < 10; row++) {
+            for (int column = row + 1; column < 10; column++) {
+                assertEquals(expected++, DistanceMatrix.triangleIndex(10, row, column));
+            }
+        }
+
+        assertEquals(DistanceMatrix.triangleSize(10), expected);
+    }
+
+    @Test
+    void nullArguments() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> DistanceMatrix.of(null, new PointBuffer()));
+        assertEquals("Unit is null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> DistanceMatrix.of(Unit.KILOMETERS, null));
+        assertEquals("Points are null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> DistanceMatrix.of(Unit.KILOMETERS, new PointBuffer(), (PointBuffer) null));
+        assertEquals("Destinations are null", e.getMessage());
+    }
+
+    private static void assertCell(final PointBuffer origins, final int row, final PointBuffer destinations, final int column, final DistanceMatrix matrix) {
+        final Point from = new Point(new Latitude(Math.toDegrees(origins.latitudeRadians(row))), new Longitude(Math.toDegrees(origins.longitudeRadians(row))));
+        final Point to = new Point(new Latitude(Math.toDegrees(destinations.latitudeRadians(column))), new Longitude(Math.toDegrees(destinations.longitudeRadians(column))));
+        final double expected = DistanceCalculator.distance(matrix.unit(), from, to);
+
+        assertEquals(expected, matrix.get(row, column), expected * floatDelta + 1E-6);
+    }
+}
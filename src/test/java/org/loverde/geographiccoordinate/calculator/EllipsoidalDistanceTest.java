@@ -0,0 +1,196 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.calculator;
+
+import org.junit.jupiter.api.Test;
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+import org.loverde.geographiccoordinate.calculator.EllipsoidalDistance.Result;
+import org.loverde.geographiccoordinate.calculator.EllipsoidalDistance.Solver;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class EllipsoidalDistanceTest {
+
+    private static final Ellipsoid BESSEL = new Ellipsoid(6377.397155d, 1.0d / 299.1528128d);
+    private static final Ellipsoid INTERNATIONAL = new Ellipsoid(6378.388d, 1.0d / 297.0d);
+
+    /** One millimeter */
+    private static final double DELTA = 1E-6;
+
+
+    @Test
+    void inverse_wgs84() {
+        final EllipsoidalDistance wgs84 = EllipsoidalDistance.WGS_84;
+
+        assertEquals(111.319491d, wgs84.inverse(0, 0, 0, 1).kilometers(), DELTA);
+        assertEquals(10001.965729d, wgs84.inverse(0, 0, 90, 0).kilometers(), DELTA);
+        assertEquals(20003.931458d, wgs84.inverse(0, 0, 0, 180).kilometers(), DELTA);
+        assertEquals(20003.931458d, wgs84.inverse(90, 0, -90, 45).kilometers(), DELTA);
+        assertEquals(0.0d, wgs84.inverse(12.5, -100, 12.5, -100).kilometers());
+        assertEquals(0.0d, wgs84.inverse(90, 0, 90, 123).kilometers(), DELTA);
+    }
+
+    /** Vincenty's own test lines, from Survey Review XXIII, No. 176 (1975) */
+    @Test
+    void inverse_vincentyTestLines() {
+        final EllipsoidalDistance bessel = new EllipsoidalDistance(BESSEL, EllipsoidalDistance.DEFAULT_MAX_ITERATIONS),
+                                  international = new EllipsoidalDistance(INTERNATIONAL, EllipsoidalDistance.DEFAULT_MAX_ITERATIONS);
+
+        assertEquals(14110.526170d, bessel.inverse(dms(55, 45, 0), 0, -dms(33, 26, 0), dms(108, 13, 0)).kilometers(), DELTA);
+        assertEquals(4085.966703d, international.inverse(dms(37, 19, 54.95367), 0, dms(26, 7, 42.83946), dms(41, 28, 35.50729)).kilometers(), DELTA);
+        assertEquals(8084.823839d, international.inverse(dms(35, 16, 11.24862), 0, dms(67, 22, 14.77638), dms(137, 47, 28.31435)).kilometers(), DELTA);
+        assertEquals(19960.000000d, international.inverse(1, 0, -dms(0, 59, 53.83076), dms(179, 17, 48.02997)).kilometers(), DELTA);
+        assertEquals(19780.006558d, international.inverse(1, 0, dms(1, 1, 15.18952), dms(179, 46, 17.84244)).kilometers(), DELTA);
+    }
+
+    @Test
+    void inverse_reportsSolver() {
+        final Result ordinary = EllipsoidalDistance.WGS_84.inverse(40.7, -74.0, 51.5, -0.1),
+                     antipodal = EllipsoidalDistance.WGS_84.inverse(1, 0, -0.998, 179.3);
+
+        assertEquals(Solver.VINCENTY, ordinary.solver());
+        assertTrue(ordinary.converged());
+        assertTrue(ordinary.iterations() > 0 && ordinary.iterations() <= 12);
+
+        assertEquals(Solver.AZIMUTH, antipodal.solver());
+        assertTrue(antipodal.converged());
+        assertTrue(antipodal.iterations() > 0 && antipodal.iterations() <= EllipsoidalDistance.DEFAULT_MAX_ITERATIONS);
+    }
+
+    @Test
+    void inverse_nearlyAntipodal() {
+        final EllipsoidalDistance wgs84 = EllipsoidalDistance.WGS_84;
+        final double a = Ellipsoid.WGS_84.semiMajorAxis();
+
+        // On the equator, the geodesic follows the equator until the points are within pi * f of antipodal
+        assertEquals(a * Math.toRadians(179.3), wgs84.inverse(0, 0, 0, 179.3).kilometers(), DELTA);
+        assertEquals(a * Math.toRadians(179.3), wgs84.inverse(-1E-9, 0, 1E-9, 179.3).kilometers(), DELTA);
+        assertTrue(wgs84.inverse(0, 0, 0, 179.4).kilometers() < a * Math.toRadians(179.4));
+
+        final Random random = new Random(17);
+
+        for (int i = 0; i < 20_000; i++) {
+            final double latitude = random.nextDouble() * 180 - 90,
+                         otherLatitude = Math.max(-90, Math.min(90, random.nextDouble() * 6 - 3 - latitude)),
+                         longitude = 180 - random.nextDouble() * 6;
+
+            final Result result = wgs84.inverse(latitude, 0, otherLatitude, longitude),
+                         reversed = wgs84.inverse(otherLatitude, longitude, latitude, 0);
+
+            assertTrue(result.converged(), () -> "%f %f %f".formatted(latitude, otherLatitude, longitude));
+            assertTrue(result.kilometers() <= 20003.931458d + DELTA);
+            assertEquals(result.kilometers(), reversed.kilometers(), DELTA);
+        }
+    }
+
+    @Test
+    void inverse_closeToHaversine() {
+        final Random random = new Random(3);
+
+        for (int i = 0; i < 20_000; i++) {
+            final Point from = new Point(new Latitude(random.nextDouble() * 180 - 90), new Longitude(random.nextDouble() * 360 - 180)),
+                        to = new Point(new Latitude(random.nextDouble() * 180 - 90), new Longitude(random.nextDouble() * 360 - 180));
+
+            final Result result = EllipsoidalDistance.WGS_84.inverse(from, to);
+            final double haversine = DistanceCalculator.distance(Unit.KILOMETERS, from, to);
+
+            assertTrue(result.converged());
+            assertEquals(haversine, result.kilometers(), haversine * 0.006d + DELTA);
+        }
+    }
+
+    @Test
+    void inverse_iterationLimit() {
+        final EllipsoidalDistance limited = new EllipsoidalDistance(Ellipsoid.WGS_84, 1);
+        final Result result = limited.inverse(1, 0, -0.998, 179.3);
+
+        assertEquals(1, result.iterations());
+        assertFalse(result.converged());
+        assertEquals(EllipsoidalDistance.WGS_84.inverse(1, 0, -0.998, 179.3).kilometers(), result.kilometers(), 100);
+    }
+
+    @Test
+    void inverse_sphere() {
+        final EllipsoidalDistance sphere = new EllipsoidalDistance(new Ellipsoid(DistanceCalculator.EARTH_RADIUS_KILOMETERS, 0), 10);
+        final Point from = new Point(new Latitude(38.898556), new Longitude(-77.037852)),
+                    to = new Point(new Latitude(-33.86), new Longitude(151.21));
+
+        assertEquals(DistanceCalculator.distance(Unit.KILOMETERS, from, to), sphere.inverse(from, to).kilometers(), DELTA);
+    }
+
+    @Test
+    void distanceAlgorithm() {
+        final Point from = new Point(new Latitude(38.898556), new Longitude(-77.037852)),
+                    via = new Point(new Latitude(38.897147), new Longitude(-77.043934)),
+                    to = new Point(new Latitude(40.7), new Longitude(-74.0));
+
+        for (final Unit unit : Unit.values()) {
+            assertEquals(DistanceCalculator.distance(unit, from, via, to), DistanceAlgorithm.HAVERSINE.distance(unit, List.of(from, via, to)));
+            assertEquals(EllipsoidalDistance.WGS_84.inverse(from, via).distance(unit),
+                         EllipsoidalDistance.WGS_84.distance(unit, from, via));
+            assertEquals(EllipsoidalDistance.WGS_84.distance(unit, from, via) + EllipsoidalDistance.WGS_84.distance(unit, via, to),
+                         EllipsoidalDistance.WGS_84.distance(unit, List.of(from, via, to)), 1E-9);
+        }
+    }
+
+    @Test
+    void invalidArguments() {
+        final EllipsoidalDistance wgs84 = EllipsoidalDistance.WGS_84;
+        final Point point = new Point(new Latitude(1), new Longitude(1));
+
+        assertEquals("Ellipsoid is null", assertThrows(IllegalArgumentException.class, () -> new EllipsoidalDistance(null, 10)).getMessage());
+        assertEquals("Maximum iterations must be at least 1", assertThrows(IllegalArgumentException.class, () -> new EllipsoidalDistance(Ellipsoid.WGS_84, 0)).getMessage());
+        assertEquals("Semi-major axis must be positive", assertThrows(IllegalArgumentException.class, () -> new Ellipsoid(0, 0)).getMessage());
+        assertEquals("Semi-major axis must be positive", assertThrows(IllegalArgumentException.class, () -> new Ellipsoid(Double.NaN, 0)).getMessage());
+        assertEquals("Flattening must be at least 0 and less than 1", assertThrows(IllegalArgumentException.class, () -> new Ellipsoid(1, 1)).getMessage());
+        assertEquals("point 0 is null", assertThrows(IllegalArgumentException.class, () -> wgs84.inverse(null, point)).getMessage());
+        assertEquals("point 1 is null", assertThrows(IllegalArgumentException.class, () -> wgs84.inverse(point, null)).getMessage());
+        assertEquals("Unit is null", assertThrows(IllegalArgumentException.class, () -> wgs84.distance(null, point, point)).getMessage());
+        assertEquals(Latitude.getRangeError(), assertThrows(IllegalArgumentException.class, () -> wgs84.inverse(0, 0, 91, 0)).getMessage());
+        assertEquals(Longitude.getRangeError(), assertThrows(IllegalArgumentException.class, () -> wgs84.inverse(0, Double.NaN, 0, 0)).getMessage());
+        assertEquals("Points are null", assertThrows(IllegalArgumentException.class, () -> wgs84.distance(Unit.MILES, null)).getMessage());
+        assertEquals("point 1 is null", assertThrows(IllegalArgumentException.class, () -> wgs84.distance(Unit.MILES, Arrays.asList(point, null))).getMessage());
+    }
+
+    private static double dms(final int degrees, final int minutes, final double seconds) {
+        return degrees + minutes / 60.0d + seconds / 3600.0d;
+    }
+}
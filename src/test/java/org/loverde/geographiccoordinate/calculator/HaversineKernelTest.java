@@ -0,0 +1,105 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.loverde.geographiccoordinate.calculator;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.loverde.geographiccoordinate.calculator.TestTracks.randomTrack;
+
+
+class HaversineKernelTest {
+
+    private static final double relativeDelta = 1E-12;
+
+
+    @Test
+    void select_fallsBackToScalarWhenVectorModuleIsMissing() {
+        if (ModuleLayer.boot().findModule(HaversineKernel.VECTOR_MODULE).isEmpty()) {
+            assertFalse(HaversineKernel.SELECTED.isVectorized());
+            assertNull(HaversineKernel.load(HaversineKernel.VECTOR_KERNEL));
+        }
+    }
+
+    @Test
+    void load_unknownClass() {
+        assertNull(HaversineKernel.load("org.loverde.NoSuchKernel"));
+    }
+
+    @Test
+    void scalar_matchesListDistance() {
+        final List<Point> points = randomTrack(1, 50);
+        final PointBuffer buffer = PointBuffer.of(points);
+
+        assertEquals(DistanceCalculator.distance(Unit.METERS, points),
+                     new ScalarHaversineKernel().total(buffer.latitudes, buffer.longitudes, 0, buffer.size(), 1000));
+    }
+
+    @Test
+    void vector_matchesScalar() {
+        final HaversineKernel vector = HaversineKernel.load(HaversineKernel.VECTOR_KERNEL);
+
+        if (vector == null) {
+            return;  // The JVM wasn't started with the vector module, or the platform has no vector lanes
+        }
+
+        final HaversineKernel scalar = new ScalarHaversineKernel();
+
+        // Cover every remainder after the vectorized part, and ranges which don't start at 0
+        for (int size = 2; size < 70; size++) {
+            final PointBuffer buffer = PointBuffer.of(randomTrack(size, size + 3));
+
+            for (int from = 0; from < 3; from++) {
+                final int to = from + size;
+                final double expected = scalar.total(buffer.latitudes, buffer.longitudes, from, to, 1.0);
+                assertEquals(expected, vector.total(buffer.latitudes, buffer.longitudes, from, to, 1.0), expected * relativeDelta);
+
+                final double[] expectedLegs = new double[size + 1];
+                final double[] actualLegs = new double[size + 1];
+                scalar.legs(buffer.latitudes, buffer.longitudes, from, to, 1.0, expectedLegs, 1);
+                vector.legs(buffer.latitudes, buffer.longitudes, from, to, 1.0, actualLegs, 1);
+
+                assertEquals(0.0, actualLegs[0]);
+
+                for (int i = 1; i < size; i++) {
+                    assertEquals(expectedLegs[i], actualLegs[i], expectedLegs[i] * relativeDelta);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.calculator;
+
+import org.junit.jupiter.api.Test;
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.PackedPoint;
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.loverde.geographiccoordinate.calculator.TestTracks.randomTrack;
+
+
+class OdometerTest {
+
+    @Test
+    void distance_noPoints() {
+        final Odometer odometer = new Odometer();
+
+        assertEquals(0, odometer.count());
+        assertEquals(0.0, odometer.distance(Unit.KILOMETERS));
+    }
+
+    @Test
+    void distance_onePoint() {
+        final Odometer odometer = new Odometer().add(40.7, -74.0);
+
+        assertEquals(1, odometer.count());
+        assertEquals(0.0, odometer.distance(Unit.MILES));
+    }
+
+    @Test
+    void distance_matchesDistanceCalculator() {
+        final List<Point> points = randomTrack(10_000);
+        final Odometer odometer = new Odometer();
+
+        for (final Point point : points) {
+            odometer.add(point);
+        }
+
+        assertEquals(points.size(), odometer.count());
+
+        for (final Unit unit : Unit.values()) {
+            final double expected = DistanceCalculator.distance(unit, points);
+
+            assertEquals(expected, odometer.distance(unit), expected * 1E-12, unit.name());
+        }
+    }
+
+    @Test
+    void distance_legsMatchExactly() {
+        final Point from = new Point(new Latitude(38.898556), new Longitude(-77.037852)),
+                    to = new Point(new Latitude(38.897147), new Longitude(-77.043934));
+
+        final Odometer odometer = new Odometer().add(from.latitude(), from.longitude()).add(to);
+
+        assertEquals(DistanceCalculator.distance(Unit.FEET, from, to), odometer.distance(Unit.FEET));
+    }
+
+    @Test
+    void add_doublesMatchPointBuffer() {
+        final Random random = new Random(16);
+        final PointBuffer buffer = new PointBuffer(1000);
+        final Odometer odometer = new Odometer();
+
+        for (int i = 0; i < 1000; i++) {
+            final double latitude = random.nextDouble() * 180 - 90,
+                         longitude = random.nextDouble() * 360 - 180;
+
+            buffer.add(latitude, longitude);
+            odometer.add(latitude, longitude);
+        }
+
+        final double expected = DistanceCalculator.distance(Unit.NAUTICAL_MILES, buffer);
+
+        assertEquals(expected, odometer.distance(Unit.NAUTICAL_MILES), expected * 1E-12);
+    }
+
+    @Test
+    void addPacked_matchesPackedDistance() {
+        final List<Point> points = randomTrack(1000);
+        final long[] packed = new long[points.size()];
+        final Odometer odometer = new Odometer();
+
+        for (int i = 0; i < packed.length; i++) {
+            packed[i] = PackedPoint.pack(points.get(i));
+            odometer.addPacked(packed[i]);
+        }
+
+        final double expected = DistanceCalculator.distance(Unit.KILOMETERS, packed);
+
+        assertEquals(expected, odometer.distance(Unit.KILOMETERS), expected * 1E-12);
+    }
+
+    @Test
+    void snapshot_isIndependent() {
+        final Odometer odometer = new Odometer().add(0, 0).add(0, 1);
+        final Odometer snapshot = odometer.snapshot();
+
+        odometer.add(0, 2);
+
+        assertEquals(2, snapshot.count());
+        assertEquals(3, odometer.count());
+        assertEquals(2 * snapshot.distance(Unit.KILOMETERS), odometer.distance(Unit.KILOMETERS), 1E-9);
+    }
+
+    @Test
+    void merge_matchesOneTrack() {
+        final List<Point> points = randomTrack(1000);
+        final Odometer whole = new Odometer(),
+                       first = new Odometer(),
+                       second = new Odometer();
+
+        for (int i = 0; i < points.size(); i++) {
+            whole.add(points.get(i));
+            (i < 400 ? first : second).add(points.get(i));
+        }
+
+        assertSame(first, first.merge(second));
+        assertEquals(whole.count(), first.count());
+        assertEquals(whole.distance(Unit.METERS), first.distance(Unit.METERS), whole.distance(Unit.METERS) * 1E-12);
+        assertEquals(600, second.count());
+
+        // The merged odometer continues from the second track's last point
+        whole.add(0, 0);
+        first.add(0, 0);
+        assertEquals(whole.distance(Unit.METERS), first.distance(Unit.METERS), whole.distance(Unit.METERS) * 1E-12);
+    }
+
+    @Test
+    void merge_emptyOdometers() {
+        final Odometer odometer = new Odometer().add(10, 10).add(11, 11);
+        final double distance = odometer.distance(Unit.KILOMETERS);
+
+        odometer.merge(new Odometer());
+        assertEquals(2, odometer.count());
+        assertEquals(distance, odometer.distance(Unit.KILOMETERS));
+
+        final Odometer empty = new Odometer().merge(odometer);
+        assertEquals(2, empty.count());
+        assertEquals(distance, empty.distance(Unit.KILOMETERS));
+
+        empty.add(12, 12);
+        odometer.add(12, 12);
+        assertEquals(odometer.distance(Unit.KILOMETERS), empty.distance(Unit.KILOMETERS));
+    }
+
+    @Test
+    void merge_itself() {
+        final Odometer odometer = new Odometer().add(0, 0).add(0, 1);
+        final Odometer expected = new Odometer().add(0, 0).add(0, 1).add(0, 0).add(0, 1);
+
+        odometer.merge(odometer);
+
+        assertEquals(4, odometer.count());
+        assertEquals(expected.distance(Unit.KILOMETERS), odometer.distance(Unit.KILOMETERS), 1E-9);
+    }
+
+    @Test
+    void reset_forgetsPoints() {
+        final Odometer odometer = new Odometer().add(0, 0).add(1, 1);
+
+        odometer.reset();
+
+        assertEquals(0, odometer.count());
+        assertEquals(0.0, odometer.distance(Unit.KILOMETERS));
+
+        odometer.add(5, 5).add(5, 6);
+        assertEquals(new Odometer().add(5, 5).add(5, 6).distance(Unit.KILOMETERS), odometer.distance(Unit.KILOMETERS));
+    }
+
+    @Test
+    void invalidArguments() {
+        final Odometer odometer = new Odometer();
+
+        assertEquals("Point is null", assertThrows(IllegalArgumentException.class, () -> odometer.add((Point) null)).getMessage());
+        assertEquals("Latitude is null", assertThrows(IllegalArgumentException.class, () -> odometer.add(null, new Longitude(1))).getMessage());
+        assertEquals("Longitude is null", assertThrows(IllegalArgumentException.class, () -> odometer.add(new Latitude(1), null)).getMessage());
+        assertEquals(Latitude.getRangeError(), assertThrows(IllegalArgumentException.class, () -> odometer.add(90.5, 0)).getMessage());
+        assertEquals(Longitude.getRangeError(), assertThrows(IllegalArgumentException.class, () -> odometer.add(0, Double.NaN)).getMessage());
+        assertEquals("Point is out of range", assertThrows(IllegalArgumentException.class, () -> odometer.addPacked((long) Integer.MAX_VALUE << 32)).getMessage());
+        assertEquals("Odometer is null", assertThrows(IllegalArgumentException.class, () -> odometer.merge(null)).getMessage());
+        assertEquals("Unit is null", assertThrows(IllegalArgumentException.class, () -> odometer.distance(null)).getMessage());
+        assertEquals(0, odometer.count());
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.loverde.geographiccoordinate.calculator;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.Point;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.loverde.geographiccoordinate.exception.ExceptionMessages.CAPACITY_NEGATIVE;
+
+
+class PointBufferTest {
+
+    private Point point1;
+
+    private Point point2;
+
+
+    @BeforeEach
+    void setUp() {
+        point1 = new Point(new Latitude(40, 42, 46, Latitude.Direction.NORTH), new Longitude(74, 0, 21, Longitude.Direction.WEST));
+        point2 = new Point(new Latitude(38, 54, 17, Latitude.Direction.NORTH), new Longitude(77, 0, 59, Longitude.Direction.WEST));
+    }
+
+    @Test
+    void constructor_fail_negativeCapacity() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> new PointBuffer(-1));
+        assertEquals(CAPACITY_NEGATIVE, e.getMessage());
+    }
+
+    @Test
+    void of_storesRadians() {
+        final PointBuffer buffer = PointBuffer.of(List.of(point1, point2));
+
+        assertEquals(2, buffer.size());
+        assertEquals(point1.latitude().toRadians(), buffer.latitudeRadians(0));
+        assertEquals(point1.longitude().toRadians(), buffer.longitudeRadians(0));
+        assertEquals(point2.latitude().toRadians(), buffer.latitudeRadians(1));
+        assertEquals(point2.longitude().toRadians(), buffer.longitudeRadians(1));
+    }
+
+    @Test
+    void of_fail_nullPoint() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> PointBuffer.of(point1, null));
+        assertEquals("Point is null", e.getMessage());
+    }
+
+    @Test
+    void add_growsPastInitialCapacity() {
+        final PointBuffer buffer = new PointBuffer(0);
+
+        for (int i = 0; i < 100; i++) {
+            buffer.add(i * 0.5, -i);
+        }
+
+        assertEquals(100, buffer.size());
+        assertEquals(Math.toRadians(49.5), buffer.latitudeRadians(99));
+        assertEquals(Math.toRadians(-99), buffer.longitudeRadians(99));
+    }
+
+    @Test
+    void add_fail_latitudeOutOfRange() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> new PointBuffer().add(90.1, 0));
+        assertEquals(Latitude.getRangeError(), e.getMessage());
+    }
+
+    @Test
+    void add_fail_longitudeOutOfRange() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> new PointBuffer().add(0, Double.NaN));
+        assertEquals(Longitude.getRangeError(), e.getMessage());
+    }
+
+    @Test
+    void latitudeRadians_fail_indexOutOfBounds() {
+        final PointBuffer buffer = new PointBuffer(10).add(point1);
+
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.latitudeRadians(1));
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.longitudeRadians(-1));
+    }
+
+    @Test
+    void clear_keepsCapacity() {
+        final PointBuffer buffer = PointBuffer.of(point1, point2);
+
+        buffer.clear();
+        assertEquals(0, buffer.size());
+
+        buffer.add(point2);
+        assertEquals(1, buffer.size());
+        assertEquals(point2.latitude().toRadians(), buffer.latitudeRadians(0));
+    }
+}
@@ -0,0 +1,193 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.calculator;
+
+import org.junit.jupiter.api.Test;
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.loverde.geographiccoordinate.calculator.TestTracks.randomTrack;
+
+
+class RouteTest {
+
+    @Test
+    void distance_matchesDistanceCalculator() {
+        final List<Point> points = randomTrack(500);
+        final Route route = Route.of(points);
+
+        assertEquals(points.size(), route.size());
+
+        for (final Unit unit : Unit.values()) {
+            final double length = DistanceCalculator.distance(unit, points);
+            assertEquals(length, route.length(unit), length * 1E-12);
+        }
+
+        final Random random = new Random(20);
+
+        for (int i = 0; i < 200; i++) {
+            final int from = random.nextInt(points.size() - 1),
+                      to = from + 1 + random.nextInt(points.size() - from - 1);
+
+            final double expected = DistanceCalculator.distance(Unit.MILES, points.subList(from, to + 1));
+
+            assertEquals(expected, route.distance(Unit.MILES, from, to), 1E-8);
+            assertEquals(route.distanceTo(Unit.MILES, to) - route.distanceTo(Unit.MILES, from), route.distance(Unit.MILES, from, to), 1E-8);
+        }
+
+        assertEquals(0.0d, route.distance(Unit.METERS, 7, 7));
+        assertEquals(0.0d, route.distanceTo(Unit.METERS, 0));
+    }
+
+    @Test
+    void of_pointBuffer() {
+        final List<Point> points = randomTrack(100);
+        final PointBuffer buffer = PointBuffer.of(points);
+        final Route route = Route.of(buffer);
+
+        buffer.clear();
+
+        assertEquals(Route.of(points).length(Unit.KILOMETERS), route.length(Unit.KILOMETERS));
+        assertEquals(100, route.size());
+    }
+
+    @Test
+    void pointAt_interpolatesAlongGreatCircle() {
+        final Route equator = Route.of(Arrays.asList(point(0, 0), point(0, 10), point(0, 10), point(0, 20)));
+        final double leg = equator.distance(Unit.KILOMETERS, 0, 1);
+
+        assertPoint(point(0, 5), equator.pointAt(Unit.KILOMETERS, leg / 2));
+        assertPoint(point(0, 10), equator.pointAt(Unit.KILOMETERS, leg));
+        assertPoint(point(0, 15), equator.pointAt(Unit.KILOMETERS, leg * 1.5));
+        assertPoint(point(0, 20), equator.pointAt(Unit.KILOMETERS, equator.length(Unit.KILOMETERS)));
+        assertPoint(point(0, 0), equator.pointAt(Unit.KILOMETERS, 0));
+
+        // Over the pole, the meridian is the great circle
+        final Route polar = Route.of(Arrays.asList(point(80, 0), point(80, 180)));
+        assertPoint(point(90, 0), polar.pointAt(Unit.MILES, polar.length(Unit.MILES) / 2));
+    }
+
+    @Test
+    void pointAt_isAtTheRequestedDistance() {
+        final List<Point> points = randomTrack(300);
+        final Route route = Route.of(points);
+        final Random random = new Random(21);
+
+        for (int i = 0; i < 1000; i++) {
+            final double distance = random.nextDouble() * route.length(Unit.KILOMETERS);
+            final int index = route.indexAt(Unit.KILOMETERS, distance);
+            final Point point = route.pointAt(Unit.KILOMETERS, distance);
+
+            assertTrue(route.distanceTo(Unit.KILOMETERS, index) <= distance);
+            assertTrue(route.distanceTo(Unit.KILOMETERS, index + 1) > distance);
+
+            final double fromPrevious = DistanceCalculator.distance(Unit.KILOMETERS, points.get(index), point),
+                         toNext = DistanceCalculator.distance(Unit.KILOMETERS, point, points.get(index + 1));
+
+            assertEquals(distance - route.distanceTo(Unit.KILOMETERS, index), fromPrevious, 1E-6);
+            assertEquals(route.distanceTo(Unit.KILOMETERS, index + 1) - distance, toNext, 1E-6);
+        }
+    }
+
+    @Test
+    void pointAt_returnsTheRoutesOwnPoints() {
+        final Random random = new Random(22);
+        final List<Point> points = new ArrayList<>();
+
+        for (int i = 0; i < 200; i++) {
+            points.add(point(Math.round((random.nextDouble() * 180.0d - 90.0d) * 1E4) / 1E4, Math.round((random.nextDouble() * 360.0d - 180.0d) * 1E4) / 1E4));
+        }
+
+        points.add(points.get(points.size() - 1));
+
+        final Route route = Route.of(points);
+
+        for (final Unit unit : Unit.values()) {
+            for (int i = 0; i < points.size(); i++) {
+                assertEquals(points.get(i), route.pointAt(unit, route.distanceTo(unit, i)));
+            }
+        }
+    }
+
+    @Test
+    void indexAt_endsAndRepeatedPoints() {
+        final Route route = Route.of(Arrays.asList(point(0, 0), point(0, 1), point(0, 1), point(0, 2)));
+        final double leg = route.distance(Unit.METERS, 0, 1);
+
+        assertEquals(0, route.indexAt(Unit.METERS, 0));
+        assertEquals(0, route.indexAt(Unit.METERS, leg / 2));
+        assertEquals(2, route.indexAt(Unit.METERS, leg));
+        assertEquals(3, route.indexAt(Unit.METERS, route.length(Unit.METERS)));
+
+        for (final Unit unit : Unit.values()) {
+            assertEquals(3, route.indexAt(unit, route.length(unit)));
+            assertPoint(point(0, 2), route.pointAt(unit, route.length(unit)));
+        }
+    }
+
+    @Test
+    void invalidArguments() {
+        final Route route = Route.of(Arrays.asList(point(0, 0), point(0, 1)));
+        final List<Point> withNull = new ArrayList<>(Arrays.asList(point(0, 0), point(0, 1)));
+        withNull.add(1, null);
+
+        assertEquals("Points are null", assertThrows(IllegalArgumentException.class, () -> Route.of((List<Point>) null)).getMessage());
+        assertEquals("Points are null", assertThrows(IllegalArgumentException.class, () -> Route.of((PointBuffer) null)).getMessage());
+        assertEquals("Need to provide at least 2 points", assertThrows(IllegalArgumentException.class, () -> Route.of(List.of(point(0, 0)))).getMessage());
+        assertEquals("Need to provide at least 2 points", assertThrows(IllegalArgumentException.class, () -> Route.of(new PointBuffer())).getMessage());
+        assertEquals("point 1 is null", assertThrows(IllegalArgumentException.class, () -> Route.of(withNull)).getMessage());
+        assertEquals("Unit is null", assertThrows(IllegalArgumentException.class, () -> route.length(null)).getMessage());
+        assertEquals("Invalid range", assertThrows(IllegalArgumentException.class, () -> route.distance(Unit.METERS, 1, 0)).getMessage());
+        assertEquals("Invalid range", assertThrows(IllegalArgumentException.class, () -> route.distance(Unit.METERS, 0, 2)).getMessage());
+        assertEquals("Invalid index", assertThrows(IllegalArgumentException.class, () -> route.distanceTo(Unit.METERS, -1)).getMessage());
+        assertEquals("Distance is not on the route", assertThrows(IllegalArgumentException.class, () -> route.pointAt(Unit.METERS, -1)).getMessage());
+        assertEquals("Distance is not on the route", assertThrows(IllegalArgumentException.class, () -> route.indexAt(Unit.METERS, 1E6)).getMessage());
+        assertEquals("Distance is not on the route", assertThrows(IllegalArgumentException.class, () -> route.pointAt(Unit.METERS, Double.NaN)).getMessage());
+    }
+
+    private static void assertPoint(final Point expected, final Point actual) {
+        assertTrue(DistanceCalculator.distance(Unit.METERS, expected, actual) < 1E-3, () -> "expected %s but was %s".formatted(expected, actual));
+    }
+
+    private static Point point(final double latitude, final double longitude) {
+        return new Point(new Latitude(latitude), new Longitude(longitude));
+    }
+}
@@ -0,0 +1,175 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.loverde.geographiccoordinate.compass;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+import java.util.function.DoubleFunction;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Test;
+
+import static java.math.BigDecimal.ZERO;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.loverde.geographiccoordinate.exception.ExceptionMessages.BEARING_OUT_OF_RANGE;
+
+
+class BearingClassifierTest {
+
+    private static final BigDecimal LEGACY_360 = new BigDecimal(360);
+
+
+    @Test
+    void toHundredths_roundsExactValueHalfUp() {
+        // 0.015 is really 0.01499999..., but 0.015 * 100 rounds to 1.5 in floating point
+        assertEquals(2L, Math.round(0.015d * 100.0d));
+        assertEquals(1, BearingClassifier.toHundredths(0.015d));
+
+        assertEquals(0, BearingClassifier.toHundredths(0.0d));
+        assertEquals(1, BearingClassifier.toHundredths(0.005d));
+        assertEquals(33750, BearingClassifier.toHundredths(337.495d));
+        assertEquals(36000, BearingClassifier.toHundredths(359.995d));
+        assertEquals(36000, BearingClassifier.toHundredths(360.0d));
+    }
+
+    @Test
+    void toHundredths_matchesBigDecimal() {
+        final Random random = new Random(4);
+
+        for (int i = 0; i <= 36000; i++) {
+            double bearing = (i + 0.5d) / 100.0d;
+
+            for (int j = 0; j < 3; j++) {
+                assertHundredths(bearing);
+                assertHundredths(Math.nextUp(bearing));
+                assertHundredths(Math.nextDown(bearing));
+                bearing = Math.nextDown(bearing);
+            }
+        }
+
+        for (int i = 0; i < 100000; i++) {
+            assertHundredths(random.nextDouble() * 360.0d);
+        }
+    }
+
+    @Test
+    void classify_matchesLegacyAlgorithm() {
+        assertMatchesLegacy(CompassDirection8.values(), new BigDecimal(45), CompassDirection8::getByBearing, CompassDirection8::getByBearing);
+        assertMatchesLegacy(CompassDirection16.values(), new BigDecimal("22.5"), CompassDirection16::getByBearing, CompassDirection16::getByBearing);
+        assertMatchesLegacy(CompassDirection32.values(), new BigDecimal("11.25"), CompassDirection32::getByBearing, CompassDirection32::getByBearing);
+    }
+
+    @Test
+    void classify_bigDecimalOutOfRange() {
+        final BearingClassifier<CompassDirection8> classifier = new BearingClassifier<>(CompassDirection8.values(), new BigDecimal(45));
+
+        Exception e = assertThrows(IllegalArgumentException.class, () -> classifier.classify(new BigDecimal("-0.000001")));
+        assertEquals(BEARING_OUT_OF_RANGE.formatted("-0.000001"), e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> classifier.classify(new BigDecimal("360.000001")));
+        assertEquals(BEARING_OUT_OF_RANGE.formatted("360.000001"), e.getMessage());
+    }
+
+    @Test
+    void classify_outOfRange() {
+        final BearingClassifier<CompassDirection8> classifier = new BearingClassifier<>(CompassDirection8.values(), new BigDecimal(45));
+
+        Exception e = assertThrows(IllegalArgumentException.class, () -> classifier.classify(-0.000001d));
+        assertEquals(BEARING_OUT_OF_RANGE.formatted(-0.000001d), e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> classifier.classify(Double.NaN));
+        assertEquals(BEARING_OUT_OF_RANGE.formatted(Double.NaN), e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> classifier.classify(Math.nextUp(360.0d)));
+        assertEquals(BEARING_OUT_OF_RANGE.formatted(Math.nextUp(360.0d)), e.getMessage());
+    }
+
+    /**
+     * Compares every hundredth of a degree, and the values either side of each rounding boundary, against the
+     * {@linkplain BigDecimal} algorithm {@code getByBearing} used before it was table-driven
+     */
+    private static <T extends CompassDirection> void assertMatchesLegacy(final T[] values, final BigDecimal step,
+                                                                         final Function<BigDecimal, T> byBigDecimal,
+                                                                         final DoubleFunction<T> byDouble) {
+        for (int i = 0; i <= 36000; i++) {
+            final BigDecimal bearing = BigDecimal.valueOf(i, 2);
+            final T expected = legacyGetByBearing(values, step, bearing);
+
+            assertSame(expected, byBigDecimal.apply(bearing), bearing.toPlainString());
+            assertSame(expected, byDouble.apply(bearing.doubleValue()), bearing.toPlainString());
+
+            for (final String offset : new String[] { "-0.005", "-0.004999", "0.004999" }) {
+                final BigDecimal nearby = bearing.add(new BigDecimal(offset));
+
+                if (nearby.signum() >= 0 && nearby.compareTo(LEGACY_360) <= 0) {
+                    assertSame(legacyGetByBearing(values, step, nearby), byBigDecimal.apply(nearby), nearby.toPlainString());
+                }
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends CompassDirection> T legacyGetByBearing(final T[] values, final BigDecimal step, final BigDecimal bearing) {
+        final BigDecimal newBearing = (bearing.compareTo(LEGACY_360) == 0 ? ZERO : bearing).setScale(2, RoundingMode.HALF_UP);
+        final int idx = Math.min(newBearing.divide(step, 2, RoundingMode.HALF_UP).setScale(0, RoundingMode.HALF_UP).toBigInteger().intValue(), values.length - 1);
+        CompassDirection dir = values[idx];
+
+        if (!legacyIsBearingWithinRange(newBearing, dir, values[0])) {
+            if (newBearing.compareTo(dir.getMaximum()) > 0) {
+                dir = dir.getNext();
+            } else if (newBearing.compareTo(dir.getMinimum()) < 0) {
+                dir = dir.getPrevious();
+            }
+        }
+
+        return (T) dir;
+    }
+
+    private static boolean legacyIsBearingWithinRange(final BigDecimal bearing, final CompassDirection direction, final CompassDirection north) {
+        if (direction != north) {
+            return bearing.compareTo(direction.getMinimum()) >= 0 && bearing.compareTo(direction.getMaximum()) <= 0;
+        }
+
+        return (bearing.compareTo(north.getMinimum()) >= 0 && bearing.compareTo(LEGACY_360) <= 0) ||
+               (bearing.compareTo(ZERO) >= 0 && bearing.compareTo(north.getMaximum()) <= 0);
+    }
+
+    private static void assertHundredths(final double bearing) {
+        if (bearing >= 0.0d && bearing <= 360.0d) {
+            final int expected = new BigDecimal(bearing).setScale(2, RoundingMode.HALF_UP).movePointRight(2).intValueExact();
+            assertEquals(expected, BearingClassifier.toHundredths(bearing), Double.toString(bearing));
+        }
+    }
+}
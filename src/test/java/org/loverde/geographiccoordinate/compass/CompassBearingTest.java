@@ -0,0 +1,167 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.compass;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.loverde.geographiccoordinate.exception.ExceptionMessages.BEARING_NOT_HUNDREDTHS;
+import static org.loverde.geographiccoordinate.exception.ExceptionMessages.BEARING_OUT_OF_RANGE;
+import static org.loverde.geographiccoordinate.exception.ExceptionMessages.COMPASS_TYPE_NULL;
+import static org.loverde.geographiccoordinate.exception.ExceptionMessages.DIRECTION_MISMATCH;
+import static org.loverde.geographiccoordinate.exception.ExceptionMessages.DIRECTION_NULL;
+
+
+class CompassBearingTest {
+
+    @Test
+    void of_directionMatchesGetByBearing() {
+        final Random random = new Random(3);
+
+        for (int i = 0; i < 100_000; i++) {
+            final double bearing = random.nextDouble() * 360.0d;
+
+            assertEquals(CompassDirection8.getByBearing(bearing), CompassBearing.of(CompassDirection8.class, bearing).direction());
+            assertEquals(CompassDirection16.getByBearing(bearing), CompassBearing.of(CompassDirection16.class, bearing).direction());
+            assertEquals(CompassDirection32.getByBearing(bearing), CompassBearing.of(CompassDirection32.class, bearing).direction());
+        }
+    }
+
+    @Test
+    void of_roundsToHundredths() {
+        assertEquals(12.35d, CompassBearing.of(CompassDirection8.class, 12.345d).degrees());
+        assertEquals(12.34d, CompassBearing.of(CompassDirection8.class, 12.3449d).degrees());
+        assertEquals(0.0d, CompassBearing.of(CompassDirection8.class, 359.996d).degrees());
+        assertEquals(0.0d, CompassBearing.of(CompassDirection8.class, 360.0d).degrees());
+        assertEquals(CompassDirection8.NORTH, CompassBearing.of(CompassDirection8.class, 360.0d).direction());
+    }
+
+    @Test
+    void of_returnsSharedInstances() {
+        final CompassBearing<CompassDirection16> first = CompassBearing.of(CompassDirection16.class, 100.001d);
+
+        assertSame(first, CompassBearing.of(CompassDirection16.class, 100.004d));
+        assertSame(first, CompassDirection16.getCompassBearing(99.996d));
+        assertNotSame(first, CompassBearing.of(CompassDirection16.class, 100.01d));
+    }
+
+    @Test
+    void of_compassTypesAreCachedSeparately() {
+        final CompassBearing<CompassDirection8> eight = CompassBearing.of(CompassDirection8.class, 45.0d);
+        final CompassBearing<CompassDirection32> thirtyTwo = CompassBearing.of(CompassDirection32.class, 45.0d);
+
+        assertEquals(CompassDirection8.NORTHEAST, eight.direction());
+        assertEquals(CompassDirection32.NORTHEAST, thirtyTwo.direction());
+        assertNotEquals(eight, thirtyTwo);
+    }
+
+    @Test
+    void of_concurrentCallersGetEqualInstances() throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            final List<Future<List<CompassBearing<CompassDirection32>>>> futures = new ArrayList<>();
+
+            for (int thread = 0; thread < 4; thread++) {
+                futures.add(executor.submit(() -> {
+                    final List<CompassBearing<CompassDirection32>> bearings = new ArrayList<>();
+
+                    for (int hundredths = 0; hundredths < 36000; hundredths += 7) {
+                        bearings.add(CompassBearing.of(CompassDirection32.class, hundredths / 100.0d));
+                    }
+
+                    return bearings;
+                }));
+            }
+
+            final List<CompassBearing<CompassDirection32>> expected = futures.get(0).get();
+
+            for (final Future<List<CompassBearing<CompassDirection32>>> future : futures) {
+                assertEquals(expected, future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void of_invalidArguments() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> CompassBearing.of(null, 1.0d));
+        assertEquals(COMPASS_TYPE_NULL, e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> CompassBearing.of(CompassDirection.class, 1.0d));
+        assertEquals(COMPASS_TYPE_NULL, e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> CompassBearing.of(CompassDirection8.class, -0.001d));
+        assertEquals(BEARING_OUT_OF_RANGE.formatted(-0.001d), e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> CompassBearing.of(CompassDirection8.class, Double.NaN));
+        assertEquals(BEARING_OUT_OF_RANGE.formatted(Double.NaN), e.getMessage());
+    }
+
+    @Test
+    void constructor_invalidArguments() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> new CompassBearing<>(360.0d, CompassDirection8.NORTH));
+        assertEquals(BEARING_OUT_OF_RANGE.formatted(360.0d), e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> new CompassBearing<CompassDirection8>(10.0d, null));
+        assertEquals(DIRECTION_NULL, e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> new CompassBearing<>(10.001d, CompassDirection8.NORTH));
+        assertEquals(BEARING_NOT_HUNDREDTHS.formatted(10.001d), e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> new CompassBearing<>(10.0d, CompassDirection8.SOUTH));
+        assertEquals(DIRECTION_MISMATCH.formatted(CompassDirection8.SOUTH, 10.0d), e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> new CompassBearing<>(348.74d, CompassDirection16.NORTH));
+        assertEquals(DIRECTION_MISMATCH.formatted(CompassDirection16.NORTH, 348.74d), e.getMessage());
+    }
+
+    @Test
+    void constructor_acceptsWhatOfReturns() {
+        final Random random = new Random(23);
+
+        for (int i = 0; i < 1_000; i++) {
+            final CompassBearing<CompassDirection32> shared = CompassBearing.of(CompassDirection32.class, random.nextDouble() * 360.0d);
+
+            assertEquals(shared, new CompassBearing<>(shared.degrees(), shared.direction()));
+        }
+    }
+}
@@ -102,6 +102,26 @@ class CompassDirection16Test {
         assertEquals(CompassDirection16.NORTH, CompassDirection16.getByBearing(new BigDecimal(360)));
     }
 
+    @Test
+    void getByBearing_doubleMatchesBigDecimal() {
+        // Every hundredth of a degree, plus the values on either side of each rounding boundary
+        for (int i = 0; i <= 36000; i++) {
+            final double boundary = (i + 0.5d) / 100.0d;
+
+            for (final double bearing : new double[] { i / 100.0d, boundary, Math.nextUp(boundary), Math.nextDown(boundary) }) {
+                if (bearing <= 360.0d) {
+                    assertEquals(CompassDirection16.getByBearing(new BigDecimal(bearing)), CompassDirection16.getByBearing(bearing), Double.toString(bearing));
+                }
+            }
+        }
+    }
+
+    @Test
+    void getByBearing_double_invalidMax() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> CompassDirection16.getByBearing(360.000000000001d));
+        assertEquals(BEARING_OUT_OF_RANGE.formatted(360.000000000001d), e.getMessage());
+    }
+
     @Test
     void getByBearing_invalidMin() {
         BigDecimal bearing = new BigDecimal("-0.000000000001");
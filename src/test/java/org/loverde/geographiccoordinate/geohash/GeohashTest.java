@@ -0,0 +1,261 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.geohash;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.loverde.geographiccoordinate.geohash.Geohash.NO_NEIGHBOR;
+
+
+class GeohashTest {
+
+    @Test
+    void encodeBase32_knownValues() {
+        assertEquals("u4pruydqqvj", Geohash.encodeBase32(new Point(new Latitude(57.64911d), new Longitude(10.40744d)), 11));
+        assertEquals("ezs42", Geohash.encodeBase32(new Point(new Latitude(42.605d), new Longitude(-5.603d)), 5));
+        assertEquals("s0000", Geohash.toBase32(Geohash.encode(0.0d, 0.0d, 25), 25));
+        assertEquals("zzzzzz", Geohash.toBase32(Geohash.encode(90.0d, 180.0d, 30), 30));
+        assertEquals("000000", Geohash.toBase32(Geohash.encode(-90.0d, -180.0d, 30), 30));
+    }
+
+    @Test
+    void encode_matchesBisection() {
+        final Random random = new Random(1);
+
+        for (int i = 0; i < 20000; i++) {
+            final double latitude = random.nextDouble() * 180.0d - 90.0d;
+            final double longitude = random.nextDouble() * 360.0d - 180.0d;
+            final int bits = 1 + random.nextInt(Geohash.MAX_BITS);
+
+            assertEquals(bisection(latitude, longitude, bits), Geohash.encode(latitude, longitude, bits));
+        }
+
+        // Values on and around cell edges
+        for (int bits = 1; bits <= Geohash.MAX_BITS; bits++) {
+            for (int j = 0; j < 200; j++) {
+                final double edge = Geohash.cellEdge(random.nextInt(1 << Geohash.latitudeBits(bits)), 90.0d, Geohash.latitudeBits(bits));
+                final double longitude = Geohash.cellEdge(random.nextInt(1 << Geohash.longitudeBits(bits)), 180.0d, Geohash.longitudeBits(bits));
+
+                for (final double latitude : new double[] { edge, Math.nextUp(edge), Math.nextDown(edge) }) {
+                    if (Math.abs(latitude) <= 90.0d) {
+                        assertEquals(bisection(latitude, longitude, bits), Geohash.encode(latitude, longitude, bits));
+                        assertEquals(bisection(latitude, Math.nextDown(longitude), bits), Geohash.encode(latitude, Math.max(-180.0d, Math.nextDown(longitude)), bits));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void base32_roundTrip() {
+        final Random random = new Random(2);
+
+        for (int i = 0; i < 1000; i++) {
+            final int bits = 5 * (1 + random.nextInt(Geohash.MAX_CHARACTERS));
+            final long hash = Geohash.encode(random.nextDouble() * 180.0d - 90.0d, random.nextDouble() * 360.0d - 180.0d, bits);
+            final String base32 = Geohash.toBase32(hash, bits);
+
+            assertEquals(bits / 5, base32.length());
+            assertEquals(hash, Geohash.fromBase32(base32));
+            assertEquals(hash, Geohash.fromBase32(base32.toUpperCase()));
+        }
+    }
+
+    @Test
+    void decode() {
+        final Geohash.Cell cell = Geohash.decode("ezs42");
+
+        assertEquals(42.5830078125d, cell.minLatitude());
+        assertEquals(42.626953125d, cell.maxLatitude());
+        assertEquals(-5.625d, cell.minLongitude());
+        assertEquals(-5.5810546875d, cell.maxLongitude());
+        assertEquals(42.60498046875d, cell.centerLatitude());
+        assertEquals(-5.60302734375d, cell.centerLongitude());
+    }
+
+    @Test
+    void decode_containsEncodedPoint() {
+        final Random random = new Random(3);
+
+        for (int i = 0; i < 5000; i++) {
+            final double latitude = random.nextDouble() * 180.0d - 90.0d;
+            final double longitude = random.nextDouble() * 360.0d - 180.0d;
+            final int bits = 1 + random.nextInt(Geohash.MAX_BITS);
+            final Geohash.Cell cell = Geohash.decode(Geohash.encode(latitude, longitude, bits), bits);
+
+            assertTrue(latitude >= cell.minLatitude() && latitude < cell.maxLatitude());
+            assertTrue(longitude >= cell.minLongitude() && longitude < cell.maxLongitude());
+            assertEquals(Geohash.encode(latitude, longitude, bits), Geohash.encode(cell.centerLatitude(), cell.centerLongitude(), bits));
+        }
+    }
+
+    @Test
+    void neighbors() {
+        final long hash = Geohash.fromBase32("ezs42");
+        final String[] expected = { "ezs48", "ezs49", "ezs43", "ezs41", "ezs40", "ezefp", "ezefr", "ezefx" };
+        final long[] neighbors = Geohash.neighbors(hash, 25);
+
+        for (int i = 0; i < 8; i++) {
+            assertEquals(expected[i], Geohash.toBase32(neighbors[i], 25));
+        }
+    }
+
+    @Test
+    void neighbor_wrapsAntimeridianAndStopsAtPoles() {
+        final long east = Geohash.encode(0.0d, 179.99d, 20);
+        final long west = Geohash.encode(0.0d, -179.99d, 20);
+
+        assertEquals(west, Geohash.neighbor(east, 20, 0, 1));
+        assertEquals(east, Geohash.neighbor(west, 20, 0, -1));
+
+        final long north = Geohash.encode(89.99d, 0.0d, 20);
+
+        assertEquals(NO_NEIGHBOR, Geohash.neighbor(north, 20, 1, 0));
+        assertEquals(NO_NEIGHBOR, Geohash.neighbors(north, 20)[1]);
+        assertEquals(NO_NEIGHBOR, Geohash.neighbor(Geohash.encode(-89.99d, 0.0d, 20), 20, -1, 0));
+    }
+
+    @Test
+    void cover_containsEveryPointInTheCircle() {
+        final Random random = new Random(4);
+
+        for (int i = 0; i < 200; i++) {
+            final Point center = new Point(new Latitude(random.nextDouble() * 170.0d - 85.0d), new Longitude(random.nextDouble() * 360.0d - 180.0d));
+            final double radius = random.nextDouble() * 50.0d;
+            final int bits = 20 + random.nextInt(6);
+            final long[] cover = Geohash.cover(Unit.KILOMETERS, center, radius, bits);
+
+            for (int j = 0; j < 50; j++) {
+                final Point point = pointAt(center, random.nextDouble() * radius, random.nextDouble() * 360.0d);
+                assertTrue(Arrays.binarySearch(cover, Geohash.encode(point, bits)) >= 0);
+            }
+        }
+    }
+
+    @Test
+    void cover_antimeridianAndPole() {
+        final long[] antimeridian = Geohash.cover(Unit.KILOMETERS, new Point(new Latitude(0.0d), new Longitude(179.999d)), 5.0d, 20);
+
+        assertTrue(Arrays.binarySearch(antimeridian, Geohash.encode(0.0d, -179.999d, 20)) >= 0);
+        assertTrue(Arrays.binarySearch(antimeridian, Geohash.encode(0.0d, 179.999d, 20)) >= 0);
+
+        final long[] pole = Geohash.cover(Unit.KILOMETERS, new Point(new Latitude(89.999d), new Longitude(0.0d)), 5.0d, 15);
+
+        assertTrue(Arrays.binarySearch(pole, Geohash.encode(89.999d, 179.0d, 15)) >= 0);
+        assertTrue(Arrays.binarySearch(pole, Geohash.encode(89.999d, -90.0d, 15)) >= 0);
+    }
+
+    @Test
+    void cover_tooManyCells() {
+        final Point center = new Point(new Latitude(0.0d), new Longitude(0.0d));
+
+        Exception e = assertThrows(IllegalArgumentException.class, () -> Geohash.cover(Unit.KILOMETERS, center, 1000.0d, 40));
+        assertEquals("The circle needs more than 65536 cells.  Use fewer bits.", e.getMessage());
+    }
+
+    @Test
+    void invalidArguments() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> Geohash.encode(0.0d, 0.0d, 61));
+        assertEquals("Bits must be between 1 and 60", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> Geohash.fromBase32("ezs4a"));
+        assertEquals("Invalid geohash character [a]", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> Geohash.toBase32(0L, 7));
+        assertEquals("Bits must be a multiple of 5", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> Geohash.decode(1L << 20, 20));
+        assertEquals("Geohash [1048576] has more than 20 bits", e.getMessage());
+
+        assertThrows(IllegalArgumentException.class, () -> Geohash.encode(90.1d, 0.0d, 20));
+        assertThrows(IllegalArgumentException.class, () -> Geohash.encode(0.0d, Double.NaN, 20));
+    }
+
+    /**
+     * The classic geohash algorithm:  halve the longitude and latitude ranges in turn
+     */
+    private static long bisection(final double latitude, final double longitude, final int bits) {
+        double minLatitude = -90.0d, maxLatitude = 90.0d, minLongitude = -180.0d, maxLongitude = 180.0d;
+        long hash = 0L;
+
+        for (int i = 0; i < bits; i++) {
+            if (i % 2 == 0) {
+                final double middle = (minLongitude + maxLongitude) / 2.0d;
+
+                if (longitude >= middle) {
+                    hash = (hash << 1) | 1;
+                    minLongitude = middle;
+                } else {
+                    hash <<= 1;
+                    maxLongitude = middle;
+                }
+            } else {
+                final double middle = (minLatitude + maxLatitude) / 2.0d;
+
+                if (latitude >= middle) {
+                    hash = (hash << 1) | 1;
+                    minLatitude = middle;
+                } else {
+                    hash <<= 1;
+                    maxLatitude = middle;
+                }
+            }
+        }
+
+        return hash;
+    }
+
+    /**
+     * @return The point {@code kilometers} from {@code start} on the given initial bearing
+     */
+    private static Point pointAt(final Point start, final double kilometers, final double bearing) {
+        final double angle = kilometers / 6371.0d,
+                     latitude = start.latitude().toRadians(),
+                     longitude = start.longitude().toRadians(),
+                     theta = Math.toRadians(bearing);
+
+        final double toLatitude = Math.asin(Math.sin(latitude) * Math.cos(angle) + Math.cos(latitude) * Math.sin(angle) * Math.cos(theta));
+        final double toLongitude = longitude + Math.atan2(Math.sin(theta) * Math.sin(angle) * Math.cos(latitude),
+                                                          Math.cos(angle) - Math.sin(latitude) * Math.sin(toLatitude));
+
+        return new Point(new Latitude(Math.toDegrees(toLatitude)), new Longitude(Math.toDegrees(Math.IEEEremainder(toLongitude, 2.0d * Math.PI))));
+    }
+}
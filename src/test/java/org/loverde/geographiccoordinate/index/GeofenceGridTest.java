@@ -0,0 +1,246 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+import org.loverde.geographiccoordinate.calculator.PointBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.loverde.geographiccoordinate.TestPoints.randomPoints;
+
+
+class GeofenceGridTest {
+
+    @Test
+    void find_matchesFullScan() {
+        final Random random = new Random(1);
+        final List<Point> centers = randomPoints(random, 2000);
+        final double[] radii = new double[centers.size()];
+
+        for (int i = 0; i < radii.length; i++) {
+            radii[i] = random.nextDouble() * 500.0d;
+        }
+
+        for (final double cellDegrees : new double[] { 0.5d, 2.0d, GeofenceGrid.MAX_CELL_DEGREES }) {
+            final GeofenceGrid grid = GeofenceGrid.of(Unit.KILOMETERS, centers, radii, cellDegrees);
+            final int[] found = new int[centers.size()];
+
+            for (final Point position : randomPoints(random, 2000)) {
+                final int count = grid.find(position, found);
+
+                assertArrayEquals(scan(centers, radii, Unit.KILOMETERS, position), Arrays.copyOf(found, count));
+            }
+        }
+    }
+
+    @Test
+    void find_nearPolesAndAntimeridian() {
+        final Random random = new Random(2);
+        final List<Point> centers = new ArrayList<>();
+        final double[] radii = new double[1000];
+
+        for (int i = 0; i < radii.length; i++) {
+            centers.add(edgePoint(random));
+            radii[i] = random.nextDouble() * 300.0d;
+        }
+
+        final GeofenceGrid grid = GeofenceGrid.of(Unit.KILOMETERS, centers, radii, 1.0d);
+        final int[] found = new int[centers.size()];
+
+        for (int i = 0; i < 5000; i++) {
+            final Point position = edgePoint(random);
+            final int count = grid.find(position, found);
+
+            assertArrayEquals(scan(centers, radii, Unit.KILOMETERS, position), Arrays.copyOf(found, count));
+        }
+    }
+
+    @Test
+    void find_fenceAcrossAntimeridian() {
+        final List<Point> centers = List.of(new Point(new Latitude(10.0d), new Longitude(179.9d)));
+        final GeofenceGrid grid = GeofenceGrid.of(Unit.KILOMETERS, centers, new double[] { 50.0d });
+        final int[] found = new int[1];
+
+        assertEquals(1, grid.find(10.0d, -179.9d, found));
+        assertEquals(1, grid.find(10.0d, 180.0d, found));
+        assertEquals(1, grid.find(10.0d, -180.0d, found));
+        assertEquals(0, grid.find(10.0d, -179.0d, found));
+    }
+
+    @Test
+    void find_fenceContainingPole() {
+        final List<Point> centers = List.of(new Point(new Latitude(-89.5d), new Longitude(30.0d)));
+        final GeofenceGrid grid = GeofenceGrid.of(Unit.KILOMETERS, centers, new double[] { 100.0d });
+        final int[] found = new int[1];
+
+        assertEquals(1, grid.find(-90.0d, 0.0d, found));
+        assertEquals(1, grid.find(-89.7d, -150.0d, found));
+        assertEquals(0, grid.find(-88.0d, -150.0d, found));
+    }
+
+    @Test
+    void find_includesPositionsExactlyOnTheBoundary() {
+        final Random random = new Random(3);
+        final List<Point> centers = randomPoints(random, 200);
+        final double[] radii = new double[centers.size()];
+
+        for (int i = 0; i < radii.length; i++) {
+            radii[i] = DistanceCalculator.distance(Unit.MILES, centers.get(i), centers.get((i + 1) % centers.size()));
+        }
+
+        final GeofenceGrid grid = GeofenceGrid.of(Unit.MILES, centers, radii, 5.0d);
+        final int[] found = new int[centers.size()];
+
+        for (int i = 0; i < centers.size(); i++) {
+            final Point position = centers.get((i + 1) % centers.size());
+            final int count = grid.find(position, found);
+
+            assertTrue(Arrays.binarySearch(found, 0, count, i) >= 0);
+        }
+    }
+
+    @Test
+    void find_countsMatchesThatDoNotFit() {
+        final Point center = new Point(new Latitude(40.0d), new Longitude(-74.0d));
+        final GeofenceGrid grid = GeofenceGrid.of(Unit.KILOMETERS, List.of(center, center, center), new double[] { 1, 2, 3 });
+        final int[] found = { -1, -1 };
+
+        assertEquals(3, grid.find(center, found));
+        assertArrayEquals(new int[] { 0, 1 }, found);
+    }
+
+    @Test
+    void find_doublesMatchPoints() {
+        final Random random = new Random(4);
+        final PointBuffer centers = new PointBuffer();
+        final double[] radii = new double[500];
+
+        for (int i = 0; i < radii.length; i++) {
+            centers.add(random.nextDouble() * 180.0d - 90.0d, random.nextDouble() * 360.0d - 180.0d);
+            radii[i] = random.nextDouble() * 1000.0d;
+        }
+
+        final GeofenceGrid grid = GeofenceGrid.of(Unit.KILOMETERS, centers, radii);
+        final int[] fromPoint = new int[radii.length];
+        final int[] fromDoubles = new int[radii.length];
+
+        for (int i = 0; i < 1000; i++) {
+            final double latitude = random.nextDouble() * 180.0d - 90.0d;
+            final double longitude = random.nextDouble() * 360.0d - 180.0d;
+            final int count = grid.find(new Point(new Latitude(latitude), new Longitude(longitude)), fromPoint);
+
+            assertEquals(count, grid.find(latitude, longitude, fromDoubles));
+            assertArrayEquals(Arrays.copyOf(fromPoint, count), Arrays.copyOf(fromDoubles, count));
+        }
+    }
+
+    @Test
+    void emptyGrid() {
+        final GeofenceGrid grid = GeofenceGrid.of(Unit.KILOMETERS, new PointBuffer(), new double[0]);
+
+        assertEquals(0, grid.size());
+        assertEquals(0, grid.find(0.0d, 0.0d, new int[1]));
+    }
+
+    @Test
+    void invalidArguments() {
+        final List<Point> centers = List.of(new Point(new Latitude(1.0d), new Longitude(1.0d)));
+        final double[] radii = { 1.0d };
+        final GeofenceGrid grid = GeofenceGrid.of(Unit.KILOMETERS, centers, radii);
+
+        Exception e = assertThrows(IllegalArgumentException.class, () -> GeofenceGrid.of(Unit.KILOMETERS, (List<Point>) null, radii));
+        assertEquals("Centers are null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> GeofenceGrid.of(Unit.KILOMETERS, centers, null));
+        assertEquals("Radii are null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> GeofenceGrid.of(Unit.KILOMETERS, centers, new double[2]));
+        assertEquals("There must be one radius per center", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> GeofenceGrid.of(null, centers, radii));
+        assertEquals("Unit is null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> GeofenceGrid.of(Unit.KILOMETERS, centers, radii, 0.01d));
+        assertEquals("Cell size must be between 0.05 and 90.0 degrees", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> GeofenceGrid.of(Unit.KILOMETERS, centers, new double[] { Double.NaN }));
+        assertEquals("radius 0 is negative", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> GeofenceGrid.of(Unit.KILOMETERS, Arrays.asList(centers.get(0), null), new double[2]));
+        assertEquals("point 1 is null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> grid.find(null, new int[1]));
+        assertEquals("Position is null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> grid.find(centers.get(0), null));
+        assertEquals("Destination is null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> grid.find(91.0d, 0.0d, new int[1]));
+        assertEquals(Latitude.getRangeError(), e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> grid.find(0.0d, Double.NaN, new int[1]));
+        assertEquals(Longitude.getRangeError(), e.getMessage());
+    }
+
+    private static int[] scan(final List<Point> centers, final double[] radii, final Unit unit, final Point position) {
+        final List<Integer> found = new ArrayList<>();
+
+        for (int i = 0; i < centers.size(); i++) {
+            if (DistanceCalculator.distance(unit, centers.get(i), position) <= radii[i]) {
+                found.add(i);
+            }
+        }
+
+        return found.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /** A point within 3 degrees of a pole or of the 180th meridian */
+    private static Point edgePoint(final Random random) {
+        final double latitude = random.nextBoolean()
+            ? Math.copySign(87.0d + random.nextDouble() * 3.0d, random.nextDouble() - 0.5d)
+            : random.nextDouble() * 180.0d - 90.0d;
+        final double longitude = Math.copySign(177.0d + random.nextDouble() * 3.0d, random.nextDouble() - 0.5d);
+
+        return new Point(new Latitude(latitude), new Longitude(longitude));
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+import org.loverde.geographiccoordinate.calculator.PointBuffer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.loverde.geographiccoordinate.TestPoints.randomPoint;
+import static org.loverde.geographiccoordinate.TestPoints.randomPoints;
+
+
+class SpatialIndexTest {
+
+    @Test
+    void withinRadius_matchesFullScan() {
+        final List<Point> points = randomPoints(1, 5000);
+        final SpatialIndex index = SpatialIndex.of(points);
+        final Random random = new Random(2);
+
+        assertEquals(5000, index.size());
+
+        for (final double radius : new double[] { 0.0d, 10.0d, 250.0d, 1500.0d, 8000.0d, 25000.0d }) {
+            for (int i = 0; i < 10; i++) {
+                final Point center = randomPoint(random);
+                assertArrayEquals(scanWithinRadius(points, center, radius, Unit.KILOMETERS), index.withinRadius(Unit.KILOMETERS, center, radius));
+            }
+        }
+    }
+
+    @Test
+    void withinRadius_includesPointsExactlyOnTheBoundary() {
+        final List<Point> points = randomPoints(3, 1000);
+        final SpatialIndex index = SpatialIndex.of(points);
+        final Point center = points.get(17);
+
+        for (int i = 0; i < points.size(); i += 50) {
+            final double radius = DistanceCalculator.distance(Unit.MILES, center, points.get(i));
+            final int[] found = index.withinRadius(Unit.MILES, center, radius);
+
+            assertTrue(Arrays.binarySearch(found, i) >= 0);
+            assertArrayEquals(scanWithinRadius(points, center, radius, Unit.MILES), found);
+        }
+    }
+
+    @Test
+    void withinRadius_acrossAntimeridianAndPoles() {
+        final List<Point> points = List.of(
+            new Point(new Latitude(0.0d), new Longitude(179.99d)),
+            new Point(new Latitude(0.0d), new Longitude(-179.99d)),
+            new Point(new Latitude(89.99d), new Longitude(0.0d)),
+            new Point(new Latitude(89.99d), new Longitude(180.0d)),
+            new Point(new Latitude(45.0d), new Longitude(0.0d)));
+        final SpatialIndex index = SpatialIndex.of(points);
+
+        assertArrayEquals(new int[] { 0, 1 }, index.withinRadius(Unit.KILOMETERS, points.get(0), 5.0d));
+        assertArrayEquals(new int[] { 2, 3 }, index.withinRadius(Unit.KILOMETERS, points.get(3), 5.0d));
+    }
+
+    @Test
+    void nearest_matchesFullScan() {
+        final List<Point> points = randomPoints(4, 5000);
+        final SpatialIndex index = SpatialIndex.of(PointBuffer.of(points));
+        final Random random = new Random(5);
+
+        for (final int k : new int[] { 1, 2, 10, 100 }) {
+            for (int i = 0; i < 10; i++) {
+                final Point center = randomPoint(random);
+                assertEquals(scanNearest(points, center, k, Unit.NAUTICAL_MILES), index.nearest(Unit.NAUTICAL_MILES, center, k));
+            }
+        }
+    }
+
+    @Test
+    void nearest_duplicatesOrderedByPosition() {
+        final Point point = new Point(new Latitude(12.34d), new Longitude(56.78d));
+        final SpatialIndex index = SpatialIndex.of(List.of(point, point, new Point(new Latitude(0.0d), new Longitude(0.0d)), point));
+
+        assertEquals(List.of(new Neighbor(0, 0.0d), new Neighbor(1, 0.0d), new Neighbor(3, 0.0d)), index.nearest(Unit.KILOMETERS, point, 3));
+    }
+
+    @Test
+    void nearest_moreThanSize() {
+        final List<Point> points = randomPoints(6, 5);
+
+        assertEquals(5, SpatialIndex.of(points).nearest(Unit.KILOMETERS, points.get(0), 10).size());
+    }
+
+    @Test
+    void emptyIndex() {
+        final SpatialIndex index = SpatialIndex.of(List.of());
+        final Point center = new Point(new Latitude(1.0d), new Longitude(1.0d));
+
+        assertEquals(0, index.withinRadius(Unit.KILOMETERS, center, 100.0d).length);
+        assertTrue(index.nearest(Unit.KILOMETERS, center, 3).isEmpty());
+    }
+
+    @Test
+    void invalidArguments() {
+        final SpatialIndex index = SpatialIndex.of(randomPoints(7, 10));
+        final Point center = new Point(new Latitude(1.0d), new Longitude(1.0d));
+
+        Exception e = assertThrows(IllegalArgumentException.class, () -> index.withinRadius(Unit.KILOMETERS, center, -1.0d));
+        assertEquals("Radius is negative", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> index.withinRadius(Unit.KILOMETERS, null, 1.0d));
+        assertEquals("Center is null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> index.nearest(Unit.KILOMETERS, center, 0));
+        assertEquals("k must be at least 1", e.getMessage());
+
+        final List<Point> withNull = new ArrayList<>(randomPoints(8, 3));
+        withNull.set(1, null);
+
+        e = assertThrows(IllegalArgumentException.class, () -> SpatialIndex.of(withNull));
+        assertEquals("point 1 is null", e.getMessage());
+    }
+
+    private static int[] scanWithinRadius(final List<Point> points, final Point center, final double radius, final Unit unit) {
+        return IntStream.range(0, points.size())
+                        .filter(i -> DistanceCalculator.distance(unit, center, points.get(i)) <= radius)
+                        .toArray();
+    }
+
+    private static List<Neighbor> scanNearest(final List<Point> points, final Point center, final int k, final Unit unit) {
+        final List<Neighbor> all = new ArrayList<>();
+
+        for (int i = 0; i < points.size(); i++) {
+            all.add(new Neighbor(i, DistanceCalculator.distance(unit, center, points.get(i))));
+        }
+
+        all.sort(Comparator.comparingDouble(Neighbor::distance).thenComparingInt(Neighbor::index));
+
+        return all.subList(0, Math.min(k, all.size()));
+    }
+}
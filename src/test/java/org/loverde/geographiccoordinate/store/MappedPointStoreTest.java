@@ -0,0 +1,298 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.store;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.loverde.geographiccoordinate.PackedPoint;
+import org.loverde.geographiccoordinate.Point;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator;
+import org.loverde.geographiccoordinate.calculator.DistanceCalculator.Unit;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class MappedPointStoreTest {
+
+    private Path path;
+
+
+    @BeforeEach
+    void setUp() throws IOException {
+        path = Files.createTempFile("points", ".gcps");
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    void appendAndRead_allFields() throws IOException {
+        try (final MappedPointStore store = MappedPointStore.create(path, MappedPointStore.Field.TIMESTAMP, MappedPointStore.Field.ID)) {
+            assertTrue(store.hasTimestamps());
+            assertTrue(store.hasIds());
+
+            assertEquals(0, store.append(PackedPoint.pack(40.5, -73.25), 1000L, 7L));
+            assertEquals(1, store.append(PackedPoint.pack(-33.75, 151.125), 2000L, -8L));
+            assertEquals(2, store.size());
+
+            assertEquals(PackedPoint.pack(40.5, -73.25), store.packedPoint(0));
+            assertEquals(1000L, store.timestamp(0));
+            assertEquals(7L, store.id(0));
+            assertEquals(PackedPoint.pack(-33.75, 151.125), store.packedPoint(1));
+            assertEquals(2000L, store.timestamp(1));
+            assertEquals(-8L, store.id(1));
+        }
+
+        assertEquals(MappedPointStore.HEADER_SIZE + 2 * 24, Files.size(path));
+    }
+
+    @Test
+    void appendAndRead_idsOnly() throws IOException {
+        try (final MappedPointStore store = MappedPointStore.create(path, MappedPointStore.Field.ID)) {
+            assertFalse(store.hasTimestamps());
+            assertTrue(store.hasIds());
+
+            store.append(PackedPoint.pack(1, 2), 99L, 42L);
+
+            assertEquals(42L, store.id(0));
+            assertThrows(IllegalArgumentException.class, () -> store.timestamp(0));
+        }
+
+        assertEquals(MappedPointStore.HEADER_SIZE + 16, Files.size(path));
+    }
+
+    @Test
+    void append_point() throws IOException {
+        final Point point = PackedPoint.toPoint(PackedPoint.pack(12.3456789, -98.7654321));
+
+        try (final MappedPointStore store = MappedPointStore.create(path)) {
+            store.append(point);
+
+            assertEquals(point, store.point(0));
+        }
+    }
+
+    @Test
+    void reopen_acrossChunks() throws IOException {
+        final long[] points = randomPoints(1000);
+
+        try (final MappedPointStore store = MappedPointStore.create(path, 4, MappedPointStore.Field.TIMESTAMP)) {
+            for (int i = 0; i < points.length; i++) {
+                store.append(points[i], i * 10L, 0L);
+            }
+        }
+
+        for (final boolean readOnly : new boolean[] {false, true}) {
+            try (final MappedPointStore store = MappedPointStore.open(path, readOnly, 4)) {
+                assertEquals(points.length, store.size());
+                assertTrue(store.hasTimestamps());
+                assertFalse(store.hasIds());
+
+                for (int i = 0; i < points.length; i++) {
+                    assertEquals(points[i], store.packedPoint(i));
+                    assertEquals(i * 10L, store.timestamp(i));
+                }
+            }
+        }
+    }
+
+    @Test
+    void reopen_thenAppend() throws IOException {
+        final long[] points = randomPoints(50);
+
+        try (final MappedPointStore store = MappedPointStore.create(path, 3)) {
+            for (int i = 0; i < 20; i++) {
+                store.append(points[i]);
+            }
+        }
+
+        try (final MappedPointStore store = MappedPointStore.open(path, false, 3)) {
+            for (int i = 20; i < points.length; i++) {
+                assertEquals(i, store.append(points[i]));
+            }
+        }
+
+        try (final MappedPointStore store = MappedPointStore.openReadOnly(path)) {
+            for (int i = 0; i < points.length; i++) {
+                assertEquals(points[i], store.packedPoint(i));
+            }
+        }
+    }
+
+    @Test
+    void forEach_range() throws IOException {
+        final long[] points = randomPoints(100);
+
+        try (final MappedPointStore store = MappedPointStore.create(path, 4, MappedPointStore.Field.ID)) {
+            for (int i = 0; i < points.length; i++) {
+                store.append(points[i], 0L, -i);
+            }
+
+            final List<Long> visited = new ArrayList<>();
+
+            store.forEach(13, 77, (index, packedPoint, timestamp, id) -> {
+                assertEquals(points[(int) index], packedPoint);
+                assertEquals(0L, timestamp);
+                assertEquals(-index, id);
+                visited.add(index);
+            });
+
+            assertEquals(64, visited.size());
+            assertEquals(13L, visited.get(0));
+            assertEquals(76L, visited.get(63));
+
+            store.forEach(5, 5, (index, packedPoint, timestamp, id) -> fail());
+            assertThrows(IndexOutOfBoundsException.class, () -> store.forEach(0, 101, (index, packedPoint, timestamp, id) -> {}));
+        }
+    }
+
+    @Test
+    void distance_matchesPackedArray() throws IOException {
+        final long[] points = randomPoints(500);
+
+        try (final MappedPointStore store = MappedPointStore.create(path, 5)) {
+            for (final long point : points) {
+                store.append(point);
+            }
+
+            assertEquals(DistanceCalculator.distance(Unit.KILOMETERS, points),
+                         DistanceCalculator.distance(Unit.KILOMETERS, store, 0, store.size()));
+            assertEquals(DistanceCalculator.distance(Unit.MILES, points, 31, 450),
+                         DistanceCalculator.distance(Unit.MILES, store, 31, 450));
+
+            assertEquals("Store is null",
+                         assertThrows(IllegalArgumentException.class, () -> DistanceCalculator.distance(Unit.MILES, (MappedPointStore) null, 0, 2)).getMessage());
+            assertEquals("Invalid range",
+                         assertThrows(IllegalArgumentException.class, () -> DistanceCalculator.distance(Unit.MILES, store, 0, 501)).getMessage());
+            assertEquals("Need to provide at least 2 points",
+                         assertThrows(IllegalArgumentException.class, () -> DistanceCalculator.distance(Unit.MILES, store, 3, 4)).getMessage());
+        }
+    }
+
+    @Test
+    void readOnly_rejectsAppend() throws IOException {
+        MappedPointStore.create(path).close();
+
+        try (final MappedPointStore store = MappedPointStore.openReadOnly(path)) {
+            assertEquals(0, store.size());
+            assertEquals("Store is read-only",
+                         assertThrows(IllegalArgumentException.class, () -> store.append(0L)).getMessage());
+        }
+    }
+
+    @Test
+    void append_invalidPoint() throws IOException {
+        try (final MappedPointStore store = MappedPointStore.create(path)) {
+            assertEquals("Point is out of range",
+                         assertThrows(IllegalArgumentException.class, () -> store.append((long) Integer.MAX_VALUE << 32)).getMessage());
+            assertEquals(0, store.size());
+        }
+    }
+
+    @Test
+    void packedPoint_outOfBounds() throws IOException {
+        try (final MappedPointStore store = MappedPointStore.create(path)) {
+            store.append(0L);
+
+            assertThrows(IndexOutOfBoundsException.class, () -> store.packedPoint(1));
+            assertThrows(IndexOutOfBoundsException.class, () -> store.packedPoint(-1));
+        }
+    }
+
+    @Test
+    void closed_rejectsAccess() throws IOException {
+        final MappedPointStore store = MappedPointStore.create(path);
+        store.append(0L);
+        store.close();
+        store.close();
+
+        assertThrows(IllegalStateException.class, () -> store.packedPoint(0));
+        assertThrows(IllegalStateException.class, () -> store.append(0L));
+    }
+
+    @Test
+    void open_notAStore() throws IOException {
+        Files.write(path, new byte[MappedPointStore.HEADER_SIZE]);
+
+        assertThrows(IOException.class, () -> MappedPointStore.open(path));
+
+        Files.write(path, new byte[3]);
+
+        assertThrows(IOException.class, () -> MappedPointStore.open(path));
+    }
+
+    @Test
+    void open_truncatedRecords() throws IOException {
+        try (final MappedPointStore store = MappedPointStore.create(path)) {
+            store.append(0L);
+            store.append(1L);
+        }
+
+        try (final FileChannel channel = FileChannel.open(path, StandardOpenOption.WRITE)) {
+            channel.truncate(MappedPointStore.HEADER_SIZE + 8);
+        }
+
+        assertThrows(IOException.class, () -> MappedPointStore.openReadOnly(path));
+    }
+
+    @Test
+    void create_nullArguments() {
+        assertEquals("Path is null",
+                     assertThrows(IllegalArgumentException.class, () -> MappedPointStore.create(null)).getMessage());
+        assertEquals("Fields are null",
+                     assertThrows(IllegalArgumentException.class, () -> MappedPointStore.create(path, (MappedPointStore.Field[]) null)).getMessage());
+    }
+
+    private static long[] randomPoints(final int count) {
+        final Random random = new Random(count);
+        final long[] points = new long[count];
+
+        for (int i = 0; i < count; i++) {
+            points[i] = PackedPoint.pack(random.nextDouble() * 180 - 90, random.nextDouble() * 360 - 180);
+        }
+
+        return points;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.text;
+
+import org.junit.jupiter.api.Test;
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+import org.loverde.geographiccoordinate.internal.GeographicCoordinate;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class CoordinateFormatterTest {
+
+    private static final double[] EDGE_CASES = {
+        0.0, -0.0, -1e-20, 1e-300, Double.MIN_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, Double.NaN,
+        Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, 0.5, 1.5, 2.5, -0.5, 9.5, 0.05, 0.15, 5.0E-4, -5.0E-4,
+        5.0E-10, 0.1, 0.3, 1.0 / 3, 59.99999999999999, 59.9999999999999, 40.912, 1e15, 0x1p52 + 1, 0x1p53, 0x1p60,
+        9007199254740993.0, 123456789.987654321
+    };
+
+
+    @Test
+    void appendDecimal_matchesDecimalFormat() {
+        final DecimalFormat[] formats = new DecimalFormat[CoordinateFormatter.MAX_PRECISION + 1];
+
+        for (int precision = 0; precision < formats.length; precision++) {
+            formats[precision] = decimalFormat(precision);
+        }
+
+        final Random random = new Random(15);
+        final StringBuilder text = new StringBuilder();
+
+        for (int i = 0; i < 300_000; i++) {
+            final double value = switch (i % 6) {
+                case 0 -> random.nextDouble() * 60;
+                case 1 -> random.nextDouble() * 360 - 180;
+                case 2 -> Math.round(random.nextDouble() * 6e7) / 1e6;
+                case 3 -> Double.longBitsToDouble(random.nextLong());
+                case 4 -> Math.scalb(random.nextDouble(), random.nextInt(120) - 60);
+                default -> {
+                    // Near a tie, at every magnitude
+                    final double tie = (2 * random.nextInt(50) + 1) * 5 * Math.pow(10, -(random.nextInt(20) + 1));
+                    yield tie + (random.nextInt(5) - 2) * Math.ulp(tie);
+                }
+            };
+            final int precision = random.nextInt(formats.length);
+
+            text.setLength(0);
+            assertEquals(formats[precision].format(value), CoordinateFormatter.appendDecimal(text, value, precision).toString(),
+                         () -> value + " with precision " + precision);
+        }
+
+        for (final double value : EDGE_CASES) {
+            for (int precision = 0; precision < formats.length; precision++) {
+                text.setLength(0);
+                assertEquals(formats[precision].format(value), CoordinateFormatter.appendDecimal(text, value, precision).toString(),
+                             value + " with precision " + precision);
+            }
+        }
+    }
+
+    @Test
+    void writeDecimal_matchesAppendDecimal() {
+        final byte[] bytes = new byte[CoordinateFormatter.MAX_DECIMAL_BYTES + 5];
+
+        for (final double value : EDGE_CASES) {
+            for (int precision = 0; precision <= CoordinateFormatter.MAX_PRECISION; precision++) {
+                final String expected = CoordinateFormatter.appendDecimal(new StringBuilder(), value, precision).toString();
+                final int end = CoordinateFormatter.writeDecimal(bytes, 5, value, precision);
+
+                assertEquals(expected, new String(bytes, 5, end - 5, StandardCharsets.UTF_8));
+            }
+        }
+    }
+
+    @Test
+    void toDmsString_matchesLegacyFormat() {
+        final Random random = new Random(51);
+
+        for (int i = 0; i < 100_000; i++) {
+            final Latitude latitude = new Latitude(random.nextDouble() * 180 - 90);
+            final Longitude longitude = new Longitude(random.nextDouble() * 360 - 180);
+
+            assertEquals(legacyDmsString(latitude), latitude.toDmsString());
+            assertEquals(legacyDmsString(longitude), longitude.toDmsString());
+        }
+
+        final Latitude[] latitudes = {
+            new Latitude(0), new Latitude(90), new Latitude(-90), new Latitude(12, 16, 0, Latitude.Direction.NORTH),
+            new Latitude(1, 2, 0.0005, Latitude.Direction.SOUTH), new Latitude(1, 2, 59.9999999999999, Latitude.Direction.SOUTH)
+        };
+
+        for (final Latitude latitude : latitudes) {
+            assertEquals(legacyDmsString(latitude), latitude.toDmsString());
+        }
+    }
+
+    @Test
+    void appendDms_precision() {
+        final Latitude latitude = new Latitude(30, 59, 40.91251, Latitude.Direction.SOUTH);
+
+        assertEquals("30°59'41\"S", CoordinateFormatter.appendDms(new StringBuilder(), latitude, 0).toString());
+        assertEquals("30°59'40.91\"S", CoordinateFormatter.appendDms(new StringBuilder(), latitude, 2).toString());
+        assertEquals("30°59'40.9125\"S", CoordinateFormatter.appendDms(new StringBuilder(), latitude, 4).toString());
+        assertEquals("30°59'40.91251\"S", CoordinateFormatter.appendDms(new StringBuilder(), latitude, 15).toString());
+    }
+
+    @Test
+    void appendDms_appendable() throws IOException {
+        final StringWriter writer = new StringWriter();
+        final Longitude longitude = new Longitude(-73.985656);
+
+        writer.write("at ");
+        CoordinateFormatter.appendDms(writer, longitude, CoordinateFormatter.DEFAULT_PRECISION);
+
+        assertEquals("at " + longitude.toDmsString(), writer.toString());
+    }
+
+    @Test
+    void appendDms_appendsToExistingText() {
+        final StringBuilder text = new StringBuilder("lat=");
+
+        assertSame(text, CoordinateFormatter.appendDms(text, new Latitude(-12.5), 3));
+        assertEquals("lat=12°30'0\"S", text.toString());
+    }
+
+    @Test
+    void writeDms_matchesToDmsString() {
+        final Random random = new Random(52);
+        final byte[] bytes = new byte[CoordinateFormatter.MAX_DMS_BYTES + 3];
+
+        for (int i = 0; i < 10_000; i++) {
+            final GeographicCoordinate coordinate = i % 2 == 0
+                ? new Latitude(random.nextDouble() * 180 - 90)
+                : new Longitude(random.nextDouble() * 360 - 180);
+
+            final int end = CoordinateFormatter.writeDms(bytes, 3, coordinate, CoordinateFormatter.DEFAULT_PRECISION);
+
+            assertEquals(coordinate.toDmsString(), new String(bytes, 3, end - 3, StandardCharsets.UTF_8));
+        }
+    }
+
+    @Test
+    void writeDms_destinationTooSmall() {
+        final Latitude latitude = new Latitude(30, 59, 40.912, Latitude.Direction.NORTH);
+        final int length = latitude.toDmsString().getBytes(StandardCharsets.UTF_8).length;
+
+        assertEquals(length, CoordinateFormatter.writeDms(new byte[length], 0, latitude, 15));
+
+        Exception e = assertThrows(IllegalArgumentException.class, () -> CoordinateFormatter.writeDms(new byte[length], 1, latitude, 15));
+        assertEquals("Destination is too small", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> CoordinateFormatter.writeDecimal(new byte[3], 0, 1.25, 2));
+        assertEquals("Destination is too small", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> CoordinateFormatter.writeDecimal(new byte[3], 4, 1, 2));
+        assertEquals("Invalid offset", e.getMessage());
+    }
+
+    @Test
+    void invalidArguments() {
+        final Latitude latitude = new Latitude(1);
+
+        Exception e = assertThrows(IllegalArgumentException.class, () -> CoordinateFormatter.appendDms(new StringBuilder(), latitude, -1));
+        assertEquals("Precision must be between 0 and 17", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> CoordinateFormatter.appendDecimal(new StringBuilder(), 1, 18));
+        assertEquals("Precision must be between 0 and 17", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> CoordinateFormatter.appendDms((StringBuilder) null, latitude, 1));
+        assertEquals("Destination is null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> CoordinateFormatter.appendDms(new StringBuilder(), null, 1));
+        assertEquals("Coordinate is null", e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> CoordinateFormatter.writeDms(null, 0, latitude, 1));
+        assertEquals("Destination is null", e.getMessage());
+    }
+
+    private static DecimalFormat decimalFormat(final int precision) {
+        final DecimalFormat format = new DecimalFormat("0", DecimalFormatSymbols.getInstance(Locale.US));
+        format.setMaximumFractionDigits(precision);
+
+        return format;
+    }
+
+    /** The implementation of toDmsString() before it used CoordinateFormatter */
+    private static String legacyDmsString(final GeographicCoordinate coordinate) {
+        return String.format(Locale.US,
+            "%d°%d'%s\"%s",
+            coordinate.degrees(),
+            coordinate.minutes(),
+            decimalFormat(15).format(coordinate.seconds()),
+            coordinate.direction().getAbbreviation());
+    }
+}
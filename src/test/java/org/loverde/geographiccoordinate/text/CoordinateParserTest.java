@@ -0,0 +1,230 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package org.loverde.geographiccoordinate.text;
+
+import org.junit.jupiter.api.Test;
+import org.loverde.geographiccoordinate.Latitude;
+import org.loverde.geographiccoordinate.Longitude;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+
+class CoordinateParserTest {
+
+    @Test
+    void parseLatitude_decimalMatchesParseDouble() {
+        final Random random = new Random(14);
+
+        for (int i = 0; i < 100_000; i++) {
+            final double value = random.nextDouble() * 180 - 90;
+            final String text = switch (i % 4) {
+                case 0 -> Double.toString(value);
+                case 1 -> "%.6f".formatted(value);
+                case 2 -> "%.2f".formatted(value);
+                default -> "%.20f".formatted(value);  // too long for the fast path
+            };
+
+            final Latitude expected = new Latitude(Double.parseDouble(text));
+
+            assertEquals(expected, CoordinateParser.parseLatitude(text), text);
+            assertEquals(expected, CoordinateParser.parseLatitude(text.getBytes(StandardCharsets.UTF_8), 0, text.length()), text);
+        }
+    }
+
+    @Test
+    void parseLongitude_decimalMatchesParseDouble() {
+        final Random random = new Random(41);
+
+        for (int i = 0; i < 100_000; i++) {
+            final String text = "%.7f".formatted(random.nextDouble() * 360 - 180);
+
+            assertEquals(new Longitude(Double.parseDouble(text)), CoordinateParser.parseLongitude(text), text);
+        }
+    }
+
+    @Test
+    void parseLatitude_decimalForms() {
+        assertEquals(new Latitude(40.7128), CoordinateParser.parseLatitude("40.7128"));
+        assertEquals(new Latitude(40.7128), CoordinateParser.parseLatitude("+40.7128"));
+        assertEquals(new Latitude(40.7128), CoordinateParser.parseLatitude("  40.7128\t"));
+        assertEquals(new Latitude(40.7128), CoordinateParser.parseLatitude("40.7128N"));
+        assertEquals(new Latitude(40.7128), CoordinateParser.parseLatitude("40.7128° n"));
+        assertEquals(new Latitude(-40.7128), CoordinateParser.parseLatitude("-40.7128"));
+        assertEquals(new Latitude(-40.7128), CoordinateParser.parseLatitude("40.7128 S"));
+        assertEquals(new Latitude(-40.7128), CoordinateParser.parseLatitude("S 40.7128"));
+        assertEquals(new Latitude(-40.7128), CoordinateParser.parseLatitude("s40.7128°"));
+        assertEquals(new Latitude(40), CoordinateParser.parseLatitude("40"));
+        assertEquals(new Latitude(40), CoordinateParser.parseLatitude("40."));
+        assertEquals(new Latitude(0.5), CoordinateParser.parseLatitude(".5"));
+        assertEquals(new Latitude(90), CoordinateParser.parseLatitude("90.000000000000000000000"));
+        assertEquals(new Latitude(45), CoordinateParser.parseLatitude("0000000000000000000000045"));
+    }
+
+    @Test
+    void parseLatitude_zero() {
+        assertEquals(Latitude.Direction.NEITHER, CoordinateParser.parseLatitude("0").direction());
+        assertEquals(Latitude.Direction.NEITHER, CoordinateParser.parseLatitude("-0.0").direction());
+        assertEquals(Latitude.Direction.NEITHER, CoordinateParser.parseLatitude("0S").direction());
+        assertEquals(Latitude.Direction.NEITHER, CoordinateParser.parseLatitude("0°0'0\"").direction());
+        assertEquals(Latitude.Direction.NEITHER, CoordinateParser.parseLatitude("-0°0'0\"").direction());
+        assertEquals(Latitude.Direction.NORTH, CoordinateParser.parseLatitude("0°0'0\"N").direction());
+    }
+
+    @Test
+    void parseLatitude_degreesMinutesSeconds() {
+        assertEquals(new Latitude(30, 59, 40.912, Latitude.Direction.NORTH), CoordinateParser.parseLatitude("30°59'40.912\"N"));
+        assertEquals(new Latitude(30, 59, 40.912, Latitude.Direction.SOUTH), CoordinateParser.parseLatitude("30° 59' 40.912\" S"));
+        assertEquals(new Latitude(30, 59, 40.912, Latitude.Direction.SOUTH), CoordinateParser.parseLatitude("S30°59′40.912″"));
+        assertEquals(new Latitude(30, 59, 40.912, Latitude.Direction.SOUTH), CoordinateParser.parseLatitude("-30°59'40.912''"));
+        assertEquals(new Latitude(30, 59, 40, Latitude.Direction.NORTH), CoordinateParser.parseLatitude("30°59'40\""));
+    }
+
+    @Test
+    void parseLatitude_degreesDecimalMinutes() {
+        assertEquals(new Latitude(40, 26, 46.02, Latitude.Direction.NORTH), CoordinateParser.parseLatitude("40°26.767'N"));
+        assertEquals(new Latitude(40, 26, 0, Latitude.Direction.SOUTH), CoordinateParser.parseLatitude("40° 26′ S"));
+        assertEquals(new Latitude(40, 26, 30, Latitude.Direction.SOUTH), CoordinateParser.parseLatitude("-40°26.5'"));
+
+        final Latitude longFraction = CoordinateParser.parseLatitude("40°26.123456789012345678'N");
+        assertEquals(26, longFraction.minutes());
+        assertEquals(0.123456789012345678 * 60, longFraction.seconds(), 1e-12);
+    }
+
+    @Test
+    void parseLongitude_forms() {
+        assertEquals(new Longitude(73, 59, 8.52, Longitude.Direction.WEST), CoordinateParser.parseLongitude("73°59'8.52\"W"));
+        assertEquals(new Longitude(73, 59, 8.52, Longitude.Direction.EAST), CoordinateParser.parseLongitude("e 73°59'8.52\""));
+        assertEquals(new Longitude(-73.9857), CoordinateParser.parseLongitude("-73.9857"));
+        assertEquals(new Longitude(-73.9857), CoordinateParser.parseLongitude("73.9857w"));
+        assertEquals(new Longitude(180), CoordinateParser.parseLongitude("180E"));
+        assertEquals(new Longitude(12, 30, 0, Longitude.Direction.EAST), CoordinateParser.parseLongitude("12°30'E"));
+    }
+
+    @Test
+    void parse_roundTripsToDmsString() {
+        final Random random = new Random(15);
+
+        for (int i = 0; i < 10_000; i++) {
+            final Latitude latitude = new Latitude(random.nextDouble() * 180 - 90);
+            final Longitude longitude = new Longitude(random.nextDouble() * 360 - 180);
+
+            final Latitude parsedLatitude = CoordinateParser.parseLatitude(latitude.toDmsString());
+            final Longitude parsedLongitude = CoordinateParser.parseLongitude(longitude.toDmsString());
+
+            assertEquals(latitude.degrees(), parsedLatitude.degrees());
+            assertEquals(latitude.minutes(), parsedLatitude.minutes());
+            assertEquals(latitude.seconds(), parsedLatitude.seconds(), 1e-13);
+            assertEquals(latitude.direction(), parsedLatitude.direction());
+
+            assertEquals(longitude.degrees(), parsedLongitude.degrees());
+            assertEquals(longitude.minutes(), parsedLongitude.minutes());
+            assertEquals(longitude.seconds(), parsedLongitude.seconds(), 1e-13);
+            assertEquals(longitude.direction(), parsedLongitude.direction());
+        }
+    }
+
+    @Test
+    void parse_utf8Bytes() {
+        final byte[] bytes = "xx 30°59′40.912″S yy".getBytes(StandardCharsets.UTF_8);
+        final Latitude expected = new Latitude(30, 59, 40.912, Latitude.Direction.SOUTH);
+
+        assertEquals(expected, CoordinateParser.parseLatitude(bytes, 2, bytes.length - 3));
+
+        final ByteBuffer heap = ByteBuffer.wrap(bytes, 2, bytes.length - 5);
+        assertEquals(expected, CoordinateParser.parseLatitude(heap));
+        assertEquals(2, heap.position());
+
+        final ByteBuffer direct = ByteBuffer.allocateDirect(bytes.length);
+        direct.put(bytes).position(3).limit(bytes.length - 3);
+        assertEquals(expected, CoordinateParser.parseLatitude(direct));
+        assertEquals(3, direct.position());
+
+        final byte[] decimal = "-73.9857,40.7128".getBytes(StandardCharsets.US_ASCII);
+        assertEquals(new Longitude(-73.9857), CoordinateParser.parseLongitude(decimal, 0, 8));
+        assertEquals(new Latitude(40.7128), CoordinateParser.parseLatitude(decimal, 9, decimal.length));
+        assertEquals(new Longitude(-73.9857), CoordinateParser.parseLongitude(ByteBuffer.wrap(decimal, 0, 8)));
+    }
+
+    @Test
+    void parse_charSequenceRange() {
+        final StringBuilder text = new StringBuilder("40.7128,-73.9857");
+
+        assertEquals(new Latitude(40.7128), CoordinateParser.parseLatitude(text, 0, 7));
+        assertEquals(new Longitude(-73.9857), CoordinateParser.parseLongitude(text, 8, text.length()));
+    }
+
+    @Test
+    void parseLatitude_invalid() {
+        for (final String text : new String[] {"", " ", "abc", ".", "-", "N", "40x", "N-40", "-40S", "N40S", "40NN",
+                                               "40.5°26'N", "40°26.5'10\"", "40°26", "40°26'46", "40°26'46\"'",
+                                               "40°-26'", "40'", "40,5", "1e1", "40°26'46\"W"}) {
+            final Exception e = assertThrows(IllegalArgumentException.class, () -> CoordinateParser.parseLatitude(text), text);
+            assertEquals("[%s] is not a valid latitude".formatted(text), e.getMessage());
+        }
+
+        final byte[] bytes = "40°26'x".getBytes(StandardCharsets.UTF_8);
+        final Exception e = assertThrows(IllegalArgumentException.class, () -> CoordinateParser.parseLatitude(bytes, 0, bytes.length));
+        assertEquals("[40°26'x] is not a valid latitude", e.getMessage());
+    }
+
+    @Test
+    void parseLongitude_invalid() {
+        final Exception e = assertThrows(IllegalArgumentException.class, () -> CoordinateParser.parseLongitude("40N"));
+        assertEquals("[40N] is not a valid longitude", e.getMessage());
+    }
+
+    @Test
+    void parse_outOfRange() {
+        Exception e = assertThrows(IllegalArgumentException.class, () -> CoordinateParser.parseLatitude("90.0001"));
+        assertEquals(Latitude.getRangeError(), e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> CoordinateParser.parseLatitude("45°60'N"));
+        assertEquals(Latitude.getRangeError(), e.getMessage());
+
+        e = assertThrows(IllegalArgumentException.class, () -> CoordinateParser.parseLongitude("180°0'1\"W"));
+        assertEquals(Longitude.getRangeError(), e.getMessage());
+    }
+
+    @Test
+    void parse_invalidArguments() {
+        assertEquals("Text is null", assertThrows(IllegalArgumentException.class, () -> CoordinateParser.parseLatitude((CharSequence) null)).getMessage());
+        assertEquals("Bytes are null", assertThrows(IllegalArgumentException.class, () -> CoordinateParser.parseLongitude((byte[]) null, 0, 0)).getMessage());
+        assertEquals("Buffer is null", assertThrows(IllegalArgumentException.class, () -> CoordinateParser.parseLatitude((ByteBuffer) null)).getMessage());
+        assertEquals("Invalid range", assertThrows(IllegalArgumentException.class, () -> CoordinateParser.parseLatitude("40", 1, 3)).getMessage());
+        assertEquals("Invalid range", assertThrows(IllegalArgumentException.class, () -> CoordinateParser.parseLongitude(new byte[2], 2, 1)).getMessage());
+    }
+}
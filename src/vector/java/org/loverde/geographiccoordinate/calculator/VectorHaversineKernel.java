@@ -0,0 +1,171 @@
+/*
+ * GeographicCoordinate
+ * https://github.com/kloverde/java-GeographicCoordinate
+ *
+ * Copyright (c) 2013 Kurtis LoVerde
+ * All rights reserved
+ *
+ * Donations:  https://paypal.me/KurtisLoVerde/5
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ *     1. Redistributions of source code must retain the above copyright
+ *        notice, this list of conditions and the following disclaimer.
+ *     2. Redistributions in binary form must reproduce the above copyright
+ *        notice, this list of conditions and the following disclaimer in the
+ *        documentation and/or other materials provided with the distribution.
+ *     3. Neither the name of the copyright holder nor the names of its
+ *        contributors may be used to endorse or promote products derived from
+ *        this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT HOLDER OR CONTRIBUTORS BE LIABLE
+ * FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL
+ * DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR
+ * SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER
+ * CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY,
+ * OR TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package org.loverde.geographiccoordinate.calculator;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+import static org.loverde.geographiccoordinate.calculator.DistanceCalculator.EARTH_RADIUS_KILOMETERS;
+
+
+/**
+ * A {@linkplain HaversineKernel} that uses the JDK Vector API to compute as many legs at once as the platform has
+ * {@code double} lanes (4 with AVX2, 8 with AVX-512).  Legs that don't fill a whole vector are handed to the scalar
+ * formula.
+ *
+ * <p>
+ * The vectorized transcendental functions are not required to return the same bits as {@linkplain Math}, and the
+ * lanes are summed in a different order than a sequential loop would use, so results can differ from the scalar
+ * kernel in the last few digits.
+ * </p>
+ *
+ * <p>
+ * This class is compiled separately because it needs {@code --add-modules jdk.incubator.vector}.  It is loaded
+ * reflectively by {@linkplain HaversineKernel}.
+ * </p>
+ */
+final class VectorHaversineKernel implements HaversineKernel {
+
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    private static final double DIAMETER = 2.0d * EARTH_RADIUS_KILOMETERS;
+
+    private static final HaversineKernel SCALAR = new ScalarHaversineKernel();
+
+
+    VectorHaversineKernel() {
+        if (SPECIES.length() < 2) {
+            throw new UnsupportedOperationException("The platform has no double vector lanes");
+        }
+    }
+
+    @Override
+    public double total(final double[] latitudes, final double[] longitudes, final int fromIndex, final int toIndex, final double scale) {
+        final int lanes = SPECIES.length();
+        final int end = fromIndex + SPECIES.loopBound(toIndex - fromIndex - 1);
+
+        DoubleVector sum = DoubleVector.zero(SPECIES);
+        int i = fromIndex;
+
+        if (i < end) {
+            DoubleVector cosLat1 = cosines(latitudes, i),
+                         cosLat2 = cosines(latitudes, i + 1);
+
+            while (true) {
+                sum = sum.add(legs(latitudes, longitudes, i, cosLat1, cosLat2));
+                i += lanes;
+
+                if (i >= end) {
+                    break;
+                }
+
+                // This block's first points are the previous block's second points, shifted by one lane
+                final DoubleVector next = cosines(latitudes, i + 1);
+                cosLat1 = cosLat2.slice(lanes - 1, next);
+                cosLat2 = next;
+            }
+        }
+
+        double distance = sum.reduceLanes(VectorOperators.ADD) * scale;
+
+        if (i + 1 < toIndex) {
+            distance += SCALAR.total(latitudes, longitudes, i, toIndex, scale);
+        }
+
+        return distance;
+    }
+
+    @Override
+    public void legs(final double[] latitudes, final double[] longitudes, final int fromIndex, final int toIndex, final double scale,
+                     final double[] destination, final int destinationOffset) {
+        final int lanes = SPECIES.length();
+        final int end = fromIndex + SPECIES.loopBound(toIndex - fromIndex - 1);
+
+        int i = fromIndex;
+
+        if (i < end) {
+            DoubleVector cosLat1 = cosines(latitudes, i),
+                         cosLat2 = cosines(latitudes, i + 1);
+
+            while (true) {
+                legs(latitudes, longitudes, i, cosLat1, cosLat2).mul(scale).intoArray(destination, destinationOffset + (i - fromIndex));
+                i += lanes;
+
+                if (i >= end) {
+                    break;
+                }
+
+                final DoubleVector next = cosines(latitudes, i + 1);
+                cosLat1 = cosLat2.slice(lanes - 1, next);
+                cosLat2 = next;
+            }
+        }
+
+        if (i + 1 < toIndex) {
+            SCALAR.legs(latitudes, longitudes, i, toIndex, scale, destination, destinationOffset + (i - fromIndex));
+        }
+    }
+
+    @Override
+    public boolean isVectorized() {
+        return true;
+    }
+
+    private static DoubleVector cosines(final double[] latitudes, final int i) {
+        return DoubleVector.fromArray(SPECIES, latitudes, i).lanewise(VectorOperators.COS);
+    }
+
+    /**
+     * @return The legs starting at point {@code i}, in kilometers
+     */
+    private static DoubleVector legs(final double[] latitudes, final double[] longitudes, final int i,
+                                     final DoubleVector cosLat1, final DoubleVector cosLat2) {
+        final DoubleVector sinHalfDeltaLat = DoubleVector.fromArray(SPECIES, latitudes, i + 1)
+            .sub(DoubleVector.fromArray(SPECIES, latitudes, i))
+            .mul(0.5d)
+            .lanewise(VectorOperators.SIN);
+
+        final DoubleVector sinHalfDeltaLon = DoubleVector.fromArray(SPECIES, longitudes, i + 1)
+            .sub(DoubleVector.fromArray(SPECIES, longitudes, i))
+            .mul(0.5d)
+            .lanewise(VectorOperators.SIN);
+
+        return sinHalfDeltaLat.mul(sinHalfDeltaLat)
+            .add(cosLat1.mul(cosLat2).mul(sinHalfDeltaLon.mul(sinHalfDeltaLon)))
+            .sqrt()
+            .lanewise(VectorOperators.ASIN)
+            .mul(DIAMETER);
+    }
+}